@@ -73,4 +73,12 @@ public final class AstroBindingConstants {
     public static final String EVENT_CHANNEL_ID_DAYLIGHT = "daylight#event";
 
     public static final String CHANNEL_ID_SUN_PHASE_NAME = "phase#name";
+
+    // positional channels with forecast
+    public static final String CHANNEL_ID_POSITION_AZIMUTH = "position#azimuth";
+    public static final String CHANNEL_ID_POSITION_ELEVATION = "position#elevation";
+    public static final String CHANNEL_ID_RADIATION_DIRECT = "radiation#direct";
+    public static final String CHANNEL_ID_RADIATION_DIFFUSE = "radiation#diffuse";
+    public static final String CHANNEL_ID_RADIATION_TOTAL = "radiation#total";
+    public static final String CHANNEL_ID_MOON_PHASE_ILLUMINATION = "phase#illumination";
 }
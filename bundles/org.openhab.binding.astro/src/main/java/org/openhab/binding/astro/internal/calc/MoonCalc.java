@@ -12,8 +12,14 @@
  */
 package org.openhab.binding.astro.internal.calc;
 
+import static org.openhab.binding.astro.internal.AstroBindingConstants.*;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Calendar;
 
 import org.openhab.binding.astro.internal.model.Eclipse;
@@ -24,10 +30,12 @@ import org.openhab.binding.astro.internal.model.MoonDistance;
 import org.openhab.binding.astro.internal.model.MoonPhase;
 import org.openhab.binding.astro.internal.model.MoonPhaseName;
 import org.openhab.binding.astro.internal.model.Position;
+import org.openhab.binding.astro.internal.model.PositionalCurve;
 import org.openhab.binding.astro.internal.model.Range;
 import org.openhab.binding.astro.internal.model.Zodiac;
 import org.openhab.binding.astro.internal.model.ZodiacSign;
 import org.openhab.binding.astro.internal.util.DateTimeUtils;
+import org.openhab.core.library.unit.Units;
 
 /**
  * Calculates the phase, eclipse, rise, set, distance, illumination and age of
@@ -654,6 +662,31 @@ public class MoonCalc {
      * Sets the azimuth, elevation and zodiac in the moon object.
      */
     private void setAzimuthElevationZodiac(double julianDate, double latitude, double longitude, Moon moon) {
+        double[] azElLon = getAzimuthElevationLongitude(julianDate, latitude, longitude);
+
+        Position position = moon.getPosition();
+        position.setAzimuth(azElLon[0]);
+        position.setElevation(azElLon[1]);
+
+        // zodiac
+        double moonLon = azElLon[2];
+        double idxd = Math.floor(moonLon * SunCalc.RAD2DEG / 30);
+        int idx = 0;
+        if (idxd < 0) {
+            idx = (int) (Math.ceil(idxd));
+        } else {
+            idx = (int) (Math.floor(idxd));
+        }
+
+        if (idx >= 0 || idx <= ZodiacSign.values().length) {
+            moon.setZodiac(new Zodiac(ZodiacSign.values()[idx]));
+        }
+    }
+
+    /**
+     * Calculates azimuth and elevation (in degrees) and the ecliptic longitude (in radians) of the moon.
+     */
+    private double[] getAzimuthElevationLongitude(double julianDate, double latitude, double longitude) {
         double lat = latitude * SunCalc.DEG2RAD;
         double lon = longitude * SunCalc.DEG2RAD;
 
@@ -694,22 +727,42 @@ public class MoonCalc {
         double[] raDecTopo = geoEqu2TopoEqu(raDec, distance, lat, lmst);
         double[] azAlt = equ2AzAlt(raDecTopo[0], raDecTopo[1], lat, lmst);
 
-        Position position = moon.getPosition();
-        position.setAzimuth(azAlt[0] * SunCalc.RAD2DEG);
-        position.setElevation(azAlt[1] * SunCalc.RAD2DEG + refraction(azAlt[1]));
+        return new double[] { azAlt[0] * SunCalc.RAD2DEG, azAlt[1] * SunCalc.RAD2DEG + refraction(azAlt[1]),
+                moonLon };
+    }
 
-        // zodiac
-        double idxd = Math.floor(moonLon * SunCalc.RAD2DEG / 30);
-        int idx = 0;
-        if (idxd < 0) {
-            idx = (int) (Math.ceil(idxd));
-        } else {
-            idx = (int) (Math.floor(idxd));
+    /**
+     * Calculates azimuth, elevation and illumination for a whole day in one pass.
+     *
+     * @param day the day to calculate
+     * @param zone the time zone defining the start and end of the day
+     * @param resolution the time between two values
+     * @return a curve with the values of the position and illumination channels
+     */
+    public PositionalCurve getPositionalCurve(LocalDate day, ZoneId zone, Duration resolution, double latitude,
+            double longitude) {
+        Instant start = day.atStartOfDay(zone).toInstant();
+        long dayMillis = Duration.between(start, day.plusDays(1).atStartOfDay(zone)).toMillis();
+        long stepMillis = resolution.toMillis();
+        int size = (int) ((dayMillis + stepMillis - 1) / stepMillis);
+
+        double[] azimuth = new double[size];
+        double[] elevation = new double[size];
+        double[] illumination = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            double julianDate = DateTimeUtils.epochMillisToJulianDate(start.toEpochMilli() + i * stepMillis);
+            double[] azElLon = getAzimuthElevationLongitude(julianDate, latitude, longitude);
+            azimuth[i] = azElLon[0];
+            elevation[i] = azElLon[1];
+            illumination[i] = getIllumination(julianDate);
         }
 
-        if (idx >= 0 || idx <= ZodiacSign.values().length) {
-            moon.setZodiac(new Zodiac(ZodiacSign.values()[idx]));
-        }
+        PositionalCurve curve = new PositionalCurve(start, resolution, size);
+        curve.put(CHANNEL_ID_POSITION_AZIMUTH, Units.DEGREE_ANGLE, azimuth);
+        curve.put(CHANNEL_ID_POSITION_ELEVATION, Units.DEGREE_ANGLE, elevation);
+        curve.put(CHANNEL_ID_MOON_PHASE_ILLUMINATION, Units.PERCENT, illumination);
+        return curve;
     }
 
     private double mod2Pi(double x) {
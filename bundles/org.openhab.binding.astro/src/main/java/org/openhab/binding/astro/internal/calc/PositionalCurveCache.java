@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.astro.internal.model.PositionalCurve;
+
+/**
+ * Caches the daily {@link PositionalCurve}s of the sun and moon things.
+ *
+ * The curve of a day only depends on the planet, the location and the resolution. Things sharing a location share
+ * the curves, and a forecast spanning several publications only computes each day once.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class PositionalCurveCache {
+    private static final int MAX_CACHED_CURVES = 16;
+
+    private record Key(String planet, double latitude, double longitude, double altitude, ZoneId zone,
+            LocalDate day, Duration resolution) {
+    }
+
+    private final Map<Key, PositionalCurve> curves = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<Key, PositionalCurve> eldest) {
+            return size() > MAX_CACHED_CURVES;
+        }
+    };
+
+    /**
+     * Returns the curve of a planet for the given location and day, it is only calculated if not yet cached.
+     *
+     * @param planet name of the planet
+     * @param latitude latitude of the location
+     * @param longitude longitude of the location
+     * @param altitude altitude of the location
+     * @param zone time zone that defines the day
+     * @param day the day of the curve
+     * @param resolution time between two values of the curve
+     * @param calculation calculates the curve if it is not cached
+     * @return the curve
+     */
+    public synchronized PositionalCurve getCurve(String planet, double latitude, double longitude, double altitude,
+            ZoneId zone, LocalDate day, Duration resolution, Supplier<PositionalCurve> calculation) {
+        Key key = new Key(planet, latitude, longitude, altitude, zone, day, resolution);
+        PositionalCurve curve = curves.get(key);
+        if (curve == null) {
+            curve = calculation.get();
+            curves.put(key, curve);
+        }
+        return curve;
+    }
+}
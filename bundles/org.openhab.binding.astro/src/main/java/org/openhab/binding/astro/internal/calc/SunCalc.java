@@ -12,6 +12,12 @@
  */
 package org.openhab.binding.astro.internal.calc;
 
+import static org.openhab.binding.astro.internal.AstroBindingConstants.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
@@ -21,14 +27,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.astro.internal.model.Eclipse;
 import org.openhab.binding.astro.internal.model.EclipseType;
 import org.openhab.binding.astro.internal.model.Position;
+import org.openhab.binding.astro.internal.model.PositionalCurve;
 import org.openhab.binding.astro.internal.model.Radiation;
 import org.openhab.binding.astro.internal.model.Range;
 import org.openhab.binding.astro.internal.model.Sun;
 import org.openhab.binding.astro.internal.model.SunPhaseName;
 import org.openhab.binding.astro.internal.util.DateTimeUtils;
+import org.openhab.core.library.unit.Units;
 
 /**
  * Calculates the SunPosition (azimuth, elevation) and Sun data.
@@ -102,11 +111,8 @@ public class SunCalc {
         int dayOfYear = calendar.get(Calendar.DAY_OF_YEAR);
         int daysInYear = calendar.getActualMaximum(Calendar.DAY_OF_YEAR);
 
-        // Direct Solar Radiation (in W/m²) at the atmosphere entry
-        // At sunrise/sunset - calculations limits are reached
-        double rOut = (elevation > 3) ? SC * (0.034 * Math.cos(DEG2RAD * (360 * dayOfYear / daysInYear)) + 1) : 0;
-        double altitudeRatio = (altitude != null) ? 1 / Math.pow((1 - (6.5 / 288) * (altitude / 1000.0)), 5.256) : 1;
-        double m = (Math.sqrt(1229 + Math.pow(614 * sinAlpha, 2)) - 614 * sinAlpha) * altitudeRatio;
+        double rOut = getRadiationAtAtmosphereEntry(elevation, dayOfYear, daysInYear);
+        double m = getAirMass(sinAlpha, altitude);
 
         // Direct radiation after atmospheric layer
         // 0.6 = Coefficient de transmissivité
@@ -122,6 +128,74 @@ public class SunCalc {
         radiation.setTotal(rTot);
     }
 
+    /**
+     * Calculates azimuth, elevation and radiation for a whole day in one pass.
+     *
+     * @param day the day to calculate
+     * @param zone the time zone defining the start and end of the day
+     * @param resolution the time between two values
+     * @return a curve with the values of the position and radiation channels
+     */
+    public PositionalCurve getPositionalCurve(LocalDate day, ZoneId zone, Duration resolution, double latitude,
+            double longitude, @Nullable Double altitude) {
+        Instant start = day.atStartOfDay(zone).toInstant();
+        long dayMillis = Duration.between(start, day.plusDays(1).atStartOfDay(zone)).toMillis();
+        long stepMillis = resolution.toMillis();
+        int size = (int) ((dayMillis + stepMillis - 1) / stepMillis);
+
+        double lw = -longitude * DEG2RAD;
+        double phi = latitude * DEG2RAD;
+        int dayOfYear = day.getDayOfYear();
+        int daysInYear = day.lengthOfYear();
+
+        double[] azimuth = new double[size];
+        double[] elevation = new double[size];
+        double[] direct = new double[size];
+        double[] diffuse = new double[size];
+        double[] total = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            double j = DateTimeUtils.epochMillisToJulianDate(start.toEpochMilli() + i * stepMillis);
+            double m = getSolarMeanAnomaly(j);
+            double c = getEquationOfCenter(m);
+            double lsun = getEclipticLongitude(m, c);
+            double d = getSunDeclination(lsun);
+            double a = getRightAscension(lsun);
+            double th = getSiderealTime(j, lw);
+
+            azimuth[i] = getAzimuth(th, a, phi, d) / DEG2RAD + 180;
+            elevation[i] = getElevation(th, a, phi, d) / DEG2RAD;
+
+            double sinAlpha = Math.sin(DEG2RAD * elevation[i]);
+            double rOut = getRadiationAtAtmosphereEntry(elevation[i], dayOfYear, daysInYear);
+            double airMass = getAirMass(sinAlpha, altitude);
+            direct[i] = rOut * Math.pow(0.6, airMass) * sinAlpha;
+            diffuse[i] = rOut * (0.271 - 0.294 * Math.pow(0.6, airMass)) * sinAlpha;
+            total[i] = direct[i] + diffuse[i];
+        }
+
+        PositionalCurve curve = new PositionalCurve(start, resolution, size);
+        curve.put(CHANNEL_ID_POSITION_AZIMUTH, Units.DEGREE_ANGLE, azimuth);
+        curve.put(CHANNEL_ID_POSITION_ELEVATION, Units.DEGREE_ANGLE, elevation);
+        curve.put(CHANNEL_ID_RADIATION_DIRECT, Units.IRRADIANCE, direct);
+        curve.put(CHANNEL_ID_RADIATION_DIFFUSE, Units.IRRADIANCE, diffuse);
+        curve.put(CHANNEL_ID_RADIATION_TOTAL, Units.IRRADIANCE, total);
+        return curve;
+    }
+
+    /**
+     * Direct Solar Radiation (in W/m²) at the atmosphere entry.
+     * At sunrise/sunset - calculations limits are reached
+     */
+    private double getRadiationAtAtmosphereEntry(double elevation, int dayOfYear, int daysInYear) {
+        return (elevation > 3) ? SC * (0.034 * Math.cos(DEG2RAD * (360 * dayOfYear / daysInYear)) + 1) : 0;
+    }
+
+    private double getAirMass(double sinAlpha, @Nullable Double altitude) {
+        double altitudeRatio = (altitude != null) ? 1 / Math.pow((1 - (6.5 / 288) * (altitude / 1000.0)), 5.256) : 1;
+        return (Math.sqrt(1229 + Math.pow(614 * sinAlpha, 2)) - 614 * sinAlpha) * altitudeRatio;
+    }
+
     /**
      * Returns true, if the sun is up all day (no rise and set).
      */
@@ -30,6 +30,8 @@ public class AstroThingConfig {
     public @Nullable Double longitude;
     public boolean useMeteorologicalSeason;
     public int interval = 300;
+    public int forecastHorizon = 0;
+    public int forecastResolution = 15;
 
     /**
      * Splits the geolocation into latitude and longitude.
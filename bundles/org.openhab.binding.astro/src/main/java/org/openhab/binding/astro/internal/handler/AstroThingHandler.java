@@ -18,14 +18,21 @@ import static org.openhab.core.types.RefreshType.REFRESH;
 
 import java.lang.invoke.MethodHandles;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -37,12 +44,14 @@ import javax.measure.quantity.Angle;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.astro.internal.action.AstroActions;
+import org.openhab.binding.astro.internal.calc.PositionalCurveCache;
 import org.openhab.binding.astro.internal.config.AstroChannelConfig;
 import org.openhab.binding.astro.internal.config.AstroThingConfig;
 import org.openhab.binding.astro.internal.job.Job;
 import org.openhab.binding.astro.internal.job.PositionalJob;
 import org.openhab.binding.astro.internal.model.Planet;
 import org.openhab.binding.astro.internal.model.Position;
+import org.openhab.binding.astro.internal.model.PositionalCurve;
 import org.openhab.binding.astro.internal.util.PropertyUtils;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.library.types.QuantityType;
@@ -55,6 +64,7 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerService;
 import org.openhab.core.types.Command;
+import org.openhab.core.types.TimeSeries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,6 +77,7 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public abstract class AstroThingHandler extends BaseThingHandler {
     private static final String DAILY_MIDNIGHT = "30 0 0 * * ? *";
+    private static final int MAX_FORECAST_HORIZON = 168;
 
     /** Logger Instance */
     private final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
@@ -77,6 +88,8 @@ public abstract class AstroThingHandler extends BaseThingHandler {
 
     protected final TimeZoneProvider timeZoneProvider;
 
+    protected final PositionalCurveCache curveCache;
+
     private final Lock monitor = new ReentrantLock();
 
     private final Set<ScheduledFuture<?>> scheduledFutures = new HashSet<>();
@@ -87,10 +100,14 @@ public abstract class AstroThingHandler extends BaseThingHandler {
 
     private @Nullable ScheduledCompletableFuture<?> dailyJob;
 
-    public AstroThingHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
+    private volatile @Nullable Instant lastForecast;
+
+    public AstroThingHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final PositionalCurveCache curveCache) {
         super(thing);
         this.cronScheduler = scheduler;
         this.timeZoneProvider = timeZoneProvider;
+        this.curveCache = curveCache;
     }
 
     @Override
@@ -118,9 +135,20 @@ public abstract class AstroThingHandler extends BaseThingHandler {
             logger.error("Astro parameter interval must be in the range of 1-86400, disabling thing '{}'", thingUid);
             validConfig = false;
         }
+        if (thingConfig.forecastHorizon < 0 || thingConfig.forecastHorizon > MAX_FORECAST_HORIZON) {
+            logger.error("Astro parameter forecastHorizon must be in the range of 0-{}, disabling thing '{}'",
+                    MAX_FORECAST_HORIZON, thingUid);
+            validConfig = false;
+        }
+        if (thingConfig.forecastResolution < 1 || thingConfig.forecastResolution > 1440) {
+            logger.error("Astro parameter forecastResolution must be in the range of 1-1440, disabling thing '{}'",
+                    thingUid);
+            validConfig = false;
+        }
 
         if (validConfig) {
             logger.debug("{}", thingConfig);
+            lastForecast = null;
             updateStatus(ONLINE);
             restartJobs();
         } else {
@@ -160,6 +188,75 @@ public abstract class AstroThingHandler extends BaseThingHandler {
                 publishChannelIfLinked(channel.getUID());
             }
         }
+        publishForecastIfDue();
+    }
+
+    /**
+     * Publishes the forecast of the positional channels, if it is enabled and half of the forecast horizon has passed
+     * since the last publication.
+     */
+    private void publishForecastIfDue() {
+        if (thingConfig.forecastHorizon <= 0) {
+            return;
+        }
+        Instant now = Instant.now();
+        monitor.lock();
+        try {
+            Instant lastForecast = this.lastForecast;
+            if (lastForecast != null
+                    && now.isBefore(lastForecast.plus(Duration.ofHours(thingConfig.forecastHorizon).dividedBy(2)))) {
+                return;
+            }
+            this.lastForecast = now;
+        } finally {
+            monitor.unlock();
+        }
+        publishForecast(now);
+    }
+
+    /**
+     * Publishes the values of all linked positional channels from now until the configured forecast horizon as
+     * {@link TimeSeries}. The values are taken from the daily curves, which are calculated only once per day and
+     * location.
+     */
+    private void publishForecast(Instant now) {
+        List<String> linkedChannelIds = new ArrayList<>();
+        for (String channelId : getPositionalChannelIds()) {
+            if (isLinked(channelId)) {
+                linkedChannelIds.add(channelId);
+            }
+        }
+        if (linkedChannelIds.isEmpty()) {
+            return;
+        }
+
+        ZoneId zone = timeZoneProvider.getTimeZone();
+        Duration resolution = Duration.ofMinutes(thingConfig.forecastResolution);
+        Instant start = now.minus(resolution);
+        Instant end = now.plus(Duration.ofHours(thingConfig.forecastHorizon));
+        Map<String, TimeSeries> forecast = new HashMap<>();
+        LocalDate lastDay = LocalDate.ofInstant(end, zone);
+        for (LocalDate day = LocalDate.ofInstant(start, zone); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            PositionalCurve curve = getPositionalCurve(day, zone, resolution);
+            for (String channelId : linkedChannelIds) {
+                if (!curve.getChannelIds().contains(channelId)) {
+                    continue;
+                }
+                TimeSeries timeSeries = forecast.computeIfAbsent(channelId,
+                        id -> new TimeSeries(TimeSeries.Policy.REPLACE));
+                for (int i = 0; i < curve.getSize(); i++) {
+                    Instant instant = curve.getInstant(i);
+                    QuantityType<?> state = curve.getState(channelId, i);
+                    if (instant.isAfter(start) && !instant.isAfter(end) && state != null) {
+                        timeSeries.add(instant, state);
+                    }
+                }
+            }
+        }
+        forecast.forEach((channelId, timeSeries) -> {
+            logger.debug("Publishing forecast with {} values for channel {}", timeSeries.size(), channelId);
+            sendTimeSeries(channelId, timeSeries);
+        });
     }
 
     /**
@@ -246,6 +343,10 @@ public abstract class AstroThingHandler extends BaseThingHandler {
     public void channelLinked(ChannelUID channelUID) {
         linkedChannelChange(channelUID);
         publishChannelIfLinked(channelUID);
+        if (thingConfig.forecastHorizon > 0 && Arrays.asList(getPositionalChannelIds()).contains(channelUID.getId())) {
+            lastForecast = null;
+            publishForecastIfDue();
+        }
     }
 
     @Override
@@ -349,6 +450,11 @@ public abstract class AstroThingHandler extends BaseThingHandler {
      */
     protected abstract Job getDailyJob();
 
+    /**
+     * Returns the curve of the positional channels for the given day (cannot be {@code null})
+     */
+    protected abstract PositionalCurve getPositionalCurve(LocalDate day, ZoneId zone, Duration resolution);
+
     public abstract @Nullable Position getPositionAt(ZonedDateTime date);
 
     public @Nullable QuantityType<Angle> getAzimuth(ZonedDateTime date) {
@@ -12,18 +12,24 @@
  */
 package org.openhab.binding.astro.internal.handler;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.astro.internal.calc.MoonCalc;
+import org.openhab.binding.astro.internal.calc.PositionalCurveCache;
 import org.openhab.binding.astro.internal.job.DailyJobMoon;
 import org.openhab.binding.astro.internal.job.Job;
 import org.openhab.binding.astro.internal.model.Moon;
 import org.openhab.binding.astro.internal.model.Planet;
 import org.openhab.binding.astro.internal.model.Position;
+import org.openhab.binding.astro.internal.model.PositionalCurve;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.scheduler.CronScheduler;
 import org.openhab.core.thing.Thing;
@@ -45,8 +51,9 @@ public class MoonHandler extends AstroThingHandler {
     /**
      * Constructor
      */
-    public MoonHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
-        super(thing, scheduler, timeZoneProvider);
+    public MoonHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final PositionalCurveCache curveCache) {
+        super(thing, scheduler, timeZoneProvider, curveCache);
     }
 
     @Override
@@ -90,6 +97,14 @@ public class MoonHandler extends AstroThingHandler {
                 longitude != null ? longitude : 0);
     }
 
+    @Override
+    protected PositionalCurve getPositionalCurve(LocalDate day, ZoneId zone, Duration resolution) {
+        double latitude = Objects.requireNonNullElse(thingConfig.latitude, 0.0);
+        double longitude = Objects.requireNonNullElse(thingConfig.longitude, 0.0);
+        return curveCache.getCurve("moon", latitude, longitude, 0, zone, day, resolution,
+                () -> moonCalc.getPositionalCurve(day, zone, resolution, latitude, longitude));
+    }
+
     @Override
     public @Nullable Position getPositionAt(ZonedDateTime date) {
         Moon localMoon = getMoonAt(date);
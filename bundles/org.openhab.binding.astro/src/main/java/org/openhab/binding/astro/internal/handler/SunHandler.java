@@ -12,17 +12,23 @@
  */
 package org.openhab.binding.astro.internal.handler;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.astro.internal.calc.PositionalCurveCache;
 import org.openhab.binding.astro.internal.calc.SunCalc;
 import org.openhab.binding.astro.internal.job.DailyJobSun;
 import org.openhab.binding.astro.internal.job.Job;
 import org.openhab.binding.astro.internal.model.Planet;
 import org.openhab.binding.astro.internal.model.Position;
+import org.openhab.binding.astro.internal.model.PositionalCurve;
 import org.openhab.binding.astro.internal.model.Radiation;
 import org.openhab.binding.astro.internal.model.Range;
 import org.openhab.binding.astro.internal.model.Sun;
@@ -48,8 +54,9 @@ public class SunHandler extends AstroThingHandler {
     /**
      * Constructor
      */
-    public SunHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
-        super(thing, scheduler, timeZoneProvider);
+    public SunHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final PositionalCurveCache curveCache) {
+        super(thing, scheduler, timeZoneProvider, curveCache);
     }
 
     @Override
@@ -116,6 +123,15 @@ public class SunHandler extends AstroThingHandler {
         }
     }
 
+    @Override
+    protected PositionalCurve getPositionalCurve(LocalDate day, ZoneId zone, Duration resolution) {
+        double latitude = Objects.requireNonNullElse(thingConfig.latitude, 0.0);
+        double longitude = Objects.requireNonNullElse(thingConfig.longitude, 0.0);
+        Double altitude = thingConfig.altitude;
+        return curveCache.getCurve("sun", latitude, longitude, altitude != null ? altitude : 0, zone, day,
+                resolution, () -> sunCalc.getPositionalCurve(day, zone, resolution, latitude, longitude, altitude));
+    }
+
     @Override
     public @Nullable Position getPositionAt(ZonedDateTime date) {
         Sun localSun = getPositionedSunAt(date);
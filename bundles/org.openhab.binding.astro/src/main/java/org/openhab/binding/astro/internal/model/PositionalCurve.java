@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.QuantityType;
+
+/**
+ * Holds positional values of a planet at equidistant instants, e.g. the sun elevation of a whole day in 15 minute
+ * steps. The values are stored per channel id.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class PositionalCurve {
+    private final Instant start;
+    private final Duration resolution;
+    private final int size;
+    private final Map<String, double[]> values = new LinkedHashMap<>();
+    private final Map<String, Unit<?>> units = new LinkedHashMap<>();
+
+    /**
+     * Creates a curve.
+     *
+     * @param start the instant of the first value
+     * @param resolution the time between two values
+     * @param size the number of values per channel
+     */
+    public PositionalCurve(Instant start, Duration resolution, int size) {
+        this.start = start;
+        this.resolution = resolution;
+        this.size = size;
+    }
+
+    /**
+     * Adds the values of a channel, the array must have {@link #getSize()} elements.
+     */
+    public void put(String channelId, Unit<?> unit, double[] channelValues) {
+        if (channelValues.length != size) {
+            throw new IllegalArgumentException("Expected " + size + " values, got " + channelValues.length);
+        }
+        values.put(channelId, channelValues);
+        units.put(channelId, unit);
+    }
+
+    /**
+     * Returns the ids of the channels contained in this curve.
+     */
+    public Set<String> getChannelIds() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    /**
+     * Returns the number of values per channel.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the instant of the value with the given index.
+     */
+    public Instant getInstant(int index) {
+        return start.plus(resolution.multipliedBy(index));
+    }
+
+    /**
+     * Returns the value of a channel at the given index, or {@code null} if the channel is not part of this curve.
+     */
+    public @Nullable QuantityType<?> getState(String channelId, int index) {
+        double[] channelValues = values.get(channelId);
+        Unit<?> unit = units.get(channelId);
+        if (channelValues == null || unit == null) {
+            return null;
+        }
+        return new QuantityType<>(channelValues[index], unit);
+    }
+}
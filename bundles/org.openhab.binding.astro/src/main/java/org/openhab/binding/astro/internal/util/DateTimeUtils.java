@@ -112,6 +112,13 @@ public class DateTimeUtils {
         return calendar.getTimeInMillis() / MILLISECONDS_PER_DAY - 0.5 + J1970;
     }
 
+    /**
+     * Returns the julian date of the given epoch milliseconds.
+     */
+    public static double epochMillisToJulianDate(long epochMillis) {
+        return epochMillis / MILLISECONDS_PER_DAY - 0.5 + J1970;
+    }
+
     /**
      * Returns the midnight julian date from the calendar object.
      */
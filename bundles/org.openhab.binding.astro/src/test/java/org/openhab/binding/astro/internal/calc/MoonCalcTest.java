@@ -14,6 +14,9 @@ package org.openhab.binding.astro.internal.calc;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.TimeZone;
@@ -21,6 +24,7 @@ import java.util.TimeZone;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.PositionalCurve;
 import org.openhab.binding.astro.internal.model.ZodiacSign;
 
 /***
@@ -158,6 +162,26 @@ public class MoonCalcTest {
                 moon.getPhase().getThirdQuarter().getTimeInMillis(), ACCURACY_IN_MILLIS);
     }
 
+    @Test
+    public void testPositionalCurveMatchesPositionalInfo() {
+        ZoneId zone = TIME_ZONE.toZoneId();
+        PositionalCurve curve = moonCalc.getPositionalCurve(LocalDate.of(2019, 2, 27), zone, Duration.ofMinutes(30),
+                AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+
+        assertEquals(48, curve.getSize());
+        Moon moon = moonCalc.getMoonInfo(FEB_27_2019, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+        for (int i = 0; i < curve.getSize(); i += 5) {
+            moonCalc.setPositionalInfo(GregorianCalendar.from(curve.getInstant(i).atZone(zone)), AMSTERDAM_LATITUDE,
+                    AMSTERDAM_LONGITUDE, moon);
+            assertEquals(moon.getPosition().getAzimuth().doubleValue(),
+                    curve.getState("position#azimuth", i).doubleValue(), 1e-9);
+            assertEquals(moon.getPosition().getElevation().doubleValue(),
+                    curve.getState("position#elevation", i).doubleValue(), 1e-9);
+            assertEquals(moon.getPhase().getIllumination().doubleValue(),
+                    curve.getState("phase#illumination", i).doubleValue(), 1e-9);
+        }
+    }
+
     /***
      * Constructs a <code>GregorianCalendar</code> with the given date and time set
      * for the provided time zone.
@@ -14,6 +14,9 @@ package org.openhab.binding.astro.internal.calc;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.TimeZone;
@@ -21,6 +24,7 @@ import java.util.TimeZone;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.openhab.binding.astro.internal.model.PositionalCurve;
 import org.openhab.binding.astro.internal.model.Sun;
 import org.openhab.binding.astro.internal.model.SunPhaseName;
 
@@ -302,6 +306,26 @@ public class SunCalcTest {
         assertEquals(SunPhaseName.DAYLIGHT, sun.getPhase().getName());
     }
 
+    @Test
+    public void testPositionalCurveMatchesPositionalInfo() {
+        ZoneId zone = TIME_ZONE.toZoneId();
+        PositionalCurve curve = sunCalc.getPositionalCurve(LocalDate.of(2019, 2, 27), zone, Duration.ofMinutes(15),
+                AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE);
+
+        assertEquals(96, curve.getSize());
+        for (int i = 0; i < curve.getSize(); i += 7) {
+            Sun sun = new Sun();
+            sunCalc.setPositionalInfo(GregorianCalendar.from(curve.getInstant(i).atZone(zone)), AMSTERDAM_LATITUDE,
+                    AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, sun);
+            assertEquals(sun.getPosition().getAzimuth().doubleValue(),
+                    curve.getState("position#azimuth", i).doubleValue(), 1e-9);
+            assertEquals(sun.getPosition().getElevation().doubleValue(),
+                    curve.getState("position#elevation", i).doubleValue(), 1e-9);
+            assertEquals(sun.getRadiation().getTotal().doubleValue(),
+                    curve.getState("radiation#total", i).doubleValue(), 1e-9);
+        }
+    }
+
     /***
      * Constructs a <code>GregorianCalendar</code> with the given date and time set
      * for the provided time zone.
@@ -55,6 +55,7 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     private final Logger logger = LoggerFactory.getLogger(DmxBridgeHandler.class);
 
     protected Universe universe = new Universe(0); // default universe
+    protected final FrameStatistics frameStatistics;
 
     private @Nullable ScheduledFuture<?> senderJob;
     private boolean isMuted = false;
@@ -62,6 +63,7 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
 
     protected DmxBridgeHandler(Bridge dmxBridge) {
         super(dmxBridge);
+        frameStatistics = new FrameStatistics(dmxBridge.getUID().toString());
     }
 
     @Override
@@ -137,6 +139,8 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
 
     /**
      * send the buffer of the current universe
+     *
+     * implementations shall call {@link FrameStatistics#frameSent()} of {@link #frameStatistics} if data was sent
      */
     protected abstract void sendDmxData();
 
@@ -148,6 +152,7 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
             uninstallScheduler();
         }
         if (refreshTime > 0) {
+            frameStatistics.setRefreshTime(refreshTime);
             senderJob = scheduler.scheduleAtFixedRate(this::refresh, 1, refreshTime, TimeUnit.MILLISECONDS);
             logger.trace("started scheduler for thing {}", this.thing.getUID());
         } else {
@@ -160,7 +165,9 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
             logger.trace("runnable packet sender for universe {} called, state {}/{}", universe.getUniverseId(),
                     getThing().getStatus(), isMuted);
             if (!isMuted) {
+                frameStatistics.frameStarted(System.nanoTime());
                 sendDmxData();
+                frameStatistics.frameFinished(System.nanoTime());
             } else {
                 logger.trace("bridge {} is muted", getThing().getUID());
             }
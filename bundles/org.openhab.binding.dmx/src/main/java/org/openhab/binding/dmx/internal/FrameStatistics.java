@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link FrameStatistics} collects the render time and the jitter of the frames of a DMX bridge and reports them
+ * periodically on debug level
+ *
+ * The jitter of a frame is the deviation of its start from the configured refresh time.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class FrameStatistics {
+    public static final long REPORT_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    private final Logger logger = LoggerFactory.getLogger(FrameStatistics.class);
+    private final String name;
+
+    private long period;
+    private long lastFrameStart = 0;
+    private long intervalStart = 0;
+
+    private int frames;
+    private int sentFrames;
+    private long frameTimeSum;
+    private long frameTimeMax;
+    private int jitterSamples;
+    private long jitterSum;
+    private long jitterMax;
+
+    /**
+     * create new statistics
+     *
+     * @param name the name used in the report (usually the thing UID)
+     */
+    public FrameStatistics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * set the expected time between two frames and restart the statistics
+     *
+     * @param refreshTime time between two frames in ms
+     */
+    public synchronized void setRefreshTime(int refreshTime) {
+        period = TimeUnit.MILLISECONDS.toNanos(refreshTime);
+        lastFrameStart = 0;
+        reset(0);
+    }
+
+    /**
+     * mark the start of a frame
+     *
+     * @param now the start time in ns (see {@link System#nanoTime()})
+     */
+    public synchronized void frameStarted(long now) {
+        if (lastFrameStart != 0) {
+            long jitter = Math.abs(now - lastFrameStart - period);
+            jitterSum += jitter;
+            jitterSamples++;
+            jitterMax = Math.max(jitterMax, jitter);
+        } else {
+            intervalStart = now;
+        }
+        lastFrameStart = now;
+    }
+
+    /**
+     * mark the current frame as sent to the receivers
+     */
+    public synchronized void frameSent() {
+        sentFrames++;
+    }
+
+    /**
+     * mark the end of a frame, report the statistics if the report interval is over
+     *
+     * @param now the end time in ns (see {@link System#nanoTime()})
+     */
+    public synchronized void frameFinished(long now) {
+        long frameTime = now - lastFrameStart;
+        frameTimeSum += frameTime;
+        frameTimeMax = Math.max(frameTimeMax, frameTime);
+        frames++;
+
+        if (now - intervalStart >= REPORT_INTERVAL) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(
+                        "{}: {} frames ({} sent), frame time avg {} µs / max {} µs, jitter avg {} µs / max {} µs",
+                        name, frames, sentFrames, getAverageFrameTime() / 1000, frameTimeMax / 1000,
+                        getAverageJitter() / 1000, jitterMax / 1000);
+            }
+            reset(now);
+        }
+    }
+
+    /**
+     * get the number of frames in the current report interval
+     *
+     * @return number of frames
+     */
+    public synchronized int getFrames() {
+        return frames;
+    }
+
+    /**
+     * get the number of frames sent to the receivers in the current report interval
+     *
+     * @return number of sent frames
+     */
+    public synchronized int getSentFrames() {
+        return sentFrames;
+    }
+
+    /**
+     * get the average render time of the frames in the current report interval
+     *
+     * @return frame time in ns
+     */
+    public synchronized long getAverageFrameTime() {
+        return frames > 0 ? frameTimeSum / frames : 0;
+    }
+
+    /**
+     * get the average jitter of the frames in the current report interval
+     *
+     * @return jitter in ns
+     */
+    public synchronized long getAverageJitter() {
+        return jitterSamples > 0 ? jitterSum / jitterSamples : 0;
+    }
+
+    private void reset(long now) {
+        intervalStart = now;
+        frames = 0;
+        sentFrames = 0;
+        frameTimeSum = 0;
+        frameTimeMax = 0;
+        jitterSamples = 0;
+        jitterSum = 0;
+        jitterMax = 0;
+    }
+}
@@ -94,7 +94,7 @@ public class ArtnetPacket extends DmxOverEthernetPacket {
 
     @Override
     public void setPayload(byte[] payload) {
-        System.arraycopy(payload, 0, rawPacket, 18, payloadSize);
+        System.arraycopy(payload, 0, rawPacket, getPayloadOffset(), payloadSize);
     }
 
     @Override
@@ -105,8 +105,13 @@ public class ArtnetPacket extends DmxOverEthernetPacket {
         setPayload(payload);
     }
 
+    @Override
+    protected int getPayloadOffset() {
+        return 18;
+    }
+
     @Override
     public int getPacketLength() {
-        return (18 + this.payloadSize);
+        return (getPayloadOffset() + this.payloadSize);
     }
 }
@@ -36,6 +36,9 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
+    public static final int KEEPALIVE_INTERVAL = 800;
+    public static final int REPEAT_COUNT = 3;
+
     private final Logger logger = LoggerFactory.getLogger(DmxOverEthernetHandler.class);
 
     protected @Nullable DmxOverEthernetPacket packetTemplate;
@@ -45,6 +48,7 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     protected boolean refreshAlways = false;
 
     protected @Nullable DatagramSocket socket = null;
+    private @Nullable DatagramPacket sendPacket = null;
     private long lastSend = 0;
     private int repeatCounter = 0;
     private int sequenceNo = 0;
@@ -99,9 +103,9 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
             if ((universe.getLastBufferChanged() > lastSend) || refreshAlways) {
                 needsSending = true;
                 repeatCounter = 0;
-            } else if (now - lastSend > 800) {
+            } else if (now - lastSend > KEEPALIVE_INTERVAL) {
                 needsSending = true;
-            } else if (repeatCounter < 3) {
+            } else if (repeatCounter < REPEAT_COUNT) {
                 needsSending = true;
                 repeatCounter++;
             }
@@ -112,10 +116,16 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
                             thing.getUID());
                     return;
                 }
-                packetTemplate.setPayload(universe.getBuffer(), universe.getBufferSize());
+                packetTemplate.setPayload(universe);
                 packetTemplate.setSequence(sequenceNo);
-                DatagramPacket sendPacket = new DatagramPacket(packetTemplate.getRawPacket(),
-                        packetTemplate.getPacketLength());
+                // the packet template is only replaced on configuration changes, re-use the datagram until then
+                DatagramPacket sendPacket = this.sendPacket;
+                if (sendPacket == null || sendPacket.getData() != packetTemplate.getRawPacket()) {
+                    sendPacket = new DatagramPacket(packetTemplate.getRawPacket(), packetTemplate.getPacketLength());
+                    this.sendPacket = sendPacket;
+                } else {
+                    sendPacket.setLength(packetTemplate.getPacketLength());
+                }
                 for (IpNode receiverNode : receiverNodes) {
                     sendPacket.setAddress(receiverNode.getAddress());
                     sendPacket.setPort(receiverNode.getPort());
@@ -136,6 +146,7 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
                 }
                 lastSend = now;
                 sequenceNo = (sequenceNo + 1) % 256;
+                frameStatistics.frameSent();
             }
         } else {
             openConnection();
@@ -13,6 +13,7 @@
 package org.openhab.binding.dmx.internal.dmxoverethernet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.dmx.internal.multiverse.Universe;
 
 /**
  * The {@link DmxOverEthernetPacket} is an abstract class for
@@ -62,6 +63,26 @@ public abstract class DmxOverEthernetPacket {
      */
     public abstract void setPayload(byte[] payload, int payloadSize);
 
+    /**
+     * copy the DMX payload directly from the universe buffer to the packet
+     *
+     * @param universe the universe containing the DMX channel data
+     */
+    public void setPayload(Universe universe) {
+        int payloadSize = universe.getBufferSize();
+        if (payloadSize != this.payloadSize) {
+            setPayloadSize(payloadSize);
+        }
+        universe.copyBuffer(rawPacket, getPayloadOffset());
+    }
+
+    /**
+     * get position of the DMX payload in the raw packet
+     *
+     * @return offset of the first DMX channel
+     */
+    protected abstract int getPayloadOffset();
+
     /**
      * get packet for transmission
      *
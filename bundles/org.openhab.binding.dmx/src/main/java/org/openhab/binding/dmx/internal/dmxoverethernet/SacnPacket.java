@@ -168,7 +168,7 @@ public class SacnPacket extends DmxOverEthernetPacket {
 
     @Override
     public void setPayload(byte[] payload) {
-        System.arraycopy(payload, 0, rawPacket, 126, payloadSize);
+        System.arraycopy(payload, 0, rawPacket, getPayloadOffset(), payloadSize);
     }
 
     @Override
@@ -179,8 +179,13 @@ public class SacnPacket extends DmxOverEthernetPacket {
         setPayload(payload);
     }
 
+    @Override
+    protected int getPayloadOffset() {
+        return 126;
+    }
+
     @Override
     public int getPacketLength() {
-        return (126 + this.payloadSize);
+        return (getPayloadOffset() + this.payloadSize);
     }
 }
@@ -49,6 +49,7 @@ public class DmxChannel extends BaseDmxChannel {
     private int value = MIN_VALUE;
     private int suspendedValue = MIN_VALUE;
     private int lastStateValue = -1;
+    private volatile boolean valueChanged = true;
 
     private boolean isSuspended = false;
     private int refreshTime = 0;
@@ -112,6 +113,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public void setValue(int value) {
         this.value = Util.toDmxValue(value) << 8;
+        valueChanged = true;
         logger.trace("set dmx channel {} to value {}", this, this.value >> 8);
     }
 
@@ -122,6 +124,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public void setValue(PercentType value) {
         this.value = Util.toDmxValue(value) << 8;
+        valueChanged = true;
         logger.trace("set dmx channel {} to value {}", this, this.value >> 8);
     }
 
@@ -174,6 +177,7 @@ public class DmxChannel extends BaseDmxChannel {
                 logger.trace("resuming suspended actions for DMX channel {}", this);
             } else {
                 value = suspendedValue;
+                valueChanged = true;
                 logger.trace("resuming suspended value for DMX channel {}", this);
             }
             isSuspended = false;
@@ -233,6 +237,16 @@ public class DmxChannel extends BaseDmxChannel {
         return !actions.isEmpty();
     }
 
+    /**
+     * check if the value of this channel needs to be calculated, i.e. it has running actions, was changed since the
+     * last calculation or a state update is pending
+     *
+     * @return true if the channel is active
+     */
+    public boolean isActive() {
+        return valueChanged || hasRunningActions() || lastStateValue != value;
+    }
+
     /**
      * Move to the next action in the action chain. This method is used by
      * automatic chains and to manually move to the next action if actions are
@@ -255,7 +269,7 @@ public class DmxChannel extends BaseDmxChannel {
      * @param calculationTime UNIX timestamp
      * @return value 0-255
      */
-    public synchronized Integer getNewValue(long calculationTime) {
+    public synchronized int getNewValue(long calculationTime) {
         return (getNewHiResValue(calculationTime) >> 8);
     }
 
@@ -266,7 +280,8 @@ public class DmxChannel extends BaseDmxChannel {
      * @param calculationTime UNIX timestamp
      * @return value 0-65535
      */
-    public synchronized Integer getNewHiResValue(long calculationTime) {
+    public synchronized int getNewHiResValue(long calculationTime) {
+        valueChanged = false;
         if (hasRunningActions()) {
             logger.trace("checking actions, list is {}", actions);
             BaseAction action = actions.get(0);
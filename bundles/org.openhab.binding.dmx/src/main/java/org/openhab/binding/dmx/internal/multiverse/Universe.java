@@ -13,6 +13,7 @@
 package org.openhab.binding.dmx.internal.multiverse;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
@@ -26,6 +27,9 @@ import org.slf4j.LoggerFactory;
  * The {@link Universe} represents a single DMX universes with all its channels and provides a buffer for sending by the
  * bridges
  *
+ * The buffer is calculated in place. Only channels with running actions or changed values are evaluated, so that
+ * rendering a frame of an idle universe does neither allocate memory nor walk through the actions of all channels.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -40,14 +44,15 @@ public class Universe {
     private int universeId;
     private int bufferSize = MIN_UNIVERSE_SIZE;
 
-    private final short[] buffer = new short[MAX_UNIVERSE_SIZE];
+    private final byte[] buffer = new byte[MAX_UNIVERSE_SIZE];
     private final short[] cie1931Curve = new short[DmxChannel.MAX_VALUE << 8 + 1];
 
     private long bufferChanged;
+    private boolean recalculateAll = true;
     private int refreshTime = DEFAULT_REFRESH_TIME;
 
     private final List<DmxChannel> channels = new ArrayList<>();
-    private final List<Integer> applyCurve = new ArrayList<>();
+    private final boolean[] applyCurve = new boolean[MAX_UNIVERSE_SIZE];
 
     /**
      * universe constructor
@@ -176,23 +181,26 @@ public class Universe {
     /**
      * calculate this universe buffer (run all channel actions) for a given time
      *
+     * only active channels are evaluated, see {@link DmxChannel#isActive()}
+     *
      * @param time the timestamp used for calculation
      */
     public void calculateBuffer(long time) {
         universeLock.lock();
         try {
-            for (DmxChannel channel : channels) {
+            boolean recalculateAll = this.recalculateAll;
+            this.recalculateAll = false;
+            for (int i = 0; i < channels.size(); i++) {
+                DmxChannel channel = channels.get(i);
+                if (!recalculateAll && !channel.isActive()) {
+                    continue;
+                }
                 logger.trace("calculating new value for {}", channel);
-                int channelId = channel.getChannelId();
+                int channelIndex = channel.getChannelId() - 1;
                 int vx = channel.getNewHiResValue(time);
-                int value;
-                if (applyCurve.contains(channelId)) {
-                    value = cie1931Curve[vx];
-                } else {
-                    value = vx >> 8;
-                }
-                if (buffer[channelId - 1] != value) {
-                    buffer[channelId - 1] = (short) value;
+                byte value = (byte) (applyCurve[channelIndex] ? cie1931Curve[vx] : vx >> 8);
+                if (buffer[channelIndex] != value) {
+                    buffer[channelIndex] = value;
                     bufferChanged = time;
                 }
             }
@@ -208,15 +216,25 @@ public class Universe {
      */
     public byte[] getBuffer() {
         byte[] b = new byte[bufferSize];
+        copyBuffer(b, 0);
+        return b;
+    }
+
+    /**
+     * copy the full universe buffer to an existing array, e.g. the payload of a pre-built packet
+     *
+     * @param destination the destination array
+     * @param offset position of the first channel value in the destination array
+     * @return number of copied channel values
+     */
+    public int copyBuffer(byte[] destination, int offset) {
         universeLock.lock();
         try {
-            for (int i = 0; i < bufferSize; i++) {
-                b[i] = (byte) buffer[i];
-            }
+            System.arraycopy(buffer, 0, destination, offset, bufferSize);
+            return bufferSize;
         } finally {
             universeLock.unlock();
         }
-        return b;
     }
 
     /**
@@ -225,11 +243,18 @@ public class Universe {
      * @param listString
      */
     public void setDimCurveChannels(String listString) {
-        applyCurve.clear();
-        for (BaseDmxChannel channel : BaseDmxChannel.fromString(listString, universeId)) {
-            applyCurve.add(channel.getChannelId());
+        List<BaseDmxChannel> curveChannels = BaseDmxChannel.fromString(listString, universeId);
+        universeLock.lock();
+        try {
+            Arrays.fill(applyCurve, false);
+            for (BaseDmxChannel channel : curveChannels) {
+                applyCurve[channel.getChannelId() - 1] = true;
+            }
+            recalculateAll = true;
+        } finally {
+            universeLock.unlock();
         }
-        logger.debug("applying dim curve in universe {} to channels {}", universeId, applyCurve);
+        logger.debug("applying dim curve in universe {} to channels {}", universeId, curveChannels);
     }
 
     /**
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal.multiverse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.openhab.binding.dmx.internal.action.FadeAction;
+import org.openhab.binding.dmx.internal.dmxoverethernet.ArtnetPacket;
+import org.openhab.core.thing.Thing;
+
+/**
+ * Tests cases for Universe
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class UniverseTest {
+    private @NonNullByDefault({}) Universe universe;
+    private @NonNullByDefault({}) DmxChannel channel1;
+    private @NonNullByDefault({}) DmxChannel channel2;
+    private long currentTime;
+
+    @BeforeEach
+    public void setup() {
+        Thing thing = Mockito.mock(Thing.class);
+        universe = new Universe(1);
+        universe.setRefreshTime(0);
+        channel1 = universe.registerChannel(new BaseDmxChannel(1, 1), thing);
+        channel2 = universe.registerChannel(new BaseDmxChannel(1, 2), thing);
+        currentTime = System.currentTimeMillis();
+        universe.calculateBuffer(currentTime);
+    }
+
+    @Test
+    public void onlyActiveChannelsAreCalculated() {
+        assertThat(channel1.isActive(), is(false));
+        assertThat(channel2.isActive(), is(false));
+
+        channel1.setValue(100);
+        assertThat(channel1.isActive(), is(true));
+        assertThat(channel2.isActive(), is(false));
+
+        universe.calculateBuffer(++currentTime);
+        assertThat(channel1.isActive(), is(false));
+        assertThat(universe.getLastBufferChanged(), is(currentTime));
+        assertThat(universe.getBuffer()[0] & 0xFF, is(100));
+
+        // unchanged buffer
+        universe.calculateBuffer(++currentTime);
+        assertThat(universe.getLastBufferChanged(), is(currentTime - 1));
+    }
+
+    @Test
+    public void fadingChannelStaysActive() {
+        channel2.setChannelAction(new FadeAction(1000, 255, -1));
+        universe.calculateBuffer(currentTime);
+        universe.calculateBuffer(currentTime + 500);
+        assertThat(channel2.isActive(), is(true));
+        assertThat(universe.getBuffer()[1] & 0xFF, is(127));
+
+        universe.calculateBuffer(currentTime + 1000);
+        assertThat(universe.getBuffer()[1] & 0xFF, is(255));
+        assertThat(channel2.isActive(), is(false));
+    }
+
+    @Test
+    public void payloadIsCopiedToPacket() {
+        channel1.setValue(10);
+        channel2.setValue(20);
+        universe.calculateBuffer(++currentTime);
+
+        ArtnetPacket packet = new ArtnetPacket();
+        packet.setPayload(universe);
+        assertThat(packet.getPayloadSize(), is(Universe.MIN_UNIVERSE_SIZE));
+        assertThat(packet.getPacketLength(), is(18 + Universe.MIN_UNIVERSE_SIZE));
+        assertThat((int) packet.getRawPacket()[18], is(10));
+        assertThat((int) packet.getRawPacket()[19], is(20));
+    }
+}
@@ -14,8 +14,16 @@ package org.openhab.binding.enocean.internal.eep;
 
 import static org.openhab.binding.enocean.internal.messages.ESP3Packet.*;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -40,6 +48,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Creates the {@link EEP}s for sent and received messages.
+ *
+ * The constructors of the EEP classes are looked up once per {@link EEPType} and bound to lambdas, so decoding a
+ * received telegram does not use reflection.
  *
  * @author Daniel Weber - Initial contribution
  */
@@ -48,27 +60,57 @@ public class EEPFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EEPFactory.class);
 
+    private static final Map<EEPType, Supplier<EEP>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    private static final Map<EEPType, Function<ERP1Message, EEP>> DECODERS = new ConcurrentHashMap<>();
+
     public static EEP createEEP(EEPType eepType) {
-        try {
-            Class<? extends EEP> cl = eepType.getEEPClass();
-            return cl.getDeclaredConstructor().newInstance();
-        } catch (IllegalAccessException | InstantiationException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
-            throw new IllegalArgumentException(e);
-        }
+        return CONSTRUCTORS.computeIfAbsent(eepType, EEPFactory::createConstructor).get();
     }
 
     public static EEP buildEEP(EEPType eepType, ERP1Message packet) {
+        Function<ERP1Message, EEP> decoder;
         try {
-            Class<? extends EEP> cl = eepType.getEEPClass();
-            return cl.getConstructor(ERP1Message.class).newInstance(packet);
-        } catch (IllegalAccessException | InstantiationException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
+            decoder = DECODERS.computeIfAbsent(eepType, EEPFactory::createDecoder);
+        } catch (IllegalArgumentException e) {
             LOGGER.error("Cannot instantiate EEP {}-{}-{}: {}",
                     HexUtils.bytesToHex(new byte[] { eepType.getRORG().getValue() }),
                     HexUtils.bytesToHex(new byte[] { (byte) eepType.getFunc() }),
                     HexUtils.bytesToHex(new byte[] { (byte) eepType.getType() }), e.getMessage());
+            throw e;
+        }
+        try {
+            return decoder.apply(packet);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<EEP> createConstructor(EEPType eepType) {
+        Class<? extends EEP> cl = eepType.getEEPClass();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle constructor = lookup.findConstructor(cl, MethodType.methodType(void.class));
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class), constructor, MethodType.methodType(cl));
+            return (Supplier<EEP>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
 
+    @SuppressWarnings("unchecked")
+    private static Function<ERP1Message, EEP> createDecoder(EEPType eepType) {
+        Class<? extends EEP> cl = eepType.getEEPClass();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle constructor = lookup.findConstructor(cl,
+                    MethodType.methodType(void.class, ERP1Message.class));
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class), constructor,
+                    MethodType.methodType(cl, ERP1Message.class));
+            return (Function<ERP1Message, EEP>) site.getTarget().invoke();
+        } catch (Throwable e) {
             throw new IllegalArgumentException(e);
         }
     }
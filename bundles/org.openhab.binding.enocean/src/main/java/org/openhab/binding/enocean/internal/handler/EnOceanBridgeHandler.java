@@ -384,15 +384,13 @@ public class EnOceanBridgeHandler extends ConfigStatusBridgeHandler implements T
 
     public <T extends @Nullable Response> void sendMessage(BasePacket message,
             @Nullable ResponseListener<T> responseListener) {
-        try {
-            EnOceanTransceiver localTransceiver = transceiver;
-            if (localTransceiver == null) {
-                throw new IOException("EnOceanTransceiver has state null");
-            }
-            localTransceiver.sendBasePacket(message, responseListener);
-        } catch (IOException e) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+        EnOceanTransceiver localTransceiver = transceiver;
+        if (localTransceiver == null) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                    "EnOceanTransceiver has state null");
+            return;
         }
+        localTransceiver.sendBasePacket(message, responseListener);
     }
 
     public void addPacketListener(PacketListener listener) {
@@ -426,23 +424,20 @@ public class EnOceanBridgeHandler extends ConfigStatusBridgeHandler implements T
         if (smackAvailable) {
             // activate smack teach in
             logger.debug("activate smack teach in");
-            try {
-                if (localTransceiver == null) {
-                    throw new IOException("EnOceanTransceiver has state null");
-                }
-                localTransceiver.sendBasePacket(ESP3PacketFactory.SA_WR_LEARNMODE(true),
-                        new ResponseListenerIgnoringTimeouts<BaseResponse>() {
-                            @Override
-                            public void responseReceived(BaseResponse response) {
-                                if (response.isOK()) {
-                                    logger.debug("Smack teach in activated");
-                                }
-                            }
-                        });
-            } catch (IOException e) {
+            if (localTransceiver == null) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
-                        "Smack packet could not be send: " + e.getMessage());
+                        "Smack packet could not be send: EnOceanTransceiver has state null");
+                return;
             }
+            localTransceiver.sendBasePacket(ESP3PacketFactory.SA_WR_LEARNMODE(true),
+                    new ResponseListenerIgnoringTimeouts<BaseResponse>() {
+                        @Override
+                        public void responseReceived(BaseResponse response) {
+                            if (response.isOK()) {
+                                logger.debug("Smack teach in activated");
+                            }
+                        }
+                    });
         }
     }
 
@@ -452,46 +447,38 @@ public class EnOceanBridgeHandler extends ConfigStatusBridgeHandler implements T
             localTransceiver.stopDiscovery();
         }
 
-        try {
-            if (localTransceiver == null) {
-                throw new IOException("EnOceanTransceiver has state null");
-            }
-            localTransceiver.sendBasePacket(ESP3PacketFactory.SA_WR_LEARNMODE(false), null);
-            refreshProperties();
-        } catch (IOException e) {
+        if (localTransceiver == null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
-                    "Smack packet could not be send: " + e.getMessage());
+                    "Smack packet could not be send: EnOceanTransceiver has state null");
+            return;
         }
+        localTransceiver.sendBasePacket(ESP3PacketFactory.SA_WR_LEARNMODE(false), null);
+        refreshProperties();
     }
 
     private void refreshProperties() {
         if (getThing().getStatus() == ThingStatus.ONLINE && smackAvailable) {
             logger.debug("request learned smack clients");
-            try {
-                EnOceanTransceiver localTransceiver = transceiver;
-                if (localTransceiver != null) {
-                    localTransceiver.sendBasePacket(ESP3PacketFactory.SA_RD_LEARNEDCLIENTS,
-                            new ResponseListenerIgnoringTimeouts<RDLearnedClientsResponse>() {
-                                @Override
-                                public void responseReceived(RDLearnedClientsResponse response) {
-                                    logger.debug("received response for learned smack clients");
-                                    if (response.isValid() && response.isOK()) {
-                                        LearnedClient[] clients = response.getLearnedClients();
-                                        updateProperty("Learned smart ack clients", Integer.toString(clients.length));
-                                        updateProperty("Smart ack clients",
-                                                Arrays.stream(clients)
-                                                        .map(x -> String.format("%s (MB Idx: %d)",
-                                                                HexUtils.bytesToHex(x.clientId), x.mailboxIndex))
-                                                        .collect(Collectors.joining(", ")));
-                                        smackClients = Arrays.stream(clients).map(x -> HexUtils.bytesToHex(x.clientId))
-                                                .collect(Collectors.toSet());
-                                    }
+            EnOceanTransceiver localTransceiver = transceiver;
+            if (localTransceiver != null) {
+                localTransceiver.sendBasePacket(ESP3PacketFactory.SA_RD_LEARNEDCLIENTS,
+                        new ResponseListenerIgnoringTimeouts<RDLearnedClientsResponse>() {
+                            @Override
+                            public void responseReceived(RDLearnedClientsResponse response) {
+                                logger.debug("received response for learned smack clients");
+                                if (response.isValid() && response.isOK()) {
+                                    LearnedClient[] clients = response.getLearnedClients();
+                                    updateProperty("Learned smart ack clients", Integer.toString(clients.length));
+                                    updateProperty("Smart ack clients",
+                                            Arrays.stream(clients)
+                                                    .map(x -> String.format("%s (MB Idx: %d)",
+                                                            HexUtils.bytesToHex(x.clientId), x.mailboxIndex))
+                                                    .collect(Collectors.joining(", ")));
+                                    smackClients = Arrays.stream(clients).map(x -> HexUtils.bytesToHex(x.clientId))
+                                            .collect(Collectors.toSet());
                                 }
-                            });
-                }
-            } catch (IOException e) {
-                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
-                        "Smack packet could not be send: " + e.getMessage());
+                            }
+                        });
             }
         }
     }
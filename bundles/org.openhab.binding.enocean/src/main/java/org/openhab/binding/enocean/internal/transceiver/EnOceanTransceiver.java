@@ -15,15 +15,17 @@ package org.openhab.binding.enocean.internal.transceiver;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.TooManyListenersException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -68,6 +70,10 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
     protected String path;
     private @Nullable SerialPort serialPort;
 
+    // slowdown sending of messages to avoid hiccups at receivers
+    private static final long SEND_INTERVAL_MS = 250;
+    private static final long RESPONSE_TIMEOUT_MS = 500;
+
     class Request {
         @Nullable
         BasePacket requestPacket;
@@ -75,90 +81,113 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
         Response responsePacket;
         @Nullable
         ResponseListener<? extends @Nullable Response> responseListener;
+        long sentNanos;
+        // set by whoever handles the request first, the response or the timeout
+        final AtomicBoolean completed = new AtomicBoolean();
     }
 
+    /**
+     * Sends the requests one after the other on the scheduler, callers only enqueue and never block on the serial
+     * port. A request waiting for a response is completed by the response or after {@link #RESPONSE_TIMEOUT_MS}.
+     */
     private class RequestQueue {
-        private Queue<Request> queue = new LinkedBlockingQueue<>();
-        private ScheduledExecutorService scheduler;
+        private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final ScheduledExecutorService scheduler;
 
         public RequestQueue(ScheduledExecutorService scheduler) {
             this.scheduler = scheduler;
         }
 
-        public synchronized void enqueRequest(Request request) throws IOException {
-            boolean wasEmpty = queue.isEmpty();
+        public void enqueRequest(Request request) {
+            queue.add(request);
+            sendIfIdle();
+        }
 
-            if (queue.offer(request)) {
-                if (wasEmpty) {
-                    send();
-                }
-            } else {
-                logger.error("Transmit queue overflow. Lost message: {}", request);
-            }
+        public void clear() {
+            queue.clear();
+            sending.set(false);
         }
 
-        private synchronized void sendNext() throws IOException {
-            queue.poll();
-            send();
+        private void sendIfIdle() {
+            if (!queue.isEmpty() && sending.compareAndSet(false, true)) {
+                scheduler.execute(this::send);
+            }
         }
 
-        private synchronized void send() throws IOException {
-            if (!queue.isEmpty()) {
-                currentRequest = queue.peek();
-                try {
-                    Request localCurrentRequest = currentRequest;
-                    if (localCurrentRequest != null && localCurrentRequest.requestPacket != null) {
-                        synchronized (localCurrentRequest) {
-                            BasePacket rqPacket = localCurrentRequest.requestPacket;
-                            if (currentRequest != null && rqPacket != null) {
-                                logger.debug("Sending data, type {}, payload {}{}", rqPacket.getPacketType().name(),
-                                        HexUtils.bytesToHex(rqPacket.getPayload()),
-                                        HexUtils.bytesToHex(rqPacket.getOptionalPayload()));
-                                byte[] b = serializePacket(rqPacket);
-                                logger.trace("Sending raw data: {}", HexUtils.bytesToHex(b));
-                                OutputStream localOutPutStream = outputStream;
-                                if (localOutPutStream != null) {
-                                    localOutPutStream.write(b);
-                                    localOutPutStream.flush();
-                                }
-                                Future<?> localTimeOutTask = timeOutTask;
-                                if (localTimeOutTask != null) {
-                                    localTimeOutTask.cancel(true);
-                                }
-
-                                // slowdown sending of message to avoid hickups at receivers
-                                // Todo tweak sending intervall (250 ist just a first try)
-                                timeOutTask = scheduler.schedule(() -> {
-                                    try {
-                                        sendNext();
-                                    } catch (IOException e) {
-                                        logger.trace("Unable to process message", e);
-                                        TransceiverErrorListener localListener = errorListener;
-                                        if (localListener != null) {
-                                            localListener.errorOccured(e);
-                                        }
-                                        return;
-                                    }
-                                }, 250, TimeUnit.MILLISECONDS);
-                            }
-                        }
-                    } else {
-                        sendNext();
+        private void send() {
+            Request request = queue.poll();
+            if (request == null) {
+                sending.set(false);
+                // a request may have been enqueued after the poll
+                sendIfIdle();
+                return;
+            }
+            currentRequest = request;
+            BasePacket rqPacket = request.requestPacket;
+            try {
+                if (rqPacket != null) {
+                    logger.debug("Sending data, type {}, payload {}{}", rqPacket.getPacketType().name(),
+                            HexUtils.bytesToHex(rqPacket.getPayload()),
+                            HexUtils.bytesToHex(rqPacket.getOptionalPayload()));
+                    byte[] b = serializePacket(rqPacket);
+                    logger.trace("Sending raw data: {}", HexUtils.bytesToHex(b));
+                    OutputStream localOutPutStream = outputStream;
+                    if (localOutPutStream != null) {
+                        localOutPutStream.write(b);
+                        localOutPutStream.flush();
                     }
-                } catch (EnOceanException e) {
-                    logger.error("exception while sending data", e);
+                }
+            } catch (EnOceanException e) {
+                logger.error("exception while sending data", e);
+            } catch (IOException e) {
+                logger.trace("Unable to process message", e);
+                TransceiverErrorListener localListener = errorListener;
+                if (localListener != null) {
+                    localListener.errorOccured(e);
                 }
             }
+            request.sentNanos = System.nanoTime();
+
+            ResponseListener<? extends @Nullable Response> listener = request.responseListener;
+            if (rqPacket == null || listener == null) {
+                complete(request);
+            } else {
+                timeOutTask = scheduler.schedule(() -> {
+                    if (complete(request)) {
+                        logger.debug("No response received within {} ms", RESPONSE_TIMEOUT_MS);
+                        listener.responseTimeOut();
+                    }
+                }, RESPONSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * Completes a request and schedules the next one.
+         *
+         * @return false if the request has already been completed
+         */
+        private boolean complete(Request request) {
+            if (!request.completed.compareAndSet(false, true)) {
+                return false;
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - request.sentNanos);
+            Future<?> localTimeOutTask = timeOutTask;
+            if (localTimeOutTask != null) {
+                localTimeOutTask.cancel(false);
+            }
+            timeOutTask = scheduler.schedule(this::send, Math.max(0, SEND_INTERVAL_MS - elapsedMs),
+                    TimeUnit.MILLISECONDS);
+            return true;
         }
     }
 
     RequestQueue requestQueue;
-    @Nullable
-    Request currentRequest = null;
+    volatile @Nullable Request currentRequest = null;
 
-    protected Map<Long, HashSet<PacketListener>> listeners;
-    protected HashSet<EventListener> eventListeners;
-    protected @Nullable TeachInListener teachInListener;
+    protected Map<Long, Set<PacketListener>> listeners;
+    protected Set<EventListener> eventListeners;
+    protected volatile @Nullable TeachInListener teachInListener;
 
     protected @Nullable InputStream inputStream;
     protected @Nullable OutputStream outputStream;
@@ -171,8 +200,8 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
             @Nullable SerialPortManager serialPortManager) {
         requestQueue = new RequestQueue(scheduler);
 
-        listeners = new HashMap<>();
-        eventListeners = new HashSet<>();
+        listeners = new ConcurrentHashMap<>();
+        eventListeners = new CopyOnWriteArraySet<>();
         teachInListener = null;
 
         this.errorListener = errorListener;
@@ -243,6 +272,7 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
             timeOutTask.cancel(true);
             this.timeOutTask = null;
         }
+        requestQueue.clear();
 
         Future<?> readingTask = this.readingTask;
         if (readingTask != null) {
@@ -365,12 +395,13 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
                             return;
                         }
 
-                        long s = Long.parseLong(HexUtils.bytesToHex(senderId), 16);
-                        synchronized (this) {
-                            HashSet<PacketListener> pl = listeners.get(s);
-                            if (pl != null) {
-                                pl.forEach(l -> l.packetReceived(msg));
-                            }
+                        long s = 0;
+                        for (byte b : senderId) {
+                            s = (s << 8) | (b & 0xFF);
+                        }
+                        Set<PacketListener> pl = listeners.get(s);
+                        if (pl != null) {
+                            pl.forEach(l -> l.packetReceived(msg));
                         }
                     }
                 } else {
@@ -400,9 +431,7 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
                     }
                 }
 
-                synchronized (this) {
-                    eventListeners.forEach(l -> l.eventReceived(event));
-                }
+                eventListeners.forEach(l -> l.eventReceived(event));
             }
         } catch (Exception e) {
             logger.error("Exception in informListeners", e);
@@ -414,6 +443,10 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
         if (localCurrentRequest != null) {
             ResponseListener<? extends @Nullable Response> listener = localCurrentRequest.responseListener;
             if (listener != null) {
+                if (!requestQueue.complete(localCurrentRequest)) {
+                    logger.debug("Response received after the request timed out");
+                    return;
+                }
                 localCurrentRequest.responsePacket = response;
                 try {
                     listener.handleResponse(response);
@@ -431,7 +464,7 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
     }
 
     public void sendBasePacket(@Nullable BasePacket packet,
-            @Nullable ResponseListener<? extends @Nullable Response> responseCallback) throws IOException {
+            @Nullable ResponseListener<? extends @Nullable Response> responseCallback) {
         if (packet == null) {
             return;
         }
@@ -447,28 +480,28 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
 
     protected abstract byte[] serializePacket(BasePacket packet) throws EnOceanException;
 
-    public synchronized void addPacketListener(PacketListener listener, long senderIdToListenTo) {
-        HashSet<PacketListener> lst = listeners.computeIfAbsent(senderIdToListenTo, k -> new HashSet<>());
-        if (lst != null && lst.add(listener)) {
-            logger.debug("Listener added: {}", senderIdToListenTo);
-        }
+    public void addPacketListener(PacketListener listener, long senderIdToListenTo) {
+        listeners.compute(senderIdToListenTo, (k, pl) -> {
+            Set<PacketListener> lst = pl != null ? pl : new CopyOnWriteArraySet<>();
+            if (lst.add(listener)) {
+                logger.debug("Listener added: {}", senderIdToListenTo);
+            }
+            return lst;
+        });
     }
 
-    public synchronized void removePacketListener(PacketListener listener, long senderIdToListenTo) {
-        HashSet<PacketListener> pl = listeners.get(senderIdToListenTo);
-        if (pl != null) {
+    public void removePacketListener(PacketListener listener, long senderIdToListenTo) {
+        listeners.computeIfPresent(senderIdToListenTo, (k, pl) -> {
             pl.remove(listener);
-            if (pl.isEmpty()) {
-                listeners.remove(senderIdToListenTo);
-            }
-        }
+            return pl.isEmpty() ? null : pl;
+        });
     }
 
-    public synchronized void addEventMessageListener(EventListener listener) {
+    public void addEventMessageListener(EventListener listener) {
         eventListeners.add(listener);
     }
 
-    public synchronized void removeEventMessageListener(EventListener listener) {
+    public void removeEventMessageListener(EventListener listener) {
         eventListeners.remove(listener);
     }
 
@@ -19,8 +19,13 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -66,7 +71,26 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
 @NonNullByDefault
 class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     private static final Duration ONE_DAY = Duration.ofDays(1).minusNanos(1);
+    /** Minimum time span the occurrence index is extended by */
+    private static final Duration INDEX_STEP = Duration.ofDays(31);
+    /** Maximum time span after a given instant searched for a next event */
+    private static final Duration MAXIMUM_NEXT_EVENT_SEARCH = Duration.ofDays(100 * 366);
+
     private final ICalendar usedCalendar;
+    private final List<VEvent> positiveEvents = new ArrayList<>();
+    private final List<@Nullable Duration> positiveEventLengths = new ArrayList<>();
+    private final Map<String, List<VEvent>> negativeEventsByUid = new HashMap<>();
+    private Duration maximumEventLength = Duration.ZERO;
+
+    /**
+     * Expanded occurrences of all positive events with start in [indexBegin, indexEnd), sorted by start and series.
+     * Occurrences countered by negative events are not part of the index.
+     */
+    private final List<VEventWPeriod> occurrenceIndex = new ArrayList<>();
+    private @Nullable Instant indexBegin;
+    private @Nullable Instant indexEnd;
+    /** Earliest start of an occurrence at or after indexEnd, null if there is none */
+    private @Nullable Instant nextUnindexedStart;
 
     BiweeklyPresentableCalendar(InputStream streamed) throws IOException, CalendarException {
         try (final ICalReader reader = new ICalReader(streamed)) {
@@ -76,6 +100,23 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             }
             this.usedCalendar = currentCalendar;
         }
+
+        final List<VEvent> negativeEvents = new ArrayList<>();
+        classifyEvents(positiveEvents, negativeEvents);
+        for (final VEvent positiveEvent : positiveEvents) {
+            final Duration eventLength = getEventLength(positiveEvent);
+            positiveEventLengths.add(eventLength);
+            if (eventLength != null && eventLength.compareTo(maximumEventLength) > 0) {
+                maximumEventLength = eventLength;
+            }
+        }
+        for (final VEvent negativeEvent : negativeEvents) {
+            final Uid negativeEventUid = negativeEvent.getUid();
+            if (negativeEventUid != null) {
+                negativeEventsByUid.computeIfAbsent(negativeEventUid.getValue(), uid -> new ArrayList<>())
+                        .add(negativeEvent);
+            }
+        }
     }
 
     @Override
@@ -101,40 +142,27 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     }
 
     @Override
-    public @Nullable Event getNextEvent(Instant instant) {
-        final Collection<VEventWPeriod> candidates = new ArrayList<>();
-        final Collection<VEvent> negativeEvents = new ArrayList<>();
-        final Collection<VEvent> positiveEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
-        for (final VEvent currentEvent : positiveEvents) {
-            final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
-            final Duration duration = getEventLength(currentEvent);
-            if (duration == null) {
-                continue;
-            }
-            startDates.advanceTo(Date.from(instant));
-            while (startDates.hasNext()) {
-                final Instant startInstant = startDates.next().toInstant();
-                if (startInstant.isAfter(instant)) {
-                    final Uid currentEventUid = currentEvent.getUid();
-                    if (currentEventUid == null || !isCounteredBy(startInstant, currentEventUid, negativeEvents)) {
-                        candidates.add(new VEventWPeriod(currentEvent, startInstant, startInstant.plus(duration)));
-                        break;
-                    }
+    public synchronized @Nullable Event getNextEvent(Instant instant) {
+        ensureIndexed(instant, instant.plusNanos(1));
+        final Instant searchLimit = instant.plus(MAXIMUM_NEXT_EVENT_SEARCH);
+        int position = indexOfFirstStartAfter(instant);
+        while (true) {
+            for (; position < occurrenceIndex.size(); position++) {
+                final VEventWPeriod candidate = occurrenceIndex.get(position);
+                if (candidate.lengthKnown) {
+                    return candidate.toEvent();
                 }
             }
-        }
-        VEventWPeriod earliestNextEvent = null;
-        for (final VEventWPeriod positiveCandidate : candidates) {
-            if (earliestNextEvent == null || earliestNextEvent.start.isAfter(positiveCandidate.start)) {
-                earliestNextEvent = positiveCandidate;
+            // nothing found in the index, extend it to the next occurrence not yet indexed
+            final Instant nextStart = nextUnindexedStart;
+            final Instant currentIndexEnd = indexEnd;
+            if (nextStart == null || currentIndexEnd == null || currentIndexEnd.isAfter(searchLimit)) {
+                return null;
             }
+            ensureIndexed(currentIndexEnd, nextStart.plusNanos(1));
+            // the index may have been trimmed, continue with the newly indexed occurrences
+            position = indexOfFirstStartAtOrAfter(currentIndexEnd);
         }
-
-        if (earliestNextEvent == null) {
-            return null;
-        }
-        return earliestNextEvent.toEvent();
     }
 
     @Override
@@ -206,52 +234,36 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @param frameEnd End of the time frame where to search events.
      * @param maximumPerSeries Limit the results per series. Set to 0 for no limit.
      * @param eventTimeFilter Strategy that decides which events should be considered in the time frame.
-     * @return All events which begin in the time frame.
+     * @return All events which begin in the time frame, ordered by series and start.
      */
-    private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
-            EventTimeFilter eventTimeFilter) {
-        final List<VEvent> positiveEvents = new ArrayList<>();
-        final List<VEvent> negativeEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
+    private synchronized List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd,
+            int maximumPerSeries, EventTimeFilter eventTimeFilter) {
+        // no filter finds an occurrence starting after the frame end or ending before the frame begin
+        ensureIndexed(frameBegin.minus(maximumEventLength), frameEnd.plusNanos(1));
 
         final List<VEventWPeriod> eventList = new ArrayList<>();
-        for (final VEvent positiveEvent : positiveEvents) {
-            final DateIterator positiveBeginDates = getRecurredEventDateIterator(positiveEvent);
-            Duration duration = getEventLength(positiveEvent);
-            if (duration == null) {
-                duration = Duration.ZERO;
+        final Map<Integer, Integer> foundPerSeries = new HashMap<>();
+        for (int position = indexOfFirstStartAtOrAfter(frameBegin.minus(maximumEventLength)); position < occurrenceIndex
+                .size(); position++) {
+            final VEventWPeriod candidate = occurrenceIndex.get(position);
+            if (candidate.start.isAfter(frameEnd)) {
+                break;
             }
-            positiveBeginDates.advanceTo(Date.from(eventTimeFilter.searchFrom(frameBegin, duration)));
-            int foundInSeries = 0;
-            while (positiveBeginDates.hasNext()) {
-                final Instant begInst = positiveBeginDates.next().toInstant();
-                if (eventTimeFilter.eventAfterFrame(frameEnd, begInst, duration)) {
-                    break;
-                }
-                // biweekly is not as precise as java.time. An exact check is required.
-                if (eventTimeFilter.eventBeforeFrame(frameBegin, begInst, duration)) {
+            final Duration duration = Duration.between(candidate.start, candidate.end);
+            if (eventTimeFilter.eventAfterFrame(frameEnd, candidate.start, duration)
+                    || eventTimeFilter.eventBeforeFrame(frameBegin, candidate.start, duration)) {
+                continue;
+            }
+            if (maximumPerSeries != 0) {
+                final int found = foundPerSeries.merge(candidate.seriesIndex, 1, Integer::sum);
+                if (found > maximumPerSeries) {
                     continue;
                 }
-
-                final VEventWPeriod resultingVEWP = new VEventWPeriod(positiveEvent, begInst, begInst.plus(duration));
-                final Uid eventUid = positiveEvent.getUid();
-                if (eventUid != null) {
-                    if (!isCounteredBy(begInst, eventUid, negativeEvents)) {
-                        eventList.add(resultingVEWP);
-                        foundInSeries++;
-                        if (maximumPerSeries != 0 && foundInSeries >= maximumPerSeries) {
-                            break;
-                        }
-                    }
-                } else {
-                    eventList.add(resultingVEWP);
-                    foundInSeries++;
-                    if (maximumPerSeries != 0 && foundInSeries >= maximumPerSeries) {
-                        break;
-                    }
-                }
             }
+            eventList.add(candidate);
         }
+        // stable sort keeps the occurrences of a series in chronological order
+        eventList.sort(Comparator.comparingInt(candidate -> candidate.seriesIndex));
 
         return eventList;
     }
@@ -284,38 +296,164 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @param instant The Instant to use for finding events.
      * @return A VEventWPeriod describing the event or null if there is none.
      */
-    private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
-        final List<VEvent> negativeEvents = new ArrayList<>();
-        final List<VEvent> positiveEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
+    private synchronized @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
+        final Instant searchFrom = instant.minus(maximumEventLength);
+        ensureIndexed(searchFrom, instant.plusNanos(1));
 
         VEventWPeriod earliestEndingEvent = null;
+        for (int position = indexOfFirstStartAtOrAfter(searchFrom); position < occurrenceIndex.size(); position++) {
+            final VEventWPeriod candidate = occurrenceIndex.get(position);
+            if (!candidate.start.isBefore(instant)) {
+                break;
+            }
+            if (candidate.lengthKnown && candidate.end.isAfter(instant)) {
+                if (earliestEndingEvent == null || candidate.end.isBefore(earliestEndingEvent.end)
+                        || (candidate.end.equals(earliestEndingEvent.end)
+                                && candidate.seriesIndex < earliestEndingEvent.seriesIndex)) {
+                    earliestEndingEvent = candidate;
+                }
+            }
+        }
 
-        for (final VEvent currentEvent : positiveEvents) {
-            final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
-            final Duration duration = getEventLength(currentEvent);
-            if (duration == null) {
-                continue;
+        return earliestEndingEvent;
+    }
+
+    /**
+     * Makes sure the occurrence index contains all occurrences starting in the given time frame. The index grows
+     * contiguously, so a frame far from the current index extends it over the whole gap. When the index is extended
+     * to the future, occurrences starting more than {@link #INDEX_STEP} before the frame are dropped, so that the index
+     * slides along with the queries instead of growing for the whole runtime.
+     *
+     * @param from Begin of the frame (inclusive).
+     * @param to End of the frame (exclusive).
+     */
+    private void ensureIndexed(Instant from, Instant to) {
+        final Instant currentBegin = indexBegin;
+        final Instant currentEnd = indexEnd;
+        if (currentBegin == null || currentEnd == null) {
+            final Instant newEnd = to.isAfter(from.plus(INDEX_STEP)) ? to : from.plus(INDEX_STEP);
+            occurrenceIndex.addAll(expandOccurrences(from, newEnd, true));
+            indexBegin = from;
+            indexEnd = newEnd;
+            return;
+        }
+        if (from.isBefore(currentBegin)) {
+            final Instant stepBegin = currentBegin.minus(INDEX_STEP);
+            final Instant newBegin = from.isBefore(stepBegin) ? from : stepBegin;
+            occurrenceIndex.addAll(0, expandOccurrences(newBegin, currentBegin, false));
+            indexBegin = newBegin;
+        }
+        if (to.isAfter(currentEnd)) {
+            final Instant stepEnd = currentEnd.plus(INDEX_STEP);
+            final Instant newEnd = to.isAfter(stepEnd) ? to : stepEnd;
+            occurrenceIndex.addAll(expandOccurrences(currentEnd, newEnd, true));
+            indexEnd = newEnd;
+
+            final Instant trimmedBegin = from.minus(INDEX_STEP);
+            final Instant currentIndexBegin = indexBegin;
+            if (currentIndexBegin != null && currentIndexBegin.isBefore(trimmedBegin)) {
+                occurrenceIndex.subList(0, indexOfFirstStartAtOrAfter(trimmedBegin)).clear();
+                indexBegin = trimmedBegin;
             }
-            startDates.advanceTo(Date.from(instant.minus(duration)));
+        }
+    }
+
+    /**
+     * Expands the occurrences of all positive events starting in the given time frame and removes countered ones.
+     *
+     * @param from Begin of the frame (inclusive).
+     * @param to End of the frame (exclusive).
+     * @param updateNextUnindexedStart Whether to remember the first occurrence after the frame.
+     * @return The occurrences sorted by start and series.
+     */
+    private List<VEventWPeriod> expandOccurrences(Instant from, Instant to, boolean updateNextUnindexedStart) {
+        final Map<String, Set<Instant>> cancelledStarts = expandCancelledStarts(from, to);
+        final List<VEventWPeriod> occurrences = new ArrayList<>();
+        Instant nextStart = null;
+        for (int seriesIndex = 0; seriesIndex < positiveEvents.size(); seriesIndex++) {
+            final VEvent positiveEvent = positiveEvents.get(seriesIndex);
+            final Duration eventLength = positiveEventLengths.get(seriesIndex);
+            final Duration duration = eventLength != null ? eventLength : Duration.ZERO;
+            final Uid eventUid = positiveEvent.getUid();
+            final DateIterator startDates = getRecurredEventDateIterator(positiveEvent);
+            startDates.advanceTo(Date.from(from));
             while (startDates.hasNext()) {
                 final Instant startInstant = startDates.next().toInstant();
-                final Instant endInstant = startInstant.plus(duration);
-                if (startInstant.isBefore(instant) && endInstant.isAfter(instant)) {
-                    final Uid eventUid = currentEvent.getUid();
-                    if (eventUid == null || !isCounteredBy(startInstant, eventUid, negativeEvents)) {
-                        if (earliestEndingEvent == null || endInstant.isBefore(earliestEndingEvent.end)) {
-                            earliestEndingEvent = new VEventWPeriod(currentEvent, startInstant, endInstant);
-                        }
-                    }
+                // biweekly is not as precise as java.time. An exact check is required.
+                if (startInstant.isBefore(from)) {
+                    continue;
                 }
-                if (startInstant.isAfter(instant.plus(duration))) {
+                if (!startInstant.isBefore(to)) {
+                    if (nextStart == null || startInstant.isBefore(nextStart)) {
+                        nextStart = startInstant;
+                    }
                     break;
                 }
+                if (eventUid == null || !isCounteredBy(startInstant, eventUid, cancelledStarts)) {
+                    occurrences.add(new VEventWPeriod(positiveEvent, seriesIndex, eventLength != null, startInstant,
+                            startInstant.plus(duration)));
+                }
             }
         }
+        if (updateNextUnindexedStart) {
+            nextUnindexedStart = nextStart;
+        }
+        occurrences.sort(Comparator.<VEventWPeriod, Instant> comparing(occurrence -> occurrence.start)
+                .thenComparingInt(occurrence -> occurrence.seriesIndex));
+        return occurrences;
+    }
 
-        return earliestEndingEvent;
+    /**
+     * Expands the starts of negative events without recurrence id (e.g. cancelled series) in the given time frame.
+     *
+     * @param from Begin of the frame (inclusive).
+     * @param to End of the frame (exclusive).
+     * @return The cancelled starts by uid.
+     */
+    private Map<String, Set<Instant>> expandCancelledStarts(Instant from, Instant to) {
+        final Map<String, Set<Instant>> cancelledStarts = new HashMap<>();
+        for (final Map.Entry<String, List<VEvent>> negativeEvents : negativeEventsByUid.entrySet()) {
+            for (final VEvent negativeEvent : negativeEvents.getValue()) {
+                if (negativeEvent.getRecurrenceId() != null) {
+                    continue;
+                }
+                final DateIterator counterStartDates = getRecurredEventDateIterator(negativeEvent);
+                counterStartDates.advanceTo(Date.from(from));
+                while (counterStartDates.hasNext()) {
+                    final Instant counterStartInstant = counterStartDates.next().toInstant();
+                    if (!counterStartInstant.isBefore(to)) {
+                        break;
+                    }
+                    cancelledStarts.computeIfAbsent(negativeEvents.getKey(), uid -> new HashSet<>())
+                            .add(counterStartInstant);
+                }
+            }
+        }
+        return cancelledStarts;
+    }
+
+    /**
+     * Finds the position of the first indexed occurrence starting at or after the given instant.
+     */
+    private int indexOfFirstStartAtOrAfter(Instant instant) {
+        int low = 0;
+        int high = occurrenceIndex.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (occurrenceIndex.get(middle).start.isBefore(instant)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the position of the first indexed occurrence starting after the given instant.
+     */
+    private int indexOfFirstStartAfter(Instant instant) {
+        return indexOfFirstStartAtOrAfter(instant.plusNanos(1));
     }
 
     /**
@@ -366,39 +504,35 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      *
      * @param startInstant The start of the event.
      * @param eventUid The uid of the event.
-     * @param counterEvents Events that may counter.
+     * @param cancelledStarts Starts of the counter events without recurrence id by uid.
      * @return True if a counter event exists that matches uid and start, else false.
      */
-    private boolean isCounteredBy(Instant startInstant, Uid eventUid, Collection<VEvent> counterEvents) {
+    private boolean isCounteredBy(Instant startInstant, Uid eventUid, Map<String, Set<Instant>> cancelledStarts) {
+        final Set<Instant> cancelled = cancelledStarts.get(eventUid.getValue());
+        if (cancelled != null && cancelled.contains(startInstant)) {
+            return true;
+        }
+        final List<VEvent> counterEvents = negativeEventsByUid.get(eventUid.getValue());
+        if (counterEvents == null) {
+            return false;
+        }
         for (final VEvent counterEvent : counterEvents) {
-            final Uid counterEventUid = counterEvent.getUid();
-            if (counterEventUid != null && eventUid.getValue().contentEquals(counterEventUid.getValue())) {
-                final RecurrenceId counterRecurrenceId = counterEvent.getRecurrenceId();
-                if (counterRecurrenceId != null) {
-                    ICalDate recurrenceDate = counterRecurrenceId.getValue();
-                    if (recurrenceDate != null) {
-                        Instant recurrenceInstant = Instant.ofEpochMilli(recurrenceDate.getTime());
-                        if (recurrenceInstant.equals(startInstant)) {
-                            return true;
-                        }
-                        Range futureOrPast = counterRecurrenceId.getRange();
-                        if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_FUTURE)
-                                && startInstant.isAfter(recurrenceInstant)) {
-                            return true;
-                        }
-                        if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_PRIOR)
-                                && startInstant.isBefore(recurrenceInstant)) {
-                            return true;
-                        }
+            final RecurrenceId counterRecurrenceId = counterEvent.getRecurrenceId();
+            if (counterRecurrenceId != null) {
+                ICalDate recurrenceDate = counterRecurrenceId.getValue();
+                if (recurrenceDate != null) {
+                    Instant recurrenceInstant = Instant.ofEpochMilli(recurrenceDate.getTime());
+                    if (recurrenceInstant.equals(startInstant)) {
+                        return true;
                     }
-                } else {
-                    final DateIterator counterStartDates = getRecurredEventDateIterator(counterEvent);
-                    counterStartDates.advanceTo(Date.from(startInstant));
-                    if (counterStartDates.hasNext()) {
-                        final Instant counterStartInstant = counterStartDates.next().toInstant();
-                        if (counterStartInstant.equals(startInstant)) {
-                            return true;
-                        }
+                    Range futureOrPast = counterRecurrenceId.getRange();
+                    if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_FUTURE)
+                            && startInstant.isAfter(recurrenceInstant)) {
+                        return true;
+                    }
+                    if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_PRIOR)
+                            && startInstant.isBefore(recurrenceInstant)) {
+                        return true;
                     }
                 }
             }
@@ -413,11 +547,15 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      */
     private static class VEventWPeriod {
         final VEvent vEvent;
+        final int seriesIndex;
+        final boolean lengthKnown;
         final Instant start;
         final Instant end;
 
-        public VEventWPeriod(VEvent vEvent, Instant start, Instant end) {
+        public VEventWPeriod(VEvent vEvent, int seriesIndex, boolean lengthKnown, Instant start, Instant end) {
             this.vEvent = vEvent;
+            this.seriesIndex = seriesIndex;
+            this.lengthKnown = lengthKnown;
             this.start = start;
             this.end = end;
         }
@@ -75,15 +75,6 @@ public abstract class EventTimeFilter {
         return new SearchByJustEnded();
     }
 
-    /**
-     * Gives a time to start searching for occurrences of a particular (recurring) event.
-     *
-     * @param frameStart Start of the frame where to search events.
-     * @param eventDuration Duration of the event.
-     * @return The time to start searching.
-     */
-    public abstract Instant searchFrom(Instant frameStart, Duration eventDuration);
-
     /**
      * Decides whether the relevant characteristic of an event occurrence is after the time frame. With the first hit,
      * no further occurrences of a recurring event are searched for.
@@ -120,11 +111,6 @@ public abstract class EventTimeFilter {
     }
 
     private static class SearchByStart extends EventTimeFilter {
-        @Override
-        public Instant searchFrom(Instant frameStart, Duration eventDuration) {
-            return frameStart;
-        }
-
         @Override
         public boolean eventAfterFrame(Instant frameEnd, Instant eventStart, Duration eventDuration) {
             return !eventStart.isBefore(frameEnd);
@@ -137,11 +123,6 @@ public abstract class EventTimeFilter {
     }
 
     private static class SearchByEnd extends EventTimeFilter {
-        @Override
-        public Instant searchFrom(Instant frameStart, Duration eventDuration) {
-            return frameStart.minus(eventDuration);
-        }
-
         @Override
         public boolean eventAfterFrame(Instant frameEnd, Instant eventStart, Duration eventDuration) {
             return eventStart.plus(eventDuration).isAfter(frameEnd);
@@ -154,11 +135,6 @@ public abstract class EventTimeFilter {
     }
 
     private static class SearchByActive extends EventTimeFilter {
-        @Override
-        public Instant searchFrom(Instant frameStart, Duration eventDuration) {
-            return frameStart.minus(eventDuration);
-        }
-
         @Override
         public boolean eventAfterFrame(Instant frameEnd, Instant eventStart, Duration eventDuration) {
             return !eventStart.isBefore(frameEnd);
@@ -171,11 +147,6 @@ public abstract class EventTimeFilter {
     }
 
     private static class SearchByJustEnded extends EventTimeFilter {
-        @Override
-        public Instant searchFrom(Instant frameStart, Duration eventDuration) {
-            return frameStart.minus(eventDuration);
-        }
-
         @Override
         public boolean eventAfterFrame(Instant frameEnd, Instant eventStart, Duration eventDuration) {
             return eventStart.plus(eventDuration).isAfter(frameEnd);
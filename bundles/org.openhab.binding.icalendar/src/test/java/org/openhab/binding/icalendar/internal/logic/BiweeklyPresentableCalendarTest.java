@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -647,4 +648,50 @@ public class BiweeklyPresentableCalendarTest {
                 Instant.parse("2021-08-16T16:45:00.123456Z"), Instant.parse("2021-08-16T16:46:00.768643Z"), null, 3);
         assertEquals(0, realFilteredEvents9.size());
     }
+
+    /**
+     * Tests that the results do not depend on the order of the queries, as the occurrences are indexed on demand.
+     */
+    @Test
+    public void testQueriesInArbitraryOrder() throws IOException, CalendarException {
+        // index starts far after the events and is extended to the past afterwards
+        assertNull(calendar.getNextEvent(Instant.parse("2030-01-01T00:00:00Z")));
+        assertFalse(calendar.isEventPresent(Instant.parse("2030-01-01T00:00:00Z")));
+        assertTrue(calendar.isEventPresent(Instant.parse("2019-09-08T09:08:00Z")));
+
+        Event nextEventOfSeries = calendar.getNextEvent(Instant.parse("2019-09-10T09:07:00Z"));
+        assertNotNull(nextEventOfSeries);
+        assertEquals(Instant.parse("2019-09-11T09:05:00Z"), nextEventOfSeries.start);
+
+        // next event is found although it is far after the indexed time frame
+        AbstractPresentableCalendar freshCalendar = new BiweeklyPresentableCalendar(
+                new FileInputStream("src/test/resources/test.ics"));
+        Event nextEvent = freshCalendar.getNextEvent(Instant.parse("2019-01-01T00:00:00Z"));
+        assertNotNull(nextEvent);
+        assertEquals(Instant.parse("2019-09-08T09:05:00Z"), nextEvent.start);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(nextEvent, freshCalendar.getNextEvent(Instant.parse("2019-01-01T00:00:00Z")));
+        }
+
+        // cancelled occurrences stay hidden when the index is extended
+        Event nextEventAfterCancelled = calendar2.getNextEvent(Instant.parse("2019-11-24T09:55:00Z"));
+        assertNotNull(nextEventAfterCancelled);
+        assertEquals(Instant.parse("2019-12-01T10:00:00Z"), nextEventAfterCancelled.start);
+        assertEquals(nextEventAfterCancelled, calendar2.getNextEvent(Instant.parse("2019-11-24T09:55:00Z")));
+    }
+
+    /**
+     * Tests that occurrences dropped from the index while it slides to the future are indexed again when queried.
+     */
+    @Test
+    public void testIndexSlidesWithQueries() {
+        assertTrue(calendar.isEventPresent(Instant.parse("2019-09-08T09:08:00Z")));
+        for (Instant instant = Instant.parse("2019-09-08T09:08:00Z"); instant
+                .isBefore(Instant.parse("2020-03-01T00:00:00Z")); instant = instant.plus(Duration.ofDays(7))) {
+            calendar.isEventPresent(instant);
+        }
+        assertTrue(calendar.isEventPresent(Instant.parse("2019-09-08T09:08:00Z")));
+        assertEquals(1, calendar.getJustEndedEvents(Instant.parse("2019-09-08T09:00:00Z"),
+                Instant.parse("2019-09-08T10:00:00Z")).size());
+    }
 }
@@ -49,6 +49,7 @@ import org.openhab.binding.insteon.internal.transport.LegacyPort;
 import org.openhab.binding.insteon.internal.transport.LegacyPortListener;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.core.io.transport.serial.SerialPortManager;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.types.Command;
@@ -516,18 +517,18 @@ public class InsteonLegacyBinding implements LegacyDriverListener, LegacyPortLis
     }
 
     private void handleInsteonMessage(Msg msg) throws FieldException {
-        InsteonAddress toAddr = msg.getInsteonAddress("toAddress");
+        InsteonAddress toAddr = msg.getInsteonAddress(MsgField.TO_ADDRESS);
         if (!msg.isBroadcast() && !driver.isMsgForUs(toAddr)) {
             // not for one of our modems, do not process
             return;
         }
-        InsteonAddress fromAddr = msg.getInsteonAddress("fromAddress");
+        InsteonAddress fromAddr = msg.getInsteonAddress(MsgField.FROM_ADDRESS);
         handleMessage(fromAddr, msg);
     }
 
     private void handleX10Message(Msg msg) throws FieldException {
-        int x10Flag = msg.getByte("X10Flag") & 0xff;
-        int rawX10 = msg.getByte("rawX10") & 0xff;
+        int x10Flag = msg.getByte(MsgField.X10_FLAG) & 0xff;
+        int rawX10 = msg.getByte(MsgField.RAW_X10) & 0xff;
         if (x10Flag == 0x80) { // actual command
             if (x10HouseUnit != -1) {
                 X10Address fromAddr = new X10Address((byte) x10HouseUnit);
@@ -38,6 +38,7 @@ import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
 import org.openhab.binding.insteon.internal.transport.message.MsgDefinitionRegistry;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.binding.insteon.internal.utils.HexUtils;
 import org.openhab.core.io.console.Console;
 import org.openhab.core.io.console.StringsCompleter;
@@ -242,7 +243,7 @@ public class DebugCommand extends InsteonCommand implements PortListener {
     @Override
     public void messageSent(Msg msg) {
         try {
-            InsteonAddress address = msg.getInsteonAddress("toAddress");
+            InsteonAddress address = msg.getInsteonAddress(MsgField.TO_ADDRESS);
             if (monitorAllDevices || monitoredAddresses.contains(address)) {
                 logMessageEvent(address, msg);
             }
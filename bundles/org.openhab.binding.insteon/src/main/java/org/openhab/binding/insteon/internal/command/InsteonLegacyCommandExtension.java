@@ -30,6 +30,7 @@ import org.openhab.binding.insteon.internal.transport.LegacyPortListener;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.binding.insteon.internal.utils.HexUtils;
 import org.openhab.core.io.console.Console;
 import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
@@ -179,7 +180,7 @@ public class InsteonLegacyCommandExtension extends AbstractConsoleCommandExtensi
     @Override
     public void msg(Msg msg) {
         try {
-            if (monitorAllDevices || monitoredAddresses.contains(msg.getInsteonAddress("fromAddress"))) {
+            if (monitorAllDevices || monitoredAddresses.contains(msg.getInsteonAddress(MsgField.FROM_ADDRESS))) {
                 String date = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date());
                 Console console = this.console;
                 if (console != null) {
@@ -37,6 +37,7 @@ import org.openhab.binding.insteon.internal.device.feature.MessageHandler;
 import org.openhab.binding.insteon.internal.device.feature.PollHandler;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.binding.insteon.internal.utils.ParameterParser;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.unit.Units;
@@ -180,7 +181,7 @@ public class DeviceFeature {
         Msg queryMsg = getQueryMessage();
         if (queryMsg != null) {
             try {
-                return queryMsg.getInt("command1");
+                return queryMsg.getInt(MsgField.COMMAND_1);
             } catch (FieldException e) {
                 logger.warn("{}:{} error parsing msg {}", device.getAddress(), name, queryMsg, e);
             }
@@ -429,7 +430,7 @@ public class DeviceFeature {
         if (msg.isNackOfDirect() && !msg.isReplayed() && getQueryStatus() == QueryStatus.QUERY_ACKED) {
             if (logger.isDebugEnabled()) {
                 try {
-                    int cmd2 = msg.getInt("command2");
+                    int cmd2 = msg.getInt(MsgField.COMMAND_2);
                     if (cmd2 == 0xFF) {
                         logger.debug("got a sender device id not in responder database failed command msg: {}", msg);
                     } else if (cmd2 == 0xFE) {
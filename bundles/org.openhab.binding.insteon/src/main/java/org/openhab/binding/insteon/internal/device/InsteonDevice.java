@@ -46,6 +46,7 @@ import org.openhab.binding.insteon.internal.handler.InsteonDeviceHandler;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.GroupMessageStateMachine;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.binding.insteon.internal.utils.BinaryUtils;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
@@ -236,7 +237,7 @@ public class InsteonDevice extends BaseDevice<InsteonAddress, InsteonDeviceHandl
                 }
             } else if (msg.isBroadcast()) {
                 synchronized (lastBroadcastReceived) {
-                    byte cmd1 = msg.getByte("command1");
+                    byte cmd1 = msg.getByte(MsgField.COMMAND_1);
                     long timestamp = msg.getTimestamp();
                     Long lastTimestamp = lastBroadcastReceived.put(cmd1, timestamp);
                     return lastTimestamp != null && Math.abs(timestamp - lastTimestamp) <= BCAST_STATE_TIMEOUT;
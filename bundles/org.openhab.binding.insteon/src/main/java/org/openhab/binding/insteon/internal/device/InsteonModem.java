@@ -30,6 +30,7 @@ import org.openhab.binding.insteon.internal.transport.PortListener;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.core.io.transport.serial.SerialPortManager;
 
 /**
@@ -442,7 +443,7 @@ public class InsteonModem extends BaseDevice<InsteonAddress, InsteonBridgeHandle
             return;
         }
         try {
-            DeviceAddress address = msg.isInsteon() ? msg.getInsteonAddress("toAddress")
+            DeviceAddress address = msg.isInsteon() ? msg.getInsteonAddress(MsgField.TO_ADDRESS)
                     : msg.isX10Address() ? msg.getX10Address() : msg.isX10Command() ? lastX10Address : getAddress();
             if (address == null) {
                 return;
@@ -472,11 +473,11 @@ public class InsteonModem extends BaseDevice<InsteonAddress, InsteonBridgeHandle
         if (msg.isAllLinkBroadcast() && msg.isReply()) {
             return;
         }
-        InsteonAddress toAddr = msg.getInsteonAddress("toAddress");
+        InsteonAddress toAddr = msg.getInsteonAddress(MsgField.TO_ADDRESS);
         if (msg.isReply()) {
             handleMessage(toAddr, msg);
         } else if (msg.isBroadcast() || msg.isAllLinkBroadcast() || getAddress().equals(toAddr)) {
-            InsteonAddress fromAddr = msg.getInsteonAddress("fromAddress");
+            InsteonAddress fromAddr = msg.getInsteonAddress(MsgField.FROM_ADDRESS);
             handleMessage(fromAddr, msg);
         }
     }
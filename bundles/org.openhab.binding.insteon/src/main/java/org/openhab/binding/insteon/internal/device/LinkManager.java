@@ -27,6 +27,7 @@ import org.openhab.binding.insteon.internal.transport.PortListener;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -171,7 +172,7 @@ public class LinkManager implements PortListener {
         try {
             Msg msg = Msg.makeMessage("StartALLLinking");
             msg.setByte("LinkCode", (byte) linkCode);
-            msg.setByte("ALLLinkGroup", (byte) group);
+            msg.setByte(MsgField.ALL_LINK_GROUP, (byte) group);
             modem.writeMessage(msg);
         } catch (FieldException e) {
             logger.warn("cannot access field:", e);
@@ -234,14 +235,14 @@ public class LinkManager implements PortListener {
                 return;
             }
             if (msg.getCommand() == 0x50 && msg.isBroadcast()
-                    && (msg.getByte("command1") == 0x01 || msg.getByte("command1") == 0x02)) {
+                    && (msg.getByte(MsgField.COMMAND_1) == 0x01 || msg.getByte(MsgField.COMMAND_1) == 0x02)) {
                 // we got a set button pressed message
                 handleButtonPressed(msg);
             } else if (msg.getCommand() == 0x53) {
                 // we got a linking completed message
                 handleNextLinkingRequest();
             } else if (msg.getCommand() == 0x5C
-                    && (msg.getByte("command1") == 0x08 || msg.getByte("command1") == 0x09)) {
+                    && (msg.getByte(MsgField.COMMAND_1) == 0x08 || msg.getByte(MsgField.COMMAND_1) == 0x09)) {
                 // we got a linking mode failure report message
                 handleLinkingModeFailure(msg);
             } else if (msg.getCommand() == 0x64) {
@@ -261,11 +262,11 @@ public class LinkManager implements PortListener {
     private void handleButtonPressed(Msg msg) throws FieldException {
         InsteonAddress address = this.address;
         if (address == null) {
-            setAddress(msg.getInsteonAddress("fromAddress"));
+            setAddress(msg.getInsteonAddress(MsgField.FROM_ADDRESS));
         } else if (!msg.isFromAddress(address)) {
             return;
         }
-        if (!buttonPressed && msg.getByte("command1") == 0x02) {
+        if (!buttonPressed && msg.getByte(MsgField.COMMAND_1) == 0x02) {
             buttonPressed = true;
             // remove modem controller linking requests if controller only device
             // cmd1 => 0x01: controller + responder; 0x02: controller only (e.g. sensors)
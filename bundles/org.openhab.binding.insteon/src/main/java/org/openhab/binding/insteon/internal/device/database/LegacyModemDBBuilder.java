@@ -28,6 +28,7 @@ import org.openhab.binding.insteon.internal.transport.LegacyPortListener;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.binding.insteon.internal.utils.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -130,15 +131,15 @@ public class LegacyModemDBBuilder implements LegacyPortListener {
             return;
         }
         try {
-            if (msg.getByte("Cmd") == 0x69 || msg.getByte("Cmd") == 0x6a) {
+            if (msg.getByte(MsgField.CMD) == 0x69 || msg.getByte(MsgField.CMD) == 0x6a) {
                 // If the flag is "ACK/NACK", a record response
                 // will follow, so we do nothing here.
                 // If its "NACK", there are none
-                if (msg.getByte("ACK/NACK") == 0x15) {
+                if (msg.getByte(MsgField.ACK_NACK) == 0x15) {
                     logger.debug("got all link records.");
                     done();
                 }
-            } else if (msg.getByte("Cmd") == 0x57) {
+            } else if (msg.getByte(MsgField.CMD) == 0x57) {
                 // we got the link record response
                 updateModemDB(msg.getInsteonAddress("LinkAddr"), port, msg, false);
                 port.writeMessage(Msg.makeMessage("GetNextALLLinkRecord"));
@@ -171,7 +172,7 @@ public class LegacyModemDBBuilder implements LegacyPortListener {
                     int recordFlags = msg.getByte("RecordFlags") & 0xff;
                     String ms = ((recordFlags & (0x1 << 6)) != 0) ? "CTRL" : "RESP";
                     logger.debug("MDB {}: {} group: {} data1: {} data2: {} data3: {}", db.getKey(), ms,
-                            toHex(msg.getByte("ALLLinkGroup")), toHex(msg.getByte("LinkData1")),
+                            toHex(msg.getByte(MsgField.ALL_LINK_GROUP)), toHex(msg.getByte("LinkData1")),
                             toHex(msg.getByte("LinkData2")), toHex(msg.getByte("LinkData2")));
                 }
                 logger.debug("MDB -----");
@@ -200,7 +201,7 @@ public class LegacyModemDBBuilder implements LegacyPortListener {
             if (msg != null) {
                 dbe.addLinkRecord(msg);
                 try {
-                    byte group = msg.getByte("ALLLinkGroup");
+                    byte group = msg.getByte(MsgField.ALL_LINK_GROUP);
                     int recordFlags = msg.getByte("RecordFlags") & 0xff;
                     if ((recordFlags & (0x1 << 6)) != 0) {
                         dbe.addControls(group);
@@ -26,6 +26,7 @@ import org.openhab.binding.insteon.internal.transport.PortListener;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -190,13 +191,13 @@ public class LinkDBReader implements PortListener {
             }
             lastMsgReceived = msg.getTimestamp();
 
-            if (msg.getCommand() == 0x50 && msg.getByte("command1") == 0x28) {
+            if (msg.getCommand() == 0x50 && msg.getByte(MsgField.COMMAND_1) == 0x28) {
                 // we got a set msb address response
                 getNextPeekByte();
-            } else if (msg.getCommand() == 0x50 && msg.getByte("command1") == 0x2B) {
+            } else if (msg.getCommand() == 0x50 && msg.getByte(MsgField.COMMAND_1) == 0x2B) {
                 // we got a get peek byte response
-                handleRecordByte(msg.getByte("command2"));
-            } else if (msg.getCommand() == 0x51 && msg.getByte("command1") == 0x2F) {
+                handleRecordByte(msg.getByte(MsgField.COMMAND_2));
+            } else if (msg.getCommand() == 0x51 && msg.getByte(MsgField.COMMAND_1) == 0x2F) {
                 // we got a get aldb record response
                 handleRecordMsg(msg);
             }
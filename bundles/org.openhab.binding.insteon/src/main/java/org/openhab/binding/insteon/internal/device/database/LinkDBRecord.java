@@ -17,6 +17,7 @@ import org.openhab.binding.insteon.internal.device.InsteonAddress;
 import org.openhab.binding.insteon.internal.device.RampRate;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 
 /**
  * The {@link LinkDBRecord} holds a link database record for a device
@@ -88,11 +89,11 @@ public class LinkDBRecord extends DatabaseRecord {
      * @throws FieldException
      */
     public static LinkDBRecord fromRecordMsg(Msg msg) throws FieldException {
-        int location = msg.getInt16("userData3");
-        RecordType type = new RecordType(msg.getInt("userData6"));
-        int group = msg.getInt("userData7");
-        InsteonAddress address = new InsteonAddress(msg.getBytes("userData8", 3));
-        byte[] data = msg.getBytes("userData11", 3);
+        int location = msg.getInt16(MsgField.USER_DATA_3);
+        RecordType type = new RecordType(msg.getInt(MsgField.USER_DATA_6));
+        int group = msg.getInt(MsgField.USER_DATA_7);
+        InsteonAddress address = new InsteonAddress(msg.getBytes(MsgField.USER_DATA_8, 3));
+        byte[] data = msg.getBytes(MsgField.USER_DATA_11, 3);
 
         return new LinkDBRecord(location, type, group, address, data);
     }
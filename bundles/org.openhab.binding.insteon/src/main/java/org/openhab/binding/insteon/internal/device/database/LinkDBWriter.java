@@ -26,6 +26,7 @@ import org.openhab.binding.insteon.internal.transport.PortListener;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -194,15 +195,15 @@ public class LinkDBWriter implements PortListener {
     private void setAllLinkRecord(LinkDBRecord record) {
         try {
             Msg msg = Msg.makeExtendedMessage(device.getAddress(), (byte) 0x2F, (byte) 0x00, false);
-            msg.setByte("userData1", (byte) 0x00);
-            msg.setByte("userData2", (byte) 0x02);
-            msg.setByte("userData3", (byte) (record.getLocation() >> 8));
-            msg.setByte("userData4", (byte) (record.getLocation() & 0xFF));
-            msg.setByte("userData5", (byte) 0x08);
-            msg.setByte("userData6", (byte) record.getFlags());
-            msg.setByte("userData7", (byte) record.getGroup());
-            msg.setBytes("userData8", record.getAddress().getBytes());
-            msg.setBytes("userData11", record.getData());
+            msg.setByte(MsgField.USER_DATA_1, (byte) 0x00);
+            msg.setByte(MsgField.USER_DATA_2, (byte) 0x02);
+            msg.setByte(MsgField.USER_DATA_3, (byte) (record.getLocation() >> 8));
+            msg.setByte(MsgField.USER_DATA_4, (byte) (record.getLocation() & 0xFF));
+            msg.setByte(MsgField.USER_DATA_5, (byte) 0x08);
+            msg.setByte(MsgField.USER_DATA_6, (byte) record.getFlags());
+            msg.setByte(MsgField.USER_DATA_7, (byte) record.getGroup());
+            msg.setBytes(MsgField.USER_DATA_8, record.getAddress().getBytes());
+            msg.setBytes(MsgField.USER_DATA_11, record.getData());
             if (device.getInsteonEngine().supportsChecksum()) {
                 msg.setCRC();
             }
@@ -232,13 +233,14 @@ public class LinkDBWriter implements PortListener {
             }
             lastMsgReceived = msg.getTimestamp();
 
-            if (msg.getCommand() == 0x50 && (msg.getByte("command1") == 0x28 || msg.getByte("command1") == 0x29)) {
+            if (msg.getCommand() == 0x50
+                    && (msg.getByte(MsgField.COMMAND_1) == 0x28 || msg.getByte(MsgField.COMMAND_1) == 0x29)) {
                 // we got a set msb address or poke byte response
                 setNextPokeByte();
-            } else if (msg.getCommand() == 0x50 && msg.getByte("command1") == 0x2B) {
+            } else if (msg.getCommand() == 0x50 && msg.getByte(MsgField.COMMAND_1) == 0x2B) {
                 // we got a get peek byte response
-                handlePeekByte(msg.getByte("command2"));
-            } else if (msg.getCommand() == 0x50 && msg.getByte("command1") == 0x2F) {
+                handlePeekByte(msg.getByte(MsgField.COMMAND_2));
+            } else if (msg.getCommand() == 0x50 && msg.getByte(MsgField.COMMAND_1) == 0x2F) {
                 // we got a set aldb record response
                 setNextAllLinkRecord();
             }
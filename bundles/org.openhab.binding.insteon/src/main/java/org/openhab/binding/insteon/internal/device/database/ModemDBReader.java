@@ -28,6 +28,7 @@ import org.openhab.binding.insteon.internal.transport.PortListener;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.binding.insteon.internal.utils.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -166,10 +167,11 @@ public class ModemDBReader implements PortListener {
                 // we got an all link cleanup or success report message
                 handleAllLinkMessage(msg);
             } else if (msg.getCommand() == 0x50 && msg.isBroadcast()
-                    && (msg.getByte("command1") == 0x01 || msg.getByte("command1") == 0x02)) {
+                    && (msg.getByte(MsgField.COMMAND_1) == 0x01 || msg.getByte(MsgField.COMMAND_1) == 0x02)) {
                 // we got a product data broadcast message
                 handleProductData(msg);
-            } else if ((msg.getCommand() == 0x50 || msg.getCommand() == 0x5C) && msg.getByte("command1") == 0x10) {
+            } else if ((msg.getCommand() == 0x50 || msg.getCommand() == 0x5C)
+                    && msg.getByte(MsgField.COMMAND_1) == 0x10) {
                 // we got a product data request ack
                 handleProductDataAck(msg);
             } else if (msg.getCommand() == 0x53) {
@@ -229,7 +231,7 @@ public class ModemDBReader implements PortListener {
     private void handleLinkRecordUpdated(Msg msg) throws FieldException {
         ModemDBRecord record = ModemDBRecord.fromRecordMsg(msg);
         InsteonAddress address = msg.getInsteonAddress("LinkAddr");
-        int group = msg.getInt("ALLLinkGroup");
+        int group = msg.getInt(MsgField.ALL_LINK_GROUP);
         int code = msg.getInt("ControlCode");
         ManageRecordAction action = ManageRecordAction.valueOf(code);
         switch (action) {
@@ -256,7 +258,7 @@ public class ModemDBReader implements PortListener {
     private void handleLinkingCompleted(Msg msg) throws FieldException {
         ModemDBRecord record = ModemDBRecord.fromLinkingMsg(msg);
         InsteonAddress address = msg.getInsteonAddress("LinkAddr");
-        int group = msg.getInt("ALLLinkGroup");
+        int group = msg.getInt(MsgField.ALL_LINK_GROUP);
         int code = msg.getInt("LinkCode");
         LinkMode mode = LinkMode.valueOf(code);
         switch (mode) {
@@ -278,17 +280,17 @@ public class ModemDBReader implements PortListener {
     }
 
     private void handleAllLinkMessage(Msg msg) throws FieldException {
-        InsteonAddress address = msg.getInsteonAddress("fromAddress");
+        InsteonAddress address = msg.getInsteonAddress(MsgField.FROM_ADDRESS);
         getProductData(address);
     }
 
     private void handleProductData(Msg msg) throws FieldException {
-        InsteonAddress fromAddr = msg.getInsteonAddress("fromAddress");
-        InsteonAddress toAddr = msg.getInsteonAddress("toAddress");
+        InsteonAddress fromAddr = msg.getInsteonAddress(MsgField.FROM_ADDRESS);
+        InsteonAddress toAddr = msg.getInsteonAddress(MsgField.TO_ADDRESS);
         int deviceCategory = Byte.toUnsignedInt(toAddr.getHighByte());
         int subCategory = Byte.toUnsignedInt(toAddr.getMiddleByte());
         int firmware = Byte.toUnsignedInt(toAddr.getLowByte());
-        int hardware = msg.getInt("command2");
+        int hardware = msg.getInt(MsgField.COMMAND_2);
         ProductData productData = ProductData.makeInsteonProduct(deviceCategory, subCategory);
         productData.setFirmwareVersion(firmware);
         productData.setHardwareVersion(hardware);
@@ -299,7 +301,7 @@ public class ModemDBReader implements PortListener {
     }
 
     private void handleProductDataAck(Msg msg) throws FieldException {
-        InsteonAddress address = msg.getInsteonAddress("fromAddress");
+        InsteonAddress address = msg.getInsteonAddress(MsgField.FROM_ADDRESS);
         // remove address from product queries
         synchronized (productQueries) {
             productQueries.remove(address);
@@ -16,6 +16,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.insteon.internal.device.InsteonAddress;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 
 /**
  * The {@link ModemDBRecord} holds a link database record for a modem
@@ -70,7 +71,7 @@ public class ModemDBRecord extends DatabaseRecord {
      */
     public static ModemDBRecord fromRecordMsg(Msg msg) throws FieldException {
         RecordType type = new RecordType(msg.getInt("RecordFlags"));
-        int group = msg.getInt("ALLLinkGroup");
+        int group = msg.getInt(MsgField.ALL_LINK_GROUP);
         InsteonAddress address = msg.getInsteonAddress("LinkAddr");
         byte[] data = new byte[] { msg.getByte("LinkData1"), msg.getByte("LinkData2"), msg.getByte("LinkData3") };
 
@@ -87,7 +88,7 @@ public class ModemDBRecord extends DatabaseRecord {
     public static ModemDBRecord fromLinkingMsg(Msg msg) throws FieldException {
         LinkMode mode = LinkMode.valueOf(msg.getInt("LinkCode"));
         RecordType type = mode.getRecordType();
-        int group = msg.getInt("ALLLinkGroup");
+        int group = msg.getInt(MsgField.ALL_LINK_GROUP);
         InsteonAddress address = msg.getInsteonAddress("LinkAddr");
         byte[] data = new byte[3];
 
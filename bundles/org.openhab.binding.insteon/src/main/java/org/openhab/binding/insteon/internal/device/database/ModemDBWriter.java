@@ -24,6 +24,7 @@ import org.openhab.binding.insteon.internal.transport.PortListener;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -115,7 +116,7 @@ public class ModemDBWriter implements PortListener {
             Msg msg = Msg.makeMessage("ManageALLLinkRecord");
             msg.setByte("ControlCode", (byte) action.getControlCode());
             msg.setByte("RecordFlags", (byte) record.getFlags());
-            msg.setByte("ALLLinkGroup", (byte) record.getGroup());
+            msg.setByte(MsgField.ALL_LINK_GROUP, (byte) record.getGroup());
             msg.setAddress("LinkAddr", record.getAddress());
             msg.setByte("LinkData1", (byte) record.getData1());
             msg.setByte("LinkData2", (byte) record.getData2());
@@ -22,6 +22,7 @@ import org.openhab.binding.insteon.internal.device.InsteonAddress;
 import org.openhab.binding.insteon.internal.device.LegacyDeviceFeature;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.binding.insteon.internal.utils.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,13 +65,13 @@ public abstract class LegacyMessageDispatcher {
             return false;
         }
         try {
-            InsteonAddress address = msg.getInsteonAddress("toAddress");
+            InsteonAddress address = msg.getInsteonAddress(MsgField.TO_ADDRESS);
             // ALL_LINK_BROADCAST and ALL_LINK_CLEANUP
             // have a valid Command1 field
             // but the CLEANUP_SUCCESS (of type ALL_LINK_BROADCAST!)
             // message has cmd1 = 0x06 and the cmd as the
             // high byte of the toAddress.
-            byte cmd1 = msg.getByte("command1");
+            byte cmd1 = msg.getByte(MsgField.COMMAND_1);
             if (!msg.isAllLinkCleanup() && cmd1 == 0x06) {
                 cmd1 = address.getHighByte();
             }
@@ -78,7 +79,7 @@ public abstract class LegacyMessageDispatcher {
             // in the low byte of the toAddress. For direct
             // ALL_LINK_CLEANUP, it is in Command2
 
-            int group = (msg.isAllLinkCleanup() ? msg.getByte("command2") : address.getLowByte()) & 0xff;
+            int group = (msg.isAllLinkCleanup() ? msg.getByte(MsgField.COMMAND_2) : address.getLowByte()) & 0xff;
             LegacyMessageHandler handler = feature.getMsgHandlers().get(cmd1 & 0xFF);
             if (handler == null) {
                 logger.debug("msg is not for this feature");
@@ -135,8 +136,8 @@ public abstract class LegacyMessageDispatcher {
             boolean isConsumed = false;
             int key = -1;
             try {
-                cmd = msg.getByte("Cmd");
-                cmd1 = msg.getByte("command1");
+                cmd = msg.getByte(MsgField.CMD);
+                cmd1 = msg.getByte(MsgField.COMMAND_1);
             } catch (FieldException e) {
                 logger.debug("no command found, dropping msg {}", msg);
                 return false;
@@ -200,8 +201,8 @@ public abstract class LegacyMessageDispatcher {
             boolean isConsumed = false;
             int key = -1;
             try {
-                cmd = msg.getByte("Cmd");
-                cmd1 = msg.getByte("command1");
+                cmd = msg.getByte(MsgField.CMD);
+                cmd1 = msg.getByte(MsgField.COMMAND_1);
             } catch (FieldException e) {
                 logger.debug("no command found, dropping msg {}", msg);
                 return false;
@@ -299,7 +300,7 @@ public abstract class LegacyMessageDispatcher {
                     // in response to a direct status query message
                     return false;
                 }
-                cmd1 = msg.getByte("command1");
+                cmd1 = msg.getByte(MsgField.COMMAND_1);
             } catch (FieldException e) {
                 logger.debug("no cmd1 found, dropping msg {}", msg);
                 return false;
@@ -327,7 +328,7 @@ public abstract class LegacyMessageDispatcher {
         @Override
         public boolean dispatch(Msg msg) {
             try {
-                byte rawX10 = msg.getByte("rawX10");
+                byte rawX10 = msg.getByte(MsgField.RAW_X10);
                 int cmd = (rawX10 & 0x0f);
                 LegacyMessageHandler handler = feature.getMsgHandlers().get(cmd);
                 if (handler == null) {
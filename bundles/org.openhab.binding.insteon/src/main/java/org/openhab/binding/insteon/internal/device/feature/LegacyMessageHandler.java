@@ -31,6 +31,7 @@ import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.LegacyGroupMessageStateMachine.GroupMessage;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.binding.insteon.internal.transport.message.MsgType;
 import org.openhab.binding.insteon.internal.utils.HexUtils;
 import org.openhab.binding.insteon.internal.utils.ParameterParser;
@@ -257,10 +258,10 @@ public abstract class LegacyMessageHandler {
     protected boolean isDuplicate(Msg msg) {
         boolean isDuplicate = false;
         try {
-            MsgType msgType = MsgType.valueOf(msg.getByte("messageFlags"));
+            MsgType msgType = MsgType.valueOf(msg.getByte(MsgField.MESSAGE_FLAGS));
             if (msgType == MsgType.ALL_LINK_BROADCAST) {
-                int group = msg.getInsteonAddress("toAddress").getLowByte() & 0xff;
-                byte cmd1 = msg.getByte("command1");
+                int group = msg.getInsteonAddress(MsgField.TO_ADDRESS).getLowByte() & 0xff;
+                byte cmd1 = msg.getByte(MsgField.COMMAND_1);
                 // if the command is 0x06, then it's success message
                 // from the original broadcaster, with which the device
                 // confirms that it got all cleanup replies successfully.
@@ -269,7 +270,7 @@ public abstract class LegacyMessageHandler {
             } else if (msgType == MsgType.ALL_LINK_CLEANUP) {
                 // the cleanup messages are direct messages, so the
                 // group # is not in the toAddress, but in cmd2
-                int group = msg.getByte("command2") & 0xff;
+                int group = msg.getByte(MsgField.COMMAND_2) & 0xff;
                 isDuplicate = !feature.getDevice().getGroupState(group, GroupMessage.CLEAN, (byte) 0);
             }
         } catch (IllegalArgumentException e) {
@@ -291,8 +292,8 @@ public abstract class LegacyMessageHandler {
         // the cleanup messages have the button number in the command2 field
         // the broadcast messages have it as the lsb of the toAddress
         try {
-            int bclean = msg.getByte("command2") & 0xff;
-            int bbcast = msg.getInsteonAddress("toAddress").getLowByte() & 0xff;
+            int bclean = msg.getByte(MsgField.COMMAND_2) & 0xff;
+            int bbcast = msg.getInsteonAddress(MsgField.TO_ADDRESS).getLowByte() & 0xff;
             int button = msg.isAllLinkCleanup() ? bclean : bbcast;
             logger.trace("{} button: {} bclean: {} bbcast: {}", feature.getDevice().getAddress(), button, bclean,
                     bbcast);
@@ -474,7 +475,7 @@ public abstract class LegacyMessageHandler {
 
         private int getLevel(Msg msg) {
             try {
-                byte cmd2 = msg.getByte("command2");
+                byte cmd2 = msg.getByte(MsgField.COMMAND_2);
                 return (int) Math.round(((cmd2 >> 4) & 0x0f) * (100 / 15d));
             } catch (FieldException e) {
                 logger.warn("Can't access command2 byte", e);
@@ -498,7 +499,7 @@ public abstract class LegacyMessageHandler {
         public void handleMessage(int group, byte cmd1, Msg msg, LegacyDeviceFeature f) {
             try {
                 DeviceAddress address = f.getDevice().getAddress();
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(MsgField.COMMAND_2) & 0xff;
                 int button = this.getIntParameter("button", -1);
                 if (button < 0) {
                     handleNoButtons(cmd2, address, msg);
@@ -565,7 +566,7 @@ public abstract class LegacyMessageHandler {
         public void handleMessage(int group, byte cmd1, Msg msg, LegacyDeviceFeature f) {
             LegacyDevice dev = f.getDevice();
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(MsgField.COMMAND_2) & 0xff;
                 if (cmd2 == 0xfe) {
                     // sometimes dimmer devices are returning 0xfe when on instead of 0xff
                     cmd2 = 0xff;
@@ -627,7 +628,7 @@ public abstract class LegacyMessageHandler {
         @Override
         public void handleMessage(int group, byte cmd1, Msg msg, LegacyDeviceFeature f) {
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(MsgField.COMMAND_2) & 0xff;
                 int upDown = (cmd2 == 0) ? 0 : 2;
                 logger.debug("{}: dev {} manual state change: {}", nm(), f.getDevice().getAddress(),
                         (upDown == 0) ? "DOWN" : "UP");
@@ -670,12 +671,12 @@ public abstract class LegacyMessageHandler {
                 return;
             }
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(MsgField.COMMAND_2) & 0xff;
                 switch (cmd2) {
                     case 0x00: // this is a product data response message
-                        int prodKey = msg.getInt24("userData2");
-                        int devCat = msg.getByte("userData5");
-                        int subCat = msg.getByte("userData6");
+                        int prodKey = msg.getInt24(MsgField.USER_DATA_2);
+                        int devCat = msg.getByte(MsgField.USER_DATA_5);
+                        int subCat = msg.getByte(MsgField.USER_DATA_6);
                         logger.debug("{} {} got product data: cat: {} subcat: {} key: {} ", nm(), dev.getAddress(),
                                 devCat, subCat, HexUtils.getHexString(prodKey));
                         break;
@@ -705,14 +706,14 @@ public abstract class LegacyMessageHandler {
                 return;
             }
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(MsgField.COMMAND_2) & 0xff;
                 int batteryLevel;
                 int lightLevel;
                 int temperatureLevel;
                 switch (cmd2) {
                     case 0x00: // this is a product data response message
-                        batteryLevel = msg.getByte("userData12") & 0xff;
-                        lightLevel = msg.getByte("userData11") & 0xff;
+                        batteryLevel = msg.getByte(MsgField.USER_DATA_12) & 0xff;
+                        lightLevel = msg.getByte(MsgField.USER_DATA_11) & 0xff;
                         logger.debug("{}: {} got light level: {}, battery level: {}", nm(), dev.getAddress(),
                                 lightLevel, batteryLevel);
                         feature.publish(new DecimalType(lightLevel), StateChangeType.CHANGED, FIELD, FIELD_LIGHT_LEVEL);
@@ -720,9 +721,9 @@ public abstract class LegacyMessageHandler {
                                 FIELD_BATTERY_LEVEL);
                         break;
                     case 0x03: // this is the 2844-222 data response message
-                        batteryLevel = msg.getByte("userData6") & 0xff;
-                        lightLevel = msg.getByte("userData7") & 0xff;
-                        temperatureLevel = msg.getByte("userData8") & 0xff;
+                        batteryLevel = msg.getByte(MsgField.USER_DATA_6) & 0xff;
+                        lightLevel = msg.getByte(MsgField.USER_DATA_7) & 0xff;
+                        temperatureLevel = msg.getByte(MsgField.USER_DATA_8) & 0xff;
                         logger.debug("{}: {} got light level: {}, battery level: {}, temperature level: {}", nm(),
                                 dev.getAddress(), lightLevel, batteryLevel, temperatureLevel);
                         feature.publish(new DecimalType(lightLevel), StateChangeType.CHANGED, FIELD, FIELD_LIGHT_LEVEL);
@@ -764,10 +765,10 @@ public abstract class LegacyMessageHandler {
             LegacyDevice dev = f.getDevice();
             try {
                 // group 0x0B (11) - alternate heartbeat group
-                InsteonAddress toAddr = msg.getInsteonAddress("toAddress");
+                InsteonAddress toAddr = msg.getInsteonAddress(MsgField.TO_ADDRESS);
                 int batteryLevel = toAddr.getHighByte() & 0xff;
                 int lightLevel = toAddr.getMiddleByte() & 0xff;
-                int temperatureLevel = msg.getByte("command2") & 0xff;
+                int temperatureLevel = msg.getByte(MsgField.COMMAND_2) & 0xff;
 
                 logger.debug("{}: {} got light level: {}, battery level: {}, temperature level: {}", nm(),
                         dev.getAddress(), lightLevel, batteryLevel, temperatureLevel);
@@ -807,11 +808,11 @@ public abstract class LegacyMessageHandler {
                 return;
             }
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getByte(MsgField.COMMAND_2) & 0xff;
                 switch (cmd2) {
                     case 0x00: // this is a product data response message
-                        int batteryLevel = msg.getByte("userData4") & 0xff;
-                        int batteryWatermark = msg.getByte("userData7") & 0xff;
+                        int batteryLevel = msg.getByte(MsgField.USER_DATA_4) & 0xff;
+                        int batteryWatermark = msg.getByte(MsgField.USER_DATA_7) & 0xff;
                         logger.debug("{}: {} got light level: {}, battery level: {}", nm(), dev.getAddress(),
                                 batteryWatermark, batteryLevel);
                         feature.publish(new DecimalType(batteryWatermark), StateChangeType.CHANGED, FIELD,
@@ -839,17 +840,17 @@ public abstract class LegacyMessageHandler {
             if (msg.isExtended()) {
                 try {
                     // see iMeter developer notes 2423A1dev-072013-en.pdf
-                    int b7 = msg.getByte("userData7") & 0xff;
-                    int b8 = msg.getByte("userData8") & 0xff;
+                    int b7 = msg.getByte(MsgField.USER_DATA_7) & 0xff;
+                    int b8 = msg.getByte(MsgField.USER_DATA_8) & 0xff;
                     int watts = (b7 << 8) | b8;
                     if (watts > 32767) {
                         watts -= 65535;
                     }
 
-                    int b9 = msg.getByte("userData9") & 0xff;
-                    int b10 = msg.getByte("userData10") & 0xff;
-                    int b11 = msg.getByte("userData11") & 0xff;
-                    int b12 = msg.getByte("userData12") & 0xff;
+                    int b9 = msg.getByte(MsgField.USER_DATA_9) & 0xff;
+                    int b10 = msg.getByte(MsgField.USER_DATA_10) & 0xff;
+                    int b11 = msg.getByte(MsgField.USER_DATA_11) & 0xff;
+                    int b12 = msg.getByte(MsgField.USER_DATA_12) & 0xff;
                     BigDecimal kwh = BigDecimal.ZERO;
                     if (b9 < 254) {
                         int e = (b9 << 24) | (b10 << 16) | (b11 << 8) | b12;
@@ -906,8 +907,8 @@ public abstract class LegacyMessageHandler {
             byte cmd = 0x00;
             byte cmd2 = 0x00;
             try {
-                cmd = msg.getByte("Cmd");
-                cmd2 = msg.getByte("command2");
+                cmd = msg.getByte(MsgField.CMD);
+                cmd2 = msg.getByte(MsgField.COMMAND_2);
             } catch (FieldException e) {
                 logger.debug("{} no cmd found, dropping msg {}", nm(), msg);
                 return;
@@ -951,7 +952,7 @@ public abstract class LegacyMessageHandler {
         @Override
         public void handleMessage(int group, byte cmd1, Msg msg, LegacyDeviceFeature f) {
             try {
-                byte cmd2 = msg.getByte("command2");
+                byte cmd2 = msg.getByte(MsgField.COMMAND_2);
                 switch (cmd1) {
                     case 0x11:
                         switch (cmd2) {
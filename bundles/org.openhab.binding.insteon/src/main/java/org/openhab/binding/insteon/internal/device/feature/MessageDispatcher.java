@@ -20,6 +20,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.insteon.internal.device.DeviceFeature;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,8 +46,8 @@ public abstract class MessageDispatcher extends BaseFeatureHandler {
      * @param feature the device feature
      */
     protected void handleBroadcastMessage(Msg msg, DeviceFeature feature) throws FieldException {
-        byte cmd1 = msg.isAllLinkSuccessReport() ? msg.getInsteonAddress("toAddress").getHighByte()
-                : msg.getByte("command1");
+        byte cmd1 = msg.isAllLinkSuccessReport() ? msg.getInsteonAddress(MsgField.TO_ADDRESS).getHighByte()
+                : msg.getByte(MsgField.COMMAND_1);
         int group = msg.getGroup();
         MessageHandler handler = feature.getMsgHandler(cmd1, group);
         if (handler == null) {
@@ -65,7 +66,7 @@ public abstract class MessageDispatcher extends BaseFeatureHandler {
      * @param feature the device feature
      */
     protected void handleDirectMessage(Msg msg, DeviceFeature feature) throws FieldException {
-        byte cmd1 = msg.getByte("command1");
+        byte cmd1 = msg.getByte(MsgField.COMMAND_1);
         int group = msg.getGroup();
         // determine msg handler using cmd 0x19 on DIRECT ACK/NACK reply messages
         MessageHandler handler = feature.getOrDefaultMsgHandler(msg.isAckOrNackOfDirect() ? 0x19 : cmd1, group);
@@ -174,7 +175,7 @@ public abstract class MessageDispatcher extends BaseFeatureHandler {
         @Override
         public boolean dispatch(Msg msg) {
             try {
-                byte cmd1 = msg.getByte("command1");
+                byte cmd1 = msg.getByte(MsgField.COMMAND_1);
                 int group = msg.getGroup();
                 MessageHandler handler = feature.getDefaultMsgHandler();
                 if (handler.canHandle(msg)) {
@@ -242,7 +243,7 @@ public abstract class MessageDispatcher extends BaseFeatureHandler {
         @Override
         public boolean dispatch(Msg msg) {
             try {
-                byte cmd = msg.getByte("rawX10");
+                byte cmd = msg.getByte(MsgField.RAW_X10);
                 MessageHandler handler = feature.getOrDefaultMsgHandler(cmd);
                 logger.debug("{}:{}->{} X10", getX10Device().getAddress(), feature.getName(),
                         handler.getClass().getSimpleName());
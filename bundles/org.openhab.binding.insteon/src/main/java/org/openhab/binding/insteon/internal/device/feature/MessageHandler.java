@@ -53,6 +53,7 @@ import org.openhab.binding.insteon.internal.device.feature.FeatureEnums.Thermost
 import org.openhab.binding.insteon.internal.device.feature.FeatureEnums.VenstarSystemMode;
 import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.binding.insteon.internal.utils.BinaryUtils;
 import org.openhab.binding.insteon.internal.utils.HexUtils;
 import org.openhab.binding.insteon.internal.utils.ParameterParser;
@@ -327,13 +328,13 @@ public abstract class MessageHandler extends BaseFeatureHandler {
                     return msg.getGroup();
                 case "addressHighByte":
                     // return broadcast address high byte value
-                    return msg.getInsteonAddress("toAddress").getHighByte() & 0xFF;
+                    return msg.getInsteonAddress(MsgField.TO_ADDRESS).getHighByte() & 0xFF;
                 case "addressMiddleByte":
                     // return broadcast address middle byte value
-                    return msg.getInsteonAddress("toAddress").getMiddleByte() & 0xFF;
+                    return msg.getInsteonAddress(MsgField.TO_ADDRESS).getMiddleByte() & 0xFF;
                 case "addressLowByte":
                     // return broadcast address low byte value
-                    return msg.getInsteonAddress("toAddress").getLowByte() & 0xFF;
+                    return msg.getInsteonAddress(MsgField.TO_ADDRESS).getLowByte() & 0xFF;
                 default:
                     // return integer value starting from field name up to 4-bytes in size based on parameter
                     return msg.getInt(field, getParameterAsInteger("num_bytes", 1));
@@ -528,7 +529,7 @@ public abstract class MessageHandler extends BaseFeatureHandler {
         @Override
         public void handleMessage(byte cmd1, Msg msg) {
             try {
-                int delta = msg.getInt("command2");
+                int delta = msg.getInt(MsgField.COMMAND_2);
                 // update link db delta
                 getInsteonDevice().getLinkDB().updateDatabaseDelta(delta);
             } catch (FieldException e) {
@@ -548,7 +549,7 @@ public abstract class MessageHandler extends BaseFeatureHandler {
         @Override
         public void handleMessage(byte cmd1, Msg msg) {
             try {
-                int version = msg.getInt("command2");
+                int version = msg.getInt(MsgField.COMMAND_2);
                 InsteonEngine engine = InsteonEngine.valueOf(version);
                 // set device insteon engine
                 getInsteonDevice().setInsteonEngine(engine);
@@ -634,7 +635,7 @@ public abstract class MessageHandler extends BaseFeatureHandler {
         @Override
         public void handleMessage(byte cmd1, Msg msg) {
             try {
-                byte cmd2 = msg.getByte("command2");
+                byte cmd2 = msg.getByte(MsgField.COMMAND_2);
                 ButtonEvent event = ButtonEvent.valueOf(cmd1, cmd2);
                 logger.debug("{}: device {} {} received event {}", nm(), getInsteonDevice().getAddress(),
                         feature.getName(), event);
@@ -945,7 +946,7 @@ public abstract class MessageHandler extends BaseFeatureHandler {
                 if (bit < 0 || bit > 7) {
                     logger.debug("{}: invalid bit number defined for {}", nm(), feature.getName());
                 } else {
-                    int value = msg.getByte("userData10") << 8 | msg.getByte("userData13");
+                    int value = msg.getByte(MsgField.USER_DATA_10) << 8 | msg.getByte(MsgField.USER_DATA_13);
                     KeypadButtonToggleMode mode = KeypadButtonToggleMode.valueOf(value, bit);
                     logger.debug("{}: device {} {} is {}", nm(), getInsteonDevice().getAddress(), feature.getName(),
                             mode);
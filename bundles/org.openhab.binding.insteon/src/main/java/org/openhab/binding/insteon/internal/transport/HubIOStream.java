@@ -23,19 +23,24 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.insteon.internal.utils.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Implements IOStream for an Insteon Hub 2
  *
+ * The hub buffer is polled faster for a few seconds after a command or received data, and backs off to the configured
+ * poll interval when idle. Commands are sent right after a poll by the polling job, which then polls again shortly
+ * for the reply, so sending a command needs no additional poll.
+ *
  * @author Daniel Pfrommer - Initial contribution
  * @author Rob Nielsen - Port to openHAB 2 insteon binding
  * @author Jeremy Setton - Rewrite insteon binding
@@ -47,6 +52,12 @@ public class HubIOStream extends IOStream {
 
     private static final String BS_START = "<BS>";
     private static final String BS_END = "</BS>";
+    // poll interval while commands or messages are exchanged
+    private static final int ACTIVE_POLL_INTERVAL = 250;
+    // time after the last command or message before backing off
+    private static final long ACTIVE_PERIOD = TimeUnit.SECONDS.toNanos(3);
+    // delay of the poll after a command, giving the hub time to put the reply in its buffer
+    private static final int REPLY_POLL_DELAY = 50;
 
     private String host;
     private int port;
@@ -54,8 +65,18 @@ public class HubIOStream extends IOStream {
     private int pollInterval;
     private ScheduledExecutorService scheduler;
     private @Nullable ScheduledFuture<?> job;
+    private volatile boolean open = false;
+    private final Object pollLock = new Object();
+    private final Queue<HubCommand> pendingCommands = new ConcurrentLinkedQueue<>();
     // index of the last byte we have read in the buffer
     private int bufferIdx = -1;
+    private int currentPollInterval;
+    private long lastActivityNanos;
+    private long commandQueuedNanos = 0;
+    private double averageLatency = 0;
+
+    private record HubCommand(String hexMsg, long queuedNanos) {
+    }
 
     /**
      * Constructor
@@ -74,11 +95,12 @@ public class HubIOStream extends IOStream {
         this.auth = Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
         this.pollInterval = pollInterval;
         this.scheduler = scheduler;
+        this.currentPollInterval = pollInterval;
     }
 
     @Override
     public boolean isOpen() {
-        return job != null;
+        return open;
     }
 
     @Override
@@ -98,25 +120,24 @@ public class HubIOStream extends IOStream {
         in = new HubInputStream();
         out = new HubOutputStream();
 
-        job = scheduler.scheduleWithFixedDelay(() -> {
-            try {
-                poll();
-            } catch (IOException e) {
-                logger.debug("failed to poll hub", e);
-                close();
-            }
-        }, 0, pollInterval, TimeUnit.MILLISECONDS);
+        open = true;
+        lastActivityNanos = System.nanoTime();
+        schedulePoll(0);
 
         return true;
     }
 
     @Override
     public void close() {
-        ScheduledFuture<?> job = this.job;
-        if (job != null) {
-            job.cancel(true);
-            this.job = null;
+        synchronized (this) {
+            open = false;
+            ScheduledFuture<?> job = this.job;
+            if (job != null) {
+                job.cancel(true);
+                this.job = null;
+            }
         }
+        pendingCommands.clear();
 
         InputStream in = this.in;
         if (in != null) {
@@ -145,7 +166,7 @@ public class HubIOStream extends IOStream {
      * @return string with status buffer
      * @throws IOException
      */
-    private synchronized String bufferStatus() throws IOException {
+    private String bufferStatus() throws IOException {
         String result = getURL("/buffstatus.xml");
 
         int start = result.indexOf(BS_START);
@@ -167,51 +188,118 @@ public class HubIOStream extends IOStream {
      *
      * @throws IOException
      */
-    private synchronized void clearBuffer() throws IOException {
+    private void clearBuffer() throws IOException {
         logger.trace("clearing buffer");
         getURL("/1?XB=M=1");
         bufferIdx = 0;
     }
 
     /**
-     * Sends Insteon message (byte array) as a readable ascii string to the Hub
+     * Queues Insteon message (byte array) to be sent as a readable ascii string to the Hub with the next poll
      *
      * @param msg byte array representing the Insteon message
-     * @throws IOException in case of I/O error
      */
-    public synchronized void write(ByteBuffer msg) throws IOException {
-        poll(); // fetch the status buffer before we send out commands
-
+    public void write(ByteBuffer msg) {
         StringBuilder b = new StringBuilder();
         while (msg.remaining() > 0) {
             b.append(String.format("%02x", msg.get()));
         }
-        String hexMsg = b.toString();
+        pendingCommands.add(new HubCommand(b.toString(), System.nanoTime()));
+        schedulePoll(0);
+    }
+
+    /**
+     * Schedules the next poll, unless a poll is already scheduled earlier
+     *
+     * @param delay delay in milliseconds
+     */
+    private synchronized void schedulePoll(long delay) {
+        if (!open) {
+            return;
+        }
+        ScheduledFuture<?> job = this.job;
+        if (job != null) {
+            if (job.getDelay(TimeUnit.MILLISECONDS) <= delay) {
+                return;
+            }
+            job.cancel(false);
+        }
+        this.job = scheduler.schedule(this::pollCycle, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void pollCycle() {
+        synchronized (this) {
+            job = null;
+        }
+        long nextPoll;
+        synchronized (pollLock) {
+            try {
+                // fetch the status buffer before we send out commands, sending clears it
+                poll();
+                HubCommand command = pendingCommands.poll();
+                if (command != null) {
+                    send(command);
+                    nextPoll = REPLY_POLL_DELAY;
+                } else {
+                    nextPoll = nextPollInterval();
+                }
+            } catch (IOException e) {
+                logger.debug("failed to poll hub", e);
+                close();
+                return;
+            }
+        }
+        schedulePoll(pendingCommands.isEmpty() ? nextPoll : 0);
+    }
+
+    /**
+     * Returns the interval to the next poll, fast after recent activity and backing off to the poll interval
+     *
+     * @return the interval in milliseconds
+     */
+    private int nextPollInterval() {
+        int activeInterval = Math.min(ACTIVE_POLL_INTERVAL, pollInterval);
+        if (System.nanoTime() - lastActivityNanos < ACTIVE_PERIOD) {
+            currentPollInterval = activeInterval;
+        } else {
+            currentPollInterval = Math.min(Math.max(currentPollInterval, activeInterval) * 2, pollInterval);
+        }
+        return currentPollInterval;
+    }
+
+    private void send(HubCommand command) throws IOException {
         logger.trace("writing a message");
-        getURL("/3?" + hexMsg + "=I=3");
+        getURL("/3?" + command.hexMsg() + "=I=3");
         bufferIdx = 0;
+        lastActivityNanos = System.nanoTime();
+        commandQueuedNanos = command.queuedNanos();
     }
 
     /**
-     * Polls the Hub web interface to fetch the status buffer
+     * Polls the Hub web interface to fetch the status buffer, only the part written since the last poll is parsed
      *
      * @throws IOException if something goes wrong with I/O
      */
-    private synchronized void poll() throws IOException {
+    private void poll() throws IOException {
         String buffer = bufferStatus(); // fetch via http call
         logger.trace("poll: {}", buffer);
         // The Hub maintains a ring buffer where the last two digits (in hex!) represent
         // the position of the last byte read.
-        String data = buffer.substring(0, buffer.length() - 2); // pure data w/o index pointer
+        int dataLength = buffer.length() - 2; // pure data w/o index pointer
 
         int nIdx = -1;
         try {
-            nIdx = Integer.parseInt(buffer.substring(buffer.length() - 2, buffer.length()), 16);
-        } catch (NumberFormatException e) {
+            nIdx = Integer.parseInt(buffer, dataLength, buffer.length(), 16);
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
             bufferIdx = -1;
             logger.debug("invalid buffer size received in line: {}", buffer);
             return;
         }
+        if (nIdx > dataLength) {
+            bufferIdx = -1;
+            logger.debug("invalid buffer index received in line: {}", buffer);
+            return;
+        }
 
         if (bufferIdx == -1) {
             // this is the first call or first call after error, no need for buffer copying
@@ -219,30 +307,33 @@ public class HubIOStream extends IOStream {
             return;
         }
 
-        if (isClearedBuffer(data)) {
+        if (isClearedBuffer(buffer, 0, dataLength)) {
             logger.trace("skip cleared buffer");
             bufferIdx = 0;
             return;
         }
 
-        StringBuilder msg = new StringBuilder();
+        if (nIdx == bufferIdx) {
+            // nothing new
+            return;
+        }
+
+        ByteArrayOutputStream msg = new ByteArrayOutputStream();
         if (nIdx < bufferIdx) {
-            String msgStart = data.substring(bufferIdx, data.length());
-            String msgEnd = data.substring(0, nIdx);
-            if (isClearedBuffer(msgStart)) {
+            if (isClearedBuffer(buffer, bufferIdx, dataLength)) {
                 logger.trace("discard cleared buffer wrap around msg start");
-                msgStart = "";
+            } else {
+                appendHex(buffer, bufferIdx, dataLength, msg);
             }
-
-            msg.append(msgStart + msgEnd);
-            logger.trace("wrap around: copying new data on: {}", msg);
+            appendHex(buffer, 0, nIdx, msg);
+            logger.trace("wrap around: copying {} bytes of new data", msg.size());
         } else {
-            msg.append(data.substring(bufferIdx, nIdx));
-            logger.trace("no wrap:      appending new data: {}", msg);
+            appendHex(buffer, bufferIdx, nIdx, msg);
+            logger.trace("no wrap:      appending {} bytes of new data", msg.size());
         }
-        if (msg.length() != 0) {
-            byte[] array = HexUtils.toByteArray(msg.toString());
-            ByteBuffer buf = ByteBuffer.wrap(array);
+        if (msg.size() != 0) {
+            dataReceived();
+            ByteBuffer buf = ByteBuffer.wrap(msg.toByteArray());
             if (in instanceof HubInputStream hubInput) {
                 hubInput.handle(buf);
             } else {
@@ -252,14 +343,53 @@ public class HubIOStream extends IOStream {
         bufferIdx = nIdx;
     }
 
+    private void dataReceived() {
+        long now = System.nanoTime();
+        lastActivityNanos = now;
+        if (commandQueuedNanos != 0) {
+            double latency = (now - commandQueuedNanos) / 1_000_000.0;
+            averageLatency = averageLatency == 0 ? latency : 0.8 * averageLatency + 0.2 * latency;
+            commandQueuedNanos = 0;
+            logger.debug("command reply received after {} ms (average {} ms)", Math.round(latency),
+                    Math.round(averageLatency));
+        }
+    }
+
     /**
      * Returns if is cleared buffer
      *
      * @param data buffer data to check
+     * @param from start index (inclusive)
+     * @param to end index (exclusive)
      * @return true if all zeros in buffer
      */
-    private boolean isClearedBuffer(String data) {
-        return "0".repeat(data.length()).equals(data);
+    private boolean isClearedBuffer(String data, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes a range of hex digits into bytes
+     *
+     * @param data buffer data
+     * @param from start index (inclusive)
+     * @param to end index (exclusive)
+     * @param out stream to append the bytes to
+     * @throws IOException if the range holds invalid hex digits
+     */
+    private void appendHex(String data, int from, int to, ByteArrayOutputStream out) throws IOException {
+        for (int i = from; i + 1 < to; i += 2) {
+            int high = Character.digit(data.charAt(i), 16);
+            int low = Character.digit(data.charAt(i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IOException("invalid hex data in hub buffer");
+            }
+            out.write((high << 4) | low);
+        }
     }
 
     /**
@@ -35,6 +35,7 @@ import org.openhab.binding.insteon.internal.transport.message.FieldException;
 import org.openhab.binding.insteon.internal.transport.message.InvalidMessageTypeException;
 import org.openhab.binding.insteon.internal.transport.message.Msg;
 import org.openhab.binding.insteon.internal.transport.message.MsgFactory;
+import org.openhab.binding.insteon.internal.transport.message.MsgField;
 import org.openhab.core.io.transport.serial.SerialPortManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -485,7 +486,7 @@ public class LegacyPort {
                 if (msg.isPureNack()) {
                     return;
                 }
-                if (msg.getByte("Cmd") == 0x60) {
+                if (msg.getByte(MsgField.CMD) == 0x60) {
                     // add the modem to the device list
                     InsteonAddress address = msg.getInsteonAddress("IMAddress");
                     LegacyDeviceType deviceType = LegacyDeviceTypeLoader.instance()
@@ -113,8 +113,8 @@ public class GroupMessageStateMachine {
      * @throws FieldException
      */
     public boolean isDuplicate(Msg msg) throws FieldException {
-        byte cmd1 = msg.isAllLinkSuccessReport() ? msg.getInsteonAddress("toAddress").getHighByte()
-                : msg.getByte("command1");
+        byte cmd1 = msg.isAllLinkSuccessReport() ? msg.getInsteonAddress(MsgField.TO_ADDRESS).getHighByte()
+                : msg.getByte(MsgField.COMMAND_1);
         long timestamp = msg.getTimestamp();
 
         if (cmd1 != lastCmd1 || timestamp != lastTimestamp) {
@@ -13,7 +13,6 @@
 package org.openhab.binding.insteon.internal.transport.message;
 
 import java.util.Arrays;
-import java.util.Optional;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -77,7 +76,7 @@ public class Msg {
 
     public byte getCommand() {
         try {
-            return getByte("Cmd");
+            return getByte(MsgField.CMD);
         } catch (FieldException e) {
             return (byte) 0xFF;
         }
@@ -93,7 +92,7 @@ public class Msg {
 
     public boolean isExtended() {
         try {
-            return BinaryUtils.isBitSet(getInt("messageFlags"), 4);
+            return BinaryUtils.isBitSet(getInt(MsgField.MESSAGE_FLAGS), 4);
         } catch (FieldException e) {
             return false;
         }
@@ -101,7 +100,7 @@ public class Msg {
 
     public boolean isFromAddress(@Nullable InsteonAddress address) {
         try {
-            return getInsteonAddress("fromAddress").equals(address);
+            return getInsteonAddress(MsgField.FROM_ADDRESS).equals(address);
         } catch (FieldException e) {
             return false;
         }
@@ -120,12 +119,12 @@ public class Msg {
     }
 
     public boolean isReply() {
-        return containsField("ACK/NACK");
+        return containsField(MsgField.ACK_NACK);
     }
 
     public boolean isReplyAck() {
         try {
-            return getByte("ACK/NACK") == 0x06;
+            return getByte(MsgField.ACK_NACK) == 0x06;
         } catch (FieldException e) {
             return false;
         }
@@ -133,7 +132,7 @@ public class Msg {
 
     public boolean isReplyNack() {
         try {
-            return getByte("ACK/NACK") == 0x15;
+            return getByte(MsgField.ACK_NACK) == 0x15;
         } catch (FieldException e) {
             return false;
         }
@@ -173,7 +172,7 @@ public class Msg {
 
     public boolean isAllLinkSuccessReport() {
         try {
-            return isOfType(MsgType.ALL_LINK_BROADCAST) && getByte("command1") == 0x06;
+            return isOfType(MsgType.ALL_LINK_BROADCAST) && getByte(MsgField.COMMAND_1) == 0x06;
         } catch (FieldException e) {
             return false;
         }
@@ -196,16 +195,16 @@ public class Msg {
     }
 
     public boolean isInsteon() {
-        return containsField("messageFlags");
+        return containsField(MsgField.MESSAGE_FLAGS);
     }
 
     public boolean isX10() {
-        return containsField("X10Flag");
+        return containsField(MsgField.X10_FLAG);
     }
 
     public boolean isX10Address() {
         try {
-            return getByte("X10Flag") == X10Flag.ADDRESS.code();
+            return getByte(MsgField.X10_FLAG) == X10Flag.ADDRESS.code();
         } catch (FieldException e) {
             return false;
         }
@@ -213,7 +212,7 @@ public class Msg {
 
     public boolean isX10Command() {
         try {
-            return getByte("X10Flag") == X10Flag.COMMAND.code();
+            return getByte(MsgField.X10_FLAG) == X10Flag.COMMAND.code();
         } catch (FieldException e) {
             return false;
         }
@@ -235,9 +234,13 @@ public class Msg {
         return definition.containsField(key);
     }
 
+    public boolean containsField(MsgField field) {
+        return definition.containsField(field);
+    }
+
     public int getHopsLeft() {
         try {
-            return (getByte("messageFlags") & 0x0C) >> 2;
+            return (getByte(MsgField.MESSAGE_FLAGS) & 0x0C) >> 2;
         } catch (FieldException e) {
             return -1;
         }
@@ -245,7 +248,7 @@ public class Msg {
 
     public int getMaxHops() {
         try {
-            return getByte("messageFlags") & 0x03;
+            return getByte(MsgField.MESSAGE_FLAGS) & 0x03;
         } catch (FieldException e) {
             return -1;
         }
@@ -261,6 +264,16 @@ public class Msg {
         definition.getField(key).setByte(data, value);
     }
 
+    /**
+     * Sets a byte at a specific field
+     *
+     * @param field the field
+     * @param value the byte to put
+     */
+    public void setByte(MsgField field, byte value) throws FieldException {
+        definition.getField(field).setByte(data, value);
+    }
+
     /**
      * Sets address bytes at a specific field
      *
@@ -268,7 +281,20 @@ public class Msg {
      * @param address the address to put
      */
     public void setAddress(String key, DeviceAddress address) throws FieldException {
-        Field field = definition.getField(key);
+        setAddress(definition.getField(key), address);
+    }
+
+    /**
+     * Sets address bytes at a specific field
+     *
+     * @param field the field
+     * @param address the address to put
+     */
+    public void setAddress(MsgField field, DeviceAddress address) throws FieldException {
+        setAddress(definition.getField(field), address);
+    }
+
+    private void setAddress(Field field, DeviceAddress address) throws FieldException {
         if (address instanceof InsteonAddress insteonAddress) {
             field.setAddress(data, insteonAddress);
         } else if (address instanceof X10Address x10Address) {
@@ -282,7 +308,19 @@ public class Msg {
      * @param key the name of the first field
      */
     public void setBytes(String key, byte[] bytes) throws FieldException {
-        int offset = definition.getField(key).getOffset();
+        setBytes(definition.getField(key).getOffset(), bytes);
+    }
+
+    /**
+     * Sets a byte array starting at a specific field
+     *
+     * @param field the first field
+     */
+    public void setBytes(MsgField field, byte[] bytes) throws FieldException {
+        setBytes(definition.getField(field).getOffset(), bytes);
+    }
+
+    private void setBytes(int offset, byte[] bytes) throws FieldException {
         if (offset < 0 || offset + bytes.length > data.length) {
             throw new FieldException("data index out of bounds!");
         }
@@ -297,16 +335,32 @@ public class Msg {
      * @param numBytes number of bytes to put
      */
     public void setInt(String key, int value, int numBytes) throws FieldException {
+        setInt(definition.getField(key).getOffset(), value, numBytes);
+    }
+
+    /**
+     * Sets a byte array starting at a specific field as an up to 32-bit integer
+     *
+     * @param field the first field
+     * @param value the integer to put
+     * @param numBytes number of bytes to put
+     */
+    public void setInt(MsgField field, int value, int numBytes) throws FieldException {
+        setInt(definition.getField(field).getOffset(), value, numBytes);
+    }
+
+    private void setInt(int offset, int value, int numBytes) throws FieldException {
         if (numBytes < 1 || numBytes > 4) {
             throw new FieldException("number of bytes out of bounds!");
         }
-        byte[] bytes = new byte[numBytes];
+        if (offset < 0 || offset + numBytes > data.length) {
+            throw new FieldException("data index out of bounds!");
+        }
         int shift = 8 * (numBytes - 1);
         for (int i = 0; i < numBytes; i++) {
-            bytes[i] = (byte) (value >> shift);
+            data[offset + i] = (byte) (value >> shift);
             shift -= 8;
         }
-        setBytes(key, bytes);
     }
 
     /**
@@ -319,6 +373,16 @@ public class Msg {
         return definition.getField(key).getByte(data);
     }
 
+    /**
+     * Returns a byte from a specific field
+     *
+     * @param field the field
+     * @return the byte
+     */
+    public byte getByte(MsgField field) throws FieldException {
+        return definition.getField(field).getByte(data);
+    }
+
     /**
      * Returns the insteon address from a specific field
      *
@@ -329,13 +393,23 @@ public class Msg {
         return definition.getField(key).getAddress(data);
     }
 
+    /**
+     * Returns the insteon address from a specific field
+     *
+     * @param field the field
+     * @return the insteon address
+     */
+    public InsteonAddress getInsteonAddress(MsgField field) throws FieldException {
+        return definition.getField(field).getAddress(data);
+    }
+
     /**
      * Returns the x10 address
      *
      * @return the x10 address
      */
     public @Nullable X10Address getX10Address() throws FieldException {
-        return isX10Address() ? new X10Address(getByte("rawX10")) : null;
+        return isX10Address() ? new X10Address(getByte(MsgField.RAW_X10)) : null;
     }
 
     /**
@@ -346,7 +420,21 @@ public class Msg {
      * @return the byte array
      */
     public byte[] getBytes(String key, int numBytes) throws FieldException {
-        int offset = definition.getField(key).getOffset();
+        return getBytes(definition.getField(key).getOffset(), numBytes);
+    }
+
+    /**
+     * Returns a byte array starting from a specific field
+     *
+     * @param field the first field
+     * @param numBytes number of bytes to get
+     * @return the byte array
+     */
+    public byte[] getBytes(MsgField field, int numBytes) throws FieldException {
+        return getBytes(definition.getField(field).getOffset(), numBytes);
+    }
+
+    private byte[] getBytes(int offset, int numBytes) throws FieldException {
         if (offset < 0 || offset + numBytes > data.length) {
             throw new FieldException("data index out of bounds!");
         }
@@ -361,13 +449,31 @@ public class Msg {
      * @return the integer
      */
     public int getInt(String key, int numBytes) throws FieldException {
+        return getInt(definition.getField(key).getOffset(), numBytes);
+    }
+
+    /**
+     * Returns a byte array starting from a specific field as an up to 32-bit integer
+     *
+     * @param field the first field
+     * @param numBytes number of bytes to use for conversion
+     * @return the integer
+     */
+    public int getInt(MsgField field, int numBytes) throws FieldException {
+        return getInt(definition.getField(field).getOffset(), numBytes);
+    }
+
+    private int getInt(int offset, int numBytes) throws FieldException {
         if (numBytes < 1 || numBytes > 4) {
             throw new FieldException("number of bytes out of bounds!");
         }
+        if (offset < 0 || offset + numBytes > data.length) {
+            throw new FieldException("data index out of bounds!");
+        }
         int i = 0;
         int shift = 8 * (numBytes - 1);
-        for (byte b : getBytes(key, numBytes)) {
-            i |= (b & 0xFF) << shift;
+        for (int j = offset; j < offset + numBytes; j++) {
+            i |= (data[j] & 0xFF) << shift;
             shift -= 8;
         }
         return i;
@@ -383,6 +489,16 @@ public class Msg {
         return getByte(key) & 0xFF;
     }
 
+    /**
+     * Returns a byte from a specific field as a 8-bit integer
+     *
+     * @param field the field
+     * @return the integer
+     */
+    public int getInt(MsgField field) throws FieldException {
+        return getByte(field) & 0xFF;
+    }
+
     /**
      * Returns a 2-byte array starting from a specific field as a 16-bit integer
      *
@@ -393,6 +509,16 @@ public class Msg {
         return getInt(key, 2);
     }
 
+    /**
+     * Returns a 2-byte array starting from a specific field as a 16-bit integer
+     *
+     * @param field the first field
+     * @return the integer
+     */
+    public int getInt16(MsgField field) throws FieldException {
+        return getInt(field, 2);
+    }
+
     /**
      * Returns a 3-byte array starting from a specific field as a 24-bit integer
      *
@@ -403,6 +529,16 @@ public class Msg {
         return getInt(key, 3);
     }
 
+    /**
+     * Returns a 3-byte array starting from a specific field as a 24-bit integer
+     *
+     * @param field the first field
+     * @return the integer
+     */
+    public int getInt24(MsgField field) throws FieldException {
+        return getInt(field, 3);
+    }
+
     /**
      * Returns a 4-byte array starting from a specific field as a 32-bit integer
      *
@@ -413,6 +549,16 @@ public class Msg {
         return getInt(key, 4);
     }
 
+    /**
+     * Returns a 4-byte array starting from a specific field as a 32-bit integer
+     *
+     * @param field the first field
+     * @return the integer
+     */
+    public int getInt32(MsgField field) throws FieldException {
+        return getInt(field, 4);
+    }
+
     /**
      * Returns group based on specific message characteristics
      *
@@ -421,17 +567,17 @@ public class Msg {
     public int getGroup() {
         try {
             if (isAllLinkBroadcast()) {
-                return getInsteonAddress("toAddress").getLowByte() & 0xFF;
+                return getInsteonAddress(MsgField.TO_ADDRESS).getLowByte() & 0xFF;
             }
             if (isAllLinkCleanup()) {
-                return getInt("command2");
+                return getInt(MsgField.COMMAND_2);
             }
             if (isExtended()) {
-                byte cmd1 = getByte("command1");
-                byte cmd2 = getByte("command2");
+                byte cmd1 = getByte(MsgField.COMMAND_1);
+                byte cmd2 = getByte(MsgField.COMMAND_2);
                 // group number for specific extended msg located in userData1 byte
                 if (cmd1 == 0x2E && cmd2 == 0x00) {
-                    return getInt("userData1");
+                    return getInt(MsgField.USER_DATA_1);
                 }
             }
         } catch (FieldException e) {
@@ -447,7 +593,7 @@ public class Msg {
      */
     public MsgType getType() {
         try {
-            return MsgType.valueOf(getInt("messageFlags"));
+            return MsgType.valueOf(getInt(MsgField.MESSAGE_FLAGS));
         } catch (FieldException | IllegalArgumentException e) {
             return MsgType.INVALID;
         }
@@ -461,7 +607,7 @@ public class Msg {
     public void setUserData(byte[] args) {
         try {
             for (int i = 0; i < 14; i++) {
-                setByte("userData" + (i + 1), args.length > i ? args[i] : (byte) 0x00);
+                setByte(MsgField.userData(i + 1), args.length > i ? args[i] : (byte) 0x00);
             }
         } catch (FieldException e) {
             logger.warn("got field exception on msg {}:", e.getMessage());
@@ -476,7 +622,7 @@ public class Msg {
      */
     public int calculateCRC() throws FieldException {
         int crc = 0;
-        byte[] bytes = getBytes("command1", 15); // skip userData14
+        byte[] bytes = getBytes(MsgField.COMMAND_1, 15); // skip userData14
         for (byte b : bytes) {
             crc += b;
         }
@@ -491,7 +637,7 @@ public class Msg {
      */
     public int calculateCRC2() throws FieldException {
         int crc = 0;
-        byte[] bytes = getBytes("command1", 14); // skip userData13/14
+        byte[] bytes = getBytes(MsgField.COMMAND_1, 14); // skip userData13/14
         for (int loop = 0; loop < bytes.length; loop++) {
             int b = bytes[loop] & 0xFF;
             for (int bit = 0; bit < 8; bit++) {
@@ -522,7 +668,7 @@ public class Msg {
      */
     public boolean hasValidCRC() {
         try {
-            return getInt("userData14") == calculateCRC();
+            return getInt(MsgField.USER_DATA_14) == calculateCRC();
         } catch (FieldException e) {
             logger.warn("got field exception on msg {}:", e.getMessage());
         }
@@ -536,7 +682,7 @@ public class Msg {
      */
     public boolean hasValidCRC2() {
         try {
-            return getInt16("userData13") == calculateCRC2();
+            return getInt16(MsgField.USER_DATA_13) == calculateCRC2();
         } catch (FieldException e) {
             logger.warn("got field exception on msg {}:", e.getMessage());
         }
@@ -549,7 +695,7 @@ public class Msg {
     public void setCRC() {
         try {
             int crc = calculateCRC();
-            setByte("userData14", (byte) crc);
+            setByte(MsgField.USER_DATA_14, (byte) crc);
         } catch (FieldException e) {
             logger.warn("got field exception on msg {}:", e.getMessage());
         }
@@ -561,8 +707,8 @@ public class Msg {
     public void setCRC2() {
         try {
             int crc = calculateCRC2();
-            setByte("userData13", (byte) ((crc >> 8) & 0xFF));
-            setByte("userData14", (byte) (crc & 0xFF));
+            setByte(MsgField.USER_DATA_13, (byte) ((crc >> 8) & 0xFF));
+            setByte(MsgField.USER_DATA_14, (byte) (crc & 0xFF));
         } catch (FieldException e) {
             logger.warn("got field exception on msg {}:", e.getMessage());
         }
@@ -616,10 +762,9 @@ public class Msg {
         if (buf.length < 2) {
             return null;
         }
-        return Optional
-                .ofNullable(MsgDefinitionRegistry.getInstance().getDefinition(buf[1], isExtended, Direction.FROM_MODEM))
-                .filter(definition -> definition.getLength() == msgLen).map(definition -> new Msg(buf, definition))
-                .orElse(null);
+        MsgDefinition definition = MsgDefinitionRegistry.getInstance().getDefinition(buf[1], isExtended,
+                Direction.FROM_MODEM);
+        return definition != null && definition.getLength() == msgLen ? new Msg(buf, definition) : null;
     }
 
     /**
@@ -630,9 +775,11 @@ public class Msg {
      * @throws InvalidMessageTypeException
      */
     public static int getHeaderLength(byte cmd) throws InvalidMessageTypeException {
-        return Optional.ofNullable(MsgDefinitionRegistry.getInstance().getDefinition(cmd, Direction.FROM_MODEM))
-                .map(MsgDefinition::getHeaderLength)
-                .orElseThrow(() -> new InvalidMessageTypeException("unknown message command"));
+        MsgDefinition definition = MsgDefinitionRegistry.getInstance().getDefinition(cmd, Direction.FROM_MODEM);
+        if (definition == null) {
+            throw new InvalidMessageTypeException("unknown message command");
+        }
+        return definition.getHeaderLength();
     }
 
     /**
@@ -644,10 +791,12 @@ public class Msg {
      * @throws InvalidMessageTypeException
      */
     public static int getMessageLength(byte cmd, boolean isExtended) throws InvalidMessageTypeException {
-        return Optional
-                .ofNullable(MsgDefinitionRegistry.getInstance().getDefinition(cmd, isExtended, Direction.FROM_MODEM))
-                .map(MsgDefinition::getLength)
-                .orElseThrow(() -> new InvalidMessageTypeException("unknown message command"));
+        MsgDefinition definition = MsgDefinitionRegistry.getInstance().getDefinition(cmd, isExtended,
+                Direction.FROM_MODEM);
+        if (definition == null) {
+            throw new InvalidMessageTypeException("unknown message command");
+        }
+        return definition.getLength();
     }
 
     /**
@@ -672,9 +821,11 @@ public class Msg {
      * @throws InvalidMessageTypeException
      */
     public static Msg makeMessage(byte cmd) throws InvalidMessageTypeException {
-        return Optional.ofNullable(MsgDefinitionRegistry.getInstance().getDefinition(cmd, Direction.TO_MODEM))
-                .map(Msg::new).orElseThrow(() -> new InvalidMessageTypeException(
-                        "unknown message command: " + HexUtils.getHexString(cmd)));
+        MsgDefinition definition = MsgDefinitionRegistry.getInstance().getDefinition(cmd, Direction.TO_MODEM);
+        if (definition == null) {
+            throw new InvalidMessageTypeException("unknown message command: " + HexUtils.getHexString(cmd));
+        }
+        return new Msg(definition);
     }
 
     /**
@@ -685,8 +836,11 @@ public class Msg {
      * @throws InvalidMessageTypeException
      */
     public static Msg makeMessage(String type) throws InvalidMessageTypeException {
-        return Optional.ofNullable(MsgDefinitionRegistry.getInstance().getDefinition(type)).map(Msg::new)
-                .orElseThrow(() -> new InvalidMessageTypeException("unknown message type: " + type));
+        MsgDefinition definition = MsgDefinitionRegistry.getInstance().getDefinition(type);
+        if (definition == null) {
+            throw new InvalidMessageTypeException("unknown message type: " + type);
+        }
+        return new Msg(definition);
     }
 
     /**
@@ -702,10 +856,10 @@ public class Msg {
     public static Msg makeBroadcastMessage(int group, byte cmd1, byte cmd2)
             throws FieldException, InvalidMessageTypeException {
         Msg msg = makeMessage("SendStandardMessage");
-        msg.setAddress("toAddress", new InsteonAddress((byte) 0, (byte) 0, (byte) (group & 0xFF)));
-        msg.setByte("messageFlags", (byte) 0xCF);
-        msg.setByte("command1", cmd1);
-        msg.setByte("command2", cmd2);
+        msg.setAddress(MsgField.TO_ADDRESS, new InsteonAddress((byte) 0, (byte) 0, (byte) (group & 0xFF)));
+        msg.setByte(MsgField.MESSAGE_FLAGS, (byte) 0xCF);
+        msg.setByte(MsgField.COMMAND_1, cmd1);
+        msg.setByte(MsgField.COMMAND_2, cmd2);
         msg.setQuietTime(0L);
         return msg;
     }
@@ -739,10 +893,10 @@ public class Msg {
     public static Msg makeStandardMessage(InsteonAddress address, byte flags, byte cmd1, byte cmd2)
             throws FieldException, InvalidMessageTypeException {
         Msg msg = makeMessage("SendStandardMessage");
-        msg.setAddress("toAddress", address);
-        msg.setByte("messageFlags", flags);
-        msg.setByte("command1", cmd1);
-        msg.setByte("command2", cmd2);
+        msg.setAddress(MsgField.TO_ADDRESS, address);
+        msg.setByte(MsgField.MESSAGE_FLAGS, flags);
+        msg.setByte(MsgField.COMMAND_1, cmd1);
+        msg.setByte(MsgField.COMMAND_2, cmd2);
         // set default quiet time accounting for ack response
         msg.setQuietTime(1000L);
         return msg;
@@ -797,10 +951,10 @@ public class Msg {
     public static Msg makeExtendedMessage(InsteonAddress address, byte flags, byte cmd1, byte cmd2, byte[] data,
             boolean setCRC) throws FieldException, InvalidMessageTypeException {
         Msg msg = makeMessage("SendExtendedMessage");
-        msg.setAddress("toAddress", address);
-        msg.setByte("messageFlags", (byte) (flags | 0x10));
-        msg.setByte("command1", cmd1);
-        msg.setByte("command2", cmd2);
+        msg.setAddress(MsgField.TO_ADDRESS, address);
+        msg.setByte(MsgField.MESSAGE_FLAGS, (byte) (flags | 0x10));
+        msg.setByte(MsgField.COMMAND_1, cmd1);
+        msg.setByte(MsgField.COMMAND_2, cmd2);
         msg.setUserData(data);
         if (setCRC) {
             msg.setCRC();
@@ -839,8 +993,8 @@ public class Msg {
      */
     public static Msg makeX10Message(byte cmd, byte flag) throws FieldException, InvalidMessageTypeException {
         Msg msg = makeMessage("SendX10Message");
-        msg.setByte("rawX10", cmd);
-        msg.setByte("X10Flag", flag);
+        msg.setByte(MsgField.RAW_X10, cmd);
+        msg.setByte(MsgField.X10_FLAG, flag);
         msg.setQuietTime(300L);
         return msg;
     }
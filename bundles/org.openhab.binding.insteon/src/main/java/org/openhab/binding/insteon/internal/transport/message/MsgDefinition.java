@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.insteon.internal.utils.BinaryUtils;
 
 /**
@@ -33,12 +34,21 @@ public class MsgDefinition {
     private final int headerLength;
     private final Direction direction;
     private final Map<String, Field> fields;
+    // fields indexed by MsgField ordinal, resolved once
+    private final @Nullable Field[] msgFields = new Field[MsgField.values().length];
+    private final byte command;
+    private final boolean extended;
 
     public MsgDefinition(byte[] data, int headerLength, Direction direction, Map<String, Field> fields) {
         this.data = data;
         this.headerLength = headerLength;
         this.direction = direction;
         this.fields = fields;
+        for (MsgField msgField : MsgField.values()) {
+            msgFields[msgField.ordinal()] = fields.get(msgField.getName());
+        }
+        this.command = readCommand();
+        this.extended = readExtended();
     }
 
     public byte[] getData() {
@@ -69,25 +79,45 @@ public class MsgDefinition {
         return fields.values().stream().toList();
     }
 
+    public Field getField(MsgField msgField) throws FieldException {
+        Field field = msgFields[msgField.ordinal()];
+        if (field == null) {
+            throw new FieldException("field " + msgField.getName() + " not found");
+        }
+        return field;
+    }
+
     public boolean containsField(String name) {
         return fields.containsKey(name);
     }
 
+    public boolean containsField(MsgField msgField) {
+        return msgFields[msgField.ordinal()] != null;
+    }
+
     public byte getByte(String name) throws FieldException {
         return getField(name).getByte(data);
     }
 
     public byte getCommand() {
+        return command;
+    }
+
+    public boolean isExtended() {
+        return extended;
+    }
+
+    private byte readCommand() {
         try {
-            return getByte("Cmd");
+            return getField(MsgField.CMD).getByte(data);
         } catch (FieldException e) {
             return (byte) 0xFF;
         }
     }
 
-    public boolean isExtended() {
+    private boolean readExtended() {
         try {
-            return BinaryUtils.isBitSet(getByte("messageFlags"), 4);
+            return BinaryUtils.isBitSet(getField(MsgField.MESSAGE_FLAGS).getByte(data), 4);
         } catch (FieldException e) {
             return false;
         }
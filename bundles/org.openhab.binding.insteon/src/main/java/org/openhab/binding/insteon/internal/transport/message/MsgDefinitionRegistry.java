@@ -35,7 +35,12 @@ public class MsgDefinitionRegistry extends InsteonResourceLoader {
     private static final MsgDefinitionRegistry MSG_DEFINITION_REGISTRY = new MsgDefinitionRegistry();
     private static final String RESOURCE_NAME = "/msg-definitions.xml";
 
+    // any, standard and extended definitions per direction and command
+    private static final int VARIANTS = 3;
+
     private Map<String, MsgDefinition> definitions = new LinkedHashMap<>();
+    private volatile boolean initialized = false;
+    private @Nullable MsgDefinition[] definitionTable = new MsgDefinition[Direction.values().length * 256 * VARIANTS];
 
     private MsgDefinitionRegistry() {
         super(RESOURCE_NAME);
@@ -59,7 +64,7 @@ public class MsgDefinitionRegistry extends InsteonResourceLoader {
      * @return message definition if found, otherwise null
      */
     public @Nullable MsgDefinition getDefinition(byte cmd, Direction direction) {
-        return getDefinition(cmd, null, direction);
+        return getDefinition(cmd, 0, direction);
     }
 
     /**
@@ -71,10 +76,27 @@ public class MsgDefinitionRegistry extends InsteonResourceLoader {
      * @return message definition if found, otherwise null
      */
     public @Nullable MsgDefinition getDefinition(byte cmd, @Nullable Boolean isExtended, Direction direction) {
-        return definitions.values().stream()
-                .filter(definition -> definition.getCommand() == cmd && definition.getDirection() == direction
-                        && (isExtended == null || definition.isExtended() == isExtended))
-                .findFirst().orElse(null);
+        return getDefinition(cmd, isExtended == null ? 0 : isExtended ? 2 : 1, direction);
+    }
+
+    /**
+     * Returns message definition for a given command, extended flag and direction
+     *
+     * @param cmd message command to match
+     * @param isExtended if message is extended
+     * @param direction message direction to match
+     * @return message definition if found, otherwise null
+     */
+    public @Nullable MsgDefinition getDefinition(byte cmd, boolean isExtended, Direction direction) {
+        return getDefinition(cmd, isExtended ? 2 : 1, direction);
+    }
+
+    private @Nullable MsgDefinition getDefinition(byte cmd, int variant, Direction direction) {
+        return definitionTable[tableIndex(cmd, variant, direction)];
+    }
+
+    private static int tableIndex(byte cmd, int variant, Direction direction) {
+        return ((direction.ordinal() << 8) + (cmd & 0xFF)) * VARIANTS + variant;
     }
 
     /**
@@ -93,6 +115,22 @@ public class MsgDefinitionRegistry extends InsteonResourceLoader {
     protected void initialize() {
         super.initialize();
 
+        // index the definitions, the first one defined for a command wins
+        @Nullable MsgDefinition[] table = new MsgDefinition[definitionTable.length];
+        for (MsgDefinition definition : definitions.values()) {
+            byte cmd = definition.getCommand();
+            Direction direction = definition.getDirection();
+            int any = tableIndex(cmd, 0, direction);
+            if (table[any] == null) {
+                table[any] = definition;
+            }
+            int variant = tableIndex(cmd, definition.isExtended() ? 2 : 1, direction);
+            if (table[variant] == null) {
+                table[variant] = definition;
+            }
+        }
+        definitionTable = table;
+
         logger.debug("loaded {} message definitions", definitions.size());
         if (logger.isTraceEnabled()) {
             definitions.entrySet().stream()
@@ -239,9 +277,15 @@ public class MsgDefinitionRegistry extends InsteonResourceLoader {
      *
      * @return MsgDefinitionRegistry singleton reference
      */
-    public static synchronized MsgDefinitionRegistry getInstance() {
-        if (MSG_DEFINITION_REGISTRY.getDefinitions().isEmpty()) {
-            MSG_DEFINITION_REGISTRY.initialize();
+    public static MsgDefinitionRegistry getInstance() {
+        // called for every message, only lock until initialized
+        if (!MSG_DEFINITION_REGISTRY.initialized) {
+            synchronized (MsgDefinitionRegistry.class) {
+                if (MSG_DEFINITION_REGISTRY.getDefinitions().isEmpty()) {
+                    MSG_DEFINITION_REGISTRY.initialize();
+                }
+                MSG_DEFINITION_REGISTRY.initialized = true;
+            }
         }
         return MSG_DEFINITION_REGISTRY;
     }
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.transport.message;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link MsgField} represents the message fields accessed when handling messages. Their offsets are resolved once
+ * per {@link MsgDefinition}, so accessing them needs no lookup by name.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public enum MsgField {
+    CMD("Cmd"),
+    ACK_NACK("ACK/NACK"),
+    MESSAGE_FLAGS("messageFlags"),
+    FROM_ADDRESS("fromAddress"),
+    TO_ADDRESS("toAddress"),
+    COMMAND_1("command1"),
+    COMMAND_2("command2"),
+    USER_DATA_1("userData1"),
+    USER_DATA_2("userData2"),
+    USER_DATA_3("userData3"),
+    USER_DATA_4("userData4"),
+    USER_DATA_5("userData5"),
+    USER_DATA_6("userData6"),
+    USER_DATA_7("userData7"),
+    USER_DATA_8("userData8"),
+    USER_DATA_9("userData9"),
+    USER_DATA_10("userData10"),
+    USER_DATA_11("userData11"),
+    USER_DATA_12("userData12"),
+    USER_DATA_13("userData13"),
+    USER_DATA_14("userData14"),
+    X10_FLAG("X10Flag"),
+    RAW_X10("rawX10"),
+    ALL_LINK_GROUP("ALLLinkGroup");
+
+    private static final MsgField[] USER_DATA = { USER_DATA_1, USER_DATA_2, USER_DATA_3, USER_DATA_4, USER_DATA_5,
+            USER_DATA_6, USER_DATA_7, USER_DATA_8, USER_DATA_9, USER_DATA_10, USER_DATA_11, USER_DATA_12, USER_DATA_13,
+            USER_DATA_14 };
+
+    private final String name;
+
+    private MsgField(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the user data field for a given number
+     *
+     * @param number the user data number (1-14)
+     * @return the user data field
+     */
+    public static MsgField userData(int number) {
+        return USER_DATA[number - 1];
+    }
+}
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -41,7 +42,6 @@ import org.openhab.binding.loxone.internal.types.LxConfig.LxServerInfo;
 import org.openhab.binding.loxone.internal.types.LxErrorCode;
 import org.openhab.binding.loxone.internal.types.LxResponse;
 import org.openhab.binding.loxone.internal.types.LxState;
-import org.openhab.binding.loxone.internal.types.LxStateUpdate;
 import org.openhab.binding.loxone.internal.types.LxUuid;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.thing.Channel;
@@ -99,7 +99,9 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     // Data structures
     private final Map<LxUuid, LxControl> controls = new HashMap<>();
     private final Map<ChannelUID, LxControl> channels = new HashMap<>();
-    private final BlockingQueue<LxStateUpdate> stateUpdateQueue = new LinkedBlockingQueue<>();
+    // Updates are coalesced per state UUID, the queue holds each UUID once and the map holds its latest value
+    private final BlockingQueue<LxUuid> stateUpdateQueue = new LinkedBlockingQueue<>();
+    private final Map<LxUuid, Object> pendingStateValues = new ConcurrentHashMap<>();
 
     private LxDynamicStateDescriptionProvider dynamicStateDescriptionProvider;
     private final Logger logger = LoggerFactory.getLogger(LxServerHandler.class);
@@ -206,6 +208,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
         try {
             sessionActive.set(false);
             stateUpdateQueue.clear();
+            pendingStateValues.clear();
             thread = monitorThread;
             if (monitorThread != null) {
                 monitorThread.interrupt();
@@ -460,13 +463,16 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     }
 
     /**
-     * Put a new state update event to the queue for processing and signal thread to process it
+     * Put a new state update event to the queue for processing and signal thread to process it. If an update of the
+     * same state is still waiting, only its value is replaced.
      *
-     * @param uuid state uuid (null indicates websocket session should be closed)
+     * @param uuid state uuid
      * @param value new state value
      */
     void queueStateUpdate(LxUuid uuid, Object value) {
-        stateUpdateQueue.add(new LxStateUpdate(uuid, value));
+        if (pendingStateValues.put(uuid, value) == null) {
+            stateUpdateQueue.add(uuid);
+        }
     }
 
     /**
@@ -474,22 +480,23 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
      * state UUID and update their value, which will trigger corresponding control state update method in each control
      * that has this state.
      *
-     * @param update Miniserver's update event
+     * @param uuid state UUID
+     * @param value new state value
      */
-    private void updateStateValue(LxStateUpdate update) {
-        Map<LxUuid, LxState> perStateUuid = states.get(update.getUuid());
+    private void updateStateValue(LxUuid uuid, Object value) {
+        Map<LxUuid, LxState> perStateUuid = states.get(uuid);
         if (perStateUuid != null) {
             perStateUuid.forEach((controlUuid, state) -> {
                 logger.debug("[{}] State update (UUID={}, value={}) dispatched to control UUID={}, state name={}",
-                        debugId, update.getUuid(), update.getValue(), controlUuid, state.getName());
+                        debugId, uuid, value, controlUuid, state.getName());
 
-                state.setStateValue(update.getValue());
+                state.setStateValue(value);
             });
             if (perStateUuid.isEmpty()) {
-                logger.debug("[{}] State update UUID={} has empty controls table", debugId, update.getUuid());
+                logger.debug("[{}] State update UUID={} has empty controls table", debugId, uuid);
             }
         } else {
-            logger.debug("[{}] State update UUID={} has no controls table", debugId, update.getUuid());
+            logger.debug("[{}] State update UUID={} has no controls table", debugId, uuid);
         }
     }
 
@@ -702,14 +709,18 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
         private void processStateUpdates() throws InterruptedException {
             while (sessionActive.get()) {
                 logger.debug("[{}] Sleeping for {} seconds.", debugId, bindingConfig.keepAlivePeriod - elapsed);
-                LxStateUpdate update = stateUpdateQueue.poll(bindingConfig.keepAlivePeriod - elapsed, TimeUnit.SECONDS);
+                LxUuid uuid = stateUpdateQueue.poll(bindingConfig.keepAlivePeriod - elapsed, TimeUnit.SECONDS);
                 elapsed = Duration.between(lastKeepAlive, Instant.now()).getSeconds();
-                if (update == null || elapsed >= bindingConfig.keepAlivePeriod) {
+                if (uuid == null || elapsed >= bindingConfig.keepAlivePeriod) {
                     sendKeepAlive();
                     elapsed = 0;
                 }
-                if (update != null) {
-                    updateStateValue(update);
+                if (uuid != null) {
+                    // remove before processing, so a newer value is queued again
+                    Object value = pendingStateValues.remove(uuid);
+                    if (value != null) {
+                        updateStateValue(uuid, value);
+                    }
                 }
             }
         }
@@ -235,13 +235,14 @@ public class LxWebSocket {
                 }
             } else {
                 // data expected now
+                // one little endian view for the whole table
+                ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
                 switch (header.getType()) {
                     case EVENT_TABLE_OF_VALUE_STATES:
                         stopResponseTimeout();
                         while (length > 0) {
-                            Double value = ByteBuffer.wrap(data, offset + 16, 8).order(ByteOrder.LITTLE_ENDIAN)
-                                    .getDouble();
-                            thingHandler.queueStateUpdate(new LxUuid(data, offset), value);
+                            double value = buffer.getDouble(offset + 16);
+                            thingHandler.queueStateUpdate(new LxUuid(buffer, offset), value);
                             offset += 24;
                             length -= 24;
                         }
@@ -249,10 +250,10 @@ public class LxWebSocket {
                     case EVENT_TABLE_OF_TEXT_STATES:
                         while (length > 0) {
                             // unused today at (offset + 16): iconUuid
-                            int textLen = ByteBuffer.wrap(data, offset + 32, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+                            int textLen = buffer.getInt(offset + 32);
                             String value = new String(data, offset + 36, textLen);
                             int size = 36 + (textLen % 4 > 0 ? textLen + 4 - (textLen % 4) : textLen);
-                            thingHandler.queueStateUpdate(new LxUuid(data, offset), value);
+                            thingHandler.queueStateUpdate(new LxUuid(buffer, offset), value);
                             offset += size;
                             length -= size;
                         }
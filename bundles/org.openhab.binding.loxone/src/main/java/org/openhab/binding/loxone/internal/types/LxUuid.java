@@ -14,7 +14,7 @@ package org.openhab.binding.loxone.internal.types;
 
 import java.lang.reflect.Type;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.util.regex.Pattern;
 
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
@@ -26,13 +26,22 @@ import com.google.gson.JsonParseException;
  * <p>
  * It is defined by the Miniserver. UUID can represent a control, room, category, etc. and provides a unique ID space
  * across all objects residing on the Miniserver.
+ * <p>
+ * UUIDs in the standard format of the Miniserver are also kept as two longs. UUIDs received in binary state tables are
+ * compared by these values only and their string is built when it is needed, which is rarely the case.
  *
  * @author Pawel Pieczul - initial contribution
  *
  */
 public class LxUuid {
-    private final String uuid;
-    private final String uuidOriginal;
+    private static final Pattern BINARY_FORMAT = Pattern.compile("[0-9A-F]{8}-[0-9A-F]{4}-[0-9A-F]{4}-[0-9A-F]{16}");
+
+    // built lazily for UUIDs decoded from binary messages
+    private String uuid;
+    private String uuidOriginal;
+    private final boolean binary;
+    private final long msb;
+    private final long lsb;
 
     public static final JsonDeserializer<LxUuid> DESERIALIZER = new JsonDeserializer<>() {
         @Override
@@ -54,21 +63,42 @@ public class LxUuid {
     public LxUuid(String uuid) {
         uuidOriginal = uuid;
         this.uuid = init(uuid);
+        binary = BINARY_FORMAT.matcher(this.uuid).matches();
+        if (binary) {
+            msb = Long.parseUnsignedLong(this.uuid.substring(0, 8) + this.uuid.substring(9, 13)
+                    + this.uuid.substring(14, 18), 16);
+            lsb = Long.parseUnsignedLong(this.uuid.substring(19), 16);
+        } else {
+            msb = 0;
+            lsb = 0;
+        }
     }
 
-    public LxUuid(byte[] data, int offset) {
-        String id = String.format("%08x-%04x-%04x-%02x%02x%02x%02x%02x%02x%02x%02x",
-                ByteBuffer.wrap(data, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt(),
-                ByteBuffer.wrap(data, offset + 4, 2).order(ByteOrder.LITTLE_ENDIAN).getShort(),
-                ByteBuffer.wrap(data, offset + 6, 2).order(ByteOrder.LITTLE_ENDIAN).getShort(), data[offset + 8],
-                data[offset + 9], data[offset + 10], data[offset + 11], data[offset + 12], data[offset + 13],
-                data[offset + 14], data[offset + 15]);
-        uuidOriginal = id;
-        this.uuid = init(id);
+    /**
+     * Create a new {@link LxUuid} object from its binary representation in a message from the Miniserver.
+     *
+     * @param buffer little endian buffer with the message
+     * @param offset offset of the UUID in the buffer
+     */
+    public LxUuid(ByteBuffer buffer, int offset) {
+        binary = true;
+        msb = ((buffer.getInt(offset) & 0xFFFFFFFFL) << 32) | ((buffer.getShort(offset + 4) & 0xFFFFL) << 16)
+                | (buffer.getShort(offset + 6) & 0xFFFFL);
+        // last 8 bytes are a byte array, not a number
+        lsb = Long.reverseBytes(buffer.getLong(offset + 8));
     }
 
     private String init(String uuid) {
-        return uuidOriginal.replaceAll("[^a-zA-Z0-9-]", "-").toUpperCase();
+        return uuid.replaceAll("[^a-zA-Z0-9-]", "-").toUpperCase();
+    }
+
+    private String getUuid() {
+        String uuid = this.uuid;
+        if (uuid == null) {
+            uuid = init(getOriginalString());
+            this.uuid = uuid;
+        }
+        return uuid;
     }
 
     @Override
@@ -83,17 +113,20 @@ public class LxUuid {
             return false;
         }
         LxUuid id = (LxUuid) o;
+        if (binary || id.binary) {
+            return binary == id.binary && msb == id.msb && lsb == id.lsb;
+        }
         return uuid.equals(id.uuid);
     }
 
     @Override
     public int hashCode() {
-        return uuid.hashCode();
+        return binary ? 31 * Long.hashCode(msb) + Long.hashCode(lsb) : uuid.hashCode();
     }
 
     @Override
     public String toString() {
-        return uuid;
+        return getUuid();
     }
 
     /**
@@ -102,6 +135,18 @@ public class LxUuid {
      * @return original string for the UUID
      */
     public String getOriginalString() {
+        String uuidOriginal = this.uuidOriginal;
+        if (uuidOriginal == null) {
+            String hex = toHex(msb, 16) + toHex(lsb, 16);
+            uuidOriginal = hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-" + hex.substring(12, 16) + "-"
+                    + hex.substring(16);
+            this.uuidOriginal = uuidOriginal;
+        }
         return uuidOriginal;
     }
+
+    private static String toHex(long value, int digits) {
+        String hex = Long.toHexString(value);
+        return "0".repeat(digits - hex.length()) + hex;
+    }
 }
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.types;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link LxUuid}
+ *
+ * @author openHAB Contributors - Initial contribution
+ *
+ */
+class LxUuidTest {
+
+    private static final byte[] BINARY_UUID = { 0x38, 0x41, 0x73, 0x0b, (byte) 0xac, 0x03, (byte) 0xf0, 0x03,
+            (byte) 0xff, (byte) 0xff, 0x40, 0x3f, (byte) 0xb0, (byte) 0xc3, 0x4b, (byte) 0x9e };
+
+    @Test
+    void testBinaryUuidEqualsStringUuid() {
+        LxUuid binary = new LxUuid(ByteBuffer.wrap(BINARY_UUID).order(ByteOrder.LITTLE_ENDIAN), 0);
+        LxUuid string = new LxUuid("0b734138-03ac-03f0-ffff403fb0c34b9e");
+
+        assertEquals(string, binary);
+        assertEquals(binary, string);
+        assertEquals(string.hashCode(), binary.hashCode());
+        assertEquals("0B734138-03AC-03F0-FFFF403FB0C34B9E", binary.toString());
+        assertEquals("0b734138-03ac-03f0-ffff403fb0c34b9e", binary.getOriginalString());
+    }
+
+    @Test
+    void testBinaryUuidAtOffset() {
+        byte[] data = new byte[BINARY_UUID.length + 24];
+        System.arraycopy(BINARY_UUID, 0, data, 24, BINARY_UUID.length);
+
+        LxUuid binary = new LxUuid(ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN), 24);
+
+        assertEquals(new LxUuid("0b734138-03ac-03f0-ffff403fb0c34b9e"), binary);
+    }
+
+    @Test
+    void testNonStandardUuid() {
+        LxUuid mood = new LxUuid("1076668f-0101-7076-ffff403fb0c34b9e-M1");
+
+        assertEquals(new LxUuid("1076668f-0101-7076-ffff403fb0c34b9e-m1"), mood);
+        assertNotEquals(new LxUuid("1076668f-0101-7076-ffff403fb0c34b9e"), mood);
+        assertEquals("1076668f-0101-7076-ffff403fb0c34b9e-M1", mood.getOriginalString());
+    }
+}
@@ -39,6 +39,11 @@ public class SunSpecConfiguration {
      */
     public int length;
 
+    /**
+     * Poll this block together with the other blocks of the device using the same refresh interval
+     */
+    public boolean devicePolling = false;
+
     /**
      * Gets refresh period in milliseconds
      */
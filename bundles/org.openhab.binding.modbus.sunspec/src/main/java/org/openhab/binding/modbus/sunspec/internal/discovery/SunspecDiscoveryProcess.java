@@ -14,6 +14,7 @@ package org.openhab.binding.modbus.sunspec.internal.discovery;
 
 import static org.openhab.binding.modbus.sunspec.internal.SunSpecConstants.*;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +34,7 @@ import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
 import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
 import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
 import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
@@ -50,6 +52,10 @@ import org.slf4j.LoggerFactory;
  * It scans trough the defined model items and notifies the
  * discovery service about the discovered devices
  *
+ * The model chain is read in windows of the maximum register count,
+ * and all model headers within a window are parsed from one response.
+ * Devices rejecting such reads are scanned one header at a time.
+ *
  * @author Nagy Attila Gabor - Initial contribution
  */
 @NonNullByDefault
@@ -92,6 +98,16 @@ public class SunspecDiscoveryProcess {
      */
     private int baseAddress = 40000;
 
+    /**
+     * Whether the model chain is read in windows, or one header at a time
+     */
+    private boolean readWindows = true;
+
+    /**
+     * Whether the pending request reads a window of the model chain
+     */
+    private volatile boolean windowReadPending = false;
+
     /**
      * Count of valid Sunspec blocks found
      */
@@ -152,6 +168,7 @@ public class SunspecDiscoveryProcess {
         // Try the next address from the possibles
         baseAddress = possibleAddresses.poll();
         logger.trace("Beginning scan for SunSpec device at address {}", baseAddress);
+        windowReadPending = false;
 
         ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(slaveId,
                 ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, baseAddress, // Start address
@@ -184,53 +201,66 @@ public class SunspecDiscoveryProcess {
     }
 
     /**
-     * Look for a valid model block at the current base address
+     * Look for valid model blocks starting at the current base address
      */
     private void lookForModelBlock() {
+        windowReadPending = readWindows;
         ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(slaveId,
                 ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, baseAddress, // Start address
-                MODEL_HEADER_SIZE, // number or words to return
+                readWindows ? ModbusConstants.MAX_REGISTERS_READ_COUNT : MODEL_HEADER_SIZE, // number or words to return
                 maxTries);
 
-        comms.submitOneTimePoll(request, result -> result.getRegisters().ifPresent(this::modelBlockReceived),
+        comms.submitOneTimePoll(request, result -> result.getRegisters().ifPresent(this::modelBlocksReceived),
                 this::handleError);
     }
 
     /**
-     * We received a model block header
+     * We received registers starting with a model block header, parse all model blocks they contain
      */
-    private void modelBlockReceived(ModbusRegisterArray registers) {
+    private void modelBlocksReceived(ModbusRegisterArray registers) {
         logger.debug("Received response from device {}", registers.toString());
 
-        Optional<DecimalType> moduleID = ModbusBitUtilities.extractStateFromRegisters(registers, 0, ValueType.UINT16);
-        Optional<DecimalType> blockLength = ModbusBitUtilities.extractStateFromRegisters(registers, 1,
-                ValueType.UINT16);
+        int windowAddress = baseAddress;
+        int offset = 0;
+        while (offset + MODEL_HEADER_SIZE <= registers.size()) {
+            Optional<DecimalType> moduleID = ModbusBitUtilities.extractStateFromRegisters(registers, offset,
+                    ValueType.UINT16);
+            Optional<DecimalType> blockLength = ModbusBitUtilities.extractStateFromRegisters(registers, offset + 1,
+                    ValueType.UINT16);
 
-        if (moduleID.isEmpty() || blockLength.isEmpty()) {
-            logger.info("Could not find valid module id or block length field.");
-            parsingFinished();
-            return;
-        }
-        ModelBlock block = new ModelBlock();
-        block.address = baseAddress;
-        block.moduleID = moduleID.get().intValue();
-        block.length = blockLength.get().intValue() + MODEL_HEADER_SIZE;
-        logger.debug("SunSpec detector found block {}", block);
+            if (moduleID.isEmpty() || blockLength.isEmpty()) {
+                logger.info("Could not find valid module id or block length field.");
+                parsingFinished();
+                return;
+            }
+            ModelBlock block = new ModelBlock();
+            block.address = windowAddress + offset;
+            block.moduleID = moduleID.get().intValue();
+            block.length = blockLength.get().intValue() + MODEL_HEADER_SIZE;
+            logger.debug("SunSpec detector found block {}", block);
 
-        blocksFound++;
+            blocksFound++;
 
-        if (block.moduleID == FINAL_BLOCK) {
-            parsingFinished();
-        } else {
-            baseAddress += block.length;
-            if (block.moduleID == COMMON_BLOCK) {
-                readCommonBlock(block); // This is an asynchronous task
+            if (block.moduleID == FINAL_BLOCK) {
+                parsingFinished();
                 return;
+            }
+            baseAddress = block.address + block.length;
+            if (block.moduleID == COMMON_BLOCK) {
+                if (offset + block.length > registers.size()) {
+                    readCommonBlock(block); // This is an asynchronous task
+                    return;
+                }
+                // common block is complete within the window
+                byte[] bytes = registers.getBytes();
+                lastCommonBlock = commonBlockParser.parse(new ModbusRegisterArray(
+                        Arrays.copyOfRange(bytes, offset * 2, (offset + block.length) * 2)));
             } else {
                 createDiscoveryResult(block);
-                lookForModelBlock();
             }
+            offset += block.length;
         }
+        lookForModelBlock();
     }
 
     /**
@@ -239,6 +269,7 @@ public class SunspecDiscoveryProcess {
      * @param block
      */
     private void readCommonBlock(ModelBlock block) {
+        windowReadPending = false;
         ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(slaveId,
                 ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, block.address, // Start address
                 block.length, // number or words to return
@@ -314,6 +345,13 @@ public class SunspecDiscoveryProcess {
      * Handle errors received during communication
      */
     private void handleError(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        if (windowReadPending && failure.getCause() instanceof ModbusSlaveErrorResponseException) {
+            // The window may reach beyond the register map of the device, read one header at a time instead
+            logger.debug("Slave rejected reading a window of the model chain, reading headers one at a time");
+            readWindows = false;
+            lookForModelBlock();
+            return;
+        }
         if (blocksFound > 1 && failure.getCause() instanceof ModbusSlaveErrorResponseException) {
             int code = ((ModbusSlaveErrorResponseException) failure.getCause()).getExceptionCode();
             if (code == ModbusSlaveErrorResponseException.ILLEGAL_DATA_ACCESS
@@ -80,6 +80,16 @@ public abstract class AbstractSunSpecHandler extends BaseThingHandler {
      */
     private volatile @Nullable PollTask pollTask = null;
 
+    /**
+     * Poller reading the model blocks of a device together
+     */
+    private final SunSpecDevicePoller devicePoller;
+
+    /**
+     * This is the registration with the device poller, if the block is polled with the other blocks of the device
+     */
+    private volatile SunSpecDevicePoller.@Nullable Registration devicePollRegistration = null;
+
     /**
      * Communication interface to the slave endpoint we're connecting to
      */
@@ -94,9 +104,11 @@ public abstract class AbstractSunSpecHandler extends BaseThingHandler {
      * Instances of this handler should get a reference to the modbus manager
      *
      * @param thing the thing to handle
+     * @param devicePoller the poller used when the blocks of a device are polled together
      */
-    public AbstractSunSpecHandler(Thing thing) {
+    public AbstractSunSpecHandler(Thing thing, SunSpecDevicePoller devicePoller) {
         super(thing);
+        this.devicePoller = devicePoller;
     }
 
     /**
@@ -135,7 +147,7 @@ public abstract class AbstractSunSpecHandler extends BaseThingHandler {
             return;
         }
 
-        if (pollTask != null) {
+        if (pollTask != null || devicePollRegistration != null) {
             return;
         }
 
@@ -312,7 +324,7 @@ public abstract class AbstractSunSpecHandler extends BaseThingHandler {
      * This is where we set up our regular poller
      */
     private synchronized void registerPollTask(ModelBlock mainBlock) {
-        if (pollTask != null) {
+        if (pollTask != null || devicePollRegistration != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             throw new IllegalStateException("pollTask should be unregistered before registering a new one!");
         }
@@ -330,6 +342,11 @@ public abstract class AbstractSunSpecHandler extends BaseThingHandler {
                 ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, mainBlock.address, mainBlock.length, myconfig.maxTries);
 
         long refreshMillis = myconfig.getRefreshMillis();
+        if (myconfig.devicePolling && refreshMillis > 0) {
+            devicePollRegistration = devicePoller.register(mycomms, request, refreshMillis, this::handleDevicePollData,
+                    this::handleError);
+            return;
+        }
         pollTask = mycomms.registerRegularPoll(request, refreshMillis, 1000, result -> {
             result.getRegisters().ifPresent(this::handlePolledData);
             if (getThing().getStatus() != ThingStatus.ONLINE) {
@@ -338,6 +355,16 @@ public abstract class AbstractSunSpecHandler extends BaseThingHandler {
         }, this::handleError);
     }
 
+    /**
+     * Handle the slice of a device poll belonging to this block
+     */
+    private void handleDevicePollData(ModbusRegisterArray registers) {
+        handlePolledData(registers);
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            updateStatus(ThingStatus.ONLINE);
+        }
+    }
+
     /**
      * This method should handle incoming poll data, and update the channels
      * with the values received
@@ -362,6 +389,12 @@ public abstract class AbstractSunSpecHandler extends BaseThingHandler {
      * No-op in case no poll task is registered, or if the initialization is incomplete.
      */
     private synchronized void unregisterPollTask() {
+        SunSpecDevicePoller.@Nullable Registration registration = devicePollRegistration;
+        if (registration != null) {
+            logger.debug("Unregistering polling from device poller");
+            devicePoller.unregister(registration);
+            devicePollRegistration = null;
+        }
         @Nullable
         PollTask task = pollTask;
         if (task == null) {
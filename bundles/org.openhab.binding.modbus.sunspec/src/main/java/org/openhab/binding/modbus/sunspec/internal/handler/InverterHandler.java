@@ -51,8 +51,8 @@ public class InverterHandler extends AbstractSunSpecHandler {
      */
     private final Logger logger = LoggerFactory.getLogger(InverterHandler.class);
 
-    public InverterHandler(Thing thing) {
-        super(thing);
+    public InverterHandler(Thing thing, SunSpecDevicePoller devicePoller) {
+        super(thing, devicePoller);
     }
 
     /**
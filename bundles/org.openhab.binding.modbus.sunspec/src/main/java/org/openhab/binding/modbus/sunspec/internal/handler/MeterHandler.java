@@ -44,8 +44,8 @@ public class MeterHandler extends AbstractSunSpecHandler {
      */
     private final Logger logger = LoggerFactory.getLogger(MeterHandler.class);
 
-    public MeterHandler(Thing thing) {
-        super(thing);
+    public MeterHandler(Thing thing, SunSpecDevicePoller devicePoller) {
+        super(thing, devicePoller);
     }
 
     /**
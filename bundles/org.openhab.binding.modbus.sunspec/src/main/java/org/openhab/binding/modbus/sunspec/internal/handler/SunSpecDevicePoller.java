@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.sunspec.internal.handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SunSpecDevicePoller} polls the model blocks of a SunSpec device together
+ *
+ * Model blocks of the same slave, polled with the same refresh interval,
+ * are read with the fewest possible requests: adjacent blocks are merged
+ * into one read as long as it does not exceed the maximum register count.
+ * Each registered block receives its own slice of the merged response.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class SunSpecDevicePoller {
+
+    /**
+     * Delay of the first poll after (re)planning, same as for single block polling
+     */
+    private static final long INITIAL_DELAY_MILLIS = 1000;
+
+    /**
+     * Logger instance
+     */
+    private final Logger logger = LoggerFactory.getLogger(SunSpecDevicePoller.class);
+
+    /**
+     * Registered model blocks, grouped by the device and refresh interval they are polled with
+     */
+    private final Map<GroupKey, List<Registration>> registrations = new HashMap<>();
+
+    /**
+     * Poll tasks currently registered for each group
+     */
+    private final Map<GroupKey, List<PollTask>> pollTasks = new HashMap<>();
+
+    /**
+     * Identifies the model blocks which can be read together
+     */
+    private record GroupKey(ModbusCommunicationInterface comms, int slaveId, long refreshMillis) {
+    }
+
+    /**
+     * A model block registered for polling
+     */
+    public static class Registration {
+        private final ModbusReadRequestBlueprint request;
+        private final Consumer<ModbusRegisterArray> dataCallback;
+        private final Consumer<AsyncModbusFailure<ModbusReadRequestBlueprint>> failureCallback;
+
+        private Registration(ModbusReadRequestBlueprint request, Consumer<ModbusRegisterArray> dataCallback,
+                Consumer<AsyncModbusFailure<ModbusReadRequestBlueprint>> failureCallback) {
+            this.request = request;
+            this.dataCallback = dataCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        private int getStart() {
+            return request.getReference();
+        }
+
+        private int getEnd() {
+            return request.getReference() + request.getDataLength();
+        }
+    }
+
+    /**
+     * Register a model block to be polled together with the other blocks of the device
+     *
+     * @param comms the communication interface of the device
+     * @param request the request reading the model block
+     * @param refreshMillis the poll interval
+     * @param dataCallback called with the registers of the model block
+     * @param failureCallback called when reading the model block failed
+     * @return the registration, to be passed to {@link #unregister(Registration)}
+     */
+    public synchronized Registration register(ModbusCommunicationInterface comms, ModbusReadRequestBlueprint request,
+            long refreshMillis, Consumer<ModbusRegisterArray> dataCallback,
+            Consumer<AsyncModbusFailure<ModbusReadRequestBlueprint>> failureCallback) {
+        GroupKey key = new GroupKey(comms, request.getUnitID(), refreshMillis);
+        Registration registration = new Registration(request, dataCallback, failureCallback);
+        registrations.computeIfAbsent(key, k -> new ArrayList<>()).add(registration);
+        replan(key);
+        return registration;
+    }
+
+    /**
+     * Stop polling a model block
+     *
+     * No-op in case the registration is not known (anymore).
+     *
+     * @param registration the registration returned by {@link #register}
+     */
+    public synchronized void unregister(Registration registration) {
+        for (Map.Entry<GroupKey, List<Registration>> entry : registrations.entrySet()) {
+            if (entry.getValue().remove(registration)) {
+                GroupKey key = entry.getKey();
+                if (entry.getValue().isEmpty()) {
+                    registrations.remove(key);
+                }
+                replan(key);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replace the poll tasks of a group by ones reading its current model blocks
+     */
+    private void replan(GroupKey key) {
+        List<PollTask> oldTasks = pollTasks.remove(key);
+        if (oldTasks != null) {
+            oldTasks.forEach(key.comms()::unregisterRegularPoll);
+        }
+
+        List<Registration> group = registrations.get(key);
+        if (group == null) {
+            return;
+        }
+
+        List<PollTask> tasks = new ArrayList<>();
+        for (List<Registration> merged : merge(group)) {
+            tasks.add(registerMergedPoll(key, merged));
+        }
+        pollTasks.put(key, tasks);
+        logger.debug("Polling {} model blocks of slave {} with {} requests every {} ms", group.size(), key.slaveId(),
+                tasks.size(), key.refreshMillis());
+    }
+
+    /**
+     * Split the model blocks into runs which can be read with one request each
+     */
+    private static List<List<Registration>> merge(List<Registration> group) {
+        List<Registration> sorted = new ArrayList<>(group);
+        sorted.sort(Comparator.comparingInt(Registration::getStart));
+
+        List<List<Registration>> result = new ArrayList<>();
+        List<Registration> current = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        for (Registration registration : sorted) {
+            if (!current.isEmpty() && registration.getStart() <= end
+                    && Math.max(end, registration.getEnd()) - start <= ModbusConstants.MAX_REGISTERS_READ_COUNT) {
+                current.add(registration);
+                end = Math.max(end, registration.getEnd());
+                continue;
+            }
+            if (!current.isEmpty()) {
+                result.add(current);
+            }
+            current = new ArrayList<>();
+            current.add(registration);
+            start = registration.getStart();
+            end = registration.getEnd();
+        }
+        if (!current.isEmpty()) {
+            result.add(current);
+        }
+        return result;
+    }
+
+    /**
+     * Register one poll task reading all the given adjacent model blocks
+     */
+    private PollTask registerMergedPoll(GroupKey key, List<Registration> merged) {
+        int start = merged.get(0).getStart();
+        int end = merged.stream().mapToInt(Registration::getEnd).max().orElse(start);
+        int maxTries = merged.stream().mapToInt(r -> r.request.getMaxTries()).max().orElse(1);
+
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(key.slaveId(),
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, end - start, maxTries);
+
+        return key.comms().registerRegularPoll(request, key.refreshMillis(), INITIAL_DELAY_MILLIS,
+                result -> result.getRegisters().ifPresent(registers -> {
+                    byte[] bytes = registers.getBytes();
+                    for (Registration registration : merged) {
+                        int offset = registration.getStart() - start;
+                        registration.dataCallback.accept(new ModbusRegisterArray(Arrays.copyOfRange(bytes,
+                                offset * 2, (offset + registration.request.getDataLength()) * 2)));
+                    }
+                }), failure -> merged.forEach(registration -> registration.failureCallback.accept(failure)));
+    }
+}
@@ -22,7 +22,11 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.PlannedPoll;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -102,11 +106,14 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             Optional<@Nullable ModbusRegisterArray> registers = (Optional<@Nullable ModbusRegisterArray>) result
                     .getRegisters();
             lastPolledDataCache.set(registers.orElse(null));
+            lastPolledDataMillis = System.currentTimeMillis();
             handleResult(new PollResult(result));
         }
 
         @Override
         public synchronized void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            // the registers might have changed since the last successful poll
+            lastPolledDataMillis = 0;
             handleResult(new PollResult(failure));
         }
 
@@ -189,10 +196,14 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private @NonNullByDefault({}) ModbusPollerConfiguration config;
     private long cacheMillis;
     private volatile @Nullable PollTask pollTask;
+    private volatile @Nullable PlannedPoll plannedPoll;
+    private volatile @Nullable ModbusPollPlanner pollPlanner;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
     private volatile @Nullable ModbusReadRequestBlueprint request;
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
     private volatile AtomicReference<@Nullable ModbusRegisterArray> lastPolledDataCache = new AtomicReference<>();
+    private volatile long lastPolledDataMillis;
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
 
     private ReadCallbackDelegator callbackDelegator = new ReadCallbackDelegator();
@@ -295,6 +306,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         this.callbackDelegator.resetCache();
         comms = null;
         lastPolledDataCache.set(null);
+        lastPolledDataMillis = 0;
     }
 
     /**
@@ -312,7 +324,16 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Unregistering polling from ModbusManager");
             comms.unregisterRegularPoll(localPollTask);
         }
+        PlannedPoll localPlannedPoll = this.plannedPoll;
+        ModbusPollPlanner localPollPlanner = this.pollPlanner;
+        if (localPlannedPoll != null && localPollPlanner != null) {
+            logger.debug("Unregistering polling from poll planner");
+            localPollPlanner.unregister(localPlannedPoll);
+        }
         this.pollTask = null;
+        this.plannedPoll = null;
+        this.pollPlanner = null;
+        this.writeCoalescer = null;
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -327,7 +348,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @SuppressWarnings("null")
     private synchronized void registerPollTask() throws EndpointNotInitializedException {
         logger.trace("registerPollTask()");
-        if (pollTask != null) {
+        if (pollTask != null || plannedPoll != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             logger.debug("pollTask should be unregistered before registering a new one!");
             return;
@@ -348,6 +369,9 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             return;
         }
         this.comms = localComms;
+        if (slaveEndpointThingHandler instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler) {
+            this.writeCoalescer = endpointHandler.getWriteCoalescer();
+        }
         ModbusReadFunctionCode localFunctionCode = functionCode;
         if (localFunctionCode == null) {
             return;
@@ -361,10 +385,21 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
         } else {
-            logger.debug("Registering polling with ModbusManager");
-            pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
-                    callbackDelegator);
-            assert pollTask != null;
+            ModbusPollPlanner localPollPlanner = null;
+            if (slaveEndpointThingHandler instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler) {
+                localPollPlanner = endpointHandler.getPollPlanner();
+            }
+            if (localPollPlanner != null && localPollPlanner.isEnabled()) {
+                logger.debug("Registering polling with poll planner");
+                pollPlanner = localPollPlanner;
+                plannedPoll = localPollPlanner.register(localRequest, config.getRefresh(),
+                        getThing().getUID().getAsString(), callbackDelegator, callbackDelegator);
+            } else {
+                logger.debug("Registering polling with ModbusManager");
+                pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
+                        callbackDelegator);
+                assert pollTask != null;
+            }
             updateStatus(ThingStatus.ONLINE);
         }
     }
@@ -417,6 +452,17 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         return comms;
     }
 
+    /**
+     * Get write coalescer of the endpoint associated with this poller
+     *
+     * Note that this can be <code>null</code> in case initialization is not complete.
+     *
+     * @return write coalescer of the endpoint
+     */
+    public @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        return writeCoalescer;
+    }
+
     /**
      * Refresh the data
      *
@@ -463,4 +509,26 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     public AtomicReference<@Nullable ModbusRegisterArray> getLastPolledDataCache() {
         return lastPolledDataCache;
     }
+
+    /**
+     * Gets the registers of the last poll, if it is recent
+     *
+     * The registers are not returned if a poll failed since, or if they were polled longer than the refresh interval
+     * (or cacheMillis, if longer) ago.
+     *
+     * @return registers stamped with the time they were polled, or null if no recent registers are available
+     */
+    public @Nullable AtomicStampedValue<ModbusRegisterArray> getRecentlyPolledData() {
+        ModbusPollerConfiguration localConfig = config;
+        ModbusRegisterArray registers = lastPolledDataCache.get();
+        long polledMillis = lastPolledDataMillis;
+        if (localConfig == null || registers == null || polledMillis <= 0) {
+            return null;
+        }
+        long maxAgeMillis = Math.max(localConfig.getRefresh(), cacheMillis);
+        if (System.currentTimeMillis() - polledMillis > maxAgeMillis) {
+            return null;
+        }
+        return new AtomicStampedValue<>(polledMillis, registers);
+    }
 }
@@ -0,0 +1,384 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans the regular polls of the pollers of one endpoint
+ *
+ * Pollers with the same function code and refresh interval are merged into as few requests as possible, within the
+ * protocol limits and the configured maximum gap between their ranges. The merged requests are polled together and
+ * the results are split again for each poller, so pollers work the same as with their own poll task.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlanner {
+
+    /**
+     * Replanning is delayed, so that pollers initialized together are only planned once
+     */
+    private static final long REPLAN_DELAY_MILLIS = 500;
+    // RTU frame sizes used to estimate the bus time: request is address, function, start, count and CRC
+    private static final int REQUEST_FRAME_BYTES = 8;
+    // response is address, function, byte count and CRC in addition to the data
+    private static final int RESPONSE_FRAME_OVERHEAD_BYTES = 5;
+    // silent interval of 3.5 characters before request and response
+    private static final double FRAME_GAP_CHARS = 7;
+
+    /**
+     * Regular poll of a poller, registered with the planner
+     */
+    public static class PlannedPoll {
+        private final ModbusReadRequestBlueprint request;
+        private final long refreshMillis;
+        private final String owner;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        private PlannedPoll(ModbusReadRequestBlueprint request, long refreshMillis, String owner,
+                ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.refreshMillis = refreshMillis;
+            this.owner = owner;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        private GroupKey getGroupKey() {
+            return new GroupKey(request.getFunctionCode(), refreshMillis);
+        }
+    }
+
+    private record GroupKey(ModbusReadFunctionCode functionCode, long refreshMillis) {
+    }
+
+    /**
+     * Request covering the ranges of one or more pollers, splitting the results for them
+     */
+    private static class MergedPoll implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final ModbusReadRequestBlueprint request;
+        private final List<PlannedPoll> members;
+        private @Nullable PollTask pollTask;
+
+        private MergedPoll(List<PlannedPoll> members) {
+            this.members = members;
+            ModbusReadRequestBlueprint first = members.get(0).request;
+            int start = members.stream().mapToInt(m -> m.request.getReference()).min().orElse(0);
+            int end = members.stream().mapToInt(m -> m.request.getReference() + m.request.getDataLength()).max()
+                    .orElse(start);
+            int maxTries = members.stream().mapToInt(m -> m.request.getMaxTries()).max().orElse(1);
+            this.request = new ModbusReadRequestBlueprint(first.getUnitID(), first.getFunctionCode(), start,
+                    end - start, maxTries);
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            Optional<ModbusRegisterArray> registers = result.getRegisters();
+            Optional<BitArray> bits = result.getBits();
+            for (PlannedPoll member : members) {
+                int offset = member.request.getReference() - request.getReference();
+                int length = member.request.getDataLength();
+                AsyncModbusReadResult memberResult;
+                if (registers.isPresent()) {
+                    byte[] bytes = new byte[length * 2];
+                    System.arraycopy(registers.get().getBytes(), offset * 2, bytes, 0, bytes.length);
+                    memberResult = new AsyncModbusReadResult(member.request, new ModbusRegisterArray(bytes));
+                } else if (bits.isPresent()) {
+                    BitArray memberBits = new BitArray(length);
+                    for (int i = 0; i < length; i++) {
+                        memberBits.setBit(i, bits.get().getBit(offset + i));
+                    }
+                    memberResult = new AsyncModbusReadResult(member.request, memberBits);
+                } else {
+                    continue;
+                }
+                member.resultCallback.handle(memberResult);
+            }
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            for (PlannedPoll member : members) {
+                member.failureCallback.handle(new AsyncModbusFailure<>(member.request, failure.getCause()));
+            }
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollPlanner.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final int maxGap;
+    private final double busCharsPerSecond;
+    private final Set<PlannedPoll> polls = new LinkedHashSet<>();
+    private final Set<GroupKey> changedGroups = new HashSet<>();
+    private final Map<GroupKey, List<MergedPoll>> plan = new HashMap<>();
+    private @Nullable ScheduledFuture<?> replanJob;
+    private boolean disposed;
+
+    /**
+     * Creates a planner
+     *
+     * @param comms communication interface of the endpoint
+     * @param scheduler scheduler used to delay replanning
+     * @param maxGap maximum number of unused registers or bits between merged ranges, negative to disable merging
+     * @param busCharsPerSecond speed of a serial bus to estimate the bus time saved, 0 if not known
+     */
+    public ModbusPollPlanner(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler, int maxGap,
+            double busCharsPerSecond) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.maxGap = maxGap;
+        this.busCharsPerSecond = busCharsPerSecond;
+    }
+
+    /**
+     * Returns whether the polls are merged, if not pollers should register their polls themselves
+     */
+    public boolean isEnabled() {
+        return maxGap >= 0;
+    }
+
+    /**
+     * Registers a regular poll, polled with the next plan
+     *
+     * @param request request of the poller
+     * @param refreshMillis poll interval in milliseconds
+     * @param owner name of the poller, shown with the plan
+     * @param resultCallback callback for the results of the request
+     * @param failureCallback callback for the failures of the request
+     * @return the registered poll, to unregister it
+     */
+    public synchronized PlannedPoll register(ModbusReadRequestBlueprint request, long refreshMillis, String owner,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        PlannedPoll poll = new PlannedPoll(request, refreshMillis, owner, resultCallback, failureCallback);
+        polls.add(poll);
+        groupChanged(poll.getGroupKey());
+        return poll;
+    }
+
+    /**
+     * Unregisters a regular poll
+     *
+     * @param poll poll returned by {@link #register}
+     */
+    public synchronized void unregister(PlannedPoll poll) {
+        if (polls.remove(poll)) {
+            groupChanged(poll.getGroupKey());
+        }
+    }
+
+    /**
+     * Stops all merged polls
+     */
+    public synchronized void dispose() {
+        disposed = true;
+        ScheduledFuture<?> job = replanJob;
+        if (job != null) {
+            job.cancel(false);
+            replanJob = null;
+        }
+        plan.values().forEach(this::unregisterMergedPolls);
+        plan.clear();
+        polls.clear();
+        changedGroups.clear();
+    }
+
+    private void groupChanged(GroupKey key) {
+        if (disposed) {
+            return;
+        }
+        changedGroups.add(key);
+        if (replanJob == null) {
+            replanJob = scheduler.schedule(this::replan, REPLAN_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void replan() {
+        replanJob = null;
+        if (disposed) {
+            return;
+        }
+        for (GroupKey key : changedGroups) {
+            List<MergedPoll> oldPolls = plan.remove(key);
+            if (oldPolls != null) {
+                unregisterMergedPolls(oldPolls);
+            }
+            List<PlannedPoll> members = polls.stream().filter(p -> key.equals(p.getGroupKey()))
+                    .collect(Collectors.toList());
+            if (members.isEmpty()) {
+                continue;
+            }
+            List<MergedPoll> mergedPolls = merge(members, p -> p.request, maxGap).stream().map(MergedPoll::new)
+                    .collect(Collectors.toList());
+            for (MergedPoll mergedPoll : mergedPolls) {
+                mergedPoll.pollTask = comms.registerRegularPoll(mergedPoll.request, key.refreshMillis(), 0,
+                        mergedPoll, mergedPoll);
+            }
+            plan.put(key, mergedPolls);
+            logger.debug("Polling {} pollers of {} every {} ms with {} requests", members.size(),
+                    key.functionCode(), key.refreshMillis(), mergedPolls.size());
+        }
+        changedGroups.clear();
+    }
+
+    private void unregisterMergedPolls(List<MergedPoll> mergedPolls) {
+        for (MergedPoll mergedPoll : mergedPolls) {
+            PollTask pollTask = mergedPoll.pollTask;
+            if (pollTask != null) {
+                comms.unregisterRegularPoll(pollTask);
+                mergedPoll.pollTask = null;
+            }
+        }
+    }
+
+    /**
+     * Describes the current plan and the bus time it saves, for the console
+     *
+     * @return lines of the description
+     */
+    public synchronized List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        if (!isEnabled()) {
+            lines.add("Merging of polls is disabled");
+            return lines;
+        }
+        double savedRequestsPerMinute = 0;
+        double savedMillisPerMinute = 0;
+        Map<GroupKey, List<MergedPoll>> sortedPlan = new TreeMap<>(Comparator
+                .comparing((GroupKey key) -> key.functionCode().name()).thenComparing(GroupKey::refreshMillis));
+        sortedPlan.putAll(plan);
+        for (Map.Entry<GroupKey, List<MergedPoll>> entry : sortedPlan.entrySet()) {
+            GroupKey key = entry.getKey();
+            List<MergedPoll> mergedPolls = entry.getValue();
+            int pollerCount = mergedPolls.stream().mapToInt(m -> m.members.size()).sum();
+            lines.add(String.format("%s every %d ms: %d pollers in %d requests", key.functionCode(),
+                    key.refreshMillis(), pollerCount, mergedPolls.size()));
+            double separateMillis = 0;
+            double mergedMillis = 0;
+            for (MergedPoll mergedPoll : mergedPolls) {
+                lines.add(String.format("  %d-%d: %s", mergedPoll.request.getReference(),
+                        mergedPoll.request.getReference() + mergedPoll.request.getDataLength() - 1,
+                        mergedPoll.members.stream().map(m -> m.owner).collect(Collectors.joining(", "))));
+                mergedMillis += estimateBusMillis(mergedPoll.request);
+                for (PlannedPoll member : mergedPoll.members) {
+                    separateMillis += estimateBusMillis(member.request);
+                }
+            }
+            double cyclesPerMinute = 60_000.0 / key.refreshMillis();
+            savedRequestsPerMinute += (pollerCount - mergedPolls.size()) * cyclesPerMinute;
+            savedMillisPerMinute += (separateMillis - mergedMillis) * cyclesPerMinute;
+        }
+        if (busCharsPerSecond > 0) {
+            lines.add(String.format("Saving %.0f requests and about %.0f ms of bus time per minute",
+                    savedRequestsPerMinute, savedMillisPerMinute));
+        } else {
+            lines.add(String.format("Saving %.0f requests per minute", savedRequestsPerMinute));
+        }
+        return lines;
+    }
+
+    private double estimateBusMillis(ModbusReadRequestBlueprint request) {
+        if (busCharsPerSecond <= 0) {
+            return 0;
+        }
+        int dataBytes = switch (request.getFunctionCode()) {
+            case READ_COILS, READ_INPUT_DISCRETES -> (request.getDataLength() + 7) / 8;
+            default -> request.getDataLength() * 2;
+        };
+        double chars = REQUEST_FRAME_BYTES + RESPONSE_FRAME_OVERHEAD_BYTES + dataBytes + FRAME_GAP_CHARS;
+        return chars * 1000 / busCharsPerSecond;
+    }
+
+    /**
+     * Merges the ranges of requests with the same function code into as few ranges as possible
+     *
+     * Ranges are merged when the gap between them is at most the given maximum, and the merged range does not exceed
+     * the maximum that can be read with one request.
+     *
+     * @param items items to merge
+     * @param requestOf request of an item
+     * @param maxGap maximum number of unused registers or bits between merged ranges
+     * @return the items, grouped by merged range and sorted by start
+     */
+    public static <T> List<List<T>> merge(List<T> items, Function<T, ModbusReadRequestBlueprint> requestOf,
+            int maxGap) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingInt((T item) -> requestOf.apply(item).getReference())
+                .thenComparingInt(item -> requestOf.apply(item).getDataLength()));
+        List<List<T>> groups = new ArrayList<>();
+        List<T> group = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        for (T item : sorted) {
+            ModbusReadRequestBlueprint request = requestOf.apply(item);
+            int itemStart = request.getReference();
+            int itemEnd = itemStart + request.getDataLength();
+            int maxLength = switch (request.getFunctionCode()) {
+                case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+                default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+            };
+            if (!group.isEmpty() && itemStart - end <= maxGap && Math.max(end, itemEnd) - start <= maxLength) {
+                end = Math.max(end, itemEnd);
+            } else {
+                if (!group.isEmpty()) {
+                    groups.add(group);
+                }
+                group = new ArrayList<>();
+                start = itemStart;
+                end = itemEnd;
+            }
+            group.add(item);
+        }
+        if (!group.isEmpty()) {
+            groups.add(group);
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,370 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces the writes to one slave
+ *
+ * Writes submitted within a short window are collected. Writes to contiguous or overlapping holding registers, or
+ * coils, are combined into one write multiple request. Short gaps between holding registers are filled with the
+ * values recently polled, if known, unless registers have been written since the poll. Then the written value is used,
+ * and the gap is not filled at all while such a write is unacknowledged or after it failed. The results of the
+ * combined request are passed to the callbacks of each write.
+ * Combined requests always use FC16 or FC15, also when the single writes would have used FC6 or FC5.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteCoalescer {
+
+    // protocol limits of write multiple registers (FC16) and write multiple coils (FC15)
+    private static final int MAX_REGISTERS_WRITE_COUNT = 123;
+    private static final int MAX_COILS_WRITE_COUNT = 1968;
+    /**
+     * Maximum number of registers between two writes that are filled with polled values
+     */
+    private static final int MAX_FILLED_GAP = 4;
+
+    /**
+     * Value of a holding register and the time it was polled, in milliseconds since the epoch
+     */
+    public record RegisterValue(int value, long timestampMillis) {
+    }
+
+    /**
+     * Value written to a holding register since it was polled, empty if the write failed
+     */
+    private record WrittenRegister(OptionalInt value, long timestampMillis) {
+    }
+
+    private record PendingWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback, long submittedNanos) {
+
+        int getReference() {
+            if (request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+                return registerRequest.getReference();
+            }
+            return ((ModbusWriteCoilRequestBlueprint) request).getReference();
+        }
+
+        int getLength() {
+            if (request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+                return registerRequest.getRegisters().size();
+            }
+            return ((ModbusWriteCoilRequestBlueprint) request).getCoils().size();
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusWriteCoalescer.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+    private final IntFunction<Optional<RegisterValue>> polledRegisters;
+    private final List<PendingWrite> pendingWrites = new ArrayList<>();
+    // guarded by this
+    private final Map<Integer, WrittenRegister> writtenRegisters = new HashMap<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private boolean disposed;
+    private double averageLatencyMillis;
+
+    /**
+     * Creates a write coalescer
+     *
+     * @param comms communication interface of the endpoint
+     * @param scheduler scheduler used to delay the writes
+     * @param windowMillis time writes are collected for, 0 to submit writes immediately
+     * @param polledRegisters recently polled value of a holding register, if known
+     */
+    public ModbusWriteCoalescer(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler,
+            long windowMillis, IntFunction<Optional<RegisterValue>> polledRegisters) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+        this.polledRegisters = polledRegisters;
+    }
+
+    /**
+     * Submits a write, it is sent at the end of the current window
+     *
+     * Writes submitted after {@link #dispose()} fail immediately.
+     *
+     * @param request the write request
+     * @param resultCallback callback for the result of the write
+     * @param failureCallback callback for the failure of the write
+     */
+    public void submit(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        PendingWrite write = new PendingWrite(request, resultCallback, failureCallback, System.nanoTime());
+        if (windowMillis <= 0 || !(request instanceof ModbusWriteRegisterRequestBlueprint
+                || request instanceof ModbusWriteCoilRequestBlueprint)) {
+            send(request, List.of(write));
+            return;
+        }
+        synchronized (this) {
+            if (!disposed) {
+                pendingWrites.add(write);
+                if (flushJob == null) {
+                    flushJob = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        fail(write);
+    }
+
+    /**
+     * Drops the writes not yet sent, their failure callbacks are called
+     */
+    public void dispose() {
+        List<PendingWrite> dropped;
+        synchronized (this) {
+            disposed = true;
+            ScheduledFuture<?> job = flushJob;
+            if (job != null) {
+                job.cancel(false);
+                flushJob = null;
+            }
+            dropped = new ArrayList<>(pendingWrites);
+            pendingWrites.clear();
+            writtenRegisters.clear();
+        }
+        if (!dropped.isEmpty()) {
+            logger.debug("Dropping {} writes not yet sent to {}", dropped.size(), comms.getEndpoint());
+        }
+        dropped.forEach(this::fail);
+    }
+
+    private void fail(PendingWrite write) {
+        write.failureCallback().handle(new AsyncModbusFailure<>(write.request(),
+                new IllegalStateException("Write coalescer of " + comms.getEndpoint() + " is disposed")));
+    }
+
+    private void flush() {
+        List<PendingWrite> writes;
+        synchronized (this) {
+            flushJob = null;
+            writes = new ArrayList<>(pendingWrites);
+            pendingWrites.clear();
+        }
+        List<PendingWrite> registerWrites = new ArrayList<>();
+        List<PendingWrite> coilWrites = new ArrayList<>();
+        for (PendingWrite write : writes) {
+            if (write.request() instanceof ModbusWriteRegisterRequestBlueprint) {
+                registerWrites.add(write);
+            } else {
+                coilWrites.add(write);
+            }
+        }
+        for (List<PendingWrite> group : group(registerWrites, MAX_REGISTERS_WRITE_COUNT, true)) {
+            send(group.size() == 1 ? group.get(0).request() : combineRegisters(group), group);
+        }
+        for (List<PendingWrite> group : group(coilWrites, MAX_COILS_WRITE_COUNT, false)) {
+            send(group.size() == 1 ? group.get(0).request() : combineCoils(group), group);
+        }
+    }
+
+    /**
+     * Groups writes that can be combined, keeping the order of submission within each group
+     */
+    private List<List<PendingWrite>> group(List<PendingWrite> writes, int maxLength, boolean fillGaps) {
+        List<PendingWrite> sorted = new ArrayList<>(writes);
+        sorted.sort(Comparator.comparingInt(PendingWrite::getReference));
+        List<List<PendingWrite>> groups = new ArrayList<>();
+        List<PendingWrite> group = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        for (PendingWrite write : sorted) {
+            int writeStart = write.getReference();
+            int writeEnd = writeStart + write.getLength();
+            if (!group.isEmpty() && Math.max(end, writeEnd) - start <= maxLength
+                    && (writeStart <= end || (fillGaps && writeStart - end <= MAX_FILLED_GAP
+                            && isPolled(end, writeStart)))
+                    && write.request().getUnitID() == group.get(0).request().getUnitID()) {
+                end = Math.max(end, writeEnd);
+            } else {
+                if (!group.isEmpty()) {
+                    groups.add(group);
+                }
+                group = new ArrayList<>();
+                start = writeStart;
+                end = writeEnd;
+            }
+            group.add(write);
+        }
+        if (!group.isEmpty()) {
+            groups.add(group);
+        }
+        // apply the writes of a group in the order they were submitted, later writes win
+        groups.forEach(g -> g.sort(Comparator.comparingLong(PendingWrite::submittedNanos)));
+        return groups;
+    }
+
+    private boolean isPolled(int from, int to) {
+        for (int address = from; address < to; address++) {
+            if (knownRegister(address).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the current value of a holding register, as recently polled or written since
+     */
+    private synchronized OptionalInt knownRegister(int address) {
+        Optional<RegisterValue> polled = polledRegisters.apply(address);
+        if (polled.isEmpty()) {
+            return OptionalInt.empty();
+        }
+        WrittenRegister written = writtenRegisters.get(address);
+        if (written != null) {
+            if (written.timestampMillis() >= polled.get().timestampMillis()) {
+                return written.value();
+            }
+            // polled after the write was acknowledged
+            writtenRegisters.remove(address);
+        }
+        return OptionalInt.of(polled.get().value());
+    }
+
+    /**
+     * Remembers the values of a register write being sent, they take precedence over any poll until acknowledged
+     */
+    private synchronized void registersSent(ModbusWriteRegisterRequestBlueprint request) {
+        ModbusRegisterArray registers = request.getRegisters();
+        for (int i = 0; i < registers.size(); i++) {
+            writtenRegisters.put(request.getReference() + i,
+                    new WrittenRegister(OptionalInt.of(registers.getRegister(i)), Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Remembers the values of an acknowledged register write until the registers are polled again, or that their
+     * values are unknown after a failed write
+     */
+    private synchronized void registersAcknowledged(ModbusWriteRegisterRequestBlueprint request, boolean failed) {
+        ModbusRegisterArray registers = request.getRegisters();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < registers.size(); i++) {
+            OptionalInt value = OptionalInt.of(registers.getRegister(i));
+            // registers sent again meanwhile are left to the later write
+            writtenRegisters.replace(request.getReference() + i, new WrittenRegister(value, Long.MAX_VALUE),
+                    new WrittenRegister(failed ? OptionalInt.empty() : value, now));
+        }
+    }
+
+    private ModbusWriteRequestBlueprint combineRegisters(List<PendingWrite> group) {
+        int start = group.stream().mapToInt(PendingWrite::getReference).min().orElse(0);
+        int end = group.stream().mapToInt(w -> w.getReference() + w.getLength()).max().orElse(start);
+        byte[] bytes = new byte[(end - start) * 2];
+        // gaps between the writes keep their polled values
+        for (int address = start; address < end; address++) {
+            int value = knownRegister(address).orElse(0);
+            bytes[(address - start) * 2] = (byte) (value >> 8);
+            bytes[(address - start) * 2 + 1] = (byte) value;
+        }
+        int maxTries = 1;
+        for (PendingWrite write : group) {
+            ModbusWriteRegisterRequestBlueprint request = (ModbusWriteRegisterRequestBlueprint) write.request();
+            byte[] data = request.getRegisters().getBytes();
+            System.arraycopy(data, 0, bytes, (request.getReference() - start) * 2, data.length);
+            maxTries = Math.max(maxTries, request.getMaxTries());
+        }
+        return new ModbusWriteRegisterRequestBlueprint(group.get(0).request().getUnitID(), start,
+                new ModbusRegisterArray(bytes), true, maxTries);
+    }
+
+    private ModbusWriteRequestBlueprint combineCoils(List<PendingWrite> group) {
+        int start = group.stream().mapToInt(PendingWrite::getReference).min().orElse(0);
+        int end = group.stream().mapToInt(w -> w.getReference() + w.getLength()).max().orElse(start);
+        BitArray coils = new BitArray(end - start);
+        int maxTries = 1;
+        for (PendingWrite write : group) {
+            ModbusWriteCoilRequestBlueprint request = (ModbusWriteCoilRequestBlueprint) write.request();
+            BitArray data = request.getCoils();
+            for (int i = 0; i < data.size(); i++) {
+                coils.setBit(request.getReference() - start + i, data.getBit(i));
+            }
+            maxTries = Math.max(maxTries, request.getMaxTries());
+        }
+        return new ModbusWriteCoilRequestBlueprint(group.get(0).request().getUnitID(), start, coils, true, maxTries);
+    }
+
+    private void send(ModbusWriteRequestBlueprint request, List<PendingWrite> writes) {
+        if (writes.size() > 1) {
+            logger.debug("Combined {} writes into request {}", writes.size(), request);
+        }
+        if (request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+            registersSent(registerRequest);
+        }
+        comms.submitOneTimeWrite(request, result -> {
+            if (request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+                registersAcknowledged(registerRequest, false);
+            }
+            logLatency(writes);
+            for (PendingWrite write : writes) {
+                write.resultCallback().handle(new AsyncModbusWriteResult(write.request(), result.getResponse()));
+            }
+        }, failure -> {
+            if (request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+                registersAcknowledged(registerRequest, true);
+            }
+            for (PendingWrite write : writes) {
+                write.failureCallback().handle(new AsyncModbusFailure<>(write.request(), failure.getCause()));
+            }
+        });
+    }
+
+    private void logLatency(List<PendingWrite> writes) {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        // latency from the earliest command to the acknowledgement
+        double latencyMillis = (System.nanoTime() - writes.get(0).submittedNanos()) / 1_000_000.0;
+        double average;
+        synchronized (this) {
+            average = averageLatencyMillis = averageLatencyMillis == 0 ? latencyMillis
+                    : 0.8 * averageLatencyMillis + 0.2 * latencyMillis;
+        }
+        logger.debug("Write of {} commands acknowledged after {} ms (average {} ms)", writes.size(),
+                Math.round(latencyMillis), Math.round(average));
+    }
+}
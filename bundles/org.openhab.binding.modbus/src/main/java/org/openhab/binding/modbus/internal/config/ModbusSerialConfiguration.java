@@ -39,6 +39,8 @@ public class ModbusSerialConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private int pollMergeGap = -1;
+    private int writeCoalesceWindowMillis;
 
     public @Nullable String getPort() {
         return port;
@@ -167,4 +169,20 @@ public class ModbusSerialConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public int getPollMergeGap() {
+        return pollMergeGap;
+    }
+
+    public void setPollMergeGap(int pollMergeGap) {
+        this.pollMergeGap = pollMergeGap;
+    }
+
+    public int getWriteCoalesceWindowMillis() {
+        return writeCoalesceWindowMillis;
+    }
+
+    public void setWriteCoalesceWindowMillis(int writeCoalesceWindowMillis) {
+        this.writeCoalesceWindowMillis = writeCoalesceWindowMillis;
+    }
 }
@@ -33,6 +33,8 @@ public class ModbusTcpConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private int pollMergeGap = -1;
+    private int writeCoalesceWindowMillis;
     private boolean rtuEncoded;
 
     public boolean getRtuEncoded() {
@@ -118,4 +120,20 @@ public class ModbusTcpConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public int getPollMergeGap() {
+        return pollMergeGap;
+    }
+
+    public void setPollMergeGap(int pollMergeGap) {
+        this.pollMergeGap = pollMergeGap;
+    }
+
+    public int getWriteCoalesceWindowMillis() {
+        return writeCoalesceWindowMillis;
+    }
+
+    public void setWriteCoalesceWindowMillis(int writeCoalesceWindowMillis) {
+        this.writeCoalesceWindowMillis = writeCoalesceWindowMillis;
+    }
 }
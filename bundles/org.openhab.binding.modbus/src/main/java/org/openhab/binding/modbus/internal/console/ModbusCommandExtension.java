@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.openhab.core.thing.binding.ThingHandler;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link ModbusCommandExtension} is responsible for handling console commands
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class ModbusCommandExtension extends AbstractConsoleCommandExtension {
+
+    private static final String PLAN = "plan";
+
+    private final ThingRegistry thingRegistry;
+
+    @Activate
+    public ModbusCommandExtension(final @Reference ThingRegistry thingRegistry) {
+        super("modbus", "Interact with the Modbus binding");
+        this.thingRegistry = thingRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length != 1 || !PLAN.equals(args[0])) {
+            printUsage(console);
+            return;
+        }
+        boolean found = false;
+        for (Thing thing : thingRegistry.getAll()) {
+            ThingHandler handler = thing.getHandler();
+            if (handler instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler) {
+                ModbusPollPlanner planner = endpointHandler.getPollPlanner();
+                if (planner != null) {
+                    found = true;
+                    console.println(thing.getUID().getAsString() + ":");
+                    planner.describe().forEach(line -> console.println("  " + line));
+                }
+            }
+        }
+        if (!found) {
+            console.println("No initialized Modbus endpoints");
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(PLAN, "show the merged polls of each endpoint and the bus time saved"));
+    }
+}
@@ -12,20 +12,32 @@
  */
 package org.openhab.binding.modbus.internal.handler;
 
+import java.util.Optional;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
+import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
+import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer.RegisterValue;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusManager;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
 import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
+import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.types.Command;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +60,8 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusPollPlanner pollPlanner;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -76,6 +90,9 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 }
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    pollPlanner = new ModbusPollPlanner(comms, scheduler, getPollMergeGap(), getBusCharsPerSecond());
+                    writeCoalescer = new ModbusWriteCoalescer(comms, scheduler, getWriteCoalesceWindowMillis(),
+                            this::getPolledHoldingRegister);
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -93,6 +110,16 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        ModbusPollPlanner localPollPlanner = pollPlanner;
+        if (localPollPlanner != null) {
+            localPollPlanner.dispose();
+            pollPlanner = null;
+        }
+        ModbusWriteCoalescer localWriteCoalescer = writeCoalescer;
+        if (localWriteCoalescer != null) {
+            localWriteCoalescer.dispose();
+            writeCoalescer = null;
+        }
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -110,6 +137,53 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    /**
+     * Gets the planner merging the regular polls of the pollers of this endpoint
+     *
+     * Note that this can be <code>null</code> in case of incomplete initialization
+     *
+     * @return poll planner of this endpoint
+     */
+    public @Nullable ModbusPollPlanner getPollPlanner() {
+        return pollPlanner;
+    }
+
+    /**
+     * Gets the coalescer of the writes to this endpoint
+     *
+     * Note that this can be <code>null</code> in case of incomplete initialization
+     *
+     * @return write coalescer of this endpoint
+     */
+    public @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        return writeCoalescer;
+    }
+
+    /**
+     * Gets the recently polled value of a holding register from the pollers of this endpoint
+     *
+     * @param address address of the register
+     * @return the value, or empty if the register is not polled or its last poll is not recent
+     */
+    private Optional<RegisterValue> getPolledHoldingRegister(int address) {
+        for (Thing child : getThing().getThings()) {
+            ThingHandler handler = child.getHandler();
+            if (handler instanceof ModbusPollerThingHandler poller) {
+                ModbusReadRequestBlueprint request = poller.getRequest();
+                AtomicStampedValue<ModbusRegisterArray> polled = poller.getRecentlyPolledData();
+                if (request != null && polled != null
+                        && request.getFunctionCode() == ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS) {
+                    ModbusRegisterArray registers = polled.getValue();
+                    int index = address - request.getReference();
+                    if (index >= 0 && index < registers.size()) {
+                        return Optional.of(new RegisterValue(registers.getRegister(index), polled.getStamp()));
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
@@ -123,6 +197,23 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
      */
     protected abstract void configure() throws ModbusConfigurationException;
 
+    /**
+     * Maximum gap between the ranges of pollers that are merged, negative if pollers are not merged
+     */
+    protected abstract int getPollMergeGap();
+
+    /**
+     * Time writes are collected for to combine them, 0 if writes are sent immediately
+     */
+    protected abstract int getWriteCoalesceWindowMillis();
+
+    /**
+     * Speed of the bus in characters per second, used to estimate the bus time of requests. 0 if not known.
+     */
+    protected double getBusCharsPerSecond() {
+        return 0;
+    }
+
     /**
      * Format error message in case some other endpoint has been configured with different
      * {@link EndpointPoolConfiguration}
@@ -35,6 +35,7 @@ import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
 import org.openhab.binding.modbus.internal.ModbusTransformation;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -90,6 +91,9 @@ import org.slf4j.LoggerFactory;
  * synchronized
  * to avoid data race conditions.
  *
+ * The raw registers or bits read by the thing are remembered as a fingerprint. Polled data with an unchanged
+ * fingerprint is not extracted and transformed again, until unchanged values are due to be updated.
+ *
  * @author Sami Salonen - Initial contribution
  */
 @NonNullByDefault
@@ -142,9 +146,16 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile boolean writeParametersHavingTransformationOnly;
     private volatile boolean childOfEndpoint;
     private volatile @Nullable ModbusPollerThingHandler pollerHandler;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+    // raw data of the last processed read, and until when processing the same data again would not update channels
+    private boolean hasLastReadFingerprint;
+    private long lastReadFingerprint;
+    private long lastReadFingerprintValidUntilMillis;
+    private long processedReads;
+    private long skippedReads;
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
@@ -218,7 +229,16 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
 
         logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
-        comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        submitWrite(comms, request);
+    }
+
+    private void submitWrite(ModbusCommunicationInterface comms, ModbusWriteRequestBlueprint request) {
+        ModbusWriteCoalescer localWriteCoalescer = writeCoalescer;
+        if (localWriteCoalescer != null) {
+            localWriteCoalescer.submit(request, this::onWriteResponse, this::handleWriteError);
+        } else {
+            comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        }
     }
 
     /**
@@ -385,7 +405,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         requests.stream().forEach(request -> {
             logger.trace("Submitting write request: {} to endpoint {} (based from transformation {})", request,
                     localComms.getEndpoint(), transformOutput);
-            localComms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+            submitWrite(localComms, request);
         });
     }
 
@@ -414,6 +434,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             if (bridgeHandler instanceof ModbusEndpointThingHandler endpointHandler) {
                 slaveId = endpointHandler.getSlaveId();
                 comms = endpointHandler.getCommunicationInterface();
+                if (endpointHandler instanceof AbstractModbusEndpointThingHandler<?, ?> abstractEndpointHandler) {
+                    writeCoalescer = abstractEndpointHandler.getWriteCoalescer();
+                }
                 childOfEndpoint = true;
                 functionCode = null;
                 readRequest = null;
@@ -432,6 +455,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 slaveId = localReadRequest.getUnitID();
                 functionCode = localReadRequest.getFunctionCode();
                 comms = localPollerHandler.getCommunicationInterface();
+                writeCoalescer = localPollerHandler.getWriteCoalescer();
                 pollStart = localReadRequest.getReference();
                 childOfEndpoint = false;
             } else {
@@ -475,11 +499,22 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         writeParametersHavingTransformationOnly = false;
         childOfEndpoint = false;
         pollerHandler = null;
+        writeCoalescer = null;
         channelCache = new HashMap<>();
         lastStatusInfoUpdate = LocalDateTime.MIN;
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        hasLastReadFingerprint = false;
+        processedReads = 0;
+        skippedReads = 0;
+    }
+
+    @Override
+    public synchronized void channelLinked(ChannelUID channelUID) {
+        // newly linked channel has no state yet
+        hasLastReadFingerprint = false;
+        super.channelLinked(channelUID);
     }
 
     @Override
@@ -814,6 +849,19 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         if (readValueType == null) {
             return;
         }
+        int firstRegister = readIndex.get() - pollStart;
+        int registerCount = Math.max(1, readValueType.getBits() / 16);
+        boolean hasFingerprint = firstRegister >= 0 && firstRegister + registerCount <= registers.size();
+        long fingerprint = 0;
+        if (hasFingerprint) {
+            // at most 4 registers of 16 bits
+            for (int i = firstRegister; i < firstRegister + registerCount; i++) {
+                fingerprint = (fingerprint << 16) | registers.getRegister(i);
+            }
+            if (skipUnchangedRead(fingerprint)) {
+                return;
+            }
+        }
         State numericState;
 
         // extractIndex:
@@ -839,6 +887,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        if (hasFingerprint) {
+            rememberProcessedRead(fingerprint, values);
+        }
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} and boolValue={}. Registers {} for request {}",
                 thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), extractIndex, numericState,
@@ -852,13 +903,67 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
         boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        long fingerprint = boolValue ? 1 : 0;
+        if (skipUnchangedRead(fingerprint)) {
+            return;
+        }
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        rememberProcessedRead(fingerprint, values);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={} -> numeric value {} and boolValue={}. Bits {} for request {}",
                 thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
     }
 
+    /**
+     * Handles a read with unchanged raw data, when processing it would not update any channel
+     *
+     * Only the last read success channel and the thing status are updated then.
+     *
+     * @param fingerprint raw data read by this thing
+     * @return true if the read was handled, false if it must be processed
+     */
+    private boolean skipUnchangedRead(long fingerprint) {
+        long now = System.currentTimeMillis();
+        if (!hasLastReadFingerprint || fingerprint != lastReadFingerprint || updateUnchangedValuesEveryMillis <= 0L
+                || now > lastReadFingerprintValidUntilMillis) {
+            processedReads++;
+            return false;
+        }
+        skippedReads++;
+        updateStatusIfChanged(ThingStatus.ONLINE);
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        if (isLinked(lastReadSuccessUID)) {
+            DateTimeType readTime = new DateTimeType();
+            tryUpdateState(lastReadSuccessUID, readTime);
+            channelLastUpdated.put(lastReadSuccessUID, now);
+            channelLastState.put(lastReadSuccessUID, readTime);
+        }
+        logger.debug("Thing {} read unchanged data, skipped processing ({} reads skipped, {} processed)",
+                thing.getUID(), skippedReads, processedReads);
+        return true;
+    }
+
+    /**
+     * Remembers the raw data of a processed read, until the first of the updated channels is due to be updated again
+     *
+     * @param fingerprint raw data read by this thing
+     * @param states states of the channels, as processed from the data
+     */
+    private void rememberProcessedRead(long fingerprint, Map<ChannelUID, State> states) {
+        long validUntil = System.currentTimeMillis() + updateUnchangedValuesEveryMillis;
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        for (ChannelUID uid : states.keySet()) {
+            if (!uid.equals(lastReadSuccessUID)) {
+                validUntil = Math.min(validUntil,
+                        channelLastUpdated.getOrDefault(uid, 0L) + updateUnchangedValuesEveryMillis);
+            }
+        }
+        hasLastReadFingerprint = true;
+        lastReadFingerprint = fingerprint;
+        lastReadFingerprintValidUntilMillis = validUntil;
+    }
+
     private synchronized void onError(ModbusReadRequestBlueprint request, Exception error) {
         if (hasConfigurationError()) {
             return;
@@ -104,6 +104,25 @@ public class ModbusSerialThingHandler
         return config.getId();
     }
 
+    @Override
+    protected int getPollMergeGap() {
+        ModbusSerialConfiguration localConfig = config;
+        return localConfig == null ? -1 : localConfig.getPollMergeGap();
+    }
+
+    @Override
+    protected int getWriteCoalesceWindowMillis() {
+        ModbusSerialConfiguration localConfig = config;
+        return localConfig == null ? 0 : localConfig.getWriteCoalesceWindowMillis();
+    }
+
+    @Override
+    protected double getBusCharsPerSecond() {
+        ModbusSerialConfiguration localConfig = config;
+        // 11 bits per character: start bit, 8 data bits, parity or second stop bit and stop bit
+        return localConfig == null ? 0 : localConfig.getBaud() / 11.0;
+    }
+
     @Override
     public ThingUID getUID() {
         return getThing().getUID();
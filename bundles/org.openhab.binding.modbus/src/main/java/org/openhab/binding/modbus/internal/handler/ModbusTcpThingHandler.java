@@ -82,6 +82,18 @@ public class ModbusTcpThingHandler
         return localConfig.getId();
     }
 
+    @Override
+    protected int getPollMergeGap() {
+        ModbusTcpConfiguration localConfig = config;
+        return localConfig == null ? -1 : localConfig.getPollMergeGap();
+    }
+
+    @Override
+    protected int getWriteCoalesceWindowMillis() {
+        ModbusTcpConfiguration localConfig = config;
+        return localConfig == null ? 0 : localConfig.getWriteCoalesceWindowMillis();
+    }
+
     @Override
     public ThingUID getUID() {
         return getThing().getUID();
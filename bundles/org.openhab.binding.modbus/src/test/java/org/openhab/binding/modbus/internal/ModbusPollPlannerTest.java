@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlannerTest {
+
+    private final ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+    private static ModbusReadRequestBlueprint holding(int start, int length) {
+        return new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length, 3);
+    }
+
+    private static ModbusReadRequestBlueprint coils(int start, int length) {
+        return new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_COILS, start, length, 3);
+    }
+
+    @Test
+    public void testAdjacentRangesAreMerged() {
+        ModbusReadRequestBlueprint first = holding(0, 2);
+        ModbusReadRequestBlueprint second = holding(2, 4);
+        ModbusReadRequestBlueprint third = holding(6, 1);
+        List<List<ModbusReadRequestBlueprint>> groups = ModbusPollPlanner.merge(List.of(third, first, second),
+                Function.identity(), 0);
+        assertThat(groups, is(equalTo(List.of(List.of(first, second, third)))));
+    }
+
+    @Test
+    public void testGapLargerThanToleranceSplits() {
+        ModbusReadRequestBlueprint first = holding(0, 2);
+        ModbusReadRequestBlueprint second = holding(5, 2);
+        assertThat(ModbusPollPlanner.merge(List.of(first, second), Function.identity(), 2),
+                is(equalTo(List.of(List.of(first), List.of(second)))));
+        assertThat(ModbusPollPlanner.merge(List.of(first, second), Function.identity(), 3),
+                is(equalTo(List.of(List.of(first, second)))));
+    }
+
+    @Test
+    public void testOverlappingRangesAreMerged() {
+        ModbusReadRequestBlueprint outer = holding(10, 10);
+        ModbusReadRequestBlueprint inner = holding(12, 2);
+        ModbusReadRequestBlueprint after = holding(20, 1);
+        assertThat(ModbusPollPlanner.merge(List.of(after, inner, outer), Function.identity(), 0),
+                is(equalTo(List.of(List.of(outer, inner, after)))));
+    }
+
+    @Test
+    public void testMaximumRegisterCountSplits() {
+        ModbusReadRequestBlueprint first = holding(0, 100);
+        ModbusReadRequestBlueprint second = holding(100, 25);
+        ModbusReadRequestBlueprint third = holding(125, 1);
+        assertThat(ModbusPollPlanner.merge(List.of(first, second, third), Function.identity(), 0),
+                is(equalTo(List.of(List.of(first, second), List.of(third)))));
+    }
+
+    @Test
+    public void testCoilsUseBitLimit() {
+        ModbusReadRequestBlueprint first = coils(0, 1000);
+        ModbusReadRequestBlueprint second = coils(1000, 1000);
+        assertThat(ModbusPollPlanner.merge(List.of(first, second), Function.identity(), 0),
+                is(equalTo(List.of(List.of(first, second)))));
+    }
+
+    /**
+     * Runs the pending replan and returns the callback of the single merged poll registered by it
+     */
+    @SuppressWarnings("unchecked")
+    private MergedPollCallbacks replan(ModbusReadRequestBlueprint expectedRequest) {
+        ArgumentCaptor<Runnable> replan = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(replan.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        replan.getValue().run();
+        ArgumentCaptor<ModbusReadCallback> resultCallback = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        ArgumentCaptor<ModbusFailureCallback<ModbusReadRequestBlueprint>> failureCallback = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(comms).registerRegularPoll(eq(expectedRequest), eq(1000L), eq(0L), resultCallback.capture(),
+                failureCallback.capture());
+        return new MergedPollCallbacks(resultCallback.getValue(), failureCallback.getValue());
+    }
+
+    private record MergedPollCallbacks(ModbusReadCallback result,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failure) {
+    }
+
+    private static AsyncModbusReadResult received(ModbusReadCallback callback) {
+        ArgumentCaptor<AsyncModbusReadResult> result = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(callback).handle(result.capture());
+        return result.getValue();
+    }
+
+    private static List<Boolean> bits(AsyncModbusReadResult result) {
+        BitArray bits = result.getBits().get();
+        return IntStream.range(0, result.getRequest().getDataLength()).mapToObj(bits::getBit)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMergedRegistersAreSliced() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, scheduler, 3, 0);
+        ModbusReadRequestBlueprint first = holding(0, 2);
+        ModbusReadRequestBlueprint second = holding(5, 2);
+        ModbusReadCallback firstCallback = mock(ModbusReadCallback.class);
+        ModbusReadCallback secondCallback = mock(ModbusReadCallback.class);
+        planner.register(second, 1000, "second", secondCallback, mock(ModbusFailureCallback.class));
+        planner.register(first, 1000, "first", firstCallback, mock(ModbusFailureCallback.class));
+
+        ModbusReadRequestBlueprint merged = holding(0, 7);
+        MergedPollCallbacks callbacks = replan(merged);
+        callbacks.result()
+                .handle(new AsyncModbusReadResult(merged, new ModbusRegisterArray(10, 11, 12, 13, 14, 15, 16)));
+
+        AsyncModbusReadResult firstResult = received(firstCallback);
+        assertThat(firstResult.getRequest(), is(equalTo(first)));
+        assertThat(firstResult.getRegisters().get(), is(equalTo(new ModbusRegisterArray(10, 11))));
+        AsyncModbusReadResult secondResult = received(secondCallback);
+        assertThat(secondResult.getRequest(), is(equalTo(second)));
+        assertThat(secondResult.getRegisters().get(), is(equalTo(new ModbusRegisterArray(15, 16))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMergedCoilsAreSliced() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, scheduler, 2, 0);
+        ModbusReadRequestBlueprint first = coils(0, 3);
+        ModbusReadRequestBlueprint second = coils(5, 2);
+        ModbusReadCallback firstCallback = mock(ModbusReadCallback.class);
+        ModbusReadCallback secondCallback = mock(ModbusReadCallback.class);
+        planner.register(first, 1000, "first", firstCallback, mock(ModbusFailureCallback.class));
+        planner.register(second, 1000, "second", secondCallback, mock(ModbusFailureCallback.class));
+
+        ModbusReadRequestBlueprint merged = coils(0, 7);
+        MergedPollCallbacks callbacks = replan(merged);
+        callbacks.result()
+                .handle(new AsyncModbusReadResult(merged, new BitArray(true, false, true, true, true, false, true)));
+
+        AsyncModbusReadResult firstResult = received(firstCallback);
+        assertThat(firstResult.getRequest(), is(equalTo(first)));
+        assertThat(bits(firstResult), is(equalTo(List.of(true, false, true))));
+        AsyncModbusReadResult secondResult = received(secondCallback);
+        assertThat(secondResult.getRequest(), is(equalTo(second)));
+        assertThat(bits(secondResult), is(equalTo(List.of(false, true))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMergedFailureIsReportedToAllPollers() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, scheduler, 3, 0);
+        ModbusReadRequestBlueprint first = holding(0, 2);
+        ModbusReadRequestBlueprint second = holding(5, 2);
+        ModbusFailureCallback<ModbusReadRequestBlueprint> firstCallback = mock(ModbusFailureCallback.class);
+        ModbusFailureCallback<ModbusReadRequestBlueprint> secondCallback = mock(ModbusFailureCallback.class);
+        planner.register(first, 1000, "first", mock(ModbusReadCallback.class), firstCallback);
+        planner.register(second, 1000, "second", mock(ModbusReadCallback.class), secondCallback);
+
+        ModbusReadRequestBlueprint merged = holding(0, 7);
+        MergedPollCallbacks callbacks = replan(merged);
+        Exception cause = new Exception("timeout");
+        callbacks.failure().handle(new AsyncModbusFailure<>(merged, cause));
+
+        ArgumentCaptor<AsyncModbusFailure<ModbusReadRequestBlueprint>> failure = ArgumentCaptor
+                .forClass(AsyncModbusFailure.class);
+        verify(firstCallback).handle(failure.capture());
+        assertThat(failure.getValue().getRequest(), is(equalTo(first)));
+        assertThat(failure.getValue().getCause(), is(sameInstance(cause)));
+        verify(secondCallback).handle(failure.capture());
+        assertThat(failure.getValue().getRequest(), is(equalTo(second)));
+        assertThat(failure.getValue().getCause(), is(sameInstance(cause)));
+    }
+}
@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer.RegisterValue;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusResponse;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteCoalescerTest {
+
+    private final ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final ModbusWriteCallback resultCallback = result -> {
+    };
+    private final ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback = failure -> {
+    };
+
+    private List<ModbusWriteRequestBlueprint> flush() {
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flush.capture(), eq(50L), eq(TimeUnit.MILLISECONDS));
+        flush.getValue().run();
+        ArgumentCaptor<ModbusWriteRequestBlueprint> requests = ArgumentCaptor
+                .forClass(ModbusWriteRequestBlueprint.class);
+        verify(comms, atLeastOnce()).submitOneTimeWrite(requests.capture(), any(), any());
+        return requests.getAllValues();
+    }
+
+    private static ModbusWriteRegisterRequestBlueprint registers(int start, int... values) {
+        return new ModbusWriteRegisterRequestBlueprint(1, start, new ModbusRegisterArray(values), false, 3);
+    }
+
+    @Test
+    public void testWithoutWindowWritesAreSentImmediately() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, 0, address -> Optional.empty());
+        ModbusWriteRegisterRequestBlueprint request = registers(10, 1);
+        coalescer.submit(request, resultCallback, failureCallback);
+        verify(comms).submitOneTimeWrite(eq(request), any(), any());
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    public void testContiguousRegistersAreCombined() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, 50,
+                address -> Optional.empty());
+        coalescer.submit(registers(11, 2, 3), resultCallback, failureCallback);
+        coalescer.submit(registers(10, 1), resultCallback, failureCallback);
+        coalescer.submit(registers(20, 9), resultCallback, failureCallback);
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(equalTo(2)));
+        ModbusWriteRegisterRequestBlueprint combined = (ModbusWriteRegisterRequestBlueprint) requests.get(0);
+        assertThat(combined.getReference(), is(equalTo(10)));
+        assertThat(combined.getRegisters(), is(equalTo(new ModbusRegisterArray(1, 2, 3))));
+        assertThat(combined.isWriteMultiple(), is(true));
+        assertThat(((ModbusWriteRegisterRequestBlueprint) requests.get(1)).getReference(), is(equalTo(20)));
+    }
+
+    @Test
+    public void testGapIsFilledWithPolledValues() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, 50,
+                address -> address == 11 || address == 12 ? Optional.of(new RegisterValue(address * 100, 0))
+                        : Optional.empty());
+        coalescer.submit(registers(10, 1), resultCallback, failureCallback);
+        coalescer.submit(registers(13, 4), resultCallback, failureCallback);
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(equalTo(1)));
+        assertThat(((ModbusWriteRegisterRequestBlueprint) requests.get(0)).getRegisters(),
+                is(equalTo(new ModbusRegisterArray(1, 1100, 1200, 4))));
+    }
+
+    @Test
+    public void testLaterWriteWins() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, 50,
+                address -> Optional.empty());
+        coalescer.submit(registers(10, 1, 2), resultCallback, failureCallback);
+        coalescer.submit(registers(11, 5), resultCallback, failureCallback);
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(((ModbusWriteRegisterRequestBlueprint) requests.get(0)).getRegisters(),
+                is(equalTo(new ModbusRegisterArray(1, 5))));
+    }
+
+    @Test
+    public void testContiguousCoilsAreCombined() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, 50,
+                address -> Optional.empty());
+        coalescer.submit(new ModbusWriteCoilRequestBlueprint(1, 5, true, false, 3), resultCallback, failureCallback);
+        coalescer.submit(new ModbusWriteCoilRequestBlueprint(1, 6, false, false, 3), resultCallback,
+                failureCallback);
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(equalTo(1)));
+        ModbusWriteCoilRequestBlueprint combined = (ModbusWriteCoilRequestBlueprint) requests.get(0);
+        assertThat(combined.getReference(), is(equalTo(5)));
+        assertThat(combined.getCoils().size(), is(equalTo(2)));
+        assertThat(combined.getCoils().getBit(0), is(true));
+        assertThat(combined.getCoils().getBit(1), is(false));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWriteAfterDisposeFails() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, 50,
+                address -> Optional.empty());
+        coalescer.dispose();
+        ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback = mock(ModbusFailureCallback.class);
+        ModbusWriteRegisterRequestBlueprint request = registers(10, 1);
+        coalescer.submit(request, resultCallback, failureCallback);
+        ArgumentCaptor<AsyncModbusFailure<ModbusWriteRequestBlueprint>> failure = ArgumentCaptor
+                .forClass(AsyncModbusFailure.class);
+        verify(failureCallback).handle(failure.capture());
+        assertThat(failure.getValue().getRequest(), is(sameInstance(request)));
+        assertThat(failure.getValue().getCause(), is(instanceOf(IllegalStateException.class)));
+        verifyNoInteractions(scheduler);
+        verify(comms, never()).submitOneTimeWrite(any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDisposeFailsPendingWrites() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, 50, address -> Optional.empty());
+        ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback = mock(ModbusFailureCallback.class);
+        ModbusWriteRegisterRequestBlueprint request = registers(10, 1);
+        coalescer.submit(request, resultCallback, failureCallback);
+        coalescer.dispose();
+        ArgumentCaptor<AsyncModbusFailure<ModbusWriteRequestBlueprint>> failure = ArgumentCaptor
+                .forClass(AsyncModbusFailure.class);
+        verify(failureCallback).handle(failure.capture());
+        assertThat(failure.getValue().getRequest(), is(sameInstance(request)));
+        assertThat(failure.getValue().getCause(), is(instanceOf(IllegalStateException.class)));
+        verify(comms, never()).submitOneTimeWrite(any(), any(), any());
+    }
+
+    /**
+     * Writes register 10 in a first window, polled with an older value before
+     */
+    private ModbusWriteCoalescer writeRegister10(long polledMillis) {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, 50,
+                address -> Optional.of(new RegisterValue(address * 100, polledMillis)));
+        coalescer.submit(registers(10, 5), resultCallback, failureCallback);
+        assertThat(flush().size(), is(equalTo(1)));
+        return coalescer;
+    }
+
+    /**
+     * Writes registers 9 and 11 in a second window
+     */
+    private List<ModbusWriteRequestBlueprint> writeRegisters9And11(ModbusWriteCoalescer coalescer) {
+        clearInvocations(scheduler, comms);
+        coalescer.submit(registers(9, 1), resultCallback, failureCallback);
+        coalescer.submit(registers(11, 2), resultCallback, failureCallback);
+        return flush();
+    }
+
+    @Test
+    public void testGapIsFilledWithAcknowledgedWrite() {
+        ModbusWriteCoalescer coalescer = writeRegister10(System.currentTimeMillis() - 1000);
+        ArgumentCaptor<ModbusWriteCallback> acknowledge = ArgumentCaptor.forClass(ModbusWriteCallback.class);
+        verify(comms).submitOneTimeWrite(any(), acknowledge.capture(), any());
+        acknowledge.getValue().handle(new AsyncModbusWriteResult(registers(10, 5), mock(ModbusResponse.class)));
+
+        // the poll predates the write, so the written value is kept instead of the polled 1000
+        List<ModbusWriteRequestBlueprint> requests = writeRegisters9And11(coalescer);
+        assertThat(requests.size(), is(equalTo(1)));
+        assertThat(((ModbusWriteRegisterRequestBlueprint) requests.get(0)).getRegisters(),
+                is(equalTo(new ModbusRegisterArray(1, 5, 2))));
+    }
+
+    @Test
+    public void testGapIsFilledWithWriteInFlight() {
+        ModbusWriteCoalescer coalescer = writeRegister10(System.currentTimeMillis() + 1000);
+
+        // even a later poll does not override a write that is not yet acknowledged
+        List<ModbusWriteRequestBlueprint> requests = writeRegisters9And11(coalescer);
+        assertThat(requests.size(), is(equalTo(1)));
+        assertThat(((ModbusWriteRegisterRequestBlueprint) requests.get(0)).getRegisters(),
+                is(equalTo(new ModbusRegisterArray(1, 5, 2))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGapOfFailedWriteIsNotFilled() {
+        ModbusWriteCoalescer coalescer = writeRegister10(System.currentTimeMillis() - 1000);
+        ArgumentCaptor<ModbusFailureCallback<ModbusWriteRequestBlueprint>> fail = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(comms).submitOneTimeWrite(any(), any(), fail.capture());
+        fail.getValue().handle(new AsyncModbusFailure<>(registers(10, 5), new Exception("timeout")));
+
+        // the value of register 10 is not known
+        assertThat(writeRegisters9And11(coalescer).size(), is(equalTo(2)));
+    }
+}
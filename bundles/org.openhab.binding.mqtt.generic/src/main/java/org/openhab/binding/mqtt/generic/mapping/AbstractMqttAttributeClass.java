@@ -102,6 +102,7 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
     protected transient List<SubscribeFieldToMQTTtopic> subscriptions = new ArrayList<>();
     public transient WeakReference<@Nullable MqttBrokerConnection> connection = new WeakReference<>(null);
     protected transient WeakReference<@Nullable ScheduledExecutorService> scheduler = new WeakReference<>(null);
+    protected transient @Nullable WildcardTopicDispatcher dispatcher;
     private final String prefix;
     private transient String basetopic = "";
     protected transient AttributeChanged attributeChangedListener = (b, c, d, e, f) -> {
@@ -137,6 +138,13 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
      * @return Returns a future that completes as soon as all unsubscriptions have been performed.
      */
     public CompletableFuture<@Nullable Void> unsubscribe() {
+        final WildcardTopicDispatcher dispatcher = this.dispatcher;
+        if (dispatcher != null) {
+            subscriptions.forEach(dispatcher::unregister);
+            subscriptions.clear();
+            this.dispatcher = null;
+            return CompletableFuture.completedFuture(null);
+        }
         final MqttBrokerConnection connection = this.connection.get();
         if (connection == null) {
             subscriptions.clear();
@@ -168,9 +176,32 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
     public CompletableFuture<@Nullable Void> subscribeAndReceive(MqttBrokerConnection connection,
             ScheduledExecutorService scheduler, String basetopic, @Nullable AttributeChanged attributeChangedListener,
             int timeout) {
-        // We first need to unsubscribe old subscriptions if any
+        return subscribeAndReceive(connection, scheduler, basetopic, attributeChangedListener, timeout, null);
+    }
+
+    /**
+     * Like {@link #subscribeAndReceive(MqttBrokerConnection, ScheduledExecutorService, String, AttributeChanged, int)},
+     * but if a {@link WildcardTopicDispatcher} is given, the fields are not subscribed individually on the broker.
+     * Their values are received from the dispatcher instead, which also takes care of the timeout.
+     *
+     * @param connection A MQTT broker connection.
+     * @param scheduler A scheduler for timeouts.
+     * @param basetopic The base topic.
+     * @param attributeChangedListener Field change listener
+     * @param timeout Timeout per subscription in milliseconds. Not used if a dispatcher is given.
+     * @param dispatcher An optional dispatcher that is subscribed to a wildcard topic covering the base topic.
+     * @return Returns a future that completes as soon as values for all subscriptions have been received or have timed
+     *         out.
+     */
+    public CompletableFuture<@Nullable Void> subscribeAndReceive(MqttBrokerConnection connection,
+            ScheduledExecutorService scheduler, String basetopic, @Nullable AttributeChanged attributeChangedListener,
+            int timeout, @Nullable WildcardTopicDispatcher dispatcher) {
+        // We first need to unsubscribe old subscriptions if any. Fields of the same dispatcher are unregistered after
+        // the new ones have been registered, so that the dispatcher keeps their remembered payloads.
+        final List<SubscribeFieldToMQTTtopic> oldSubscriptions = subscriptions;
+        final boolean sameDispatcher = dispatcher != null && dispatcher == this.dispatcher;
         final CompletableFuture<@Nullable Void> startFuture;
-        if (!subscriptions.isEmpty()) {
+        if (!subscriptions.isEmpty() && !sameDispatcher) {
             startFuture = unsubscribe();
         } else {
             startFuture = CompletableFuture.completedFuture(null);
@@ -189,8 +220,13 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
         subscriptions = getAllFields(getFieldsOf().getClass()).stream().filter(AbstractMqttAttributeClass::filterField)
                 .map(this::mapFieldToSubscriber).collect(Collectors.toList());
 
+        this.dispatcher = dispatcher;
         final CompletableFuture<?>[] futures = subscriptions.stream()
-                .map(m -> m.subscribeAndReceive(connection, timeout)).toArray(CompletableFuture[]::new);
+                .map(m -> dispatcher != null ? m.receive(dispatcher) : m.subscribeAndReceive(connection, timeout))
+                .toArray(CompletableFuture[]::new);
+        if (sameDispatcher && dispatcher != null) {
+            oldSubscriptions.forEach(dispatcher::unregister);
+        }
         return CompletableFuture.allOf(startFuture, CompletableFuture.allOf(futures));
     }
 
@@ -169,6 +169,15 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
         }
     }
 
+    /**
+     * Complete without a value, because the field still holds the value received by a previous subscriber of the same
+     * topic.
+     */
+    void keepReceivedValue() {
+        receivedValue = true;
+        future.complete(null);
+    }
+
     void timeoutReached() {
         if (mandatory) {
             future.completeExceptionally(new Exception("Did not receive mandatory topic value: " + topic));
@@ -205,6 +214,18 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
         return future;
     }
 
+    /**
+     * Receive the value of the MQTT topic from a {@link WildcardTopicDispatcher} instead of subscribing to the topic
+     * on the broker. The dispatcher takes care of the timeout.
+     *
+     * @param dispatcher A dispatcher that is subscribed to a wildcard topic covering this topic.
+     * @return Returns a future that completes if either a value is received for the topic or the dispatcher settled.
+     */
+    public CompletableFuture<@Nullable Void> receive(WildcardTopicDispatcher dispatcher) {
+        dispatcher.register(this);
+        return future;
+    }
+
     /**
      * Return true if the corresponding field has received a value at least once.
      */
@@ -0,0 +1,251 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.mapping;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscribes once to a wildcard topic (like "homie/device/#") and dispatches the received messages locally
+ * to the {@link SubscribeFieldToMQTTtopic} field subscribers of attribute classes, instead of having each field
+ * subscribe to its own topic on the broker.
+ *
+ * <p>
+ * The last payload of each topic is remembered, so that field subscribers that register after the retained messages
+ * have been received are served immediately. Payloads are only dropped once they have been passed to the field
+ * subscriber of their topic, and only while more than {@link #MAX_CACHED_TOPICS} payloads are remembered, the least
+ * recently delivered ones first. The initial topic tree is therefore kept completely until it has been consumed.
+ * Field subscribers do not have an individual timeout. Instead the
+ * dispatcher "settles" as soon as no new message was received for the given timeout, or earlier, if a completion
+ * message (like "$state" = "ready") has been received and no other message followed within the settle time. On
+ * settling, all field subscribers that are still waiting for a value are timed out at once.
+ * </p>
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class WildcardTopicDispatcher implements MqttMessageSubscriber {
+    /** Number of remembered payloads above which delivered payloads are dropped */
+    static final int MAX_CACHED_TOPICS = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(WildcardTopicDispatcher.class);
+    private final ScheduledExecutorService scheduler;
+    private final String baseTopic;
+    private final String completionTopic;
+    private final byte[] completionPayload;
+    private final int settleTime;
+    private final int timeout;
+
+    private final Map<String, SubscribeFieldToMQTTtopic> subscribers = new ConcurrentHashMap<>();
+    // guarded by lastPayloads
+    private final Map<String, byte[]> lastPayloads = new HashMap<>();
+    // topics whose payload has been passed to their field subscriber, least recently delivered first
+    private final Set<String> deliveredTopics = new LinkedHashSet<>();
+    private @Nullable ScheduledFuture<?> settleFuture;
+    private boolean completionReceived = false;
+    private volatile boolean settled = false;
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param scheduler A scheduler to realize the settle timeout
+     * @param baseTopic The base topic. The dispatcher will subscribe to "baseTopic/#"
+     * @param completionTopic A topic that signals that the remote side has published its complete topic tree
+     * @param completionPayload The payload of the completion topic that signals completeness
+     * @param settleTime Time in milliseconds to wait for further messages after the completion message
+     * @param timeout Time in milliseconds without any message after which the dispatcher settles anyway
+     */
+    public WildcardTopicDispatcher(ScheduledExecutorService scheduler, String baseTopic, String completionTopic,
+            byte[] completionPayload, int settleTime, int timeout) {
+        this.scheduler = scheduler;
+        this.baseTopic = baseTopic;
+        this.completionTopic = completionTopic;
+        this.completionPayload = completionPayload;
+        this.settleTime = settleTime;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Subscribe to the wildcard topic.
+     *
+     * @param connection A broker connection
+     * @return A future that completes as soon as the subscription has been performed.
+     */
+    public CompletableFuture<Boolean> subscribe(MqttBrokerConnection connection) {
+        rescheduleSettle();
+        return connection.subscribe(baseTopic + "/#", this);
+    }
+
+    /**
+     * Unsubscribe from the wildcard topic and forget all field subscribers and remembered payloads.
+     *
+     * @param connection A broker connection
+     * @return A future that completes as soon as the unsubscription has been performed.
+     */
+    public CompletableFuture<Boolean> unsubscribe(MqttBrokerConnection connection) {
+        synchronized (this) {
+            final ScheduledFuture<?> settleFuture = this.settleFuture;
+            if (settleFuture != null) {
+                settleFuture.cancel(false);
+                this.settleFuture = null;
+            }
+        }
+        subscribers.clear();
+        synchronized (lastPayloads) {
+            lastPayloads.clear();
+            deliveredTopics.clear();
+        }
+        return connection.unsubscribe(baseTopic + "/#", this);
+    }
+
+    /**
+     * Register a field subscriber. If a payload for its topic has already been received, it is
+     * passed on immediately.
+     *
+     * @param subscriber The field subscriber
+     */
+    void register(SubscribeFieldToMQTTtopic subscriber) {
+        final SubscribeFieldToMQTTtopic previous = subscribers.put(subscriber.topic, subscriber);
+        final byte[] payload;
+        synchronized (lastPayloads) {
+            payload = lastPayloads.get(subscriber.topic);
+        }
+        if (payload != null) {
+            subscriber.processMessage(subscriber.topic, payload);
+            delivered(subscriber);
+        } else if (previous != null && previous.hasReceivedValue()
+                && previous.changeConsumer == subscriber.changeConsumer && previous.field.equals(subscriber.field)) {
+            // The payload has been dropped after delivery, the field of the re-subscribed object still holds the value
+            subscriber.keepReceivedValue();
+        } else if (settled) {
+            subscriber.timeoutReached();
+        }
+    }
+
+    /**
+     * Remove a field subscriber and forget the remembered payload of its topic.
+     *
+     * @param subscriber The field subscriber
+     */
+    void unregister(SubscribeFieldToMQTTtopic subscriber) {
+        if (subscribers.remove(subscriber.topic, subscriber)) {
+            synchronized (lastPayloads) {
+                lastPayloads.remove(subscriber.topic);
+                deliveredTopics.remove(subscriber.topic);
+            }
+        }
+    }
+
+    /**
+     * Return the number of remembered payloads.
+     */
+    int getCachedPayloadCount() {
+        synchronized (lastPayloads) {
+            return lastPayloads.size();
+        }
+    }
+
+    /**
+     * Return true if the dispatcher has settled, i.e. all retained messages are assumed to have been received.
+     */
+    public boolean isSettled() {
+        return settled;
+    }
+
+    @Override
+    public void processMessage(String topic, byte[] payload) {
+        synchronized (lastPayloads) {
+            // a new payload has not been delivered yet
+            deliveredTopics.remove(topic);
+            if (payload.length == 0) {
+                lastPayloads.remove(topic);
+            } else {
+                lastPayloads.put(topic, payload);
+            }
+        }
+        if (completionTopic.equals(topic)) {
+            synchronized (this) {
+                completionReceived = Arrays.equals(completionPayload, payload);
+                if (!completionReceived) {
+                    // The remote side (re-)publishes its tree; wait for it to complete again
+                    settled = false;
+                }
+            }
+        }
+        final SubscribeFieldToMQTTtopic subscriber = subscribers.get(topic);
+        if (subscriber != null) {
+            subscriber.processMessage(topic, payload);
+            delivered(subscriber);
+        }
+        if (!settled) {
+            rescheduleSettle();
+        }
+    }
+
+    /**
+     * Allow dropping the payload of a topic once its field subscriber has received a value, dropping the least
+     * recently delivered payloads while too many are remembered.
+     */
+    private void delivered(SubscribeFieldToMQTTtopic subscriber) {
+        if (!subscriber.hasReceivedValue()) {
+            return;
+        }
+        synchronized (lastPayloads) {
+            if (!lastPayloads.containsKey(subscriber.topic)) {
+                return;
+            }
+            deliveredTopics.remove(subscriber.topic);
+            deliveredTopics.add(subscriber.topic);
+            final Iterator<String> eldest = deliveredTopics.iterator();
+            while (lastPayloads.size() > MAX_CACHED_TOPICS && eldest.hasNext()) {
+                lastPayloads.remove(eldest.next());
+                eldest.remove();
+            }
+        }
+    }
+
+    private synchronized void rescheduleSettle() {
+        final ScheduledFuture<?> settleFuture = this.settleFuture;
+        if (settleFuture != null) {
+            settleFuture.cancel(false);
+        }
+        this.settleFuture = scheduler.schedule(this::settle, completionReceived ? settleTime : timeout,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void settle() {
+        synchronized (this) {
+            this.settleFuture = null;
+            settled = true;
+        }
+        logger.trace("Topic tree {} settled, {} topics received", baseTopic, getCachedPayloadCount());
+        subscribers.values().stream().filter(s -> !s.hasReceivedValue())
+                .forEach(SubscribeFieldToMQTTtopic::timeoutReached);
+    }
+}
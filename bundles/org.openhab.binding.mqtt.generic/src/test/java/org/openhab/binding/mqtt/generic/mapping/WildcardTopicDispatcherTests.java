@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.mapping;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+
+/**
+ * Tests cases for {@link WildcardTopicDispatcher}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class WildcardTopicDispatcherTests {
+    private static final String BASE_TOPIC = "homie/device123";
+
+    @TopicPrefix
+    public static class Attributes extends AbstractMqttAttributeClass {
+        public @MandatoryField @Nullable String name;
+        public @Nullable String state;
+        public @Nullable String optional;
+
+        @Override
+        public Object getFieldsOf() {
+            return this;
+        }
+    }
+
+    private @Mock @NonNullByDefault({}) MqttBrokerConnection connectionMock;
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).subscribe(any(), any());
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).unsubscribe(any(), any());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private void publish(WildcardTopicDispatcher dispatcher, String topic, String value) {
+        dispatcher.processMessage(BASE_TOPIC + "/" + topic, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void singleSubscriptionAndCachedValues() throws Exception {
+        WildcardTopicDispatcher dispatcher = new WildcardTopicDispatcher(scheduler, BASE_TOPIC, BASE_TOPIC + "/$state",
+                "ready".getBytes(StandardCharsets.UTF_8), 10, 10000);
+        dispatcher.subscribe(connectionMock).get();
+        verify(connectionMock).subscribe(eq(BASE_TOPIC + "/#"), eq(dispatcher));
+
+        // Retained messages arrive before the attribute class is registered
+        publish(dispatcher, "$name", "Name");
+
+        Attributes attributes = new Attributes();
+        CompletableFuture<@Nullable Void> future = attributes.subscribeAndReceive(connectionMock, scheduler,
+                BASE_TOPIC, null, 10000, dispatcher);
+        publish(dispatcher, "$state", "ready");
+
+        // The optional attribute is never published. The future completes after the settle time,
+        // long before the dispatcher timeout
+        future.get(1000, TimeUnit.MILLISECONDS);
+        assertTrue(dispatcher.isSettled());
+        assertThat(attributes.name, is("Name"));
+        assertThat(attributes.state, is("ready"));
+        assertNull(attributes.optional);
+
+        // No individual subscriptions on the broker
+        verify(connectionMock, times(1)).subscribe(any(), any());
+
+        // Live updates are still dispatched
+        publish(dispatcher, "$optional", "changed");
+        assertThat(attributes.optional, is("changed"));
+
+        dispatcher.unsubscribe(connectionMock).get();
+        verify(connectionMock).unsubscribe(eq(BASE_TOPIC + "/#"), eq(dispatcher));
+    }
+
+    @Test
+    public void mandatoryMissingAfterSettle() throws Exception {
+        WildcardTopicDispatcher dispatcher = new WildcardTopicDispatcher(scheduler, BASE_TOPIC, BASE_TOPIC + "/$state",
+                "ready".getBytes(StandardCharsets.UTF_8), 10, 50);
+        dispatcher.subscribe(connectionMock).get();
+
+        Attributes attributes = new Attributes();
+        CompletableFuture<@Nullable Void> future = attributes.subscribeAndReceive(connectionMock, scheduler,
+                BASE_TOPIC, null, 10000, dispatcher);
+        assertThrows(ExecutionException.class, () -> future.get(1000, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void initialTreeIsNotDropped() throws Exception {
+        WildcardTopicDispatcher dispatcher = new WildcardTopicDispatcher(scheduler, BASE_TOPIC, BASE_TOPIC + "/$state",
+                "ready".getBytes(StandardCharsets.UTF_8), 10, 10000);
+        dispatcher.subscribe(connectionMock).get();
+
+        // A large tree arrives completely before anything has subscribed
+        publish(dispatcher, "$name", "Name");
+        for (int i = 0; i < WildcardTopicDispatcher.MAX_CACHED_TOPICS; i++) {
+            publish(dispatcher, "node" + i + "/$name", "Node " + i);
+        }
+        publish(dispatcher, "$state", "ready");
+        assertThat(dispatcher.getCachedPayloadCount(), is(WildcardTopicDispatcher.MAX_CACHED_TOPICS + 2));
+
+        // The earliest payloads are still served
+        Attributes attributes = new Attributes();
+        attributes.subscribeAndReceive(connectionMock, scheduler, BASE_TOPIC, null, 10000, dispatcher)
+                .get(1000, TimeUnit.MILLISECONDS);
+        assertThat(attributes.name, is("Name"));
+        assertThat(attributes.state, is("ready"));
+    }
+
+    @Test
+    public void deliveredPayloadsAreBounded() throws Exception {
+        WildcardTopicDispatcher dispatcher = new WildcardTopicDispatcher(scheduler, BASE_TOPIC, BASE_TOPIC + "/$state",
+                "ready".getBytes(StandardCharsets.UTF_8), 10, 10000);
+        dispatcher.subscribe(connectionMock).get();
+
+        publish(dispatcher, "$name", "Name");
+        publish(dispatcher, "$state", "ready");
+        for (int i = 0; i < WildcardTopicDispatcher.MAX_CACHED_TOPICS; i++) {
+            publish(dispatcher, "node" + i + "/$name", "Node " + i);
+        }
+        Attributes attributes = new Attributes();
+        attributes.subscribeAndReceive(connectionMock, scheduler, BASE_TOPIC, null, 10000, dispatcher)
+                .get(1000, TimeUnit.MILLISECONDS);
+
+        // Once delivered, the payloads of the attributes are dropped to get back to the limit
+        assertThat(dispatcher.getCachedPayloadCount(), is(WildcardTopicDispatcher.MAX_CACHED_TOPICS));
+
+        // Re-subscribing the same object keeps the values of its fields
+        attributes.subscribeAndReceive(connectionMock, scheduler, BASE_TOPIC, null, 10000, dispatcher)
+                .get(1000, TimeUnit.MILLISECONDS);
+        assertThat(attributes.name, is("Name"));
+        assertThat(attributes.state, is("ready"));
+
+        // Undelivered payloads are never dropped
+        for (int i = 0; i < 10; i++) {
+            publish(dispatcher, "other" + i + "/$name", "Other " + i);
+        }
+        assertThat(dispatcher.getCachedPayloadCount(), is(WildcardTopicDispatcher.MAX_CACHED_TOPICS + 10));
+    }
+
+    @Test
+    public void unregisterForgetsPayload() throws Exception {
+        WildcardTopicDispatcher dispatcher = new WildcardTopicDispatcher(scheduler, BASE_TOPIC, BASE_TOPIC + "/$state",
+                "ready".getBytes(StandardCharsets.UTF_8), 10, 10000);
+        dispatcher.subscribe(connectionMock).get();
+
+        publish(dispatcher, "$name", "Name");
+        publish(dispatcher, "$state", "ready");
+        Attributes attributes = new Attributes();
+        attributes.subscribeAndReceive(connectionMock, scheduler, BASE_TOPIC, null, 10000, dispatcher);
+        assertThat(attributes.state, is("ready"));
+
+        attributes.unsubscribe().get();
+        Attributes other = new Attributes();
+        other.subscribeAndReceive(connectionMock, scheduler, BASE_TOPIC, null, 10000, dispatcher);
+        assertNull(other.state);
+    }
+}
@@ -14,8 +14,10 @@ package org.openhab.binding.mqtt.homeassistant.internal;
 
 import java.lang.ref.WeakReference;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -65,6 +67,9 @@ public class DiscoverComponents implements MqttMessageSubscriber {
     protected @Nullable ComponentDiscovered discoveredListener;
     private int discoverTime;
     private Set<String> topics = new HashSet<>();
+    // The hash code ({@link String#hashCode()}) of the last configuration accepted by the listener, per component.
+    // Retained configuration messages that did not change are not parsed again.
+    private final Map<HaID, Integer> acceptedConfigHashes = new ConcurrentHashMap<>();
 
     /**
      * Implement this to get notified of new components
@@ -106,6 +111,11 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         AbstractComponent<?> component = null;
 
         if (config.length() > 0) {
+            Integer acceptedConfigHash = acceptedConfigHashes.get(haID);
+            if (acceptedConfigHash != null && acceptedConfigHash == config.hashCode()) {
+                logger.trace("HomeAssistant component {} configuration unchanged", haID);
+                return;
+            }
             try {
                 component = ComponentFactory.createComponent(thingUID, haID, config, updateListener, tracker, scheduler,
                         gson, jinjava, unitProvider, newStyleChannels);
@@ -124,12 +134,36 @@ public class DiscoverComponents implements MqttMessageSubscriber {
                         haID.objectID, haID.component, e.getMessage());
             }
         } else {
+            // An empty retained configuration removes the component
+            configRemoved(haID);
             if (discoveredListener != null) {
                 discoveredListener.componentRemoved(haID);
             }
         }
     }
 
+    /**
+     * Remember the configuration of a component that has been accepted by the listener, either restored from the
+     * persisted channel configuration or discovered. A retained configuration message with identical content will
+     * then not be parsed and reported again.
+     *
+     * @param haID The component
+     * @param configHash The hash code ({@link String#hashCode()}) of the configuration string
+     */
+    public void configAccepted(HaID haID, int configHash) {
+        acceptedConfigHashes.put(haID, configHash);
+    }
+
+    /**
+     * Forget the accepted configuration of a component, so it will be reported again on the next configuration
+     * message.
+     *
+     * @param haID The component
+     */
+    public void configRemoved(HaID haID) {
+        acceptedConfigHashes.remove(haID);
+    }
+
     /**
      * Start a components discovery.
      *
@@ -194,6 +194,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                     }
 
                     addComponent(component);
+                    discoverComponents.configAccepted(haID, component.getConfigHash());
                 } catch (ConfigurationException e) {
                     logger.warn("Cannot restore component {}: {}", thing, e.getMessage());
                 }
@@ -311,6 +312,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
 
         synchronized (haComponents) { // sync whenever discoverComponents is started
             ThingTypeUID typeID = getThing().getThingTypeUID();
+            boolean componentsChanged = false;
             for (AbstractComponent<?> discovered : discoveredComponentsList) {
                 if (typeID.equals(MqttBindingConstants.HOMEASSISTANT_MQTT_THING)) {
                     typeID = calculateThingTypeUID(discovered);
@@ -331,9 +333,12 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                         }
                     } else {
                         known.setConfigSeen();
+                        discoverComponents.configAccepted(discovered.getHaID(), discovered.getConfigHash());
                         continue;
                     }
                 }
+                componentsChanged = true;
+                discoverComponents.configAccepted(discovered.getHaID(), discovered.getConfigHash());
 
                 // Add component to the component map
                 if (addComponent(discovered)) {
@@ -349,7 +354,10 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                     updateComponent.setReleaseStateUpdateListener(this::releaseStateUpdated);
                 }
             }
-            updateThingType(typeID);
+            // Only re-derive the thing type if anything actually changed
+            if (componentsChanged || !typeID.equals(getThing().getThingTypeUID())) {
+                updateThingType(typeID);
+            }
         }
     }
 
@@ -367,6 +375,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                     haComponentsByUniqueId.remove(known.getUniqueId());
                     haComponents.remove(known.getComponentId());
                     haComponentsByHaId.remove(removed);
+                    discoverComponents.configRemoved(removed);
                     componentActuallyRemoved = true;
                 }
             }
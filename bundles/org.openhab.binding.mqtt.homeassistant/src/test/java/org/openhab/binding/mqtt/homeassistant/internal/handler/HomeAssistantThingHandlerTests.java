@@ -70,6 +70,15 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
     private static final List<String> MQTT_TOPICS = CONFIG_TOPICS.stream()
             .map(AbstractHomeAssistantTests::configTopicToMqtt).collect(Collectors.toList());
 
+    private static final String RESTORED_SWITCH_CONFIG = """
+            {
+              "command_topic": "zigbee2mqtt/th1/set/auto_lock",
+              "name": "th1 auto lock",
+              "state_topic": "zigbee2mqtt/th1",
+              "unique_id": "0x847127fffe11dd6a_auto_lock_zigbee2mqtt"
+            }
+            """;
+
     private @Mock @NonNullByDefault({}) ThingHandlerCallback callbackMock;
     private @NonNullByDefault({}) HomeAssistantThingHandler thingHandler;
     private @NonNullByDefault({}) HomeAssistantThingHandler nonSpyThingHandler;
@@ -356,6 +365,63 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
         assertThat(thingHandler.getComponents().values().iterator().next().getClass(), is(Switch.class));
     }
 
+    /**
+     * Initializes the handler with a thing whose switch component is restored from its channel configuration.
+     */
+    private void initializeRestoredSwitch() {
+        Configuration thingConfiguration = new Configuration();
+        thingConfiguration.put("topics", List.of("switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt/switch"));
+
+        Configuration channelConfiguration = new Configuration();
+        channelConfiguration.put("component", "switch");
+        channelConfiguration.put("objectid", List.of("switch"));
+        channelConfiguration.put("nodeid", "0x847127fffe11dd6a_auto_lock_zigbee2mqtt");
+        channelConfiguration.put("config", List.of(RESTORED_SWITCH_CONFIG));
+
+        ChannelBuilder channelBuilder = ChannelBuilder
+                .create(new ChannelUID(haThing.getUID(), "switch"), CoreItemFactory.SWITCH)
+                .withType(ComponentChannelType.SWITCH.getChannelTypeUID()).withConfiguration(channelConfiguration);
+
+        haThing = ThingBuilder.create(HA_TYPE_UID, HA_UID).withBridge(BRIDGE_UID).withChannel(channelBuilder.build())
+                .withConfiguration(thingConfiguration).build();
+        haThing.setProperty("newStyleChannels", "true");
+
+        setupThingHandler();
+        thingHandler.initialize();
+        assertThat(thingHandler.getComponents().size(), is(1));
+    }
+
+    @Test
+    public void testUnchangedConfigOfRestoredComponentIsNotRediscovered() {
+        initializeRestoredSwitch();
+
+        // The retained configuration is identical to the restored one; it is neither parsed nor reported again
+        String configTopic = "homeassistant/switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt/switch/config";
+        thingHandler.discoverComponents.processMessage(configTopic,
+                RESTORED_SWITCH_CONFIG.getBytes(StandardCharsets.UTF_8));
+        verify(thingHandler, never()).componentDiscovered(any(), any());
+
+        // A changed configuration is reported
+        thingHandler.discoverComponents.processMessage(configTopic,
+                RESTORED_SWITCH_CONFIG.replace("th1 auto lock", "th1 auto lock NEW").getBytes(StandardCharsets.UTF_8));
+        verify(thingHandler, times(1)).componentDiscovered(eq(new HaID(configTopic)), any(Switch.class));
+    }
+
+    @Test
+    public void testEmptyConfigRemovesRestoredComponent() {
+        initializeRestoredSwitch();
+
+        // An empty retained configuration removes the component
+        String configTopic = "homeassistant/switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt/switch/config";
+        thingHandler.discoverComponents.processMessage(configTopic, new byte[0]);
+        verify(thingHandler, times(1)).componentRemoved(eq(new HaID(configTopic)));
+
+        // The previously accepted configuration is forgotten, so publishing it again is reported
+        thingHandler.discoverComponents.processMessage(configTopic,
+                RESTORED_SWITCH_CONFIG.getBytes(StandardCharsets.UTF_8));
+        verify(thingHandler, times(1)).componentDiscovered(eq(new HaID(configTopic)), any(Switch.class));
+    }
+
     @Test
     public void testDuplicateChannelId() {
         thingHandler.initialize();
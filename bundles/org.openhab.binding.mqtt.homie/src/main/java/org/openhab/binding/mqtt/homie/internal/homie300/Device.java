@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.mqtt.homie.internal.homie300;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -23,6 +24,7 @@ import java.util.stream.Stream;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.generic.mapping.AbstractMqttAttributeClass;
+import org.openhab.binding.mqtt.generic.mapping.WildcardTopicDispatcher;
 import org.openhab.binding.mqtt.generic.tools.ChildMap;
 import org.openhab.binding.mqtt.homie.generic.internal.MqttBindingConstants;
 import org.openhab.binding.mqtt.homie.internal.handler.HomieThingHandler;
@@ -55,6 +57,8 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class Device implements AbstractMqttAttributeClass.AttributeChanged {
+    // Time to wait for further retained messages after "$state" became "ready" in wildcard subscription mode
+    private static final int READY_SETTLE_TIME = 100;
     private final Logger logger = LoggerFactory.getLogger(Device.class);
     // The device attributes, statistics and nodes of this device
     public final DeviceAttributes attributes;
@@ -69,6 +73,8 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
     private String topic = "";
     public String deviceID = "";
     private boolean initialized = false;
+    private boolean wildcardSubscription = false;
+    private @Nullable WildcardTopicDispatcher dispatcher;
 
     /**
      * Creates a Homie Device structure. It consists of device attributes, device statistics and nodes.
@@ -115,7 +121,24 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
             throw new IllegalStateException("You must call initialize()!");
         }
 
-        return attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout)
+        final CompletableFuture<?> subscribeFuture;
+        final WildcardTopicDispatcher dispatcher;
+        if (wildcardSubscription) {
+            // One subscription for the whole device tree, attributes are dispatched locally
+            dispatcher = new WildcardTopicDispatcher(scheduler, topic, topic + "/$state",
+                    DeviceAttributes.ReadyState.ready.name().getBytes(StandardCharsets.UTF_8), READY_SETTLE_TIME,
+                    timeout);
+            subscribeFuture = dispatcher.subscribe(connection);
+        } else {
+            dispatcher = null;
+            subscribeFuture = CompletableFuture.completedFuture(null);
+        }
+        this.dispatcher = dispatcher;
+
+        return subscribeFuture
+                .thenCompose(b -> dispatcher != null
+                        ? attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout, dispatcher)
+                        : attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout))
                 // On success, create all nodes and tell the handler about the ready state
                 .thenCompose(b -> attributesReceived(connection, scheduler, timeout))
                 // No matter if values have been received or not -> the subscriptions have been performed
@@ -176,8 +199,26 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
      * Unsubscribe from everything.
      */
     public CompletableFuture<@Nullable Void> stop() {
-        return attributes.unsubscribe().thenCompose(
+        final WildcardTopicDispatcher dispatcher = this.dispatcher;
+        final MqttBrokerConnection connection = attributes.connection.get();
+        this.dispatcher = null;
+        CompletableFuture<@Nullable Void> future = attributes.unsubscribe().thenCompose(
                 b -> CompletableFuture.allOf(nodes.stream().map(Node::stop).toArray(CompletableFuture[]::new)));
+        if (dispatcher != null && connection != null) {
+            return CompletableFuture.allOf(future, dispatcher.unsubscribe(connection));
+        }
+        return future;
+    }
+
+    /**
+     * Enable or disable the wildcard subscription mode. If enabled, {@link #subscribe} subscribes once to
+     * "basetopic/deviceid/#" and dispatches the device, node and property attribute topics locally, instead of
+     * subscribing to each attribute topic individually. Must be called before {@link #subscribe}.
+     *
+     * @param wildcardSubscription True to enable the wildcard subscription mode
+     */
+    public void setWildcardSubscription(boolean wildcardSubscription) {
+        this.wildcardSubscription = wildcardSubscription;
     }
 
     /**
@@ -310,7 +351,8 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
     CompletableFuture<@Nullable Void> applyNodes(MqttBrokerConnection connection, ScheduledExecutorService scheduler,
             int timeout) {
         return nodes.apply(Objects.requireNonNull(attributes.nodes),
-                node -> node.subscribe(connection, scheduler, timeout), this::createNode, this::notifyNodeRemoved)
+                node -> node.subscribe(connection, scheduler, timeout, dispatcher), this::createNode,
+                this::notifyNodeRemoved)
                 .exceptionally(e -> {
                     logger.warn("Could not subscribe", e);
                     return null;
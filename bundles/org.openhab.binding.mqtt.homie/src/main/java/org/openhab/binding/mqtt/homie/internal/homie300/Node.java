@@ -25,6 +25,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.generic.MqttChannelTypeProvider;
 import org.openhab.binding.mqtt.generic.mapping.AbstractMqttAttributeClass;
+import org.openhab.binding.mqtt.generic.mapping.WildcardTopicDispatcher;
 import org.openhab.binding.mqtt.generic.tools.ChildMap;
 import org.openhab.binding.mqtt.homie.generic.internal.MqttBindingConstants;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
@@ -59,6 +60,7 @@ public class Node implements AbstractMqttAttributeClass.AttributeChanged {
     protected final ChannelGroupUID channelGroupUID;
     private final String topic;
     private boolean initialized = false;
+    private @Nullable WildcardTopicDispatcher dispatcher;
 
     /**
      * Creates a Homie Node.
@@ -84,7 +86,20 @@ public class Node implements AbstractMqttAttributeClass.AttributeChanged {
      */
     public CompletableFuture<@Nullable Void> subscribe(MqttBrokerConnection connection,
             ScheduledExecutorService scheduler, int timeout) {
-        return attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout)
+        return subscribe(connection, scheduler, timeout, null);
+    }
+
+    /**
+     * Parse node properties, optionally receiving the node and property attributes from a
+     * {@link WildcardTopicDispatcher} that is subscribed to the whole device topic tree.
+     */
+    public CompletableFuture<@Nullable Void> subscribe(MqttBrokerConnection connection,
+            ScheduledExecutorService scheduler, int timeout, @Nullable WildcardTopicDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        final CompletableFuture<@Nullable Void> attributesFuture = dispatcher != null
+                ? attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout, dispatcher)
+                : attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout);
+        return attributesFuture
                 // On success, create all properties and tell the handler about this node
                 .thenCompose(b -> attributesReceived(connection, scheduler, timeout))
                 // No matter if values have been received or not -> the subscriptions have been performed
@@ -179,7 +194,7 @@ public class Node implements AbstractMqttAttributeClass.AttributeChanged {
     protected CompletableFuture<@Nullable Void> applyProperties(MqttBrokerConnection connection,
             ScheduledExecutorService scheduler, int timeout) {
         return properties.apply(Objects.requireNonNull(attributes.properties),
-                prop -> prop.subscribe(connection, scheduler, timeout), this::createProperty,
+                prop -> prop.subscribe(connection, scheduler, timeout, dispatcher), this::createProperty,
                 this::notifyPropertyRemoved).exceptionally(e -> {
                     logger.warn("Could not subscribe", e);
                     return null;
@@ -32,6 +32,7 @@ import org.openhab.binding.mqtt.generic.ChannelConfigBuilder;
 import org.openhab.binding.mqtt.generic.ChannelState;
 import org.openhab.binding.mqtt.generic.mapping.AbstractMqttAttributeClass.AttributeChanged;
 import org.openhab.binding.mqtt.generic.mapping.ColorMode;
+import org.openhab.binding.mqtt.generic.mapping.WildcardTopicDispatcher;
 import org.openhab.binding.mqtt.generic.values.ColorValue;
 import org.openhab.binding.mqtt.generic.values.DateTimeValue;
 import org.openhab.binding.mqtt.generic.values.NumberValue;
@@ -115,7 +116,22 @@ public class Property implements AttributeChanged {
      */
     public CompletableFuture<@Nullable Void> subscribe(MqttBrokerConnection connection,
             ScheduledExecutorService scheduler, int timeout) {
-        return attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout)
+        return subscribe(connection, scheduler, timeout, null);
+    }
+
+    /**
+     * Subscribe to property attributes, optionally receiving them from a {@link WildcardTopicDispatcher} that is
+     * subscribed to the whole device topic tree.
+     *
+     * @return Returns a future that completes as soon as all attribute values have been received or requests have timed
+     *         out.
+     */
+    public CompletableFuture<@Nullable Void> subscribe(MqttBrokerConnection connection,
+            ScheduledExecutorService scheduler, int timeout, @Nullable WildcardTopicDispatcher dispatcher) {
+        final CompletableFuture<@Nullable Void> attributesFuture = dispatcher != null
+                ? attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout, dispatcher)
+                : attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout);
+        return attributesFuture
                 // On success, create the channel and tell the handler about this property
                 .thenRun(this::attributesReceived)
                 // No matter if values have been received or not -> the subscriptions have been performed
@@ -17,8 +17,19 @@ import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
@@ -36,6 +47,7 @@ import org.openhab.binding.snmp.internal.types.SnmpChannelMode;
 import org.openhab.binding.snmp.internal.types.SnmpDatatype;
 import org.openhab.binding.snmp.internal.types.SnmpProtocolVersion;
 import org.openhab.binding.snmp.internal.types.SnmpSecurityModel;
+import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -46,6 +58,7 @@ import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
 import org.openhab.core.thing.util.ThingHandlerHelper;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
@@ -83,12 +96,18 @@ import org.snmp4j.smi.VariableBinding;
  * The {@link SnmpTargetHandler} is responsible for handling commands, which are
  * sent to one of the channels or update remote channels
  *
+ * Read requests are split by the configured number of variables and PDU size, and at most the configured number of
+ * requests is outstanding at a time. Table channels are read by walking the table column with GETBULK (GETNEXT for
+ * v1), each row of the column gets its own channel.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class SnmpTargetHandler extends BaseThingHandler implements ResponseListener, CommandResponder {
     private static final Pattern HEX_STRING_VALIDITY = Pattern.compile("([A-Fa-f0-9]{2}[ :-]?)+");
     private static final Pattern HEX_STRING_EXTRACTOR = Pattern.compile("[^A-Fa-f0-9]");
+    // estimated size of a request PDU without variable bindings
+    private static final int PDU_OVERHEAD = 100;
 
     private final Logger logger = LoggerFactory.getLogger(SnmpTargetHandler.class);
 
@@ -103,6 +122,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> readChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> writeChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> trapChannelSet;
+    private @NonNullByDefault({}) Map<OID, List<SnmpInternalChannelConfiguration>> readChannelIndex;
+    private @NonNullByDefault({}) Map<OID, List<SnmpInternalChannelConfiguration>> trapChannelIndex;
+    private @NonNullByDefault({}) NavigableMap<OID, SnmpInternalChannelConfiguration> tableColumnIndex;
+
+    private final Object requestLock = new Object();
+    private final Deque<PendingRequest> requestQueue = new ArrayDeque<>();
+    private final Set<PDU> outstandingRequests = Collections.newSetFromMap(new IdentityHashMap<>());
 
     // SNMP v3
     private @Nullable UsmUser usmUser;
@@ -113,6 +139,26 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         this.snmpService = snmpService;
     }
 
+    /**
+     * a request waiting to be sent
+     */
+    private record PendingRequest(PDU pdu, @Nullable TableWalk walk) {
+    }
+
+    /**
+     * the state of the walk of a table column
+     */
+    private static class TableWalk {
+        private final SnmpInternalChannelConfiguration column;
+        private final Map<String, Variable> rows = new LinkedHashMap<>();
+        private OID lastOid;
+
+        private TableWalk(SnmpInternalChannelConfiguration column) {
+            this.column = column;
+            this.lastOid = column.oid;
+        }
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (target.getAddress() == null && !renewTargetAddress()) {
@@ -122,6 +168,12 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
 
         try {
             if (command instanceof RefreshType) {
+                SnmpInternalChannelConfiguration column = tableColumnIndex.values().stream()
+                        .filter(c -> channelUID.equals(c.channelUID)).findFirst().orElse(null);
+                if (column != null) {
+                    queueRequest(getWalkPDU(column.oid), new TableWalk(column));
+                    return;
+                }
                 SnmpInternalChannelConfiguration channel = readChannelSet.stream()
                         .filter(c -> channelUID.equals(c.channelUID)).findFirst()
                         .orElseThrow(() -> new IllegalArgumentException("no readable channel found"));
@@ -251,6 +303,10 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         if (r != null && !r.isCancelled()) {
             r.cancel(true);
         }
+        synchronized (requestLock) {
+            requestQueue.clear();
+            outstandingRequests.clear();
+        }
         snmpService.removeCommandResponder(this);
 
         UsmUser user = usmUser;
@@ -278,6 +334,12 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             ((Snmp) event.getSource()).cancel(event.getRequest(), this);
         }
 
+        PDU request = event.getRequest();
+        if (request != null) {
+            requestCompleted(request);
+        }
+        TableWalk walk = event.getUserObject() instanceof TableWalk tableWalk ? tableWalk : null;
+
         PDU response = event.getResponse();
         if (response == null) {
             Exception e = event.getError();
@@ -298,9 +360,25 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
         logger.trace("{} received {}", thing.getUID(), response);
 
+        if (response.getErrorStatus() == PDU.tooBig && request != null && request.getType() == PDU.GET
+                && request.size() > 1) {
+            // the agent can't answer that many variables at once, retry with two requests
+            logger.debug("{} rejected request with {} variables as too big, splitting", thing.getUID(),
+                    request.size());
+            List<? extends VariableBinding> variables = request.getVariableBindings();
+            int half = variables.size() / 2;
+            queueRequest(createGetPDU(variables.subList(0, half)), null);
+            queueRequest(createGetPDU(variables.subList(half, variables.size())), null);
+            return;
+        }
+        if (walk != null) {
+            continueWalk(walk, response);
+            return;
+        }
+
         response.getVariableBindings().forEach(variable -> {
             if (variable != null) {
-                updateChannels(variable.getOid(), variable.getVariable(), readChannelSet);
+                updateChannels(variable.getOid(), variable.getVariable(), readChannelIndex);
             }
         });
     }
@@ -323,13 +401,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             if (trapValue == PDUv1.ENTERPRISE_SPECIFIC) {
                 trapValue = pduv1.getSpecificTrap();
             }
-            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelSet);
+            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelIndex);
         }
         if ((pdu.getType() == PDU.TRAP || pdu.getType() == PDU.V1TRAP) && config.community.equals(community)
                 && targetAddressString.equals(address)) {
             pdu.getVariableBindings().forEach(variable -> {
                 if (variable != null) {
-                    updateChannels(variable.getOid(), variable.getVariable(), trapChannelSet);
+                    updateChannels(variable.getOid(), variable.getVariable(), trapChannelIndex);
                 }
             });
         }
@@ -419,11 +497,28 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 .collect(Collectors.toSet());
         this.trapChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TRAP)
                 .collect(Collectors.toSet());
+        this.readChannelIndex = readChannelSet.stream().collect(Collectors.groupingBy(c -> c.oid));
+        this.trapChannelIndex = trapChannelSet.stream().collect(Collectors.groupingBy(c -> c.oid));
+        this.tableColumnIndex = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TABLE)
+                .collect(Collectors.toMap(c -> c.oid, c -> c, (c1, c2) -> c1, TreeMap::new));
+    }
+
+    /**
+     * get the table column an OID belongs to
+     *
+     * @param oid the OID
+     * @return the configuration of the table channel or null if the OID is not part of a table column
+     */
+    private @Nullable SnmpInternalChannelConfiguration getTableColumn(OID oid) {
+        Map.Entry<OID, SnmpInternalChannelConfiguration> entry = tableColumnIndex.floorEntry(oid);
+        return entry != null && oid.size() > entry.getKey().size() && oid.startsWith(entry.getKey())
+                ? entry.getValue()
+                : null;
     }
 
-    private void updateChannels(OID oid, Variable value, Set<SnmpInternalChannelConfiguration> channelConfigs) {
-        Set<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigs.stream()
-                .filter(c -> c.oid.equals(oid)).collect(Collectors.toSet());
+    private void updateChannels(OID oid, Variable value,
+            Map<OID, List<SnmpInternalChannelConfiguration>> channelConfigIndex) {
+        List<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigIndex.getOrDefault(oid, List.of());
         if (!updateChannelConfigs.isEmpty()) {
             updateChannelConfigs.forEach(channelConfig -> {
                 ChannelUID channelUID = channelConfig.channelUID;
@@ -590,13 +685,150 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
         }
+        synchronized (requestLock) {
+            // queued requests of the last cycle are outdated, requests that have been sent are still counted until
+            // they are answered or time out
+            requestQueue.clear();
+        }
+        // the rows of tables are read by the walks
+        List<VariableBinding> variables = readChannelSet.stream().map(c -> c.oid).distinct()
+                .filter(oid -> getTableColumn(oid) == null).map(VariableBinding::new).toList();
+        int maxVarbinds = Math.max(1, config.maxVarbinds);
+        List<VariableBinding> pduVariables = new ArrayList<>();
+        int pduSize = PDU_OVERHEAD;
+        for (VariableBinding variable : variables) {
+            int size = variable.getBERLength();
+            if (!pduVariables.isEmpty() && (pduVariables.size() >= maxVarbinds || pduSize + size > config.maxPduSize)) {
+                queueRequest(createGetPDU(pduVariables), null);
+                pduVariables = new ArrayList<>();
+                pduSize = PDU_OVERHEAD;
+            }
+            pduVariables.add(variable);
+            pduSize += size;
+        }
+        if (!pduVariables.isEmpty()) {
+            queueRequest(createGetPDU(pduVariables), null);
+        }
+        tableColumnIndex.values().forEach(column -> queueRequest(getWalkPDU(column.oid), new TableWalk(column)));
+    }
+
+    private PDU createGetPDU(Collection<? extends VariableBinding> variables) {
         PDU pdu = getPDU();
         pdu.setType(PDU.GET);
-        readChannelSet.stream().map(c -> new VariableBinding(c.oid)).forEach(pdu::add);
-        if (!pdu.getVariableBindings().isEmpty()) {
+        variables.forEach(variable -> pdu.add(new VariableBinding(variable.getOid())));
+        return pdu;
+    }
+
+    /**
+     * create a request for the next rows of a table column
+     *
+     * @param oid the last OID received from the column (or the OID of the column)
+     * @return the PDU
+     */
+    private PDU getWalkPDU(OID oid) {
+        PDU pdu = getPDU();
+        if (config.protocol.toInteger() == SnmpConstants.version1) {
+            pdu.setType(PDU.GETNEXT);
+        } else {
+            pdu.setType(PDU.GETBULK);
+            pdu.setNonRepeaters(0);
+            pdu.setMaxRepetitions(Math.max(1, config.maxRepetitions));
+        }
+        pdu.add(new VariableBinding(oid));
+        return pdu;
+    }
+
+    private void continueWalk(TableWalk walk, PDU response) {
+        OID column = walk.column.oid;
+        boolean completed = response.getErrorStatus() != PDU.noError || response.size() == 0;
+        for (VariableBinding variable : response.getVariableBindings()) {
+            OID oid = variable.getOid();
+            if (completed || variable.isException() || oid.size() <= column.size() || !oid.startsWith(column)
+                    || oid.compareTo(walk.lastOid) <= 0) {
+                // left the column (or the agent doesn't advance)
+                completed = true;
+                break;
+            }
+            walk.rows.put(new OID(oid.getValue(), column.size(), oid.size() - column.size()).toDottedString(),
+                    variable.getVariable());
+            walk.lastOid = oid;
+            updateChannels(oid, variable.getVariable(), readChannelIndex);
+        }
+        if (completed) {
+            walkCompleted(walk);
+        } else {
+            queueRequest(getWalkPDU(walk.lastOid), walk);
+        }
+    }
+
+    /**
+     * add channels for the rows of the table that have no channel yet and update them with the values of the walk
+     *
+     * @param walk the completed walk
+     */
+    private void walkCompleted(TableWalk walk) {
+        Channel template = thing.getChannel(walk.column.channelUID);
+        if (template == null) {
+            return;
+        }
+        String label = Objects.requireNonNullElse(template.getLabel(), template.getUID().getId());
+        List<Channel> newChannels = new ArrayList<>();
+        Map<OID, Variable> newRows = new LinkedHashMap<>();
+        for (Map.Entry<String, Variable> row : walk.rows.entrySet()) {
+            String index = row.getKey();
+            ChannelUID channelUID = new ChannelUID(thing.getUID(),
+                    template.getUID().getId() + "_" + index.replace('.', '_'));
+            if (thing.getChannel(channelUID) == null) {
+                Configuration configuration = new Configuration(template.getConfiguration().getProperties());
+                configuration.put("oid", walk.column.oid + "." + index);
+                configuration.put("mode", SnmpChannelMode.READ.name());
+                newChannels.add(ChannelBuilder.create(channelUID, template.getAcceptedItemType())
+                        .withType(template.getChannelTypeUID()).withLabel(label + " " + index)
+                        .withConfiguration(configuration).build());
+                newRows.put(new OID(walk.column.oid + "." + index), row.getValue());
+            }
+        }
+        if (!newChannels.isEmpty()) {
+            logger.debug("{} adding {} channels for the rows of table {}", thing.getUID(), newChannels.size(),
+                    walk.column.oid);
+            updateThing(editThing().withChannels(newChannels).build());
+            // the new row channels are read by the walks from now on
+            generateChannelConfigs();
+            newRows.forEach((oid, value) -> updateChannels(oid, value, readChannelIndex));
+        }
+    }
+
+    private void queueRequest(PDU pdu, @Nullable TableWalk walk) {
+        synchronized (requestLock) {
+            requestQueue.add(new PendingRequest(pdu, walk));
+            sendQueuedRequests();
+        }
+    }
+
+    private void requestCompleted(PDU request) {
+        synchronized (requestLock) {
+            if (outstandingRequests.remove(request)) {
+                sendQueuedRequests();
+            }
+        }
+    }
+
+    private void sendQueuedRequests() {
+        if (target.getAddress() == null) {
+            // the target timed out, the address is renewed with the next refresh
+            requestQueue.clear();
+            return;
+        }
+        while (outstandingRequests.size() < Math.max(1, config.maxRequests)) {
+            PendingRequest request = requestQueue.poll();
+            if (request == null) {
+                return;
+            }
             try {
-                snmpService.send(pdu, target, null, this);
+                outstandingRequests.add(request.pdu());
+                snmpService.send(request.pdu(), target, request.walk(), this);
             } catch (IOException e) {
+                outstandingRequests.remove(request.pdu());
                 logger.info("Could not send PDU", e);
             }
         }
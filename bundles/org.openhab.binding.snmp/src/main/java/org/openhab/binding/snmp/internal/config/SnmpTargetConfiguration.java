@@ -35,6 +35,12 @@ public class SnmpTargetConfiguration {
     public int timeout = 1500;
     public int retries = 2;
 
+    // request limits
+    public int maxVarbinds = 20;
+    public int maxPduSize = 1400;
+    public int maxRequests = 4;
+    public int maxRepetitions = 10;
+
     // v1/v2c only
     public String community = "public";
 
@@ -13,22 +13,28 @@
 package org.openhab.binding.snmp.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.openhab.binding.snmp.internal.types.SnmpChannelMode;
 import org.openhab.binding.snmp.internal.types.SnmpDatatype;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.types.RefreshType;
 import org.snmp4j.PDU;
 import org.snmp4j.Snmp;
 import org.snmp4j.event.ResponseEvent;
@@ -166,6 +172,49 @@ public class SnmpTargetHandlerTest extends AbstractSnmpTargetHandlerTest {
         verifyStatus(ThingStatus.ONLINE);
     }
 
+    @Test
+    public void testTableColumnIsWalked() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, SnmpChannelMode.TABLE);
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        ArgumentCaptor<Object> walkCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(snmpService, timeout(500)).send(pduCaptor.capture(), any(), walkCaptor.capture(), eq(thingHandler));
+        PDU request = pduCaptor.getValue();
+        assertEquals(PDU.GETNEXT, request.getType());
+        assertEquals(new OID(TEST_OID), request.get(0).getOid());
+
+        PDU responsePDU = new PDU(PDU.RESPONSE,
+                List.of(new VariableBinding(new OID(TEST_OID + ".7"), new OctetString(TEST_STRING))));
+        thingHandler.onResponse(new ResponseEvent("test", null, request, responsePDU, walkCaptor.getValue()));
+
+        verify(snmpService, timeout(500).times(2)).send(pduCaptor.capture(), any(), walkCaptor.capture(),
+                eq(thingHandler));
+        request = pduCaptor.getValue();
+        assertEquals(new OID(TEST_OID + ".7"), request.get(0).getOid());
+
+        responsePDU = new PDU(PDU.RESPONSE, List.of(new VariableBinding(new OID("1.2.3.5"), new OctetString("bar"))));
+        thingHandler.onResponse(new ResponseEvent("test", null, request, responsePDU, walkCaptor.getValue()));
+
+        ArgumentCaptor<Thing> thingCaptor = ArgumentCaptor.forClass(Thing.class);
+        verify(thingHandlerCallback).thingUpdated(thingCaptor.capture());
+        Channel rowChannel = thingCaptor.getValue().getChannel(new ChannelUID(THING_UID, "testchannel_7"));
+        assertNotNull(rowChannel);
+        assertEquals(TEST_OID + ".7", rowChannel.getConfiguration().get("oid"));
+        assertEquals(SnmpChannelMode.READ.name(), rowChannel.getConfiguration().get("mode"));
+
+        // the row channel is updated with the value of the walk and on the following walks
+        ChannelUID rowChannelUID = new ChannelUID(THING_UID, "testchannel_7");
+        verify(thingHandlerCallback).stateUpdated(eq(rowChannelUID), eq(new StringType(TEST_STRING)));
+        thingHandler.handleCommand(CHANNEL_UID, RefreshType.REFRESH);
+        verify(snmpService, timeout(500).times(3)).send(pduCaptor.capture(), any(), walkCaptor.capture(),
+                eq(thingHandler));
+        request = pduCaptor.getValue();
+        responsePDU = new PDU(PDU.RESPONSE,
+                List.of(new VariableBinding(new OID(TEST_OID + ".7"), new OctetString("changed"))));
+        thingHandler.onResponse(new ResponseEvent("test", null, request, responsePDU, walkCaptor.getValue()));
+        verify(thingHandlerCallback).stateUpdated(eq(rowChannelUID), eq(new StringType("changed")));
+    }
+
     static class SnmpMock extends Snmp {
         public int cancelCallCounter = 0;
 
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SonosHouseholdTopology} parses the ZoneGroupState of the ZoneGroupTopology service and shares
+ * the resulting group model between all zone players.
+ *
+ * Every zone player of a household receives the same ZoneGroupState on each topology change. The state
+ * is parsed by the first player asking for it, all other players get the same immutable {@link Model}.
+ * A few distinct states are remembered, so that players of different households do not evict each other.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class SonosHouseholdTopology {
+
+    private static final int MAX_CACHED_STATES = 8;
+
+    private final Map<String, Model> models = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, Model> eldest) {
+            return size() > MAX_CACHED_STATES;
+        }
+    };
+
+    /**
+     * Immutable model of the zone groups of a household.
+     */
+    public static class Model {
+        public static final Model EMPTY = new Model(List.of());
+
+        private final List<SonosZoneGroup> groups;
+        private final Map<String, SonosZoneGroup> groupByMember = new HashMap<>();
+
+        Model(List<SonosZoneGroup> groups) {
+            this.groups = Collections.unmodifiableList(groups);
+            for (SonosZoneGroup group : groups) {
+                for (String member : group.getMembers()) {
+                    groupByMember.putIfAbsent(member, group);
+                }
+            }
+        }
+
+        public List<SonosZoneGroup> getGroups() {
+            return groups;
+        }
+
+        /**
+         * @param udn the UDN of a zone player
+         * @return the zone group the given player is member of, or null if it is not part of this model
+         */
+        public @Nullable SonosZoneGroup getGroupOf(String udn) {
+            return groupByMember.get(udn);
+        }
+    }
+
+    /**
+     * Returns the group model for the given ZoneGroupState. The state is only parsed if it has not been
+     * parsed recently.
+     *
+     * @param zoneGroupState the value of the ZoneGroupState variable
+     * @return the group model
+     */
+    public synchronized Model getModel(String zoneGroupState) {
+        Model model = models.get(zoneGroupState);
+        if (model == null) {
+            model = new Model(SonosXMLParser.getZoneGroupFromXML(zoneGroupState));
+            models.put(zoneGroupState, model);
+        }
+        return model;
+    }
+}
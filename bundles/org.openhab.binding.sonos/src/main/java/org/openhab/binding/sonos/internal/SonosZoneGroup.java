@@ -14,6 +14,7 @@ package org.openhab.binding.sonos.internal;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -44,11 +45,11 @@ public class SonosZoneGroup {
     }
 
     public List<String> getMembers() {
-        return members;
+        return Collections.unmodifiableList(members);
     }
 
     public List<String> getMemberZoneNames() {
-        return memberZoneNames;
+        return Collections.unmodifiableList(memberZoneNames);
     }
 
     public String getCoordinator() {
@@ -37,6 +37,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sonos.internal.SonosAlarm;
 import org.openhab.binding.sonos.internal.SonosBindingConstants;
 import org.openhab.binding.sonos.internal.SonosEntry;
+import org.openhab.binding.sonos.internal.SonosHouseholdTopology;
 import org.openhab.binding.sonos.internal.SonosMetaData;
 import org.openhab.binding.sonos.internal.SonosMusicService;
 import org.openhab.binding.sonos.internal.SonosResourceMetaData;
@@ -183,6 +184,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     private final Object upnpLock = new Object();
     private final Object stateLock = new Object();
     private final Object jobLock = new Object();
+    private final Object zoneGroupLock = new Object();
 
     private final Map<String, String> stateMap = Collections.synchronizedMap(new HashMap<>());
 
@@ -198,6 +200,10 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
     private @Nullable List<SonosMusicService> musicServices;
 
+    private final SonosHouseholdTopology topology;
+    private @Nullable String zoneGroupState;
+    private SonosHouseholdTopology.Model zoneGroupModel = SonosHouseholdTopology.Model.EMPTY;
+
     private enum LineInType {
         ANALOG,
         DIGITAL,
@@ -205,9 +211,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public ZonePlayerHandler(ThingRegistry thingRegistry, Thing thing, UpnpIOService upnpIOService,
-            @Nullable String opmlUrl, SonosStateDescriptionOptionProvider stateDescriptionProvider) {
+            @Nullable String opmlUrl, SonosStateDescriptionOptionProvider stateDescriptionProvider,
+            SonosHouseholdTopology topology) {
         super(thing);
         this.localThingRegistry = thingRegistry;
+        this.topology = topology;
         this.opmlUrl = opmlUrl;
         logger.debug("Creating a ZonePlayerHandler for thing '{}'", getThing().getUID());
         this.service = upnpIOService;
@@ -1217,12 +1225,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public String getCoordinator() {
-        for (SonosZoneGroup zg : getZoneGroups()) {
-            if (zg.getMembers().contains(getUDN())) {
-                return zg.getCoordinator();
-            }
-        }
-        return getUDN();
+        SonosZoneGroup zoneGroup = getZoneGroupModel().getGroupOf(getUDN());
+        return zoneGroup != null ? zoneGroup.getCoordinator() : getUDN();
     }
 
     public boolean isCoordinator() {
@@ -1935,9 +1939,25 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         return zoneGroup == null || zoneGroup.getMembers().size() == 1;
     }
 
-    private Collection<SonosZoneGroup> getZoneGroups() {
+    /**
+     * Returns the group model of the last received ZoneGroupState, shared with the other players of the household
+     */
+    private SonosHouseholdTopology.Model getZoneGroupModel() {
         String zoneGroupState = stateMap.get("ZoneGroupState");
-        return zoneGroupState == null ? Collections.emptyList() : SonosXMLParser.getZoneGroupFromXML(zoneGroupState);
+        if (zoneGroupState == null) {
+            return SonosHouseholdTopology.Model.EMPTY;
+        }
+        synchronized (zoneGroupLock) {
+            if (!zoneGroupState.equals(this.zoneGroupState)) {
+                zoneGroupModel = topology.getModel(zoneGroupState);
+                this.zoneGroupState = zoneGroupState;
+            }
+            return zoneGroupModel;
+        }
+    }
+
+    private Collection<SonosZoneGroup> getZoneGroups() {
+        return getZoneGroupModel().getGroups();
     }
 
     /**
@@ -1947,13 +1967,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
      * @return {@link SonosZoneGroup}
      */
     private @Nullable SonosZoneGroup getCurrentZoneGroup() {
-        for (SonosZoneGroup zoneGroup : getZoneGroups()) {
-            if (zoneGroup.getMembers().contains(getUDN())) {
-                return zoneGroup;
-            }
+        SonosZoneGroup zoneGroup = getZoneGroupModel().getGroupOf(getUDN());
+        if (zoneGroup == null) {
+            logger.debug("Could not fetch Sonos group state information");
         }
-        logger.debug("Could not fetch Sonos group state information");
-        return null;
+        return zoneGroup;
     }
 
     /**
@@ -2292,13 +2310,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     protected List<String> getZoneGroupMembers() {
         List<String> result = new ArrayList<>();
 
-        Collection<SonosZoneGroup> zoneGroups = getZoneGroups();
-        if (!zoneGroups.isEmpty()) {
-            for (SonosZoneGroup zg : zoneGroups) {
-                if (zg.getMembers().contains(getUDN())) {
-                    result.addAll(zg.getMembers());
-                    break;
-                }
+        SonosHouseholdTopology.Model zoneGroupModel = getZoneGroupModel();
+        if (!zoneGroupModel.getGroups().isEmpty()) {
+            SonosZoneGroup zoneGroup = zoneGroupModel.getGroupOf(getUDN());
+            if (zoneGroup != null) {
+                result.addAll(zoneGroup.getMembers());
             }
         } else {
             // If the group topology was not yet received, return at least the current Sonos zone
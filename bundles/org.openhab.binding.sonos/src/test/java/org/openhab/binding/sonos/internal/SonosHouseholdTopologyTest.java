@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SonosHouseholdTopology}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class SonosHouseholdTopologyTest {
+
+    private static String zoneGroupState(String livingRoomCoordinator) {
+        return "<ZoneGroupState><ZoneGroups>" //
+                + "<ZoneGroup Coordinator=\"" + livingRoomCoordinator + "\" ID=\"" + livingRoomCoordinator + ":1\">"
+                + "<ZoneGroupMember UUID=\"RINCON_000000000001\" ZoneName=\"Living Room\"/>"
+                + "<ZoneGroupMember UUID=\"RINCON_000000000002\" ZoneName=\"Living Room\"/>" //
+                + "</ZoneGroup>" //
+                + "<ZoneGroup Coordinator=\"RINCON_000000000003\" ID=\"RINCON_000000000003:2\">"
+                + "<ZoneGroupMember UUID=\"RINCON_000000000003\" ZoneName=\"Kitchen\"/>" //
+                + "</ZoneGroup>" //
+                + "</ZoneGroups></ZoneGroupState>";
+    }
+
+    @Test
+    public void sameStateIsParsedOnce() {
+        SonosHouseholdTopology topology = new SonosHouseholdTopology();
+
+        // Every player receives its own copy of the same state
+        SonosHouseholdTopology.Model model = topology.getModel(zoneGroupState("RINCON_000000000001"));
+        for (int player = 0; player < 14; player++) {
+            assertSame(model, topology.getModel(new String(zoneGroupState("RINCON_000000000001"))));
+        }
+
+        List<SonosZoneGroup> groups = model.getGroups();
+        assertEquals(2, groups.size());
+        assertThrows(UnsupportedOperationException.class, () -> groups.clear());
+    }
+
+    @Test
+    public void groupLookup() {
+        SonosHouseholdTopology topology = new SonosHouseholdTopology();
+        SonosHouseholdTopology.Model model = topology.getModel(zoneGroupState("RINCON_000000000002"));
+
+        SonosZoneGroup livingRoom = model.getGroupOf("RINCON_000000000001");
+        assertNotNull(livingRoom);
+        assertEquals("RINCON_000000000002", livingRoom.getCoordinator());
+        assertEquals(List.of("RINCON_000000000001", "RINCON_000000000002"), livingRoom.getMembers());
+
+        SonosZoneGroup kitchen = model.getGroupOf("RINCON_000000000003");
+        assertNotNull(kitchen);
+        assertEquals(List.of("Kitchen"), kitchen.getMemberZoneNames());
+
+        assertNull(model.getGroupOf("RINCON_000000000004"));
+        assertNull(SonosHouseholdTopology.Model.EMPTY.getGroupOf("RINCON_000000000001"));
+    }
+
+    @Test
+    public void changedStateIsParsedAgain() {
+        SonosHouseholdTopology topology = new SonosHouseholdTopology();
+        SonosHouseholdTopology.Model before = topology.getModel(zoneGroupState("RINCON_000000000001"));
+        SonosHouseholdTopology.Model after = topology.getModel(zoneGroupState("RINCON_000000000002"));
+
+        assertNotSame(before, after);
+        SonosZoneGroup group = after.getGroupOf("RINCON_000000000001");
+        assertNotNull(group);
+        assertEquals("RINCON_000000000002", group.getCoordinator());
+    }
+}
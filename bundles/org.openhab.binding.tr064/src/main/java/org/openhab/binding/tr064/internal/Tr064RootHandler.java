@@ -214,6 +214,8 @@ public class Tr064RootHandler extends BaseBridgeHandler implements PhonebookProv
      */
     private void poll() {
         try {
+            soapConnector.prefetchChannelStates(channels.entrySet().stream()
+                    .filter(channel -> isLinked(channel.getKey())).map(Map.Entry::getValue).toList());
             channels.forEach((channelUID, channelConfig) -> {
                 if (isLinked(channelUID)) {
                     State state = stateCache.putIfAbsentAndGet(channelUID,
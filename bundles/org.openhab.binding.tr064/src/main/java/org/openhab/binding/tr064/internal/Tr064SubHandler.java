@@ -189,6 +189,10 @@ public class Tr064SubHandler extends BaseThingHandler {
      */
     private void poll() {
         SOAPConnector soapConnector = this.soapConnector;
+        if (soapConnector != null) {
+            soapConnector.prefetchChannelStates(channels.entrySet().stream()
+                    .filter(channel -> isLinked(channel.getKey())).map(Map.Entry::getValue).toList());
+        }
         channels.forEach((channelUID, channelConfig) -> {
             if (isLinked(channelUID)) {
                 State state = stateCache.putIfAbsentAndGet(channelUID, () -> soapConnector == null ? UnDefType.UNDEF
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tr064.internal.phonebook;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link PhonebookIndex} is a trie of the reversed phone numbers of a phonebook, so the names of numbers ending
+ * with a given suffix are found with one step per digit.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class PhonebookIndex {
+    // normalized numbers only contain digits, '*' and '+'
+    private static final String SYMBOLS = "0123456789*+";
+
+    private static class Node {
+        private final @Nullable Node[] children = new Node[SYMBOLS.length()];
+        // name of the first number ending with the suffix of this node
+        private @Nullable String name;
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * create an index
+     *
+     * @param phonebook map of normalized phone numbers to names
+     */
+    PhonebookIndex(Map<String, String> phonebook) {
+        phonebook.forEach(this::add);
+    }
+
+    private void add(String number, String name) {
+        Node node = root;
+        for (int i = number.length() - 1; i >= 0; i--) {
+            int symbol = SYMBOLS.indexOf(number.charAt(i));
+            if (symbol < 0) {
+                return;
+            }
+            Node child = node.children[symbol];
+            if (child == null) {
+                child = new Node();
+                node.children[symbol] = child;
+            }
+            if (child.name == null) {
+                child.name = name;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * get the name of a number ending with the given suffix
+     *
+     * @param suffix the normalized suffix
+     * @return an Optional containing the name (empty if no number ends with the suffix)
+     */
+    Optional<String> lookupSuffix(String suffix) {
+        Node node = root;
+        for (int i = suffix.length() - 1; i >= 0 && node != null; i--) {
+            int symbol = SYMBOLS.indexOf(suffix.charAt(i));
+            node = symbol < 0 ? null : node.children[symbol];
+        }
+        return node == null || node == root ? Optional.empty() : Optional.ofNullable(node.name);
+    }
+}
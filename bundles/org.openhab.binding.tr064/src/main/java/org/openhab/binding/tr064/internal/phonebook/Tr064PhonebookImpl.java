@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.tr064.internal.dto.additions.PhonebooksType;
 import org.openhab.binding.tr064.internal.util.Util;
@@ -34,6 +35,9 @@ public class Tr064PhonebookImpl implements Phonebook {
     private final Logger logger = LoggerFactory.getLogger(Tr064PhonebookImpl.class);
 
     protected Map<String, String> phonebook = new HashMap<>();
+    // index of the phonebook map it has been created for
+    private @Nullable PhonebookIndex phonebookIndex;
+    private Map<String, String> indexedPhonebook = Map.of();
 
     private final HttpClient httpClient;
     private final String phonebookUrl;
@@ -95,8 +99,17 @@ public class Tr064PhonebookImpl implements Phonebook {
             matchString = normalized;
         }
         logger.trace("Normalized '{}' to '{}', matchString is '{}'", number, normalized, matchString);
-        return matchString.isBlank() ? Optional.empty()
-                : phonebook.keySet().stream().filter(n -> n.endsWith(matchString)).findFirst().map(phonebook::get);
+        return matchString.isBlank() ? Optional.empty() : getPhonebookIndex().lookupSuffix(matchString);
+    }
+
+    private synchronized PhonebookIndex getPhonebookIndex() {
+        PhonebookIndex phonebookIndex = this.phonebookIndex;
+        if (phonebookIndex == null || indexedPhonebook != phonebook) {
+            indexedPhonebook = phonebook;
+            phonebookIndex = new PhonebookIndex(phonebook);
+            this.phonebookIndex = phonebookIndex;
+        }
+        return phonebookIndex;
     }
 
     @Override
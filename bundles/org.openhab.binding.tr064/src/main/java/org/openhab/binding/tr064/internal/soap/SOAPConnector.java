@@ -12,17 +12,23 @@
  */
 package org.openhab.binding.tr064.internal.soap;
 
+import static org.openhab.binding.tr064.internal.Tr064BindingConstants.BINDING_ID;
 import static org.openhab.binding.tr064.internal.util.Util.getSOAPElement;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
-import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -37,8 +43,10 @@ import javax.xml.soap.SOAPMessage;
 import javax.xml.soap.SOAPPart;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Authentication;
+import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.util.BytesContentProvider;
@@ -51,6 +59,7 @@ import org.openhab.binding.tr064.internal.dto.config.ChannelTypeDescription;
 import org.openhab.binding.tr064.internal.dto.scpd.root.SCPDServiceType;
 import org.openhab.binding.tr064.internal.dto.scpd.service.SCPDActionType;
 import org.openhab.core.cache.ExpiringCacheMap;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.ChannelUID;
@@ -63,26 +72,64 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link SOAPConnector} provides communication with a remote SOAP device
  *
+ * Up to {@link #MAX_CONCURRENT_REQUESTS} requests are sent in parallel. Until the authentication with the device has
+ * been negotiated, requests are sent one at a time, so all requests share the same digest authentication.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class SOAPConnector {
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
+    private static final long CACHE_EXPIRY_NANOS = TimeUnit.MILLISECONDS.toNanos(2000);
+
     private final Logger logger = LoggerFactory.getLogger(SOAPConnector.class);
     private final HttpClient httpClient;
     private final String endpointBaseURL;
+    private final URI endpointURI;
     private final SOAPValueConverter soapValueConverter;
     private final int timeout;
+    private final ExecutorService executor = ThreadPoolManager.getPool(BINDING_ID);
+    private final Semaphore requestPermits = new Semaphore(MAX_CONCURRENT_REQUESTS, true);
 
-    private final ExpiringCacheMap<SOAPRequest, SOAPMessage> soapMessageCache = new ExpiringCacheMap<>(
-            Duration.ofMillis(2000));
+    private final Map<SOAPRequest, CachedResponse> soapMessageCache = new ConcurrentHashMap<>();
+    private volatile @Nullable MessageFactory messageFactory;
+    private volatile boolean authenticated = false;
 
     public SOAPConnector(HttpClient httpClient, String endpointBaseURL, int timeout) {
         this.httpClient = httpClient;
         this.endpointBaseURL = endpointBaseURL;
+        this.endpointURI = URI.create(endpointBaseURL);
         this.timeout = timeout;
         this.soapValueConverter = new SOAPValueConverter(httpClient, timeout);
     }
 
+    /**
+     * a response in the cache, requests for the same response wait until it is completed
+     */
+    private static class CachedResponse {
+        private final CompletableFuture<SOAPMessage> response = new CompletableFuture<>();
+        private volatile long completed;
+
+        private boolean isExpired(long now) {
+            return response.isDone() && now - completed >= CACHE_EXPIRY_NANOS;
+        }
+    }
+
+    /**
+     * get the message factory, it is created once and used for all messages
+     *
+     * @return the message factory
+     * @throws SOAPException if the message factory cannot be created
+     */
+    private MessageFactory getMessageFactory() throws SOAPException {
+        MessageFactory messageFactory = this.messageFactory;
+        if (messageFactory == null) {
+            messageFactory = MessageFactory.newInstance();
+            this.messageFactory = messageFactory;
+        }
+        return messageFactory;
+    }
+
     /**
      * prepare a SOAP request for an action request to a service
      *
@@ -92,8 +139,7 @@ public class SOAPConnector {
      * @throws SOAPException if a problem with creating the SOAP message occurs
      */
     private Request prepareSOAPRequest(SOAPRequest soapRequest) throws IOException, SOAPException {
-        MessageFactory messageFactory = MessageFactory.newInstance();
-        SOAPMessage soapMessage = messageFactory.createMessage();
+        SOAPMessage soapMessage = getMessageFactory().createMessage();
         SOAPPart soapPart = soapMessage.getSOAPPart();
         SOAPEnvelope envelope = soapPart.getEnvelope();
         envelope.setEncodingStyle("http://schemas.xmlsoap.org/soap/encoding/");
@@ -138,29 +184,68 @@ public class SOAPConnector {
      * @throws Tr064CommunicationException if an error occurs during the request
      */
     public SOAPMessage doSOAPRequest(SOAPRequest soapRequest) throws Tr064CommunicationException {
+        long now = System.nanoTime();
+        CachedResponse newResponse = new CachedResponse();
+        CachedResponse cachedResponse = soapMessageCache.compute(soapRequest,
+                (request, cached) -> cached == null || cached.isExpired(now) ? newResponse : cached);
+        if (cachedResponse == newResponse) {
+            soapMessageCache.values().removeIf(cached -> cached.isExpired(now));
+            try {
+                SOAPMessage newValue = doSOAPRequestUncached(soapRequest);
+                logger.trace("Storing in cache: {}", newValue);
+                newResponse.completed = System.nanoTime();
+                newResponse.response.complete(newValue);
+                return newValue;
+            } catch (Tr064CommunicationException | RuntimeException e) {
+                // waiting requests fail with the same exception
+                newResponse.completed = System.nanoTime();
+                newResponse.response.completeExceptionally(e);
+                throw e;
+            }
+        }
         try {
-            SOAPMessage soapMessage = Objects.requireNonNull(soapMessageCache.putIfAbsentAndGet(soapRequest, () -> {
-                try {
-                    SOAPMessage newValue = doSOAPRequestUncached(soapRequest);
-                    logger.trace("Storing in cache: {}", newValue);
-                    return newValue;
-                } catch (Tr064CommunicationException e) {
-                    // wrap exception
-                    throw new IllegalArgumentException(e);
-                }
-            }));
+            SOAPMessage soapMessage = cachedResponse.response.get();
             logger.trace("Returning from cache: {}", soapMessage);
             return soapMessage;
-        } catch (IllegalArgumentException e) {
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Tr064CommunicationException(e);
+        } catch (ExecutionException e) {
             Throwable cause = e.getCause();
             if (cause instanceof Tr064CommunicationException tr064CommunicationException) {
                 throw tr064CommunicationException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             } else {
-                throw e;
+                throw new Tr064CommunicationException(e);
             }
         }
     }
 
+    /**
+     * request the values of the given channels in parallel, so that the following calls to
+     * {@link #getChannelStateFromDevice(Tr064ChannelConfig, Map, ExpiringCacheMap)} are answered from the cache
+     *
+     * Channels sharing the same action and arguments are requested only once.
+     *
+     * @param channelConfigs the configs of the channels to request
+     */
+    public void prefetchChannelStates(Collection<Tr064ChannelConfig> channelConfigs) {
+        List<SOAPRequest> soapRequests = channelConfigs.stream().map(this::getStateRequest).filter(Objects::nonNull)
+                .map(Objects::requireNonNull).distinct().toList();
+        if (soapRequests.size() < 2) {
+            return;
+        }
+        logger.trace("Prefetching {} requests for {} channels", soapRequests.size(), channelConfigs.size());
+        CompletableFuture.allOf(soapRequests.stream().map(soapRequest -> CompletableFuture.runAsync(() -> {
+            try {
+                doSOAPRequest(soapRequest);
+            } catch (Tr064CommunicationException e) {
+                // the failed response is cached and reported for the channel
+            }
+        }, executor)).toArray(CompletableFuture[]::new)).join();
+    }
+
     /**
      * execute a SOAP request without cache
      *
@@ -168,8 +253,18 @@ public class SOAPConnector {
      * @return the SOAPMessage answer from the remote host
      * @throws Tr064CommunicationException if an error occurs during the request
      */
-    public synchronized SOAPMessage doSOAPRequestUncached(SOAPRequest soapRequest) throws Tr064CommunicationException {
+    public SOAPMessage doSOAPRequestUncached(SOAPRequest soapRequest) throws Tr064CommunicationException {
+        // until the authentication is negotiated, a request blocks all others
+        int permits = authenticated ? 1 : MAX_CONCURRENT_REQUESTS;
         try {
+            requestPermits.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Tr064CommunicationException(e);
+        }
+        try {
+            AuthenticationStore authStore = httpClient.getAuthenticationStore();
+            Authentication.Result usedAuthResult = authStore.findAuthenticationResult(endpointURI);
             Request request = prepareSOAPRequest(soapRequest).timeout(timeout, TimeUnit.SECONDS);
             if (logger.isTraceEnabled()) {
                 request.getContent().forEach(buffer -> logger.trace("Request: {}", new String(buffer.array())));
@@ -179,18 +274,20 @@ public class SOAPConnector {
             if (response.getStatus() == HttpStatus.UNAUTHORIZED_401) {
                 // retry once if authentication expired
                 logger.trace("Re-Auth needed.");
-                Authentication.Result authResult = httpClient.getAuthenticationStore()
-                        .findAuthenticationResult(URI.create(endpointBaseURL));
-                if (authResult != null) {
-                    httpClient.getAuthenticationStore().removeAuthenticationResult(authResult);
+                authenticated = false;
+                Authentication.Result authResult = authStore.findAuthenticationResult(endpointURI);
+                // keep a result that another request already renewed
+                if (authResult != null && authResult == usedAuthResult) {
+                    authStore.removeAuthenticationResult(authResult);
                 }
                 request = prepareSOAPRequest(soapRequest).timeout(timeout, TimeUnit.SECONDS);
                 response = request.send();
             }
+            authenticated = response.getStatus() != HttpStatus.UNAUTHORIZED_401;
             try (final ByteArrayInputStream is = new ByteArrayInputStream(response.getContent())) {
                 logger.trace("Received response: {}", response.getContentAsString());
 
-                SOAPMessage soapMessage = MessageFactory.newInstance().createMessage(null, is);
+                SOAPMessage soapMessage = getMessageFactory().createMessage(null, is);
                 if (soapMessage.getSOAPBody().hasFault()) {
                     String soapError = Objects
                             .requireNonNull(getSOAPElement(soapMessage, "errorCode").orElse("unknown"));
@@ -203,6 +300,8 @@ public class SOAPConnector {
             }
         } catch (IOException | SOAPException | InterruptedException | TimeoutException | ExecutionException e) {
             throw new Tr064CommunicationException(e);
+        } finally {
+            requestPermits.release(permits);
         }
     }
 
@@ -239,6 +338,26 @@ public class SOAPConnector {
                 }, () -> logger.warn("Could not convert {} to SOAP value", command));
     }
 
+    /**
+     * get the request for the value of a channel
+     *
+     * @param channelConfig the channel config containing all information
+     * @return the request, null if the channel has no get action
+     */
+    private @Nullable SOAPRequest getStateRequest(Tr064ChannelConfig channelConfig) {
+        final SCPDActionType getAction = channelConfig.getGetAction();
+        if (getAction == null) {
+            return null;
+        }
+        Map<String, String> arguments = new HashMap<>();
+        String parameter = channelConfig.getParameter();
+        ActionType action = channelConfig.getChannelTypeDescription().getGetAction();
+        if (parameter != null && !action.getParameter().isInternalOnly()) {
+            arguments.put(action.getParameter().getName(), parameter);
+        }
+        return new SOAPRequest(channelConfig.getService(), getAction.getName(), arguments);
+    }
+
     /**
      * get a value from the remote device - updates state cache for all possible channels
      *
@@ -261,14 +380,7 @@ public class SOAPConnector {
             }
 
             // get value(s) from remote device
-            Map<String, String> arguments = new HashMap<>();
-            String parameter = channelConfig.getParameter();
-            ActionType action = channelConfig.getChannelTypeDescription().getGetAction();
-            if (parameter != null && !action.getParameter().isInternalOnly()) {
-                arguments.put(action.getParameter().getName(), parameter);
-            }
-            SOAPMessage soapResponse = doSOAPRequest(
-                    new SOAPRequest(channelConfig.getService(), getAction.getName(), arguments));
+            SOAPMessage soapResponse = doSOAPRequest(Objects.requireNonNull(getStateRequest(channelConfig)));
             String argumentName = channelConfig.getChannelTypeDescription().getGetAction().getArgument();
             // find all other channels with the same action that are already in cache, so we can update them
             Map<ChannelUID, Tr064ChannelConfig> channelsInRequest = channelConfigMap.entrySet().stream()
@@ -78,6 +78,21 @@ public class Tr064PhonebookImplTest {
         assertEquals("bar", result.get());
     }
 
+    @Test
+    public void testLookupAfterPhonebookChange() {
+        when(httpClient.newRequest((String) any())).thenThrow(new IllegalArgumentException("testing"));
+        TestPhonebook testPhonebook = new TestPhonebook(httpClient, "", 0);
+        testPhonebook.setPhonebook(Map.of("+491238007001", "foo", "**820", "baz"));
+
+        assertEquals("baz", testPhonebook.lookupNumber("**820", 0).get());
+        assertEquals(Optional.empty(), testPhonebook.lookupNumber("9**820", 0));
+        assertEquals(Optional.empty(), testPhonebook.lookupNumber("+4933998005671", 0));
+
+        testPhonebook.setPhonebook(Map.of("+4933998005671", "bar"));
+        assertEquals("bar", testPhonebook.lookupNumber("+4933998005671", 0).get());
+        assertEquals(Optional.empty(), testPhonebook.lookupNumber("01238007001", 10));
+    }
+
     private static class TestPhonebook extends Tr064PhonebookImpl {
         public TestPhonebook(HttpClient httpClient, String phonebookUrl, int httpTimeout) {
             super(httpClient, phonebookUrl, httpTimeout);
@@ -37,6 +37,10 @@ public class UniFiControllerThingConfig {
 
     private boolean unifios = false;
 
+    private boolean eventStream = false;
+
+    private int fullRefresh = 300;
+
     public String getHost() {
         return host;
     }
@@ -91,6 +95,24 @@ public class UniFiControllerThingConfig {
         this.unifios = unifios;
     }
 
+    public boolean isEventStream() {
+        return eventStream;
+    }
+
+    private void setEventStream(final boolean eventStream) {
+        // method to avoid ide auto format mark the field as final
+        this.eventStream = eventStream;
+    }
+
+    public int getFullRefresh() {
+        return fullRefresh;
+    }
+
+    private void setFullRefresh(final int fullRefresh) {
+        // method to avoid ide auto format mark the field as final
+        this.fullRefresh = fullRefresh;
+    }
+
     public boolean isValid() {
         return !host.isBlank() && !username.isBlank() && !password.isBlank();
     }
@@ -98,6 +120,7 @@ public class UniFiControllerThingConfig {
     @Override
     public String toString() {
         return "UniFiControllerConfig{host = " + host + ", port = " + port + ", username = " + username
-                + ", password = *****, refresh = " + refresh + ", unifios = " + unifios + "}";
+                + ", password = *****, refresh = " + refresh + ", unifios = " + unifios + ", eventStream = "
+                + eventStream + ", fullRefresh = " + fullRefresh + "}";
     }
 }
@@ -18,6 +18,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
 import org.openhab.binding.unifi.internal.handler.UniFiAccessPointThingHandler;
 import org.openhab.binding.unifi.internal.handler.UniFiClientThingHandler;
 import org.openhab.binding.unifi.internal.handler.UniFiControllerThingHandler;
@@ -26,6 +27,7 @@ import org.openhab.binding.unifi.internal.handler.UniFiSiteThingHandler;
 import org.openhab.binding.unifi.internal.handler.UniFiWlanThingHandler;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.io.net.http.HttpClientInitializationException;
+import org.openhab.core.io.net.http.WebSocketFactory;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
@@ -48,19 +50,32 @@ import org.osgi.service.component.annotations.Reference;
 public class UniFiThingHandlerFactory extends BaseThingHandlerFactory {
 
     private final HttpClient httpClient;
+    private final WebSocketClient webSocketClient;
 
     @Activate
-    public UniFiThingHandlerFactory(@Reference final HttpClientFactory httpClientFactory) {
+    public UniFiThingHandlerFactory(@Reference final HttpClientFactory httpClientFactory,
+            @Reference final WebSocketFactory webSocketFactory) {
         httpClient = httpClientFactory.createHttpClient(BINDING_ID, new SslContextFactory.Client(true));
         try {
             httpClient.start();
         } catch (final Exception e) {
             throw new HttpClientInitializationException("Could not start HttpClient", e);
         }
+        webSocketClient = webSocketFactory.createWebSocketClient(BINDING_ID, new SslContextFactory.Client(true));
+        try {
+            webSocketClient.start();
+        } catch (final Exception e) {
+            throw new HttpClientInitializationException("Could not start WebSocketClient", e);
+        }
     }
 
     @Override
     protected void deactivate(final ComponentContext componentContext) {
+        try {
+            webSocketClient.stop();
+        } catch (final Exception e) {
+            // Eat websocket client stop exception.
+        }
         try {
             httpClient.stop();
         } catch (final Exception e) {
@@ -79,7 +94,7 @@ public class UniFiThingHandlerFactory extends BaseThingHandlerFactory {
     protected @Nullable ThingHandler createHandler(final Thing thing) {
         final ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         if (THING_TYPE_CONTROLLER.equals(thingTypeUID)) {
-            return new UniFiControllerThingHandler((Bridge) thing, httpClient);
+            return new UniFiControllerThingHandler((Bridge) thing, httpClient, webSocketClient);
         } else if (THING_TYPE_SITE.equals(thingTypeUID)) {
             return new UniFiSiteThingHandler(thing);
         } else if (THING_TYPE_WLAN.equals(thingTypeUID)) {
@@ -12,13 +12,26 @@
  */
 package org.openhab.binding.unifi.internal.api;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
 import org.openhab.binding.unifi.internal.api.cache.UniFiControllerCache;
 import org.openhab.binding.unifi.internal.api.dto.UnfiPortOverrideJsonObject;
 import org.openhab.binding.unifi.internal.api.dto.UniFiClient;
@@ -43,12 +56,20 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 
 /**
  * The {@link UniFiController} is the main communication point with an external instance of the Ubiquiti Networks
  * Controller Software.
  *
+ * A refresh requests the data of the sites in parallel and replaces the cached data only when the new data is
+ * complete. The client history (insights) is large and only refreshed after the configured interval. Optionally the
+ * event streams of the sites are subscribed, which update the cached clients and devices between the refreshes.
+ *
  * @author Matthew Bowman - Initial contribution
  * @author Patrik Wimnell - Blocking / Unblocking client support
  * @author Jacob Laursen - Fix online/blocked channels (broken by UniFi Controller 5.12.35)
@@ -59,6 +80,8 @@ import com.google.gson.JsonObject;
 public class UniFiController {
 
     private static final int INSIGHT_WITHIN_HOURS = 7 * 24; // scurb: Changed to 7 days.
+    private static final Pattern CLIENT_EVENT_PATTERN = Pattern
+            .compile("EVT_[WL][UG]_(Connected|Disconnected|Roam|RoamRadio)");
 
     private final Logger logger = LoggerFactory.getLogger(UniFiController.class);
 
@@ -72,12 +95,23 @@ public class UniFiController {
     private final boolean unifios;
     private final Gson gson;
     private final Gson poeGson;
+    private final ExecutorService executor;
+    private final long insightsRefreshNanos;
+    private final Map<String, UniFiEventStream> eventStreams = new ConcurrentHashMap<>();
 
-    private String csrfToken;
+    private volatile String csrfToken;
+    private long lastInsightsRefresh;
+    private boolean insightsRefreshed;
+    private @Nullable WebSocketClient webSocketClient;
+    private volatile Runnable eventListener = () -> {
+    };
 
     public UniFiController(final HttpClient httpClient, final String host, final int port, final String username,
-            final String password, final boolean unifios) {
+            final String password, final boolean unifios, final ExecutorService executor,
+            final Duration insightsRefreshInterval) {
         this.httpClient = httpClient;
+        this.executor = executor;
+        this.insightsRefreshNanos = insightsRefreshInterval.toNanos();
         this.host = host;
         this.port = port;
         this.username = username;
@@ -114,9 +148,35 @@ public class UniFiController {
     }
 
     public void stop() throws UniFiException {
+        stopEventStream();
         logout();
     }
 
+    /**
+     * Subscribes to the event streams of all sites. The streams are connected with the next refresh and reconnected by
+     * each refresh if they were closed.
+     *
+     * @param webSocketClient the started WebSocket client to connect with
+     * @param eventListener called after events changed the cache
+     */
+    public synchronized void startEventStream(final WebSocketClient webSocketClient, final Runnable eventListener) {
+        this.webSocketClient = webSocketClient;
+        this.eventListener = eventListener;
+    }
+
+    public synchronized void stopEventStream() {
+        webSocketClient = null;
+        eventStreams.values().forEach(UniFiEventStream::close);
+        eventStreams.clear();
+    }
+
+    /**
+     * @return true if the event streams of all known sites are connected
+     */
+    public boolean isEventStreamConnected() {
+        return !eventStreams.isEmpty() && eventStreams.values().stream().allMatch(UniFiEventStream::isConnected);
+    }
+
     public void obtainCsrfToken() throws UniFiException {
         csrfToken = "";
 
@@ -145,13 +205,34 @@ public class UniFiController {
 
     public void refresh() throws UniFiException {
         synchronized (this) {
-            cache.clear();
+            // sites first, so an expired session is renewed before the parallel requests
             final Collection<UniFiSite> sites = refreshSites();
-            refreshWlans(sites);
-            refreshDevices(sites);
-            refreshClients(sites);
-            refreshInsights(sites);
-            refreshVouchers(sites);
+            final boolean refreshInsights = !insightsRefreshed
+                    || System.nanoTime() - lastInsightsRefresh >= insightsRefreshNanos;
+            final List<Future<?>> requests = new ArrayList<>();
+
+            try {
+                final Future<@Nullable List<UniFiWlan>> wlans = submit(requests, sites, this::getWlans);
+                final Future<@Nullable List<UniFiDevice>> devices = submit(requests, sites, this::getDevices);
+                final Future<@Nullable List<UniFiClient>> clients = submit(requests, sites, this::getClients);
+                final Future<@Nullable List<UniFiVoucher>> vouchers = submit(requests, sites, this::getVouchers);
+                final @Nullable Future<@Nullable List<UniFiClient>> insights = refreshInsights
+                        ? submit(requests, sites, this::getInsights)
+                        : null;
+
+                cache.setWlans(await(wlans));
+                cache.setDevices(await(devices));
+                cache.setClients(await(clients));
+                cache.setVouchers(await(vouchers));
+                if (insights != null) {
+                    cache.setInsights(await(insights));
+                    lastInsightsRefresh = System.nanoTime();
+                    insightsRefreshed = true;
+                }
+            } finally {
+                requests.forEach(r -> r.cancel(true));
+            }
+            connectEventStreams(sites);
         }
     }
 
@@ -269,6 +350,150 @@ public class UniFiController {
 
     // Internal API
 
+    /**
+     * Applies a message of the event stream of a site to the cache.
+     *
+     * @param site the site of the event stream
+     * @param message the received message
+     */
+    void handleEvent(final UniFiSite site, final String message) {
+        try {
+            final JsonObject json = JsonParser.parseString(message).getAsJsonObject();
+            final JsonObject meta = json.getAsJsonObject("meta");
+            final JsonArray data = json.getAsJsonArray("data");
+
+            if (meta == null || data == null || !meta.has("message")) {
+                return;
+            }
+            switch (meta.get("message").getAsString()) {
+                case "sta:sync":
+                    cache.putClients(gson.fromJson(withSiteId(data, site), UniFiClient[].class));
+                    break;
+                case "device:sync":
+                    cache.putDevices(gson.fromJson(withSiteId(data, site), UniFiDevice[].class));
+                    break;
+                case "events":
+                    handleClientEvents(site, data);
+                    break;
+                default:
+                    return;
+            }
+            eventListener.run();
+        } catch (final JsonParseException | IllegalStateException | ClassCastException e) {
+            logger.debug("Could not parse event of the UniFi controller: {}", message, e);
+        }
+    }
+
+    private void handleClientEvents(final UniFiSite site, final JsonArray events) {
+        for (final JsonElement element : events) {
+            final JsonObject event = element.getAsJsonObject();
+            final String mac = getString(event, event.has("user") ? "user" : "guest");
+            final Matcher matcher = CLIENT_EVENT_PATTERN.matcher(getString(event, "key"));
+
+            if (mac.isEmpty() || !matcher.matches()) {
+                continue;
+            }
+            if ("Disconnected".equals(matcher.group(1))) {
+                cache.removeClient(mac);
+            } else {
+                // the event itself only contains the mac, therefore get the state of the connected client
+                executor.execute(() -> refreshClient(site, mac));
+            }
+        }
+    }
+
+    private void refreshClient(final UniFiSite site, final String mac) {
+        try {
+            final UniFiControllerRequest<UniFiClient[]> req = newRequest(UniFiClient[].class, HttpMethod.GET, gson);
+            req.setAPIPath(String.format("/api/s/%s/stat/sta/%s", site.getName(), mac));
+            cache.putClients(executeRequest(req));
+            eventListener.run();
+        } catch (final UniFiException e) {
+            logger.debug("Could not get client {} after event: {}", mac, e.getMessage());
+        }
+    }
+
+    private static JsonArray withSiteId(final JsonArray data, final UniFiSite site) {
+        for (final JsonElement element : data) {
+            final JsonObject object = element.getAsJsonObject();
+
+            if (!object.has("site_id")) {
+                object.addProperty("site_id", site.getId());
+            }
+        }
+        return data;
+    }
+
+    private static String getString(final JsonObject object, final String name) {
+        final JsonElement element = object.get(name);
+
+        return element == null || element.isJsonNull() ? "" : element.getAsString();
+    }
+
+    private void connectEventStreams(final Collection<UniFiSite> sites) {
+        final WebSocketClient client = webSocketClient;
+
+        if (client == null) {
+            return;
+        }
+        final String baseUri = "wss://" + host + ":" + port + (unifios ? "/proxy/network" : "");
+        final URI httpUri = URI.create("https://" + host + ":" + port);
+
+        eventStreams.keySet().removeIf(id -> sites.stream().noneMatch(site -> site.getId().equals(id)));
+        for (final UniFiSite site : sites) {
+            eventStreams.computeIfAbsent(site.getId(), id -> new UniFiEventStream(this, site)).connect(client,
+                    URI.create(baseUri + "/wss/s/" + site.getName() + "/events"),
+                    httpClient.getCookieStore().get(httpUri), csrfToken);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SiteRequest<T> {
+        T @Nullable [] execute(UniFiSite site) throws UniFiException;
+    }
+
+    /**
+     * Submits the requests of the given type for all sites.
+     *
+     * @return the future of the combined results, null as result if one of the requests didn't return data
+     */
+    private <T> Future<@Nullable List<T>> submit(final List<Future<?>> requests, final Collection<UniFiSite> sites,
+            final SiteRequest<T> request) {
+        final Future<@Nullable List<T>> future = executor.submit(() -> {
+            final List<T> values = new ArrayList<>();
+
+            for (final UniFiSite site : sites) {
+                final T @Nullable [] siteValues = request.execute(site);
+
+                if (siteValues == null) {
+                    return null;
+                }
+                Collections.addAll(values, siteValues);
+            }
+            return values;
+        });
+        requests.add(future);
+        return future;
+    }
+
+    private static <T> @Nullable T await(final Future<T> future) throws UniFiException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UniFiException("Interrupted while refreshing", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = Objects.requireNonNullElse(e.getCause(), e);
+
+            if (cause instanceof UniFiException uniFiException) {
+                throw uniFiException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new UniFiException(cause);
+        }
+    }
+
     private <T> UniFiControllerRequest<T> newRequest(final Class<T> responseType, final HttpMethod method,
             final Gson gson) {
         return new UniFiControllerRequest<>(responseType, gson, httpClient, method, host, port, csrfToken, unifios);
@@ -300,66 +525,36 @@ public class UniFiController {
         return result;
     }
 
-    private List<UniFiSite> refreshSites() throws UniFiException {
+    private Collection<UniFiSite> refreshSites() throws UniFiException {
         final UniFiControllerRequest<UniFiSite[]> req = newRequest(UniFiSite[].class, HttpMethod.GET, gson);
         req.setAPIPath("/api/self/sites");
         return cache.setSites(executeRequest(req));
     }
 
-    private void refreshWlans(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putWlans(getWlans(site));
-        }
-    }
-
     private UniFiWlan @Nullable [] getWlans(final UniFiSite site) throws UniFiException {
         final UniFiControllerRequest<UniFiWlan[]> req = newRequest(UniFiWlan[].class, HttpMethod.GET, gson);
         req.setAPIPath(String.format("/api/s/%s/rest/wlanconf", site.getName()));
         return executeRequest(req);
     }
 
-    private void refreshDevices(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putDevices(getDevices(site));
-        }
-    }
-
     private UniFiDevice @Nullable [] getDevices(final UniFiSite site) throws UniFiException {
         final UniFiControllerRequest<UniFiDevice[]> req = newRequest(UniFiDevice[].class, HttpMethod.GET, gson);
         req.setAPIPath(String.format("/api/s/%s/stat/device", site.getName()));
         return executeRequest(req);
     }
 
-    private void refreshClients(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putClients(getClients(site));
-        }
-    }
-
     private UniFiClient @Nullable [] getClients(final UniFiSite site) throws UniFiException {
         final UniFiControllerRequest<UniFiClient[]> req = newRequest(UniFiClient[].class, HttpMethod.GET, gson);
         req.setAPIPath(String.format("/api/s/%s/stat/sta", site.getName()));
         return executeRequest(req);
     }
 
-    private void refreshVouchers(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putVouchers(getVouchers(site));
-        }
-    }
-
     private UniFiVoucher @Nullable [] getVouchers(final UniFiSite site) throws UniFiException {
         final UniFiControllerRequest<UniFiVoucher[]> req = newRequest(UniFiVoucher[].class, HttpMethod.GET, gson);
         req.setAPIPath(String.format("/api/s/%s/stat/voucher", site.getName()));
         return executeRequest(req);
     }
 
-    private void refreshInsights(final Collection<UniFiSite> sites) throws UniFiException {
-        for (final UniFiSite site : sites) {
-            cache.putInsights(getInsights(site));
-        }
-    }
-
     private UniFiClient @Nullable [] getInsights(final UniFiSite site) throws UniFiException {
         final UniFiControllerRequest<UniFiClient[]> req = newRequest(UniFiClient[].class, HttpMethod.GET, gson);
         req.setAPIPath(String.format("/api/s/%s/stat/alluser", site.getName()));
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.unifi.internal.api;
+
+import java.io.IOException;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
+import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.openhab.binding.unifi.internal.api.dto.UniFiSite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link UniFiEventStream} is the WebSocket connection to the event stream of a single site of the UniFi
+ * controller. The received messages are passed to the {@link UniFiController}, which applies them to the cache.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@WebSocket
+@NonNullByDefault
+class UniFiEventStream {
+
+    private final Logger logger = LoggerFactory.getLogger(UniFiEventStream.class);
+
+    private final UniFiController controller;
+    private final UniFiSite site;
+
+    private volatile boolean connecting;
+    private volatile @Nullable Session session;
+
+    UniFiEventStream(final UniFiController controller, final UniFiSite site) {
+        this.controller = controller;
+        this.site = site;
+    }
+
+    /**
+     * Opens the connection in the background, does nothing if the stream is already connected or connecting.
+     *
+     * @param client the WebSocket client to use
+     * @param uri the uri of the event stream of the site
+     * @param cookies the cookies of the authenticated session
+     * @param csrfToken the CSRF token of the session, empty if not used
+     */
+    void connect(final WebSocketClient client, final URI uri, final List<HttpCookie> cookies, final String csrfToken) {
+        if (connecting || isConnected()) {
+            return;
+        }
+        final ClientUpgradeRequest request = new ClientUpgradeRequest();
+
+        request.setCookies(cookies);
+        if (!csrfToken.isEmpty()) {
+            request.setHeader("X-CSRF-Token", csrfToken);
+        }
+        logger.debug("Connecting to the event stream of site '{}': {}", site.getName(), uri);
+        connecting = true;
+        try {
+            client.connect(this, uri, request);
+        } catch (final IOException e) {
+            connecting = false;
+            logger.debug("Could not connect to the event stream of site '{}': {}", site.getName(), e.getMessage());
+        }
+    }
+
+    boolean isConnected() {
+        final Session session = this.session;
+
+        return session != null && session.isOpen();
+    }
+
+    void close() {
+        final Session session = this.session;
+
+        this.session = null;
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    @OnWebSocketConnect
+    public void onConnect(final Session session) {
+        logger.debug("Connected to the event stream of site '{}'", site.getName());
+        this.session = session;
+        connecting = false;
+    }
+
+    @OnWebSocketMessage
+    public void onMessage(final String message) {
+        logger.trace("Event of site '{}': {}", site.getName(), message);
+        controller.handleEvent(site, message);
+    }
+
+    @OnWebSocketClose
+    public void onClose(final int statusCode, final @Nullable String reason) {
+        logger.debug("Event stream of site '{}' closed: {} {}", site.getName(), statusCode, reason);
+        session = null;
+        connecting = false;
+    }
+
+    @OnWebSocketError
+    public void onError(final Throwable cause) {
+        logger.debug("Error on the event stream of site '{}': {}", site.getName(), cause.getMessage());
+        session = null;
+        connecting = false;
+    }
+}
@@ -34,6 +34,9 @@ import org.slf4j.LoggerFactory;
  * Objects are then retrieved simply by using the <code>suffix</code> key component and all combinations of
  * <code>prefix:suffix</code> are searched in the order of their priority.
  *
+ * Single entries are updated in place. {@link #replaceAll(Collection)} fills new lookup tables and swaps them in, so
+ * the cache is never seen empty or partially filled while it is refreshed.
+ *
  * @author Matthew Bowman - Initial contribution
  * @author Hilbrand Bouwkamp - Moved generic code into this class
  */
@@ -53,19 +56,15 @@ abstract class UniFiCache<T extends @Nullable HasId> {
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
     // Map of cid keys to the id.
-    private final Map<String, String> mapToId = new HashMap<>();
+    private Map<String, String> mapToId = new HashMap<>();
     // Map of id to data object
-    private final Map<String, T> map = new HashMap<>();
+    private Map<String, T> map = new HashMap<>();
     private final Prefix[] prefixes;
 
     protected UniFiCache(final Prefix... prefixes) {
         this.prefixes = prefixes;
     }
 
-    public void clear() {
-        map.clear();
-    }
-
     public final @Nullable T get(final @Nullable String cid) {
         final @Nullable T value;
 
@@ -86,7 +85,7 @@ abstract class UniFiCache<T extends @Nullable HasId> {
         return value;
     }
 
-    public @Nullable String getId(final String cid) {
+    public synchronized @Nullable String getId(final String cid) {
         String value = null;
         for (final Prefix prefix : prefixes) {
             final String key = key(prefix, cid);
@@ -109,11 +108,34 @@ abstract class UniFiCache<T extends @Nullable HasId> {
                         Stream.of(values).filter(Objects::nonNull).map(Object::toString)
                                 .collect(Collectors.joining(System.lineSeparator() + " - ")));
             }
-            Stream.of(values).filter(Objects::nonNull).forEach(value -> put(value.getId(), value));
+            synchronized (this) {
+                Stream.of(values).filter(Objects::nonNull).forEach(value -> put(value.getId(), value));
+            }
+        }
+    }
+
+    /**
+     * Replaces the complete content of the cache. The new content is collected aside and becomes visible at once.
+     *
+     * @param values the new content of the cache
+     */
+    public final void replaceAll(final Collection<T> values) {
+        logger.debug("Replace content of {} with #{} entries", getClass().getSimpleName(), values.size());
+        final Map<String, String> newMapToId = new HashMap<>();
+        final Map<String, T> newMap = new HashMap<>();
+
+        values.stream().filter(Objects::nonNull).forEach(value -> put(value.getId(), value, newMapToId, newMap));
+        synchronized (this) {
+            mapToId = newMapToId;
+            map = newMap;
         }
     }
 
-    public final void put(final String id, final T value) {
+    public final synchronized void put(final String id, final T value) {
+        put(id, value, mapToId, map);
+    }
+
+    private void put(final String id, final T value, final Map<String, String> mapToId, final Map<String, T> map) {
         for (final Prefix prefix : prefixes) {
             final String suffix = getSuffix(value, prefix);
 
@@ -124,11 +146,26 @@ abstract class UniFiCache<T extends @Nullable HasId> {
         map.put(id, value);
     }
 
+    /**
+     * Removes the entry with the given id and all keys referring to it.
+     *
+     * @param id the id of the entry to remove
+     * @return the removed entry or null if there was no entry with this id
+     */
+    public final synchronized @Nullable T remove(final String id) {
+        final T value = map.remove(id);
+
+        if (value != null) {
+            mapToId.values().removeIf(id::equals);
+        }
+        return value;
+    }
+
     private static String key(final Prefix prefix, final String suffix) {
         return prefix.name() + SEPARATOR + suffix.replace(":", "").toLowerCase(Locale.ROOT);
     }
 
-    public final Collection<T> values() {
+    public final synchronized Collection<T> values() {
         return map.values().stream().distinct().collect(Collectors.toList());
     }
 
@@ -36,6 +36,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Class to manager cache for the controller keeping track of all specific cache objects.
  *
+ * The <code>set</code> methods replace the content of a cache as a whole, a <code>null</code> value keeps the current
+ * content. The <code>put</code> and <code>remove</code> methods apply single updates in place.
+ *
  * @author Matthew Bowman - Initial contribution
  * @author Hilbrand Bouwkamp - Moved cache to this dedicated class.
  * @author Mark Herwege - Added guest vouchers
@@ -53,20 +56,13 @@ public class UniFiControllerCache {
     private final UniFiVoucherCache vouchersCache = new UniFiVoucherCache();
     private final Map<String, UniFiSwitchPorts> devicesToPortTables = new ConcurrentHashMap<>();
 
-    public void clear() {
-        sitesCache.clear();
-        wlansCache.clear();
-        devicesCache.clear();
-        clientsCache.clear();
-        insightsCache.clear();
-        vouchersCache.clear();
-    }
-
     // Sites Cache
 
-    public List<UniFiSite> setSites(final UniFiSite @Nullable [] sites) {
-        sitesCache.putAll(sites);
-        return List.of(sites);
+    public Collection<UniFiSite> setSites(final UniFiSite @Nullable [] sites) {
+        if (sites != null) {
+            sitesCache.replaceAll(List.of(sites));
+        }
+        return sitesCache.values();
     }
 
     public @Nullable UniFiSite getSite(final @Nullable String id) {
@@ -79,8 +75,10 @@ public class UniFiControllerCache {
 
     // Wlans Cache
 
-    public void putWlans(final UniFiWlan @Nullable [] wlans) {
-        wlansCache.putAll(wlans);
+    public void setWlans(final @Nullable Collection<UniFiWlan> wlans) {
+        if (wlans != null) {
+            wlansCache.replaceAll(wlans);
+        }
     }
 
     public @Nullable UniFiWlan getWlan(@Nullable final String id) {
@@ -93,31 +91,42 @@ public class UniFiControllerCache {
 
     // Devices Cache
 
+    public void setDevices(final @Nullable Collection<UniFiDevice> devices) {
+        if (devices != null) {
+            devicesCache.replaceAll(devices);
+            putPortTables(devices.stream());
+        }
+    }
+
     public void putDevices(final UniFiDevice @Nullable [] devices) {
         devicesCache.putAll(devices);
         if (devices != null) {
-            Stream.of(devices).filter(Objects::nonNull).forEach(d -> {
-                Stream.ofNullable(d.getPortTable()).forEach(pt -> {
-                    final UniFiSwitchPorts switchPorts = devicesToPortTables.computeIfAbsent(d.getMac(),
-                            p -> new UniFiSwitchPorts());
-
-                    Stream.of(pt).forEach(p -> {
-                        @SuppressWarnings("null")
-                        final UniFiPortTuple tuple = switchPorts.computeIfAbsent(p.getPortIdx());
-
-                        tuple.setDevice(d);
-                        tuple.setTable(p);
-                    });
-                });
-                Stream.ofNullable(d.getPortOverrides()).forEach(po -> {
-                    final UniFiSwitchPorts tupleTable = devicesToPortTables.get(d.getMac());
+            putPortTables(Stream.of(devices));
+        }
+    }
+
+    private void putPortTables(final Stream<UniFiDevice> devices) {
+        devices.filter(Objects::nonNull).forEach(d -> {
+            Stream.ofNullable(d.getPortTable()).forEach(pt -> {
+                final UniFiSwitchPorts switchPorts = devicesToPortTables.computeIfAbsent(d.getMac(),
+                        p -> new UniFiSwitchPorts());
 
-                    if (tupleTable != null) {
-                        Stream.of(po).forEach(p -> tupleTable.setOverride(p));
-                    }
+                Stream.of(pt).forEach(p -> {
+                    @SuppressWarnings("null")
+                    final UniFiPortTuple tuple = switchPorts.computeIfAbsent(p.getPortIdx());
+
+                    tuple.setDevice(d);
+                    tuple.setTable(p);
                 });
             });
-        }
+            Stream.ofNullable(d.getPortOverrides()).forEach(po -> {
+                final UniFiSwitchPorts tupleTable = devicesToPortTables.get(d.getMac());
+
+                if (tupleTable != null) {
+                    Stream.of(po).forEach(p -> tupleTable.setOverride(p));
+                }
+            });
+        });
     }
 
     public @Nullable UniFiDevice getDevice(@Nullable final String id) {
@@ -139,10 +148,29 @@ public class UniFiControllerCache {
 
     // Clients Cache
 
+    public void setClients(final @Nullable Collection<UniFiClient> clients) {
+        if (clients != null) {
+            clientsCache.replaceAll(clients);
+        }
+    }
+
     public void putClients(final UniFiClient @Nullable [] clients) {
         clientsCache.putAll(clients);
     }
 
+    /**
+     * Removes a client from the active clients, it remains available from the insights.
+     *
+     * @param cid the id, mac, ip, hostname or name of the client
+     */
+    public void removeClient(final String cid) {
+        final String id = clientsCache.getId(cid);
+
+        if (id != null) {
+            clientsCache.remove(id);
+        }
+    }
+
     public Collection<UniFiClient> getClients() {
         return clientsCache.values();
     }
@@ -176,14 +204,18 @@ public class UniFiControllerCache {
 
     // Insights Cache
 
-    public void putInsights(final UniFiClient @Nullable [] insights) {
-        insightsCache.putAll(insights);
+    public void setInsights(final @Nullable Collection<UniFiClient> insights) {
+        if (insights != null) {
+            insightsCache.replaceAll(insights);
+        }
     }
 
     // Vouchers Cache
 
-    public void putVouchers(final UniFiVoucher @Nullable [] vouchers) {
-        vouchersCache.putAll(vouchers);
+    public void setVouchers(final @Nullable Collection<UniFiVoucher> vouchers) {
+        if (vouchers != null) {
+            vouchersCache.replaceAll(vouchers);
+        }
     }
 
     public synchronized Stream<UniFiVoucher> getVoucherStreamForSite(final UniFiSite site) {
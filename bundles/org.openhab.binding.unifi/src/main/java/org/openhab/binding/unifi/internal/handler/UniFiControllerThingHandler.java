@@ -18,6 +18,7 @@ import static org.openhab.core.thing.ThingStatus.UNKNOWN;
 import static org.openhab.core.thing.ThingStatusDetail.COMMUNICATION_ERROR;
 import static org.openhab.core.thing.ThingStatusDetail.CONFIGURATION_ERROR;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
@@ -26,6 +27,8 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.openhab.binding.unifi.internal.UniFiBindingConstants;
 import org.openhab.binding.unifi.internal.UniFiControllerThingConfig;
 import org.openhab.binding.unifi.internal.api.UniFiCommunicationException;
 import org.openhab.binding.unifi.internal.api.UniFiController;
@@ -33,6 +36,7 @@ import org.openhab.binding.unifi.internal.api.UniFiException;
 import org.openhab.binding.unifi.internal.api.UniFiInvalidCredentialsException;
 import org.openhab.binding.unifi.internal.api.UniFiInvalidHostException;
 import org.openhab.binding.unifi.internal.api.UniFiSSLException;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.ThingStatus;
@@ -60,6 +64,8 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
     private static final String STATUS_DESCRIPTION_INVALID_CREDENTIALS = "@text/error.bridge.offline.invalid_credentials";
     private static final String STATUS_DESCRIPTION_INVALID_HOSTNAME = "@text/error.bridge.offline.invalid_hostname";
     private static final String I18N_STATUS_WITH_ARGUMENTS = "%s [\"%s\"]";
+    // delay to combine the updates of the things after a burst of events
+    private static final long EVENT_REFRESH_DELAY_MS = 500;
 
     private final Logger logger = LoggerFactory.getLogger(UniFiControllerThingHandler.class);
 
@@ -69,11 +75,19 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
 
     private @Nullable ScheduledFuture<?> refreshJob;
 
+    private @Nullable ScheduledFuture<?> eventRefreshJob;
+
+    private long lastRefresh;
+
     private final HttpClient httpClient;
 
-    public UniFiControllerThingHandler(final Bridge bridge, final HttpClient httpClient) {
+    private final WebSocketClient webSocketClient;
+
+    public UniFiControllerThingHandler(final Bridge bridge, final HttpClient httpClient,
+            final WebSocketClient webSocketClient) {
         super(bridge);
         this.httpClient = httpClient;
+        this.webSocketClient = webSocketClient;
     }
 
     // Public API
@@ -88,8 +102,13 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
         config = getConfigAs(UniFiControllerThingConfig.class);
         logger.debug("Initializing the UniFi Controller Handler with config = {}", config);
         final UniFiController uc = new UniFiController(httpClient, config.getHost(), config.getPort(),
-                config.getUsername(), config.getPassword(), config.isUniFiOS());
+                config.getUsername(), config.getPassword(), config.isUniFiOS(),
+                ThreadPoolManager.getPool(UniFiBindingConstants.BINDING_ID),
+                Duration.ofSeconds(config.getFullRefresh()));
 
+        if (config.isEventStream()) {
+            uc.startEventStream(webSocketClient, this::scheduleEventRefresh);
+        }
         controller = uc;
         updateStatus(UNKNOWN);
         scheduler.schedule(() -> start(uc), 10, TimeUnit.MILLISECONDS);
@@ -109,6 +128,7 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
     @Override
     public void dispose() {
         cancelRefreshJob();
+        cancelEventRefreshJob();
         final UniFiController controller = this.controller;
 
         if (controller != null) {
@@ -169,10 +189,44 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
         }
     }
 
+    private void cancelEventRefreshJob() {
+        synchronized (this) {
+            final ScheduledFuture<?> erj = eventRefreshJob;
+
+            if (erj != null) {
+                erj.cancel(false);
+                eventRefreshJob = null;
+            }
+        }
+    }
+
+    /**
+     * Schedules an update of the things after the cache has been changed by events, unless one is already pending.
+     */
+    private void scheduleEventRefresh() {
+        synchronized (this) {
+            final ScheduledFuture<?> erj = eventRefreshJob;
+
+            if (erj == null || erj.isDone()) {
+                eventRefreshJob = scheduler.schedule(this::refreshThings, EVENT_REFRESH_DELAY_MS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
     private void run() {
         try {
+            final UniFiController uc = controller;
+
+            // while the event stream updates the cache, only refresh completely at the full refresh interval
+            if (uc != null && uc.isEventStreamConnected()
+                    && System.nanoTime() - lastRefresh < Duration.ofSeconds(config.getFullRefresh()).toNanos()) {
+                logger.trace("Skipping refresh job, the event stream is connected");
+                return;
+            }
             logger.trace("Executing refresh job");
             refresh();
+            lastRefresh = System.nanoTime();
             updateStatus(ONLINE);
         } catch (final UniFiCommunicationException e) {
             updateStatusOffline(COMMUNICATION_ERROR, STATUS_DESCRIPTION_COMMUNICATION_ERROR, e.getMessage());
@@ -196,13 +250,17 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
             logger.debug("Refreshing the UniFi Controller {}", getThing().getUID());
             uc.refresh();
             // mgb: then refresh all the client things
-            getThing().getThings().forEach((thing) -> {
-                final ThingHandler handler = thing.getHandler();
-
-                if (handler instanceof UniFiBaseThingHandler baseThingHandler) {
-                    baseThingHandler.refresh();
-                }
-            });
+            refreshThings();
         }
     }
+
+    private void refreshThings() {
+        getThing().getThings().forEach((thing) -> {
+            final ThingHandler handler = thing.getHandler();
+
+            if (handler instanceof UniFiBaseThingHandler baseThingHandler) {
+                baseThingHandler.refresh();
+            }
+        });
+    }
 }
@@ -84,4 +84,19 @@ public interface Homekit {
      * returns how many bridge instances there are
      */
     int getInstanceCount();
+
+    /**
+     * returns how many characteristic change notifications were sent to HomeKit clients by a specific instance.
+     *
+     * @param instance the instance number (1-based)
+     */
+    long getSentNotifications(int instance);
+
+    /**
+     * returns how many characteristic changes of a specific instance were not notified on their own,
+     * because they were coalesced into a later notification.
+     *
+     * @param instance the instance number (1-based)
+     */
+    long getSuppressedNotifications(int instance);
 }
@@ -12,11 +12,19 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
@@ -32,11 +40,56 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Change notifications of a characteristic are coalesced: After a notification has been sent, further changes
+ * within the minimum notification interval are folded into a single notification at the end of the interval,
+ * which reports the latest value. Discrete characteristics, like locks, contact and motion sensors, are always
+ * notified immediately.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
+    private static final Set<HomekitCharacteristicType> DISCRETE_CHARACTERISTICS = EnumSet.of(
+            HomekitCharacteristicType.LOCK_CONTROL, HomekitCharacteristicType.LOCK_CURRENT_STATE,
+            HomekitCharacteristicType.LOCK_TARGET_STATE, HomekitCharacteristicType.CONTACT_SENSOR_STATE,
+            HomekitCharacteristicType.MOTION_DETECTED_STATE, HomekitCharacteristicType.OCCUPANCY_DETECTED_STATE,
+            HomekitCharacteristicType.LEAK_DETECTED_STATE, HomekitCharacteristicType.SMOKE_DETECTED_STATE,
+            HomekitCharacteristicType.CARBON_DIOXIDE_DETECTED_STATE,
+            HomekitCharacteristicType.CARBON_MONOXIDE_DETECTED_STATE,
+            HomekitCharacteristicType.SECURITY_SYSTEM_CURRENT_STATE,
+            HomekitCharacteristicType.SECURITY_SYSTEM_TARGET_STATE, HomekitCharacteristicType.CURRENT_DOOR_STATE,
+            HomekitCharacteristicType.TARGET_DOOR_STATE, HomekitCharacteristicType.OBSTRUCTION_STATUS,
+            HomekitCharacteristicType.TAMPERED_STATUS);
+
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, StateChangeListener> subscriptionsByName = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
+    private final AtomicLong sentNotifications = new AtomicLong();
+    private final AtomicLong suppressedNotifications = new AtomicLong();
+    private volatile int minimumNotificationInterval = 0;
+
+    /**
+     * Set the minimum time between two change notifications of the same characteristic.
+     *
+     * @param minimumNotificationInterval interval in milliseconds. 0 disables coalescing.
+     */
+    public void setMinimumNotificationInterval(int minimumNotificationInterval) {
+        this.minimumNotificationInterval = minimumNotificationInterval;
+    }
+
+    /**
+     * Returns the number of change notifications sent to HomeKit.
+     */
+    public long getSentNotifications() {
+        return sentNotifications.get();
+    }
+
+    /**
+     * Returns the number of changes that were folded into a later notification.
+     */
+    public long getSuppressedNotifications() {
+        return suppressedNotifications.get();
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -58,7 +111,7 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = new CoalescingSubscription(callback, isDiscrete(key));
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -97,10 +150,18 @@ public class HomekitAccessoryUpdater {
         subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
             logger.trace("Removing existing subscription for {} / {}", item, key);
             item.removeStateChangeListener(v);
+            if (v instanceof CoalescingSubscription) {
+                ((CoalescingSubscription) v).cancel();
+            }
             return null;
         });
     }
 
+    private static boolean isDiscrete(@Nullable String key) {
+        return key != null && HomekitCharacteristicType.valueOfTag(key).map(DISCRETE_CHARACTERISTICS::contains)
+                .orElse(false);
+    }
+
     @FunctionalInterface
     @NonNullByDefault
     private interface Subscription extends StateChangeListener {
@@ -127,6 +188,68 @@ public class HomekitAccessoryUpdater {
         void stateUpdated(Item item, State state);
     }
 
+    /**
+     * Forwards item state changes to the HomeKit callback, at most once per minimum notification interval.
+     * HAP reads the current value of the characteristic when the callback is invoked, so a delayed
+     * notification always reports the latest state.
+     */
+    @NonNullByDefault
+    private class CoalescingSubscription implements Subscription {
+        private final HomekitCharacteristicChangeCallback callback;
+        private final boolean discrete;
+        private long lastNotification = 0;
+        private @Nullable ScheduledFuture<?> pendingNotification;
+
+        CoalescingSubscription(HomekitCharacteristicChangeCallback callback, boolean discrete) {
+            this.callback = callback;
+            this.discrete = discrete;
+        }
+
+        @Override
+        public void stateChanged(Item item, State oldState, State newState) {
+            synchronized (this) {
+                if (pendingNotification != null) {
+                    suppressedNotifications.incrementAndGet();
+                    return;
+                }
+                long now = System.currentTimeMillis();
+                long delay = lastNotification + minimumNotificationInterval - now;
+                if (!discrete && delay > 0) {
+                    pendingNotification = scheduler.schedule(this::sendPendingNotification, delay,
+                            TimeUnit.MILLISECONDS);
+                    return;
+                }
+                lastNotification = now;
+            }
+            notifyCallback();
+        }
+
+        private void sendPendingNotification() {
+            synchronized (this) {
+                if (pendingNotification == null) {
+                    // cancelled in the meantime
+                    return;
+                }
+                pendingNotification = null;
+                lastNotification = System.currentTimeMillis();
+            }
+            notifyCallback();
+        }
+
+        private void notifyCallback() {
+            sentNotifications.incrementAndGet();
+            callback.changed();
+        }
+
+        synchronized void cancel() {
+            ScheduledFuture<?> pendingNotification = this.pendingNotification;
+            if (pendingNotification != null) {
+                pendingNotification.cancel(false);
+                this.pendingNotification = null;
+            }
+        }
+    }
+
     private static class ItemKey {
         public final GenericItem item;
         public final String key;
@@ -95,6 +95,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.metadataRegistry = metadataRegistry;
         this.storage = storage;
         this.instance = instance;
+        updater.setMinimumNotificationInterval(settings.minimumNotificationInterval);
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices-" + instance, scheduler,
                 Duration.ofMillis(1000), Clock.systemUTC(), this::applyUpdates);
         metadataChangeListener = new RegistryChangeListener<>() {
@@ -338,12 +339,18 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
+        updater.setMinimumNotificationInterval(settings.minimumNotificationInterval);
         this.updater = updater;
     }
 
+    public HomekitAccessoryUpdater getUpdater() {
+        return updater;
+    }
+
     public void updateSettings(HomekitSettings settings) {
         boolean wasUsingDummyAccessories = this.settings.useDummyAccessories;
         this.settings = settings;
+        updater.setMinimumNotificationInterval(settings.minimumNotificationInterval);
         // If they turned off dummy accessories, immediately prune them
         if (wasUsingDummyAccessories && !settings.useDummyAccessories) {
             pruneDummyAccessories();
@@ -405,6 +405,24 @@ public class HomekitImpl implements Homekit, NetworkAddressChangeListener, Ready
         changeListeners.get(instance - 1).pruneDummyAccessories();
     }
 
+    @Override
+    public long getSentNotifications(int instance) {
+        if (instance < 1 || instance > changeListeners.size()) {
+            logger.warn("Instance {} is out of range 1..{}.", instance, changeListeners.size());
+            return 0;
+        }
+        return changeListeners.get(instance - 1).getUpdater().getSentNotifications();
+    }
+
+    @Override
+    public long getSuppressedNotifications(int instance) {
+        if (instance < 1 || instance > changeListeners.size()) {
+            logger.warn("Instance {} is out of range 1..{}.", instance, changeListeners.size());
+            return 0;
+        }
+        return changeListeners.get(instance - 1).getUpdater().getSuppressedNotifications();
+    }
+
     @Override
     public int getInstanceCount() {
         return homekitServers.size();
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.StateChangeListener;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+
+/**
+ * Tests for the change notification coalescing of {@link HomekitAccessoryUpdater}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class HomekitAccessoryUpdaterTest {
+    private static final int INTERVAL = 200;
+
+    private @NonNullByDefault({}) GenericItem item;
+    private volatile State state = new DecimalType(0);
+    private final List<State> notifiedStates = new CopyOnWriteArrayList<>();
+    private final HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater();
+
+    @BeforeEach
+    public void setUp() {
+        item = mock(GenericItem.class);
+        when(item.getState()).thenAnswer(invocation -> state);
+    }
+
+    private StateChangeListener subscribe(CountDownLatch latch) {
+        // HAP reads the current item state when it is notified
+        updater.subscribe(item, HomekitCharacteristicType.CURRENT_TEMPERATURE.getTag(), () -> {
+            notifiedStates.add(item.getState());
+            latch.countDown();
+        });
+        ArgumentCaptor<StateChangeListener> captor = ArgumentCaptor.forClass(StateChangeListener.class);
+        verify(item).addStateChangeListener(captor.capture());
+        return captor.getValue();
+    }
+
+    private void change(StateChangeListener listener, int value) {
+        State oldState = state;
+        state = new DecimalType(value);
+        listener.stateChanged(item, oldState, state);
+    }
+
+    @Test
+    public void rapidChangesAreCoalescedIntoOneNotification() throws InterruptedException {
+        updater.setMinimumNotificationInterval(INTERVAL);
+        CountDownLatch latch = new CountDownLatch(2);
+        StateChangeListener listener = subscribe(latch);
+
+        // The first change is notified immediately, the following ones within the interval are folded
+        for (int value = 1; value <= 5; value++) {
+            change(listener, value);
+        }
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        Thread.sleep(INTERVAL * 2);
+
+        assertThat(notifiedStates, is(List.of(new DecimalType(1), new DecimalType(5))));
+        assertThat(updater.getSentNotifications(), is(2L));
+        assertThat(updater.getSuppressedNotifications(), is(3L));
+    }
+
+    @Test
+    public void everyChangeIsNotifiedByDefault() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        StateChangeListener listener = subscribe(latch);
+
+        for (int value = 1; value <= 3; value++) {
+            change(listener, value);
+        }
+
+        assertTrue(latch.await(0, TimeUnit.SECONDS));
+        assertThat(notifiedStates, is(List.of(new DecimalType(1), new DecimalType(2), new DecimalType(3))));
+        assertThat(updater.getSuppressedNotifications(), is(0L));
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.io.hueemulation.internal.dto;
 import java.util.Collections;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
@@ -38,6 +39,11 @@ public class HueDataStore {
     public Map<Integer, Dummy> resourcelinks = Collections.emptyMap();
     public Map<String, HueCapability> capabilities = new TreeMap<>();
 
+    /**
+     * Bumped whenever lights or groups got added, removed or updated by the item registry.
+     */
+    public final transient AtomicLong version = new AtomicLong();
+
     public HueDataStore() {
         resetGroupsAndLights();
         capabilities.put("lights", new HueCapability());
@@ -54,6 +60,7 @@ public class HueDataStore {
         lights.clear();
         // There must be a group 0 all the time!
         groups.put("0", new HueGroupEntry("All lights", null, null));
+        version.incrementAndGet();
     }
 
     public void resetSensors() {
@@ -13,21 +13,28 @@
 package org.openhab.io.hueemulation.internal.rest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -91,6 +98,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
  * </p>
  *
  * <p>
+ * Hue clients poll all lights and groups every few seconds. Those responses are cached by
+ * {@link SerializedMapCache}s, served with an ETag and gzip compressed if the client accepts it.
  * </p>
  *
  * @author David Graeff - Initial contribution
@@ -118,6 +127,15 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Reference(policy = ReferencePolicy.DYNAMIC, cardinality = ReferenceCardinality.OPTIONAL)
     protected volatile @Nullable EventPublisher eventPublisher;
 
+    private final SerializedMapCache<HueLightEntry> lightsCache = new SerializedMapCache<>(
+            light -> Arrays.asList(light.item, light.item.getState(), light.item.getLabel(), light.deviceType,
+                    light.lastCommand, light.lastHueChange, light.name));
+    private final SerializedMapCache<HueGroupEntry> groupsCache = new SerializedMapCache<>(group -> {
+        GroupItem groupItem = group.groupItem;
+        return Arrays.asList(groupItem, groupItem != null ? groupItem.getMembers() : group.lights, group.name,
+                group.type, group.roomclass, group.action, group.sensors);
+    });
+
     /**
      * Registers to the {@link ItemRegistry} and enumerates currently existing items.
      */
@@ -158,6 +176,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         }
 
         String hueID = cs.mapItemUIDtoHueID(element);
+        cs.ds.version.incrementAndGet();
 
         if (element instanceof GroupItem && !element.hasTag(EXPOSE_AS_DEVICE_TAG)) {
             GroupItem g = (GroupItem) element;
@@ -199,6 +218,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     public synchronized void removed(Item element) {
         String hueID = cs.mapItemUIDtoHueID(element);
         logger.debug("Remove item {}", hueID);
+        cs.ds.version.incrementAndGet();
         cs.ds.lights.remove(hueID);
         cs.ds.groups.remove(hueID);
         updateGroup0();
@@ -216,6 +236,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         GenericItem element = (GenericItem) newElement;
 
         String hueID = cs.mapItemUIDtoHueID(element);
+        cs.ds.version.incrementAndGet();
 
         HueGroupEntry hueGroup = cs.ds.groups.get(hueID);
         if (hueGroup != null) {
@@ -247,12 +268,17 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllLightsApi(@Context UriInfo uri,
+    public Response getAllLightsApi(@Context UriInfo uri, @Context Request request,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) @Nullable String acceptEncoding,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        SerializedMapCache.Snapshot snapshot;
+        synchronized (this) {
+            snapshot = lightsCache.get(cs.gson, cs.ds.lights, cs.ds.version.get());
+        }
+        return cachedResponse(snapshot, request, acceptEncoding);
     }
 
     @GET
@@ -438,12 +464,70 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllGroupsApi(@Context UriInfo uri,
+    public Response getAllGroupsApi(@Context UriInfo uri, @Context Request request,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) @Nullable String acceptEncoding,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        SerializedMapCache.Snapshot snapshot;
+        synchronized (this) {
+            snapshot = groupsCache.get(cs.gson, cs.ds.groups, cs.ds.version.get());
+        }
+        return cachedResponse(snapshot, request, acceptEncoding);
+    }
+
+    /**
+     * Answers with "304 Not Modified" if the client already knows the snapshot version,
+     * otherwise with the (gzip compressed, if accepted) snapshot JSON.
+     */
+    private Response cachedResponse(SerializedMapCache.Snapshot snapshot, Request request,
+            @Nullable String acceptEncoding) {
+        EntityTag etag = new EntityTag(Long.toString(snapshot.version), true);
+        ResponseBuilder notModified = request.evaluatePreconditions(etag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        ResponseBuilder builder;
+        if (acceptsGzip(acceptEncoding)) {
+            builder = Response.ok(snapshot.gzipped()).header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        } else {
+            builder = Response.ok(snapshot.json);
+        }
+        return builder.tag(etag).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build();
+    }
+
+    /**
+     * Returns true if the given Accept-Encoding header value allows a gzip compressed response. An explicit
+     * "gzip" coding takes precedence over the "*" wildcard, a quality value of 0 means "not acceptable".
+     */
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean acceptable = true;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        acceptable = Double.parseDouble(param.substring(2).trim()) > 0;
+                    } catch (NumberFormatException e) {
+                        acceptable = false;
+                    }
+                }
+            }
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                return acceptable;
+            } else if ("*".equals(coding)) {
+                wildcard = acceptable;
+            }
+        }
+        return wildcard;
     }
 
     @GET
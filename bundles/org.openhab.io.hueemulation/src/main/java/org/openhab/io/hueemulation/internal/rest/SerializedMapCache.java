@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+
+/**
+ * Caches the JSON representation of a hue id to entry map, like the lights or groups of the
+ * {@link org.openhab.io.hueemulation.internal.dto.HueDataStore}.
+ *
+ * <p>
+ * The state of a hue entry is derived from its item at serialization time. To notice changes that happen
+ * outside of this service, a fingerprint of each entry is computed on every request. Only entries with
+ * a changed fingerprint are serialized again, the map JSON is then concatenated from the per entry JSON strings.
+ * Each new JSON document gets a new version, which is used as ETag. Versions start at the creation time of the
+ * cache, so that clients do not confuse versions of a previous run.
+ * </p>
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class SerializedMapCache<T> {
+    private final Function<T, Object> fingerprintFunction;
+    private final Map<String, CachedEntry<T>> entries = new HashMap<>();
+    private @Nullable Snapshot snapshot;
+    private long nextVersion = System.currentTimeMillis();
+    private long seenDataStoreVersion = -1;
+
+    private static class CachedEntry<T> {
+        final T entry;
+        final Object fingerprint;
+        final String json;
+
+        CachedEntry(T entry, Object fingerprint, String json) {
+            this.entry = entry;
+            this.fingerprint = fingerprint;
+            this.json = json;
+        }
+    }
+
+    /**
+     * A serialized map in a specific version.
+     */
+    public static class Snapshot {
+        public final long version;
+        public final String json;
+        private byte @Nullable [] gzipped;
+
+        Snapshot(long version, String json) {
+            this.version = version;
+            this.json = json;
+        }
+
+        /**
+         * Return the gzip compressed JSON. It is only computed once per version.
+         */
+        public synchronized byte[] gzipped() {
+            byte[] gzipped = this.gzipped;
+            if (gzipped == null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(json.length() / 4 + 64);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                    gzip.write(json.getBytes(StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    // Cannot happen for an in-memory stream
+                    throw new IllegalStateException(e);
+                }
+                gzipped = out.toByteArray();
+                this.gzipped = gzipped;
+            }
+            return gzipped;
+        }
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param fingerprintFunction Computes an object for an entry, that is equal to the last computed object
+     *            as long as the serialized JSON of the entry does not change.
+     */
+    public SerializedMapCache(Function<T, Object> fingerprintFunction) {
+        this.fingerprintFunction = fingerprintFunction;
+    }
+
+    /**
+     * Return the serialized map. Entries are only serialized again if their fingerprint has changed.
+     *
+     * @param gson The serializer
+     * @param map The map to serialize. Keys are serialized in the iteration order of the map.
+     * @param dataStoreVersion The version of the data store. The map JSON is rebuilt if it has changed.
+     * @return A snapshot of the serialized map
+     */
+    public synchronized Snapshot get(Gson gson, Map<String, T> map, long dataStoreVersion) {
+        boolean changed = map.size() != entries.size() || dataStoreVersion != seenDataStoreVersion;
+        seenDataStoreVersion = dataStoreVersion;
+
+        for (Map.Entry<String, T> mapEntry : map.entrySet()) {
+            T entry = mapEntry.getValue();
+            Object fingerprint = fingerprintFunction.apply(entry);
+            CachedEntry<T> cached = entries.get(mapEntry.getKey());
+            if (cached == null || cached.entry != entry || !cached.fingerprint.equals(fingerprint)) {
+                // Compute the fingerprint first: The serializer may adjust the entry to the current item state
+                entries.put(mapEntry.getKey(), new CachedEntry<>(entry, fingerprint, gson.toJson(entry)));
+                changed = true;
+            }
+        }
+
+        Snapshot snapshot = this.snapshot;
+        if (snapshot != null && !changed) {
+            return snapshot;
+        }
+
+        entries.keySet().retainAll(map.keySet());
+        StringBuilder json = new StringBuilder("{");
+        for (Map.Entry<String, T> mapEntry : map.entrySet()) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(gson.toJson(mapEntry.getKey())).append(':')
+                    .append(Objects.requireNonNull(entries.get(mapEntry.getKey())).json);
+        }
+        json.append('}');
+
+        snapshot = new Snapshot(nextVersion++, json.toString());
+        this.snapshot = snapshot;
+        return snapshot;
+    }
+}
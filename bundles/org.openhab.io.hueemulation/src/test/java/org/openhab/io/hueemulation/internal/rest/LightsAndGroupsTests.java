@@ -14,7 +14,7 @@ package org.openhab.io.hueemulation.internal.rest;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 
@@ -22,6 +22,8 @@ import java.io.IOException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -327,6 +329,49 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void allLightsVersioned() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        assertThat(etag, notNullValue());
+        assertThat(response.getContentAsString(), containsString("\"2\":{"));
+
+        // Nothing changed -> Not modified
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights").method(HttpMethod.GET)
+                .header(HttpHeader.IF_NONE_MATCH, etag).send();
+        assertEquals(304, response.getStatus());
+
+        // An item state change results in a new version
+        cs.ds.lights.get("1").item.setState(OnOffType.ON);
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights").method(HttpMethod.GET)
+                .header(HttpHeader.IF_NONE_MATCH, etag).send();
+        assertEquals(200, response.getStatus());
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), not(is(etag)));
+        assertThat(((HueStatePlug) cs.ds.lights.get("1").state).on, is(true));
+
+        // A removed light results in a new version
+        etag = response.getHeaders().get(HttpHeader.ETAG);
+        cs.ds.lights.remove("3");
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights").method(HttpMethod.GET)
+                .header(HttpHeader.IF_NONE_MATCH, etag).send();
+        assertEquals(200, response.getStatus());
+        assertThat(response.getContentAsString(), not(containsString("\"3\":{")));
+    }
+
+    @Test
+    public void acceptEncodingIsParsed() {
+        assertTrue(LightsAndGroups.acceptsGzip("gzip"));
+        assertTrue(LightsAndGroups.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(LightsAndGroups.acceptsGzip("br, *"));
+        assertFalse(LightsAndGroups.acceptsGzip(null));
+        assertFalse(LightsAndGroups.acceptsGzip("identity"));
+        assertFalse(LightsAndGroups.acceptsGzip("gzip;q=0"));
+        assertFalse(LightsAndGroups.acceptsGzip("gzip; q=0.000, deflate"));
+        assertFalse(LightsAndGroups.acceptsGzip("*, gzip;q=0"));
+        assertFalse(LightsAndGroups.acceptsGzip("*;q=0"));
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
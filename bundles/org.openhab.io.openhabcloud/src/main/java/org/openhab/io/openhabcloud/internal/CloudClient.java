@@ -18,7 +18,6 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -34,11 +33,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.util.BytesContentProvider;
-import org.eclipse.jetty.http.HttpField;
-import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -58,6 +54,8 @@ import io.socket.engineio.client.Transport;
 import io.socket.engineio.client.transports.WebSocket;
 import io.socket.parser.Packet;
 import io.socket.parser.Parser;
+import io.socket.thread.EventThread;
+import okhttp3.OkHttpClient;
 import okhttp3.OkHttpClient.Builder;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okhttp3.logging.HttpLoggingInterceptor.Level;
@@ -83,6 +81,16 @@ public class CloudClient {
 
     private static final long READ_TIMEOUT = 60_0000;
 
+    /*
+     * Proxied response content is only demanded from openHAB while the web socket send queue holds less bytes
+     */
+    private static final long MAX_QUEUED_BYTES = 256 * 1024;
+
+    /*
+     * Interval in milliseconds to check if the web socket send queue has drained
+     */
+    private static final long QUEUE_POLL_INTERVAL = 20;
+
     /*
      * Logger for this class
      */
@@ -118,6 +126,11 @@ public class CloudClient {
      */
     private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<>();
 
+    /*
+     * This variable holds the response streamers of currently running requests
+     */
+    private final Map<Integer, ProxyResponseStreamer> responseStreamers = new ConcurrentHashMap<>();
+
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
@@ -141,6 +154,12 @@ public class CloudClient {
     private CloudClientListener listener;
     private boolean remoteAccessEnabled;
     private Set<String> exposedItems;
+    private boolean compressResponses;
+
+    /*
+     * The web socket of the current Socket.IO connection, to observe its send queue
+     */
+    private volatile okhttp3.@Nullable WebSocket webSocket;
 
     /**
      * Back-off strategy for reconnecting when manual reconnection is needed
@@ -165,15 +184,17 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param compressResponses Compress text responses of proxied requests, if the client accepts it
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, boolean compressResponses) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
         this.localBaseUrl = localBaseUrl;
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
+        this.compressResponses = compressResponses;
         this.jettyClient = httpClient;
         reconnectBackoff.setMin(RECONNECT_MIN);
         reconnectBackoff.setMax(RECONNECT_MAX);
@@ -204,8 +225,14 @@ public class CloudClient {
                 okHttpBuilder.addInterceptor(loggingInterceptor);
                 okHttpBuilder.addNetworkInterceptor(loggingInterceptor);
             }
-            options.callFactory = okHttpBuilder.build();
-            options.webSocketFactory = okHttpBuilder.build();
+            OkHttpClient okHttpClient = okHttpBuilder.build();
+            options.callFactory = okHttpClient;
+            options.webSocketFactory = (request, listener) -> {
+                // remember the web socket to be able to apply back pressure to proxied responses
+                okhttp3.WebSocket newWebSocket = okHttpClient.newWebSocket(request, listener);
+                webSocket = newWebSocket;
+                return newWebSocket;
+            };
             socket = IO.socket(baseURL, options);
             URL parsed = new URL(baseURL);
             protocol = parsed.getProtocol();
@@ -381,6 +408,8 @@ public class CloudClient {
         isConnected = false;
         // And clean up the list of running requests
         runningRequests.clear();
+        responseStreamers.values().forEach(ProxyResponseStreamer::close);
+        responseStreamers.clear();
     }
 
     /**
@@ -461,35 +490,11 @@ public class CloudClient {
                 request.content(new BytesContentProvider(requestBody.getBytes()));
             }
 
-            request.onResponseHeaders(response -> {
-                logger.debug("onHeaders {}", requestId);
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("headers", getJSONHeaders(response.getHeaders()));
-                    responseJson.put("responseStatusCode", response.getStatus());
-                    responseJson.put("responseStatusText", "OK");
-                    socket.emit("responseHeader", responseJson);
-                    logger.trace("Sent headers to request {}", requestId);
-                    logger.trace("{}", responseJson.toString());
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
-                }
-            }).onResponseContent((theResponse, content) -> {
-                logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
-                    }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
-                }
-            }).onRequestFailure((origRequest, failure) -> {
+            ProxyResponseStreamer streamer = new ProxyResponseStreamer(this, requestId,
+                    compressResponses ? getHeader(requestHeadersJson, "Accept-Encoding") : null);
+            responseStreamers.put(requestId, streamer);
+            request.onResponseHeaders(streamer).onResponseContentDemanded(streamer);
+            request.onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
                 try {
@@ -503,6 +508,14 @@ public class CloudClient {
                 logger.debug("onComplete: {}", requestId);
                 // Remove this request from list of running requests
                 runningRequests.remove(requestId);
+                ProxyResponseStreamer finishedStreamer = responseStreamers.remove(requestId);
+                if (finishedStreamer != null) {
+                    if (result != null && result.isFailed()) {
+                        finishedStreamer.close();
+                    } else {
+                        finishedStreamer.onComplete();
+                    }
+                }
                 if ((result != null && result.isFailed())
                         && (result.getResponse() != null && result.getResponse().getStatus() != HttpStatus.OK_200)) {
                     if (result.getFailure() != null) {
@@ -533,6 +546,40 @@ public class CloudClient {
         }
     }
 
+    private @Nullable String getHeader(JSONObject headersJson, String name) {
+        for (String key : headersJson.keySet()) {
+            if (name.equalsIgnoreCase(key)) {
+                return headersJson.optString(key, null);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Emits an event to the openHAB Cloud
+     */
+    void emit(String event, JSONObject data) {
+        socket.emit(event, data);
+    }
+
+    /**
+     * Runs the given action as soon as all previously emitted events have been handed to the web socket and its
+     * send queue has drained below {@link #MAX_QUEUED_BYTES}.
+     */
+    void whenWritable(Runnable action) {
+        // Events are emitted in the Socket.IO event thread, so queue the check behind them
+        EventThread.exec(() -> runWhenQueueDrained(action));
+    }
+
+    private void runWhenQueueDrained(Runnable action) {
+        okhttp3.WebSocket localWebSocket = webSocket;
+        if (isConnected && localWebSocket != null && localWebSocket.queueSize() > MAX_QUEUED_BYTES) {
+            scheduler.schedule(() -> runWhenQueueDrained(action), QUEUE_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler.execute(action);
+        }
+    }
+
     private void setRequestHeaders(Request request, JSONObject requestHeadersJson) {
         Iterator<String> headersIterator = requestHeadersJson.keys();
         // Convert JSONObject of headers into Header ArrayList
@@ -809,18 +856,6 @@ public class CloudClient {
         }, delay, TimeUnit.MILLISECONDS))).ifPresent(future -> future.cancel(true));
     }
 
-    private JSONObject getJSONHeaders(HttpFields httpFields) {
-        JSONObject headersJSON = new JSONObject();
-        try {
-            for (HttpField field : httpFields) {
-                headersJSON.put(field.getName(), field.getValue());
-            }
-        } catch (JSONException e) {
-            logger.warn("Error forming response headers: {}", e.getMessage());
-        }
-        return headersJSON;
-    }
-
     private JSONArray createActionArray(@Nullable String... actionStrings) {
         JSONArray actionArray = new JSONArray();
         for (String actionString : actionStrings) {
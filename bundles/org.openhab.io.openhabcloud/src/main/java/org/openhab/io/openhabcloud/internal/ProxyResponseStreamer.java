@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.LongConsumer;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.util.Callback;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streams the response of a proxied openHAB request back to the openHAB Cloud.
+ *
+ * <p>
+ * Content is only demanded from Jetty after the previous content has been handed to the web socket and its send queue
+ * has drained below a limit, so that a slow cloud connection does not make the whole response pile up in memory.
+ * Content is sent in chunks of at most {@link #MAX_CHUNK_SIZE} bytes. Uncompressed text responses are compressed on
+ * the fly, if compression is enabled and the requesting client accepts it.
+ * </p>
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class ProxyResponseStreamer implements Response.HeadersListener, Response.DemandedContentListener {
+    static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(ProxyResponseStreamer.class);
+    private final CloudClient client;
+    private final int requestId;
+    private final @Nullable String acceptEncoding;
+    private final long startTime = System.nanoTime();
+
+    private final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    private @Nullable DeflaterOutputStream compressor;
+    private long bytesReceived = 0;
+    private long bytesSent = 0;
+    private int chunksSent = 0;
+
+    /**
+     * @param client The cloud client to emit the response events with
+     * @param requestId The id of the proxied request
+     * @param acceptEncoding The Accept-Encoding header of the proxied request. If null, content is not compressed.
+     */
+    ProxyResponseStreamer(CloudClient client, int requestId, @Nullable String acceptEncoding) {
+        this.client = client;
+        this.requestId = requestId;
+        this.acceptEncoding = acceptEncoding;
+    }
+
+    @Override
+    public synchronized void onHeaders(@Nullable Response response) {
+        if (response == null) {
+            return;
+        }
+        logger.debug("onHeaders {}", requestId);
+        String encoding = selectContentEncoding(response);
+        JSONObject headersJson = new JSONObject();
+        JSONObject responseJson = new JSONObject();
+        try {
+            for (HttpField field : response.getHeaders()) {
+                if (encoding != null && field.getHeader() == HttpHeader.CONTENT_LENGTH) {
+                    // the length changes with compression
+                    continue;
+                }
+                headersJson.put(field.getName(), field.getValue());
+            }
+            if (encoding != null) {
+                headersJson.put(HttpHeader.CONTENT_ENCODING.asString(), encoding);
+                String vary = response.getHeaders().get(HttpHeader.VARY);
+                headersJson.put(HttpHeader.VARY.asString(),
+                        vary == null ? HttpHeader.ACCEPT_ENCODING.asString() : vary + ", Accept-Encoding");
+                compressor = "gzip".equals(encoding) ? new GZIPOutputStream(compressed, true)
+                        : new DeflaterOutputStream(compressed, true);
+            }
+            responseJson.put("id", requestId);
+            responseJson.put("headers", headersJson);
+            responseJson.put("responseStatusCode", response.getStatus());
+            responseJson.put("responseStatusText", "OK");
+            client.emit("responseHeader", responseJson);
+            logger.trace("Sent headers to request {}", requestId);
+            logger.trace("{}", responseJson.toString());
+        } catch (JSONException | IOException e) {
+            logger.debug("{}", e.getMessage());
+            close();
+        }
+    }
+
+    @Override
+    public synchronized void onContent(@Nullable Response response, @Nullable LongConsumer demand,
+            @Nullable ByteBuffer content, @Nullable Callback callback) {
+        if (demand == null || content == null || callback == null) {
+            return;
+        }
+        logger.debug("onResponseContent: {}, content size {}", requestId, content.remaining());
+        bytesReceived += content.remaining();
+        try {
+            while (content.hasRemaining()) {
+                byte[] chunk = new byte[Math.min(content.remaining(), MAX_CHUNK_SIZE)];
+                content.get(chunk);
+                if (logger.isTraceEnabled()) {
+                    logger.trace("{}", new String(chunk, StandardCharsets.UTF_8));
+                }
+                DeflaterOutputStream compressor = this.compressor;
+                if (compressor != null) {
+                    compressor.write(chunk);
+                    compressor.flush();
+                    emitContent(takeCompressed());
+                } else {
+                    emitContent(chunk);
+                }
+            }
+        } catch (IOException e) {
+            close();
+            callback.failed(e);
+            return;
+        }
+        // The content got copied, Jetty may reuse the buffer, but only ask for more when the socket can take it
+        callback.succeeded();
+        client.whenWritable(() -> demand.accept(1));
+    }
+
+    /**
+     * Sends the remaining compressed content, if any, and logs the throughput of this request.
+     */
+    synchronized void onComplete() {
+        DeflaterOutputStream compressor = this.compressor;
+        if (compressor != null) {
+            try {
+                compressor.close();
+                emitContent(takeCompressed());
+            } catch (IOException e) {
+                logger.debug("{}", e.getMessage());
+            } finally {
+                close();
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            long durationMs = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+            logger.debug("Request {} streamed {} bytes ({} bytes sent in {} chunks) in {} ms, {} kB/s", requestId,
+                    bytesReceived, bytesSent, chunksSent, durationMs, bytesSent / durationMs);
+        }
+    }
+
+    /**
+     * Releases the compressor, if any, without sending the remaining compressed content. Used if the request
+     * failed or the connection to the openHAB Cloud got lost.
+     */
+    synchronized void close() {
+        DeflaterOutputStream compressor = this.compressor;
+        this.compressor = null;
+        if (compressor != null) {
+            try {
+                // also ends the deflater
+                compressor.close();
+            } catch (IOException e) {
+                logger.debug("{}", e.getMessage());
+            }
+            compressed.reset();
+        }
+    }
+
+    /**
+     * Returns the number of content bytes received from openHAB.
+     */
+    synchronized long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Returns the number of (possibly compressed) content bytes sent to the openHAB Cloud.
+     */
+    synchronized long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Returns the number of content chunks sent to the openHAB Cloud.
+     */
+    synchronized int getChunksSent() {
+        return chunksSent;
+    }
+
+    private @Nullable String selectContentEncoding(Response response) {
+        String acceptEncoding = this.acceptEncoding;
+        if (acceptEncoding == null || response.getHeaders().containsKey(HttpHeader.CONTENT_ENCODING.asString())) {
+            return null;
+        }
+        String contentType = response.getHeaders().get(HttpHeader.CONTENT_TYPE);
+        if (contentType == null || !isText(contentType.toLowerCase(Locale.ROOT))) {
+            return null;
+        }
+        if (acceptsCoding(acceptEncoding, "gzip")) {
+            return "gzip";
+        } else if (acceptsCoding(acceptEncoding, "deflate")) {
+            return "deflate";
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if the given Accept-Encoding header value allows the given content coding. An explicit coding takes
+     * precedence over the "*" wildcard, a quality value of 0 means "not acceptable".
+     */
+    static boolean acceptsCoding(String acceptEncoding, String coding) {
+        boolean wildcard = false;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String accepted = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean acceptable = true;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        acceptable = Double.parseDouble(param.substring(2).trim()) > 0;
+                    } catch (NumberFormatException e) {
+                        acceptable = false;
+                    }
+                }
+            }
+            if (coding.equals(accepted) || ("x-" + coding).equals(accepted)) {
+                return acceptable;
+            } else if ("*".equals(accepted)) {
+                wildcard = acceptable;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean isText(String contentType) {
+        return contentType.startsWith("text/") || contentType.contains("json") || contentType.contains("javascript")
+                || contentType.contains("xml");
+    }
+
+    private byte[] takeCompressed() {
+        byte[] bytes = compressed.toByteArray();
+        compressed.reset();
+        return bytes;
+    }
+
+    private void emitContent(byte[] chunk) {
+        if (chunk.length == 0) {
+            return;
+        }
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            responseJson.put("body", chunk);
+            client.emit("responseContentBinary", responseJson);
+            bytesSent += chunk.length;
+            chunksSent++;
+            logger.trace("Sent content to request {}", requestId);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.util.Callback;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests cases for {@link ProxyResponseStreamer}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class ProxyResponseStreamerTest {
+    private static final int REQUEST_ID = 42;
+
+    private @Mock @NonNullByDefault({}) CloudClient client;
+    private @Mock @NonNullByDefault({}) Response response;
+    private @Mock @NonNullByDefault({}) LongConsumer demand;
+    private @Mock @NonNullByDefault({}) Callback callback;
+    private final HttpFields headers = new HttpFields();
+
+    @BeforeEach
+    public void setUp() {
+        when(response.getHeaders()).thenReturn(headers);
+        when(response.getStatus()).thenReturn(200);
+    }
+
+    private static byte[] text(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; builder.length() < length; i++) {
+            builder.append("line ").append(i).append('\n');
+        }
+        return builder.substring(0, length).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private JSONObject emittedHeaders() {
+        ArgumentCaptor<JSONObject> captor = ArgumentCaptor.forClass(JSONObject.class);
+        verify(client).emit(eq("responseHeader"), captor.capture());
+        return captor.getValue().getJSONObject("headers");
+    }
+
+    private List<byte[]> emittedChunks() {
+        ArgumentCaptor<JSONObject> captor = ArgumentCaptor.forClass(JSONObject.class);
+        verify(client, atLeast(0)).emit(eq("responseContentBinary"), captor.capture());
+        return captor.getAllValues().stream().map(json -> (byte[]) json.get("body")).toList();
+    }
+
+    private static byte[] concat(List<byte[]> chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        chunks.forEach(out::writeBytes);
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    public void contentIsSplitIntoChunks() {
+        headers.put(HttpHeader.CONTENT_TYPE, "text/html");
+        headers.put(HttpHeader.CONTENT_LENGTH, Integer.toString(2 * ProxyResponseStreamer.MAX_CHUNK_SIZE + 10));
+        ProxyResponseStreamer streamer = new ProxyResponseStreamer(client, REQUEST_ID, null);
+        byte[] content = text(2 * ProxyResponseStreamer.MAX_CHUNK_SIZE + 10);
+
+        streamer.onHeaders(response);
+        streamer.onContent(response, demand, ByteBuffer.wrap(content), callback);
+        streamer.onComplete();
+
+        List<byte[]> chunks = emittedChunks();
+        assertThat(chunks.stream().map(chunk -> chunk.length).toList(),
+                is(List.of(ProxyResponseStreamer.MAX_CHUNK_SIZE, ProxyResponseStreamer.MAX_CHUNK_SIZE, 10)));
+        assertArrayEquals(content, concat(chunks));
+        assertThat(emittedHeaders().has(HttpHeader.CONTENT_ENCODING.asString()), is(false));
+        assertThat(streamer.getChunksSent(), is(3));
+        verify(callback).succeeded();
+        verify(client).whenWritable(any());
+    }
+
+    @Test
+    public void gzipCompressedContentRoundTrip() throws IOException {
+        headers.put(HttpHeader.CONTENT_TYPE, "application/json; charset=UTF-8");
+        headers.put(HttpHeader.CONTENT_LENGTH, "200000");
+        ProxyResponseStreamer streamer = new ProxyResponseStreamer(client, REQUEST_ID, "gzip, deflate, br");
+        byte[] content = text(200000);
+
+        streamer.onHeaders(response);
+        streamer.onContent(response, demand, ByteBuffer.wrap(content, 0, 100000), callback);
+        streamer.onContent(response, demand, ByteBuffer.wrap(content, 100000, 100000), callback);
+        streamer.onComplete();
+
+        JSONObject emittedHeaders = emittedHeaders();
+        assertThat(emittedHeaders.getString(HttpHeader.CONTENT_ENCODING.asString()), is("gzip"));
+        assertThat(emittedHeaders.has(HttpHeader.CONTENT_LENGTH.asString()), is(false));
+        byte[] body = concat(emittedChunks());
+        assertArrayEquals(content, decompress(new GZIPInputStream(new ByteArrayInputStream(body))));
+        assertThat(streamer.getBytesReceived(), is(200000L));
+        assertThat(streamer.getBytesSent(), is((long) body.length));
+        assertTrue(body.length < content.length);
+    }
+
+    @Test
+    public void deflateCompressedContentRoundTrip() throws IOException {
+        headers.put(HttpHeader.CONTENT_TYPE, "text/plain");
+        ProxyResponseStreamer streamer = new ProxyResponseStreamer(client, REQUEST_ID, "deflate");
+        byte[] content = text(5000);
+
+        streamer.onHeaders(response);
+        streamer.onContent(response, demand, ByteBuffer.wrap(content), callback);
+        streamer.onComplete();
+
+        assertThat(emittedHeaders().getString(HttpHeader.CONTENT_ENCODING.asString()), is("deflate"));
+        byte[] body = concat(emittedChunks());
+        assertArrayEquals(content, decompress(new InflaterInputStream(new ByteArrayInputStream(body))));
+    }
+
+    @Test
+    public void nonCompressibleContentIsPassedThrough() {
+        headers.put(HttpHeader.CONTENT_TYPE, "image/png");
+        headers.put(HttpHeader.CONTENT_LENGTH, "3");
+        ProxyResponseStreamer streamer = new ProxyResponseStreamer(client, REQUEST_ID, "gzip");
+        byte[] content = new byte[] { 1, 2, 3 };
+
+        streamer.onHeaders(response);
+        streamer.onContent(response, demand, ByteBuffer.wrap(content), callback);
+        streamer.onComplete();
+
+        JSONObject emittedHeaders = emittedHeaders();
+        assertThat(emittedHeaders.has(HttpHeader.CONTENT_ENCODING.asString()), is(false));
+        assertThat(emittedHeaders.getString(HttpHeader.CONTENT_LENGTH.asString()), is("3"));
+        assertArrayEquals(content, concat(emittedChunks()));
+    }
+
+    @Test
+    public void refusedCodingIsNotUsed() {
+        headers.put(HttpHeader.CONTENT_TYPE, "text/plain");
+        ProxyResponseStreamer streamer = new ProxyResponseStreamer(client, REQUEST_ID, "gzip;q=0, deflate;q=0.5");
+
+        streamer.onHeaders(response);
+        streamer.onContent(response, demand, ByteBuffer.wrap(text(100)), callback);
+        streamer.onComplete();
+
+        assertThat(emittedHeaders().getString(HttpHeader.CONTENT_ENCODING.asString()), is("deflate"));
+    }
+
+    @Test
+    public void acceptEncodingIsParsed() {
+        assertTrue(ProxyResponseStreamer.acceptsCoding("gzip", "gzip"));
+        assertTrue(ProxyResponseStreamer.acceptsCoding("deflate, X-GZIP;q=0.8", "gzip"));
+        assertTrue(ProxyResponseStreamer.acceptsCoding("*", "deflate"));
+        assertFalse(ProxyResponseStreamer.acceptsCoding("gzip;q=0", "gzip"));
+        assertFalse(ProxyResponseStreamer.acceptsCoding("gzip; Q=0.0, *", "gzip"));
+        assertFalse(ProxyResponseStreamer.acceptsCoding("*;q=0", "deflate"));
+        assertFalse(ProxyResponseStreamer.acceptsCoding("identity", "gzip"));
+        assertFalse(ProxyResponseStreamer.acceptsCoding("xgzip, gzipx", "gzip"));
+    }
+
+    @Test
+    public void closeDiscardsRemainingCompressedContent() {
+        headers.put(HttpHeader.CONTENT_TYPE, "text/plain");
+        ProxyResponseStreamer streamer = new ProxyResponseStreamer(client, REQUEST_ID, "gzip");
+
+        streamer.onHeaders(response);
+        streamer.onContent(response, demand, ByteBuffer.wrap(text(1000)), callback);
+        int chunksSent = streamer.getChunksSent();
+        streamer.close();
+        streamer.onComplete();
+
+        // The gzip trailer is not sent after the streamer has been closed
+        assertThat(streamer.getChunksSent(), is(chunksSent));
+        assertThat(emittedChunks().size(), is(chunksSent));
+    }
+}
@@ -0,0 +1,344 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+/**
+ * Buffers PutItem requests and writes them using BatchWriteItem requests of up to 25 items.
+ *
+ * Items are buffered for the configured delay, or until a full batch is available. Items left unprocessed by
+ * DynamoDB, and batches failing due to throttling, are retried with exponential backoff. The number of concurrent
+ * batch requests adapts to the observed throttling: it is halved whenever DynamoDB throttles, and increased by one
+ * after each batch written completely.
+ *
+ * If the table does not exist, the items are written with {@link TableCreatingPutItem}, creating the table.
+ *
+ * @author openHAB Contributors - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriter {
+    /**
+     * Maximum number of items in one BatchWriteItem request, as defined by DynamoDB
+     */
+    public static final int MAX_BATCH_SIZE = 25;
+
+    private static final int MAX_CONCURRENCY = 16;
+    private static final int INITIAL_CONCURRENCY = 4;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long BACKOFF_BASE_MILLIS = 100;
+    private static final long BACKOFF_MAX_MILLIS = 20_000;
+
+    private final Logger logger = LoggerFactory.getLogger(DynamoDBBatchWriter.class);
+
+    private final DynamoDBPersistenceService service;
+    private final DynamoDbEnhancedAsyncClient client;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final long delayMillis;
+
+    // guarded by this
+    private final Deque<PendingPut<?>> queue = new ArrayDeque<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private int inFlight = 0;
+    private int retriesScheduled = 0;
+    private int concurrencyLimit = INITIAL_CONCURRENCY;
+
+    /**
+     * Item waiting to be written
+     */
+    private static class PendingPut<T extends DynamoDBItem<?>> {
+        private final DynamoDbAsyncTable<T> table;
+        private final T dto;
+        private final int attempt;
+
+        private PendingPut(DynamoDbAsyncTable<T> table, T dto, int attempt) {
+            this.table = table;
+            this.dto = dto;
+            this.attempt = attempt;
+        }
+
+        /**
+         * Key of the item in the table. DynamoDB rejects batches containing the same key twice.
+         */
+        private String key() {
+            return key(table, dto);
+        }
+
+        private static String key(DynamoDbAsyncTable<?> table, DynamoDBItem<?> dto) {
+            return table.tableName() + "/" + dto.getName() + "/" + dto.getTime().toInstant().toEpochMilli();
+        }
+
+        private void addTo(Map<String, TableBatch<?>> batches) {
+            @SuppressWarnings("unchecked") // OK since tables are grouped by name, having the same item type
+            TableBatch<T> tableBatch = (TableBatch<T>) batches.get(table.tableName());
+            if (tableBatch == null) {
+                tableBatch = new TableBatch<>(table);
+                batches.put(table.tableName(), tableBatch);
+            }
+            tableBatch.puts.put(key(), this);
+        }
+
+        private PendingPut<T> retry() {
+            return new PendingPut<>(table, dto, attempt + 1);
+        }
+
+        private void putCreatingTable(DynamoDBPersistenceService service) {
+            new TableCreatingPutItem<>(service, dto, table).putItemAsync();
+        }
+    }
+
+    /**
+     * Items of one batch request belonging to the same table
+     */
+    private static class TableBatch<T extends DynamoDBItem<?>> {
+        private final DynamoDbAsyncTable<T> table;
+        private final Map<String, PendingPut<T>> puts = new LinkedHashMap<>();
+
+        private TableBatch(DynamoDbAsyncTable<T> table) {
+            this.table = table;
+        }
+
+        private WriteBatch toWriteBatch() {
+            WriteBatch.Builder<T> builder = WriteBatch.builder(table.tableSchema().itemType().rawClass())
+                    .mappedTableResource(table);
+            puts.values().forEach(put -> builder.addPutItem(put.dto));
+            return builder.build();
+        }
+
+        private List<PendingPut<?>> unprocessed(BatchWriteResult result) {
+            List<PendingPut<?>> unprocessed = new ArrayList<>();
+            for (T dto : result.unprocessedPutItemsForTable(table)) {
+                PendingPut<T> put = puts.get(PendingPut.key(table, dto));
+                if (put != null) {
+                    unprocessed.add(put);
+                }
+            }
+            return unprocessed;
+        }
+    }
+
+    public DynamoDBBatchWriter(DynamoDBPersistenceService service, DynamoDbEnhancedAsyncClient client,
+            ExecutorService executor, ScheduledExecutorService scheduler, long delayMillis) {
+        this.service = service;
+        this.client = client;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Buffer an item to be written to a table
+     *
+     * @param table table to write to
+     * @param dto item to write
+     */
+    public <T extends DynamoDBItem<?>> void put(DynamoDbAsyncTable<T> table, T dto) {
+        boolean dispatchNow;
+        synchronized (this) {
+            queue.add(new PendingPut<>(table, dto, 0));
+            dispatchNow = queue.size() >= MAX_BATCH_SIZE;
+            if (!dispatchNow && flushJob == null) {
+                flushJob = scheduler.schedule(this::flushJobRun, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (dispatchNow) {
+            executor.execute(this::dispatch);
+        }
+    }
+
+    /**
+     * Write all buffered items, waiting for the writes to complete
+     *
+     * @param timeout maximum time to wait
+     */
+    public void flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            ScheduledFuture<?> job = flushJob;
+            if (job != null) {
+                job.cancel(false);
+                flushJob = null;
+            }
+        }
+        dispatch();
+        synchronized (this) {
+            while (!queue.isEmpty() || inFlight > 0 || retriesScheduled > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    logger.warn("Timeout while writing buffered items, {} items not written.", queue.size());
+                    return;
+                }
+                try {
+                    wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void flushJobRun() {
+        synchronized (this) {
+            flushJob = null;
+        }
+        dispatch();
+    }
+
+    /**
+     * Send batches as long as the concurrency limit allows
+     */
+    private void dispatch() {
+        List<Map<String, TableBatch<?>>> batches = new ArrayList<>();
+        synchronized (this) {
+            while (inFlight < concurrencyLimit && !queue.isEmpty()) {
+                Map<String, TableBatch<?>> batch = new HashMap<>();
+                int size = 0;
+                while (size < MAX_BATCH_SIZE && !queue.isEmpty()) {
+                    queue.removeFirst().addTo(batch);
+                    // duplicate keys replace the earlier put, as consecutive PutItem requests would
+                    size = batch.values().stream().mapToInt(tableBatch -> tableBatch.puts.size()).sum();
+                }
+                batches.add(batch);
+                inFlight++;
+            }
+        }
+        batches.forEach(this::write);
+    }
+
+    private void write(Map<String, TableBatch<?>> batch) {
+        Instant start = Instant.now();
+        List<WriteBatch> writeBatches = batch.values().stream().map(TableBatch::toWriteBatch).toList();
+        client.batchWriteItem(BatchWriteItemEnhancedRequest.builder().writeBatches(writeBatches).build())
+                .whenCompleteAsync((result, exception) -> {
+                    try {
+                        if (exception == null) {
+                            handleResult(batch, result, start);
+                        } else {
+                            Throwable cause = exception.getCause();
+                            handleFailure(batch,
+                                    exception instanceof CompletionException && cause != null ? cause : exception);
+                        }
+                    } finally {
+                        synchronized (this) {
+                            inFlight--;
+                            notifyAll();
+                        }
+                        dispatch();
+                    }
+                }, executor);
+    }
+
+    private void handleResult(Map<String, TableBatch<?>> batch, BatchWriteResult result, Instant start) {
+        List<PendingPut<?>> unprocessed = new ArrayList<>();
+        batch.values().forEach(tableBatch -> unprocessed.addAll(tableBatch.unprocessed(result)));
+        int total = batch.values().stream().mapToInt(tableBatch -> tableBatch.puts.size()).sum();
+        if (unprocessed.isEmpty()) {
+            synchronized (this) {
+                concurrencyLimit = Math.min(MAX_CONCURRENCY, concurrencyLimit + 1);
+            }
+            logger.trace("BatchWriteItem: {} items written in {} ms.", total,
+                    Duration.between(start, Instant.now()).toMillis());
+        } else {
+            logger.debug("BatchWriteItem: {} of {} items left unprocessed (throttled). Retrying.", unprocessed.size(),
+                    total);
+            throttled();
+            retry(unprocessed);
+        }
+    }
+
+    private void handleFailure(Map<String, TableBatch<?>> batch, Throwable cause) {
+        List<PendingPut<?>> puts = new ArrayList<>();
+        batch.values().forEach(tableBatch -> puts.addAll(tableBatch.puts.values()));
+        if (cause instanceof ResourceNotFoundException) {
+            logger.trace("BatchWriteItem: Table was not present. Writing items one by one, creating the table first");
+            puts.forEach(put -> put.putCreatingTable(service));
+        } else if (cause instanceof AwsServiceException serviceException && serviceException.isThrottlingException()) {
+            logger.debug("BatchWriteItem: throttled with {} {}. Retrying {} items.", cause.getClass().getSimpleName(),
+                    cause.getMessage(), puts.size());
+            throttled();
+            retry(puts);
+        } else {
+            logger.warn("BatchWriteItem: failed (final) with {} {}. Aborting {} items.",
+                    cause.getClass().getSimpleName(), cause.getMessage(), puts.size());
+        }
+    }
+
+    private synchronized void throttled() {
+        concurrencyLimit = Math.max(1, concurrencyLimit / 2);
+    }
+
+    /**
+     * Put the items back to the queue after a backoff delay growing with the number of attempts
+     */
+    private void retry(List<PendingPut<?>> puts) {
+        List<PendingPut<?>> retries = new ArrayList<>();
+        int attempt = 0;
+        for (PendingPut<?> put : puts) {
+            if (put.attempt + 1 >= MAX_ATTEMPTS) {
+                logger.warn("BatchWriteItem: giving up writing item {} after {} attempts.", put.dto.getName(),
+                        MAX_ATTEMPTS);
+            } else {
+                retries.add(put.retry());
+                attempt = Math.max(attempt, put.attempt + 1);
+            }
+        }
+        if (retries.isEmpty()) {
+            return;
+        }
+        long backoff = Math.min(BACKOFF_MAX_MILLIS, BACKOFF_BASE_MILLIS << attempt);
+        // random delay between half and the whole backoff, so that retries of concurrent batches spread out
+        long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        synchronized (this) {
+            retriesScheduled++;
+        }
+        scheduler.schedule(() -> {
+            synchronized (this) {
+                retriesScheduled--;
+                for (int i = retries.size() - 1; i >= 0; i--) {
+                    queue.addFirst(retries.get(i));
+                }
+            }
+            dispatch();
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+}
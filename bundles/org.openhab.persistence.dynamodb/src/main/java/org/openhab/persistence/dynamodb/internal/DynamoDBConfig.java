@@ -49,6 +49,7 @@ public class DynamoDBConfig {
     public static final String DEFAULT_TABLE_NAME = "openhab";
     public static final long DEFAULT_READ_CAPACITY_UNITS = 1;
     public static final long DEFAULT_WRITE_CAPACITY_UNITS = 1;
+    public static final long DEFAULT_BATCH_WRITE_DELAY_MILLIS = 1000;
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBConfig.class);
 
     private long readCapacityUnits;
@@ -60,6 +61,7 @@ public class DynamoDBConfig {
     private String table;
     private String tablePrefixLegacy;
     private @Nullable Integer expireDays;
+    private long batchWriteDelayMillis;
 
     /**
      *
@@ -168,22 +170,34 @@ public class DynamoDBConfig {
                 }
             }
 
+            final long batchWriteDelayMillis;
+            String batchWriteDelayMillisParam = (String) config.get("batchWriteDelayMillis");
+            if (batchWriteDelayMillisParam == null || batchWriteDelayMillisParam.isBlank()) {
+                batchWriteDelayMillis = DEFAULT_BATCH_WRITE_DELAY_MILLIS;
+            } else {
+                batchWriteDelayMillis = Long.parseLong(batchWriteDelayMillisParam);
+                if (batchWriteDelayMillis < 0) {
+                    LOGGER.error("batchWriteDelayMillis should be zero or positive integer");
+                    return null;
+                }
+            }
+
             switch (tableRevision) {
                 case NEW:
                     LOGGER.debug("Using new DynamoDB table schema");
                     return DynamoDBConfig.newSchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            table, readCapacityUnits, writeCapacityUnits, expireDays);
+                            table, readCapacityUnits, writeCapacityUnits, expireDays, batchWriteDelayMillis);
                 case LEGACY:
                     LOGGER.warn(
                             "Using legacy DynamoDB table schema. It is recommended to transition to new schema by defining 'table' parameter and not configuring 'tablePrefix'");
                     return DynamoDBConfig.legacySchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            tablePrefixLegacy, readCapacityUnits, writeCapacityUnits);
+                            tablePrefixLegacy, readCapacityUnits, writeCapacityUnits, batchWriteDelayMillis);
                 case MAYBE_LEGACY:
                     LOGGER.debug(
                             "Unclear whether we should use new legacy DynamoDB table schema. It is recommended to explicitly define new 'table' parameter. The correct table schema will be detected at runtime.");
                     return DynamoDBConfig.maybeLegacySchema(region, credentials,
                             retryMode.map(AwsRetryPolicy::forRetryMode), table, tablePrefixLegacy, readCapacityUnits,
-                            writeCapacityUnits, expireDays);
+                            writeCapacityUnits, expireDays, batchWriteDelayMillis);
                 default:
                     throw new IllegalStateException("Unhandled enum. Bug");
             }
@@ -195,28 +209,29 @@ public class DynamoDBConfig {
 
     private static DynamoDBConfig newSchema(Region region, AwsCredentials credentials,
             Optional<RetryPolicy> retryPolicy, String table, long readCapacityUnits, long writeCapacityUnits,
-            @Nullable Integer expireDays) {
+            @Nullable Integer expireDays, long batchWriteDelayMillis) {
         return new DynamoDBConfig(region, credentials, retryPolicy, table, "", ExpectedTableSchema.NEW,
-                readCapacityUnits, writeCapacityUnits, expireDays);
+                readCapacityUnits, writeCapacityUnits, expireDays, batchWriteDelayMillis);
     }
 
     private static DynamoDBConfig legacySchema(Region region, AwsCredentials credentials,
             Optional<RetryPolicy> retryPolicy, String tablePrefixLegacy, long readCapacityUnits,
-            long writeCapacityUnits) {
+            long writeCapacityUnits, long batchWriteDelayMillis) {
         return new DynamoDBConfig(region, credentials, retryPolicy, "", tablePrefixLegacy, ExpectedTableSchema.LEGACY,
-                readCapacityUnits, writeCapacityUnits, null);
+                readCapacityUnits, writeCapacityUnits, null, batchWriteDelayMillis);
     }
 
     private static DynamoDBConfig maybeLegacySchema(Region region, AwsCredentials credentials,
             Optional<RetryPolicy> retryPolicy, String table, String tablePrefixLegacy, long readCapacityUnits,
-            long writeCapacityUnits, @Nullable Integer expireDays) {
+            long writeCapacityUnits, @Nullable Integer expireDays, long batchWriteDelayMillis) {
         return new DynamoDBConfig(region, credentials, retryPolicy, table, tablePrefixLegacy,
-                ExpectedTableSchema.MAYBE_LEGACY, readCapacityUnits, writeCapacityUnits, expireDays);
+                ExpectedTableSchema.MAYBE_LEGACY, readCapacityUnits, writeCapacityUnits, expireDays,
+                batchWriteDelayMillis);
     }
 
     private DynamoDBConfig(Region region, AwsCredentials credentials, Optional<RetryPolicy> retryPolicy, String table,
             String tablePrefixLegacy, ExpectedTableSchema tableRevision, long readCapacityUnits,
-            long writeCapacityUnits, @Nullable Integer expireDays) {
+            long writeCapacityUnits, @Nullable Integer expireDays, long batchWriteDelayMillis) {
         this.region = region;
         this.credentials = credentials;
         this.retryPolicy = retryPolicy;
@@ -226,6 +241,7 @@ public class DynamoDBConfig {
         this.readCapacityUnits = readCapacityUnits;
         this.writeCapacityUnits = writeCapacityUnits;
         this.expireDays = expireDays;
+        this.batchWriteDelayMillis = batchWriteDelayMillis;
     }
 
     public AwsCredentials getCredentials() {
@@ -263,4 +279,11 @@ public class DynamoDBConfig {
     public @Nullable Integer getExpireDays() {
         return expireDays;
     }
+
+    /**
+     * Delay for buffering items to be written in batches. Zero disables batching.
+     */
+    public long getBatchWriteDelayMillis() {
+        return batchWriteDelayMillis;
+    }
 }
@@ -255,4 +255,27 @@ public class DynamoDBConfigTest {
         assertEquals(Optional.empty(), fromConfig.getRetryPolicy().map(RetryPolicy::retryMode));
         assertEquals(ExpectedTableSchema.MAYBE_LEGACY, fromConfig.getTableRevision());
     }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testBatchWriteDelayDefault() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig
+                .fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey", "secret1"));
+        assertEquals(DynamoDBConfig.DEFAULT_BATCH_WRITE_DELAY_MILLIS, fromConfig.getBatchWriteDelayMillis());
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testBatchWriteDelay() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1",
+                "secretKey", "secret1", "table", "mytable", "batchWriteDelayMillis", "0"));
+        assertEquals(0, fromConfig.getBatchWriteDelayMillis());
+        assertEquals(ExpectedTableSchema.NEW, fromConfig.getTableRevision());
+    }
+
+    @Test
+    public void testInvalidBatchWriteDelay() throws Exception {
+        assertNull(DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey",
+                "secret1", "batchWriteDelayMillis", "-1")));
+    }
 }
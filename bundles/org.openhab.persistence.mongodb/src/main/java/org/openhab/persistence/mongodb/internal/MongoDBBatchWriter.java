@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+
+/**
+ * This class buffers documents per collection and writes them with unordered bulk inserts.
+ *
+ * Documents are flushed once the flush interval has elapsed since the first buffered document, or as soon as the
+ * batch size is reached. Documents which could not be written because the database was unavailable are kept for the
+ * next flush, up to a limit of ten batches per collection.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBBatchWriter {
+
+    private final Logger logger = LoggerFactory.getLogger(MongoDBBatchWriter.class);
+
+    private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+
+    private final ScheduledExecutorService scheduler;
+    private final Function<String, @Nullable MongoCollection<Document>> collectionProvider;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+
+    private final Map<String, List<Document>> pending = new LinkedHashMap<>();
+    private int pendingCount = 0;
+    private @Nullable ScheduledFuture<?> flushJob;
+    private boolean retrying = false;
+    private boolean stopped = false;
+
+    /**
+     * Serializes flushes of the writer thread and of queries waiting for their collection to be written
+     */
+    private final Object flushLock = new Object();
+
+    /**
+     * Creates a new batch writer.
+     *
+     * @param scheduler the scheduler the flushes are run on
+     * @param collectionProvider returns the collection for a name, or null if the database is not available
+     * @param flushIntervalMillis the maximum time a document is buffered
+     * @param batchSize the number of buffered documents triggering an immediate flush
+     */
+    public MongoDBBatchWriter(ScheduledExecutorService scheduler,
+            Function<String, @Nullable MongoCollection<Document>> collectionProvider, long flushIntervalMillis,
+            int batchSize) {
+        this.scheduler = scheduler;
+        this.collectionProvider = collectionProvider;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Buffers a document to be inserted into a collection.
+     *
+     * @param collectionName the name of the collection
+     * @param document the document to insert
+     */
+    public synchronized void add(String collectionName, Document document) {
+        pending.computeIfAbsent(collectionName, k -> new ArrayList<>()).add(document);
+        pendingCount++;
+
+        if (stopped) {
+            // the writer is being stopped, the final flush writes this document
+            return;
+        }
+
+        ScheduledFuture<?> job = flushJob;
+        if (pendingCount >= batchSize && !retrying) {
+            // flush now, unless a flush is already due
+            if (job == null || job.getDelay(TimeUnit.MILLISECONDS) > 0) {
+                if (job != null) {
+                    job.cancel(false);
+                }
+                flushJob = scheduler.schedule(this::flush, 0, TimeUnit.MILLISECONDS);
+            }
+        } else if (job == null) {
+            flushJob = scheduler.schedule(this::flush, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Cancels the scheduled flush and schedules no further ones. Buffered documents are written by the next call of
+     * {@link #flush()}.
+     */
+    public synchronized void stop() {
+        stopped = true;
+        ScheduledFuture<?> job = flushJob;
+        if (job != null) {
+            job.cancel(false);
+            flushJob = null;
+        }
+    }
+
+    /**
+     * Writes all buffered documents.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<String, List<Document>> batch;
+            synchronized (this) {
+                flushJob = null;
+                batch = new LinkedHashMap<>(pending);
+                pending.clear();
+                pendingCount = 0;
+            }
+            batch.forEach(this::write);
+        }
+    }
+
+    /**
+     * Writes the buffered documents of one collection, e.g. before it is queried.
+     *
+     * @param collectionName the name of the collection
+     */
+    public void flush(String collectionName) {
+        synchronized (flushLock) {
+            List<Document> documents;
+            synchronized (this) {
+                documents = pending.remove(collectionName);
+                if (documents == null) {
+                    return;
+                }
+                pendingCount -= documents.size();
+            }
+            write(collectionName, documents);
+        }
+    }
+
+    private void write(String collectionName, List<Document> documents) {
+        MongoCollection<Document> collection = collectionProvider.apply(collectionName);
+        if (collection == null) {
+            requeue(collectionName, documents);
+            return;
+        }
+
+        long start = System.nanoTime();
+        int failed = 0;
+        for (int from = 0; from < documents.size(); from += batchSize) {
+            List<Document> chunk = documents.subList(from, Math.min(from + batchSize, documents.size()));
+            try {
+                collection.insertMany(chunk, UNORDERED);
+            } catch (MongoBulkWriteException e) {
+                // The insert is unordered, so all documents of the chunk but the failed ones have been written
+                failed += e.getWriteErrors().size();
+                logger.error("Failed to save {} of {} documents to collection {}: {}", e.getWriteErrors().size(),
+                        chunk.size(), collectionName, e.getMessage());
+            } catch (RuntimeException e) {
+                // The chunks before have been written, only this one and the following ones are retried
+                List<Document> unwritten = documents.subList(from, documents.size());
+                logger.warn("Failed to save {} documents to collection {}: {}", unwritten.size(), collectionName,
+                        e.getMessage());
+                requeue(collectionName, new ArrayList<>(unwritten));
+                return;
+            }
+        }
+        synchronized (this) {
+            retrying = false;
+        }
+        logger.debug("MongoDB saved {} documents to collection {} in {} ms", documents.size() - failed,
+                collectionName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private synchronized void requeue(String collectionName, List<Document> documents) {
+        List<Document> queued = pending.computeIfAbsent(collectionName, k -> new ArrayList<>());
+        queued.addAll(0, documents);
+        pendingCount += documents.size();
+        retrying = true;
+
+        int limit = batchSize * 10;
+        if (queued.size() > limit) {
+            int dropped = queued.size() - limit;
+            queued.subList(0, dropped).clear();
+            pendingCount -= dropped;
+            logger.warn("MongoDB not available, dropped {} oldest documents of collection {}", dropped,
+                    collectionName);
+        }
+        if (flushJob == null && !stopped) {
+            flushJob = scheduler.schedule(this::flush, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -13,18 +13,22 @@
 package org.openhab.persistence.mongodb.internal;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -50,10 +54,13 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.MongoCommandException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.TimeSeriesOptions;
 import com.mongodb.client.result.DeleteResult;
 
 /**
@@ -69,18 +76,32 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    /**
+     * Error code of a command creating a collection which exists already
+     */
+    private static final int NAMESPACE_EXISTS = 48;
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
     private String db = "";
     private String collection = "";
     private boolean collectionPerItem;
+    private boolean timeSeries;
 
     private boolean initialized = false;
 
     protected final ItemRegistry itemRegistry;
 
-    private @Nullable MongoClient cl;
+    private volatile @Nullable MongoClient cl;
+
+    /**
+     * Collections whose index (and time-series layout) has been set up on the current connection
+     */
+    private final Set<String> preparedCollections = ConcurrentHashMap.newKeySet();
+
+    private @Nullable ScheduledExecutorService writeScheduler;
+    private volatile @Nullable MongoDBBatchWriter batchWriter;
 
     @Activate
     public MongoDBPersistenceService(final @Reference ItemRegistry itemRegistry) {
@@ -113,6 +134,17 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        timeSeries = Boolean.parseBoolean(String.valueOf(config.get("timeSeries")));
+        long flushInterval = getConfigLong(config, "flushInterval", 0);
+        int batchSize = (int) getConfigLong(config, "batchSize", 100);
+        if (flushInterval > 0 && batchSize > 0) {
+            logger.debug("MongoDB writes batched every {} ms, up to {} documents", flushInterval, batchSize);
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                    new NamedThreadFactory("mongodb"));
+            writeScheduler = scheduler;
+            batchWriter = new MongoDBBatchWriter(scheduler, this::getCollectionForWrite, flushInterval, batchSize);
+        }
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
@@ -123,9 +155,44 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        MongoDBBatchWriter writer = batchWriter;
+        batchWriter = null;
+        if (writer != null) {
+            // delayed flushes would still run after shutdown(), delaying the termination
+            writer.stop();
+        }
+        ScheduledExecutorService scheduler = writeScheduler;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writeScheduler = null;
+        }
+        if (writer != null) {
+            // write what is still buffered before disconnecting
+            writer.flush();
+        }
         disconnectFromDatabase();
     }
 
+    private long getConfigLong(Map<String, Object> config, String key, long defaultValue) {
+        Object value = config.get(key);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value != null && !value.toString().isBlank()) {
+            try {
+                return Long.parseLong(value.toString().trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for MongoDB parameter {}, using {}", value, key, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     @Override
     public String getId() {
         return "mongodb";
@@ -201,7 +268,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
      *
      * @return The database object
      */
-    private synchronized @Nullable MongoClient getDatabase() {
+    private @Nullable MongoClient getDatabase() {
         return cl;
     }
 
@@ -220,19 +287,62 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
                 return null;
             }
 
-            MongoCollection<Document> mongoCollection = db.getDatabase(this.db).getCollection(collectionName);
+            MongoDatabase database = db.getDatabase(this.db);
+            if (!preparedCollections.contains(collectionName)) {
+                if (timeSeries) {
+                    createTimeSeriesCollection(database, collectionName);
+                }
 
-            Document idx = new Document();
-            idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
-            mongoCollection.createIndex(idx);
+                Document idx = new Document();
+                idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
+                database.getCollection(collectionName).createIndex(idx);
+                preparedCollections.add(collectionName);
+            }
 
-            return mongoCollection;
+            return database.getCollection(collectionName);
         } catch (Exception e) {
             logger.error("Failed to connect to collection {}: {}", collectionName, e.getMessage(), e);
             return null;
         }
     }
 
+    /**
+     * Creates a time-series collection, unless a collection of this name exists already
+     */
+    private void createTimeSeriesCollection(MongoDatabase database, String collectionName) {
+        try {
+            database.createCollection(collectionName, new CreateCollectionOptions().timeSeriesOptions(
+                    new TimeSeriesOptions(MongoDBFields.FIELD_TIMESTAMP).metaField(MongoDBFields.FIELD_ITEM)));
+            logger.debug("Created time-series collection {}", collectionName);
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() != NAMESPACE_EXISTS) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the collection for the batch writer, (re)connecting to the database if needed
+     *
+     * @return The collection object, or null if the database is not available
+     */
+    private @Nullable MongoCollection<Document> getCollectionForWrite(String collectionName) {
+        if (!tryConnectToDatabase()) {
+            return null;
+        }
+        return connectToCollection(collectionName);
+    }
+
+    /**
+     * Writes the buffered documents of an item before its collection is read or modified
+     */
+    private void flushPendingWrites(String realItemName) {
+        MongoDBBatchWriter writer = batchWriter;
+        if (writer != null) {
+            writer.flush(collectionPerItem ? realItemName : this.collection);
+        }
+    }
+
     /**
      * Disconnects from the database
      */
@@ -243,10 +353,15 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
 
         cl = null;
+        preparedCollections.clear();
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        String filterItemName = filter.getItemName();
+        if (filterItemName != null) {
+            flushPendingWrites(filterItemName);
+        }
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
@@ -271,30 +386,17 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             logger.warn("Item {} not found", realItemName);
             return Collections.emptyList();
         }
-        List<HistoricItem> items = new ArrayList<>();
 
         logger.debug("Query: {}", query);
 
         Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
-        MongoCursor<Document> cursor = null;
-        try {
-            cursor = collection.find(query).sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
-                    .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize()).iterator();
-
-            while (cursor.hasNext()) {
-                Document obj = cursor.next();
-
-                final State state = MongoDBTypeConversions.getStateFromDocument(item, obj);
-
-                items.add(new MongoDBItem(realItemName, state, obj.getDate(MongoDBFields.FIELD_TIMESTAMP).toInstant()));
-            }
-        } finally {
-            if (cursor != null) {
-                cursor.close();
-            }
-        }
-
-        return items;
+        // Results are read in chunks while iterating, each iteration runs the query again
+        return new MongoDBQueryResult(collection, query, new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir),
+                filter.getPageNumber() * filter.getPageSize(), filter.getPageSize(), obj -> {
+                    final State state = MongoDBTypeConversions.getStateFromDocument(item, obj);
+                    return new MongoDBItem(realItemName, state,
+                            obj.getDate(MongoDBFields.FIELD_TIMESTAMP).toInstant());
+                });
     }
 
     private @Nullable Item getItem(String itemName) {
@@ -344,6 +446,28 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String collectionName = collectionPerItem ? realItemName : this.collection;
+        String name = (alias != null) ? alias : realItemName;
+        Object value = MongoDBTypeConversions.convertValue(state);
+
+        Document obj = new Document();
+        obj.put(MongoDBFields.FIELD_ID, new ObjectId());
+        obj.put(MongoDBFields.FIELD_ITEM, name);
+        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
+        obj.put(MongoDBFields.FIELD_VALUE, value);
+        if (item instanceof NumberItem && state instanceof QuantityType<?>) {
+            obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
+        }
+
+        MongoDBBatchWriter writer = batchWriter;
+        if (writer != null) {
+            writer.add(collectionName, obj);
+            logger.debug("MongoDB queued {}={}", name, value);
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -353,9 +477,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String collectionName = collectionPerItem ? realItemName : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -364,18 +485,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String name = (alias != null) ? alias : realItemName;
-        Object value = MongoDBTypeConversions.convertValue(state);
-
-        Document obj = new Document();
-        obj.put(MongoDBFields.FIELD_ID, new ObjectId());
-        obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
-        obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
-        obj.put(MongoDBFields.FIELD_VALUE, value);
-        if (item instanceof NumberItem && state instanceof QuantityType<?>) {
-            obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
-        }
         try {
             collection.insertOne(obj);
         } catch (org.bson.BsonMaximumSizeExceededException e) {
@@ -465,6 +574,10 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     @Override
     public boolean remove(FilterCriteria filter) {
+        String filterItemName = filter.getItemName();
+        if (filterItemName != null) {
+            flushPendingWrites(filterItemName);
+        }
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
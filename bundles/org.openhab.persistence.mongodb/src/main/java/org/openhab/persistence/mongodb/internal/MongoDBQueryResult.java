@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.persistence.HistoricItem;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+
+/**
+ * This class is the result of a query, read from the database in chunks while it is iterated.
+ *
+ * Each chunk is read with its own cursor, which is closed before the values of the chunk are returned. So no cursor
+ * is left open on the server if the iteration is stopped early. Note that each call of {@link #iterator()} runs the
+ * query again.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBQueryResult implements Iterable<HistoricItem> {
+
+    /**
+     * Maximum number of documents read with one cursor
+     */
+    static final int CHUNK_SIZE = 1000;
+
+    private final MongoCollection<Document> collection;
+    private final Document query;
+    private final Document sort;
+    private final int skip;
+    private final int limit;
+    private final Function<Document, HistoricItem> mapper;
+
+    /**
+     * Creates a query result.
+     *
+     * @param collection the collection to query
+     * @param query the query filter
+     * @param sort the sort order of the documents
+     * @param skip the number of documents to skip
+     * @param limit the maximum number of documents, 0 or less for no limit
+     * @param mapper converts the documents to historic items
+     */
+    public MongoDBQueryResult(MongoCollection<Document> collection, Document query, Document sort, int skip,
+            int limit, Function<Document, HistoricItem> mapper) {
+        this.collection = collection;
+        this.query = query;
+        this.sort = sort;
+        this.skip = skip;
+        this.limit = limit > 0 ? limit : Integer.MAX_VALUE;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        return new Iterator<>() {
+            private Iterator<HistoricItem> chunk = Collections.emptyIterator();
+            private int read = 0;
+            private boolean exhausted = false;
+
+            @Override
+            public boolean hasNext() {
+                while (!chunk.hasNext() && !exhausted) {
+                    readChunk();
+                }
+                return chunk.hasNext();
+            }
+
+            @Override
+            public HistoricItem next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return chunk.next();
+            }
+
+            private void readChunk() {
+                int size = Math.min(CHUNK_SIZE, limit - read);
+                List<HistoricItem> items = new ArrayList<>(size);
+                try (MongoCursor<Document> cursor = collection.find(query).sort(sort).skip(skip + read).limit(size)
+                        .batchSize(size).iterator()) {
+                    cursor.forEachRemaining(document -> items.add(mapper.apply(document)));
+                }
+                read += items.size();
+                exhausted = items.size() < size || read >= limit;
+                chunk = items.iterator();
+            }
+        };
+    }
+}
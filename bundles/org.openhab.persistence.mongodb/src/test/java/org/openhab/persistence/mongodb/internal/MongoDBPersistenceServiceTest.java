@@ -990,4 +990,48 @@ public class MongoDBPersistenceServiceTest {
             dbContainer.stop();
         }
     }
+
+    /**
+     * Tests the store method of MongoDBPersistenceService with batched writes enabled.
+     *
+     * This test checks if stored values are buffered, written before the item is queried and written when the
+     * service is deactivated.
+     * It uses different database backends provided by the provideDatabaseBackends method.
+     *
+     * @param dbContainer The container running the MongoDB instance.
+     */
+    @ParameterizedTest
+    @MethodSource("org.openhab.persistence.mongodb.internal.DataCreationHelper#provideDatabaseBackends")
+    public void testStoreBatched(DatabaseTestContainer dbContainer) {
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testCollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+            setupResult.config.put("flushInterval", "60000");
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            NumberItem item = DataCreationHelper.createNumberItem("TestItem", 10.1);
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem(item.getName())).thenReturn(item);
+            } catch (ItemNotFoundException e) {
+            }
+            MongoCollection<Document> collection = database.getCollection("testCollection");
+
+            // Execution and verification
+            service.store(item, null);
+            assertEquals(0, collection.find().into(new ArrayList<>()).size());
+
+            FilterCriteria filter = DataCreationHelper.createFilterCriteria(item.getName());
+            VerificationHelper.verifyQueryResult(service.query(filter), item.getState());
+            assertEquals(1, collection.find().into(new ArrayList<>()).size());
+
+            service.store(item, null);
+            service.deactivate(1);
+            assertEquals(2, collection.find().into(new ArrayList<>()).size());
+        } finally {
+            dbContainer.stop();
+        }
+    }
 }
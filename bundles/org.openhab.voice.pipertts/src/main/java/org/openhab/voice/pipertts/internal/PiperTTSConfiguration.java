@@ -25,4 +25,8 @@ public class PiperTTSConfiguration {
      * Keep last voice model used loaded in memory.
      */
     boolean preloadModel;
+    /**
+     * Synthesize texts sentence by sentence and stream the audio while the remaining sentences are generated.
+     */
+    boolean streamSentences;
 }
@@ -24,9 +24,11 @@ import java.io.InputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.text.BreakIterator;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -93,6 +95,10 @@ public class PiperTTSService extends AbstractCachedTTSService {
     private static final Path JAR_FILE = PIPER_FOLDER.resolve("piper-jni-" + PIPER_VERSION + ".jar");
     private static final String JAR_URL = "https://repo1.maven.org/maven2/io/github/givimad/piper-jni/" + PIPER_VERSION
             + "/piper-jni-" + PIPER_VERSION + ".jar";
+    // max length of a streamed text segment before it is split at a clause delimiter
+    private static final int MAX_SEGMENT_LENGTH = 200;
+    private static final String CLAUSE_DELIMITERS = ",;:";
+    private static final int UNKNOWN_WAVE_LENGTH = 0xFFFFFFFF;
     private final Logger logger = LoggerFactory.getLogger(PiperTTSService.class);
     private final Object modelLock = new Object();
     private final ExecutorService executor = ThreadPoolManager.getPool("voice-pipertts");
@@ -339,56 +345,149 @@ public class PiperTTSService extends AbstractCachedTTSService {
         if (!(voice instanceof PiperTTSVoice ttsVoice)) {
             throw new TTSException("No piper voice provided");
         }
-        VoiceModel voiceModel = null;
-        boolean usingPreloadedModel = false;
+        if (config.streamSentences) {
+            List<String> segments = splitText(text, ttsVoice.getLocale());
+            if (segments.size() > 1) {
+                return synthesizeStreamed(segments, ttsVoice, audioFormat);
+            }
+        }
+        AcquiredModel acquiredModel = acquireModel(ttsVoice);
         short[] buffer;
-        final VoiceModel preloadedModel = this.preloadedModel;
         try {
+            buffer = generateAudio(acquiredModel.voiceModel(), text);
+        } finally {
+            releaseModel(acquiredModel);
+        }
+        try {
+            logger.debug("Return re-encoded audio stream");
+            return getAudioStream(buffer, acquiredModel.voiceModel().sampleRate, audioFormat);
+        } catch (IOException e) {
+            throw new TTSException("Error while creating audio stream: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Synthesizes the segments in order on the add-on executor. The returned stream delivers the audio of the first
+     * segment while the following ones are generated.
+     */
+    private AudioStream synthesizeStreamed(List<String> segments, PiperTTSVoice ttsVoice, AudioFormat audioFormat)
+            throws TTSException {
+        logger.debug("Streaming audio of {} segments", segments.size());
+        AcquiredModel acquiredModel = acquireModel(ttsVoice);
+        int sampleRate = acquiredModel.voiceModel().sampleRate;
+        javax.sound.sampled.AudioFormat jTargetFormat = getJavaAudioFormat(audioFormat);
+        StreamedAudioStream audioStream = new StreamedAudioStream(audioFormat);
+        try {
+            audioStream.append(getStreamingWaveHeader(jTargetFormat));
+            audioStream.append(convertAudio(generateAudio(acquiredModel.voiceModel(), segments.get(0)), sampleRate,
+                    jTargetFormat));
+        } catch (IOException e) {
+            releaseModel(acquiredModel);
+            throw new TTSException("Error while creating audio stream: " + e.getMessage());
+        } catch (TTSException | RuntimeException e) {
+            releaseModel(acquiredModel);
+            throw e;
+        }
+        executor.submit(() -> {
             try {
-                if (preloadedModel != null && preloadedModel.ttsVoice.getUID().equals(ttsVoice.getUID())) {
-                    logger.debug("Using preloaded voice model");
-                    preloadedModel.consumers.incrementAndGet();
-                    voiceModel = preloadedModel;
-                    usingPreloadedModel = true;
-                } else {
-                    unloadModel();
-                    logger.debug("Loading voice model...");
-                    voiceModel = loadModel(ttsVoice);
-                    synchronized (modelLock) {
-                        usingPreloadedModel = voiceModel.equals(this.preloadedModel);
+                for (String segment : segments.subList(1, segments.size())) {
+                    if (audioStream.isClosed()) {
+                        logger.debug("Audio stream closed, skipping remaining segments");
+                        break;
                     }
+                    audioStream.append(convertAudio(generateAudio(acquiredModel.voiceModel(), segment), sampleRate,
+                            jTargetFormat));
                 }
-            } catch (IOException e) {
-                throw new TTSException("Unable to load voice model: " + e.getMessage());
+                audioStream.complete();
+            } catch (TTSException | IOException | RuntimeException e) {
+                logger.warn("Streamed voice generation failed: {}", e.getMessage());
+                audioStream.fail(new IOException(e.getMessage(), e));
+            } finally {
+                releaseModel(acquiredModel);
             }
-            try {
-                logger.debug("Generating audio for: '{}'", text);
-                buffer = getPiper().textToAudio(voiceModel.piperVoice, text);
-                logger.debug("Generated {} samples of audio", buffer.length);
-            } catch (IOException e) {
-                throw new TTSException("Voice generation failed: " + e.getMessage());
+        });
+        return audioStream;
+    }
+
+    /**
+     * Splits the text into sentences, sentences longer than {@link #MAX_SEGMENT_LENGTH} are split into clauses.
+     */
+    private static List<String> splitText(String text, Locale locale) {
+        List<String> segments = new ArrayList<>();
+        BreakIterator sentenceIterator = BreakIterator.getSentenceInstance(locale);
+        sentenceIterator.setText(text);
+        int start = sentenceIterator.first();
+        for (int end = sentenceIterator.next(); end != BreakIterator.DONE; start = end, end = sentenceIterator
+                .next()) {
+            String sentence = text.substring(start, end).trim();
+            while (sentence.length() > MAX_SEGMENT_LENGTH) {
+                int clauseEnd = -1;
+                for (int i = MAX_SEGMENT_LENGTH - 1; i > 0 && clauseEnd == -1; i--) {
+                    if (CLAUSE_DELIMITERS.indexOf(sentence.charAt(i)) != -1) {
+                        clauseEnd = i + 1;
+                    }
+                }
+                if (clauseEnd == -1) {
+                    break;
+                }
+                segments.add(sentence.substring(0, clauseEnd).trim());
+                sentence = sentence.substring(clauseEnd).trim();
+            }
+            if (!sentence.isEmpty()) {
+                segments.add(sentence);
+            }
+        }
+        return segments;
+    }
+
+    private AcquiredModel acquireModel(PiperTTSVoice ttsVoice) throws TTSException {
+        final VoiceModel preloadedModel = this.preloadedModel;
+        try {
+            if (preloadedModel != null && preloadedModel.ttsVoice.getUID().equals(ttsVoice.getUID())) {
+                logger.debug("Using preloaded voice model");
+                preloadedModel.consumers.incrementAndGet();
+                return new AcquiredModel(preloadedModel, true);
+            }
+            unloadModel();
+            logger.debug("Loading voice model...");
+            VoiceModel voiceModel = loadModel(ttsVoice);
+            synchronized (modelLock) {
+                return new AcquiredModel(voiceModel, voiceModel.equals(this.preloadedModel));
             }
+        } catch (IOException e) {
+            throw new TTSException("Unable to load voice model: " + e.getMessage());
         } catch (PiperJNI.NotInitialized | LibraryNotLoaded e) {
             throw new TTSException("Piper not initialized, try restarting the add-on.");
         } catch (RuntimeException e) {
-            logger.warn("RuntimeException running text to audio: {}", e.getMessage());
+            logger.warn("RuntimeException loading voice model: {}", e.getMessage());
             throw new TTSException("There was an error running Piper");
-        } finally {
-            if (voiceModel != null) {
-                if (!usingPreloadedModel
-                        || voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
-                    logger.debug("Unloading voice model");
-                    voiceModel.close();
-                } else {
-                    logger.debug("Skipping voice model unload");
-                }
-            }
         }
+    }
+
+    private void releaseModel(AcquiredModel acquiredModel) {
+        VoiceModel voiceModel = acquiredModel.voiceModel();
+        if (!acquiredModel.usingPreloadedModel()
+                || voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
+            logger.debug("Unloading voice model");
+            voiceModel.close();
+        } else {
+            logger.debug("Skipping voice model unload");
+        }
+    }
+
+    private short[] generateAudio(VoiceModel voiceModel, String text) throws TTSException {
         try {
-            logger.debug("Return re-encoded audio stream");
-            return getAudioStream(buffer, voiceModel.sampleRate, audioFormat);
+            logger.debug("Generating audio for: '{}'", text);
+            short[] buffer = getPiper().textToAudio(voiceModel.piperVoice, text);
+            logger.debug("Generated {} samples of audio", buffer.length);
+            return buffer;
         } catch (IOException e) {
-            throw new TTSException("Error while creating audio stream: " + e.getMessage());
+            throw new TTSException("Voice generation failed: " + e.getMessage());
+        } catch (PiperJNI.NotInitialized | LibraryNotLoaded e) {
+            throw new TTSException("Piper not initialized, try restarting the add-on.");
+        } catch (RuntimeException e) {
+            logger.warn("RuntimeException running text to audio: {}", e.getMessage());
+            throw new TTSException("There was an error running Piper");
         }
     }
 
@@ -433,6 +532,27 @@ public class PiperTTSService extends AbstractCachedTTSService {
 
     private ByteArrayAudioStream getAudioStream(short[] samples, long sampleRate, AudioFormat targetFormat)
             throws IOException {
+        javax.sound.sampled.AudioFormat jTargetFormat = getJavaAudioFormat(targetFormat);
+        // It's required to add the wav header to the byte array stream returned for it to work with all the sink
+        // implementations.
+        // It can not be done with the AudioInputStream returned by AudioSystem::getAudioInputStream because it missed
+        // the length property.
+        // Therefore, the following method creates another AudioInputStream instance and uses the Java AudioSystem to
+        // prepend
+        // the wav header bytes,
+        // and finally initializes an OpenHAB audio stream.
+        return getAudioStreamWithRIFFHeader(convertAudio(samples, sampleRate, jTargetFormat), jTargetFormat,
+                targetFormat);
+    }
+
+    private javax.sound.sampled.AudioFormat getJavaAudioFormat(AudioFormat targetFormat) {
+        return new javax.sound.sampled.AudioFormat(Objects.requireNonNull(targetFormat.getFrequency()),
+                Objects.requireNonNull(targetFormat.getBitDepth()), Objects.requireNonNull(targetFormat.getChannels()),
+                true, false);
+    }
+
+    private byte[] convertAudio(short[] samples, long sampleRate, javax.sound.sampled.AudioFormat jTargetFormat)
+            throws IOException {
         // Convert the i16 samples returned by piper to a byte buffer
         ByteBuffer byteBuffer;
         int numSamples = samples.length;
@@ -449,19 +569,33 @@ public class PiperTTSService extends AbstractCachedTTSService {
                 audioLength);
         // Move the audio data to another Java audio stream in the target format so the Java AudioSystem encoded it as
         // needed.
-        javax.sound.sampled.AudioFormat jTargetFormat = new javax.sound.sampled.AudioFormat(
-                Objects.requireNonNull(targetFormat.getFrequency()), Objects.requireNonNull(targetFormat.getBitDepth()),
-                Objects.requireNonNull(targetFormat.getChannels()), true, false);
         AudioInputStream convertedInputStream = AudioSystem.getAudioInputStream(jTargetFormat, audioInputStreamTemp);
-        // It's required to add the wav header to the byte array stream returned for it to work with all the sink
-        // implementations.
-        // It can not be done with the AudioInputStream returned by AudioSystem::getAudioInputStream because it missed
-        // the length property.
-        // Therefore, the following method creates another AudioInputStream instance and uses the Java AudioSystem to
-        // prepend
-        // the wav header bytes,
-        // and finally initializes an OpenHAB audio stream.
-        return getAudioStreamWithRIFFHeader(convertedInputStream.readAllBytes(), jTargetFormat, targetFormat);
+        return convertedInputStream.readAllBytes();
+    }
+
+    /**
+     * Creates a wav header for PCM data of unknown length, which is the common convention for streamed wav audio.
+     */
+    private static byte[] getStreamingWaveHeader(javax.sound.sampled.AudioFormat jAudioFormat) {
+        int channels = jAudioFormat.getChannels();
+        int sampleRate = (int) jAudioFormat.getSampleRate();
+        int bitDepth = jAudioFormat.getSampleSizeInBits();
+        int blockAlign = channels * bitDepth / 8;
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(UNKNOWN_WAVE_LENGTH);
+        header.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        header.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(16);
+        header.putShort((short) 1);
+        header.putShort((short) channels);
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * blockAlign);
+        header.putShort((short) blockAlign);
+        header.putShort((short) bitDepth);
+        header.put("data".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(UNKNOWN_WAVE_LENGTH);
+        return header.array();
     }
 
     private String capitalize(String text) {
@@ -502,6 +636,9 @@ public class PiperTTSService extends AbstractCachedTTSService {
         }
     }
 
+    private record AcquiredModel(VoiceModel voiceModel, boolean usingPreloadedModel) {
+    }
+
     private record VoiceModel(PiperTTSVoice ttsVoice, PiperVoice piperVoice, int sampleRate, AtomicInteger consumers,
             Logger logger) implements AutoCloseable {
 
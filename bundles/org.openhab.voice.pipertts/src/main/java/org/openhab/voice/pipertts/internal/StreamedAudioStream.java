@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+
+/**
+ * The {@link StreamedAudioStream} is an audio stream whose data is appended in chunks while it is being read.
+ *
+ * Reads block until the next chunk is available or the producer has completed or failed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class StreamedAudioStream extends AudioStream {
+    private static final byte[] END = new byte[0];
+
+    private final AudioFormat audioFormat;
+    private final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+    private volatile @Nullable IOException failure;
+    private volatile boolean closed;
+    private byte[] currentChunk = new byte[0];
+    private int position;
+    private boolean ended;
+
+    public StreamedAudioStream(AudioFormat audioFormat) {
+        this.audioFormat = audioFormat;
+    }
+
+    /**
+     * Appends a chunk of audio data, ignored if the stream has been closed.
+     */
+    public void append(byte[] chunk) {
+        if (!closed && chunk.length > 0) {
+            chunks.add(chunk);
+        }
+    }
+
+    /**
+     * Marks the end of the audio data.
+     */
+    public void complete() {
+        chunks.add(END);
+    }
+
+    /**
+     * Marks the end of the audio data because of an error, the reader gets the exception.
+     */
+    public void fail(IOException e) {
+        failure = e;
+        chunks.add(END);
+    }
+
+    /**
+     * Returns whether the consumer has closed the stream, so there is no need to produce more data.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public AudioFormat getFormat() {
+        return audioFormat;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] singleByte = new byte[1];
+        return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte @Nullable [] b, int off, int len) throws IOException {
+        if (b == null) {
+            throw new NullPointerException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (position >= currentChunk.length) {
+            if (ended || closed) {
+                return -1;
+            }
+            byte[] nextChunk;
+            try {
+                nextChunk = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for audio");
+            }
+            if (nextChunk == END) {
+                ended = true;
+                IOException failure = this.failure;
+                if (failure != null) {
+                    throw failure;
+                }
+                return -1;
+            }
+            currentChunk = nextChunk;
+            position = 0;
+        }
+        int length = Math.min(len, currentChunk.length - position);
+        System.arraycopy(currentChunk, position, b, off, length);
+        position += length;
+        return length;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return currentChunk.length - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        chunks.clear();
+        // wake up a blocked reader
+        chunks.add(END);
+        super.close();
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.rustpotterks.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link AudioRingBuffer} is a lock-free single producer single consumer ring buffer for audio bytes.
+ *
+ * The producer reads the audio stream directly into the buffer, the consumer takes complete frames. Both sides
+ * park while waiting for the other one, so no thread polls for data.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class AudioRingBuffer {
+    private final byte[] buffer;
+    private final int mask;
+    // positions only grow, the index in the buffer is position & mask
+    private volatile long writePosition;
+    private volatile long readPosition;
+    private volatile long lastWriteNanos;
+    private volatile boolean closed;
+    private volatile @Nullable Thread waitingProducer;
+    private volatile @Nullable Thread waitingConsumer;
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param minCapacity minimum capacity in bytes, rounded up to the next power of two
+     */
+    public AudioRingBuffer(int minCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(minCapacity, 2) - 1) << 1;
+        this.buffer = new byte[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Reads the next bytes of the stream into the free space of the buffer, waits if the buffer is full.
+     *
+     * To be called by the producer thread only.
+     *
+     * @param audioStream the stream to read
+     * @return the number of bytes read, -1 at the end of the stream or if the buffer has been closed
+     * @throws IOException if reading the stream fails
+     */
+    public int writeFrom(InputStream audioStream) throws IOException {
+        long write = writePosition;
+        int free = awaitFreeSpace(write);
+        if (free == 0) {
+            return -1;
+        }
+        int offset = (int) (write & mask);
+        // read into the contiguous part of the free space only
+        int length = Math.min(free, buffer.length - offset);
+        int numBytesRead = audioStream.read(buffer, offset, length);
+        if (numBytesRead > 0) {
+            lastWriteNanos = System.nanoTime();
+            writePosition = write + numBytesRead;
+            Thread consumer = waitingConsumer;
+            if (consumer != null) {
+                LockSupport.unpark(consumer);
+            }
+        }
+        return numBytesRead;
+    }
+
+    /**
+     * Copies the next frame into the given array, waits until enough bytes are available.
+     *
+     * To be called by the consumer thread only.
+     *
+     * @param frame the array to fill completely
+     * @return false if the buffer has been closed before a complete frame was available
+     */
+    public boolean readFrame(byte[] frame) {
+        long read = readPosition;
+        if (!awaitAvailable(read, frame.length)) {
+            return false;
+        }
+        int offset = (int) (read & mask);
+        int firstPart = Math.min(frame.length, buffer.length - offset);
+        System.arraycopy(buffer, offset, frame, 0, firstPart);
+        if (firstPart < frame.length) {
+            System.arraycopy(buffer, 0, frame, firstPart, frame.length - firstPart);
+        }
+        readPosition = read + frame.length;
+        Thread producer = waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of bytes written but not yet read.
+     */
+    public int available() {
+        return (int) (writePosition - readPosition);
+    }
+
+    /**
+     * Returns the time of the last write, in ns (see {@link System#nanoTime()}).
+     */
+    public long getLastWriteNanos() {
+        return lastWriteNanos;
+    }
+
+    /**
+     * Closes the buffer and wakes up the waiting threads.
+     */
+    public void close() {
+        closed = true;
+        Thread producer = waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+        Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private int awaitFreeSpace(long write) {
+        int free = buffer.length - (int) (write - readPosition);
+        if (free == 0 && !closed) {
+            waitingProducer = Thread.currentThread();
+            try {
+                while (!closed && (free = buffer.length - (int) (write - readPosition)) == 0) {
+                    LockSupport.park(this);
+                }
+            } finally {
+                waitingProducer = null;
+            }
+        }
+        return closed ? 0 : free;
+    }
+
+    private boolean awaitAvailable(long read, int length) {
+        if (writePosition - read >= length) {
+            return true;
+        }
+        waitingConsumer = Thread.currentThread();
+        try {
+            while (writePosition - read < length) {
+                if (closed) {
+                    return false;
+                }
+                LockSupport.park(this);
+            }
+        } finally {
+            waitingConsumer = null;
+        }
+        return true;
+    }
+}
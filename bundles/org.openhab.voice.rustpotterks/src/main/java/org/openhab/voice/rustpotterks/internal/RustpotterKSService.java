@@ -67,6 +67,9 @@ import io.github.givimad.rustpotter_java.VADMode;
 public class RustpotterKSService implements KSService {
     private static final Path RUSTPOTTER_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "rustpotter");
     private static final Path RUSTPOTTER_RECORDS_FOLDER = RUSTPOTTER_FOLDER.resolve("records");
+    // the ring buffer holds at least this audio and number of frames
+    private static final int BUFFERED_AUDIO_MS = 2000;
+    private static final int MIN_BUFFERED_FRAMES = 8;
     private final Logger logger = LoggerFactory.getLogger(RustpotterKSService.class);
     private final ExecutorService executor = ThreadPoolManager.getPool("voice-rustpotterks");
     private RustpotterKSConfiguration config = new RustpotterKSConfiguration();
@@ -151,17 +154,24 @@ public class RustpotterKSService implements KSService {
         }
         logger.debug("Wakeword '{}' loaded", wakewordPath);
         AtomicBoolean aborted = new AtomicBoolean(false);
-        int bufferSize = (int) rustpotter.getBytesPerFrame();
-        long bytesPerMs = frequency / 1000 * (long) bitDepth;
+        int frameSize = (int) rustpotter.getBytesPerFrame();
+        double bytesPerMs = frequency * channels * (bitDepth / 8) / 1000.0;
+        AudioRingBuffer ringBuffer = new AudioRingBuffer(
+                Math.max(frameSize * MIN_BUFFERED_FRAMES, (int) (bytesPerMs * BUFFERED_AUDIO_MS)));
         RustpotterMutex rustpotterMutex = new RustpotterMutex(rustpotter);
         synchronized (this.runningInstances) {
             this.runningInstances.add(rustpotterMutex);
         }
-        executor.submit(
-                () -> processAudioStream(rustpotterMutex, bufferSize, bytesPerMs, ksListener, audioStream, aborted));
+        Thread readerThread = new Thread(() -> readAudioStream(ringBuffer, ksListener, audioStream, aborted),
+                "OH-voice-rustpotterks-reader");
+        readerThread.setDaemon(true);
+        readerThread.start();
+        executor.submit(() -> processAudioStream(rustpotterMutex, frameSize, bytesPerMs, ksListener, ringBuffer,
+                aborted));
         return () -> {
             logger.debug("Stopping service");
             aborted.set(true);
+            ringBuffer.close();
         };
     }
 
@@ -203,34 +213,53 @@ public class RustpotterKSService implements KSService {
         return rustpotterConfig;
     }
 
-    private void processAudioStream(RustpotterMutex rustpotter, int bufferSize, long bytesPerMs, KSListener ksListener,
-            AudioStream audioStream, AtomicBoolean aborted) {
-        int numBytesRead;
-        byte[] audioBuffer = new byte[bufferSize];
-        int remaining = bufferSize;
+    /**
+     * Feeds the ring buffer with the audio stream until the end of the stream, the spot abort or repeated errors.
+     */
+    private void readAudioStream(AudioRingBuffer ringBuffer, KSListener ksListener, AudioStream audioStream,
+            AtomicBoolean aborted) {
         boolean hasFailed = false;
-        while (!aborted.get()) {
-            try {
-                numBytesRead = audioStream.read(audioBuffer, bufferSize - remaining, remaining);
-                if (aborted.get() || numBytesRead == -1) {
-                    break;
-                }
-                if (numBytesRead != remaining) {
-                    remaining = remaining - numBytesRead;
-                    try {
-                        Thread.sleep(remaining / bytesPerMs);
-                    } catch (InterruptedException ignored) {
-                        logger.warn("Thread interrupted while waiting for audio, aborting execution");
-                        aborted.set(true);
+        try {
+            while (!aborted.get()) {
+                try {
+                    if (ringBuffer.writeFrom(audioStream) == -1) {
+                        break;
                     }
+                    hasFailed = false;
+                } catch (IOException e) {
                     if (aborted.get()) {
                         break;
                     }
-                    continue;
+                    String errorMessage = e.getMessage();
+                    ksListener.ksEventReceived(
+                            new KSErrorEvent(errorMessage != null ? errorMessage : "Unexpected error"));
+                    if (hasFailed) {
+                        logger.warn("Multiple consecutive errors, stopping service");
+                        break;
+                    }
+                    hasFailed = true;
                 }
-                remaining = bufferSize;
-                var result = rustpotter.processBytes(audioBuffer);
-                hasFailed = false;
+            }
+        } finally {
+            ringBuffer.close();
+        }
+    }
+
+    /**
+     * Runs the detector over the frames of the ring buffer until it is closed.
+     */
+    private void processAudioStream(RustpotterMutex rustpotter, int frameSize, double bytesPerMs,
+            KSListener ksListener, AudioRingBuffer ringBuffer, AtomicBoolean aborted) {
+        // the frame is reused, rustpotter copies the bytes it needs
+        byte[] frame = new byte[frameSize];
+        long processedFrames = 0;
+        int maxBufferedBytes = 0;
+        try {
+            while (!aborted.get() && ringBuffer.readFrame(frame)) {
+                int bufferedBytes = ringBuffer.available();
+                maxBufferedBytes = Math.max(maxBufferedBytes, bufferedBytes);
+                processedFrames++;
+                var result = rustpotter.processBytes(frame);
                 if (result.isPresent()) {
                     var detection = result.get();
                     if (logger.isDebugEnabled()) {
@@ -243,25 +272,25 @@ public class RustpotterKSService implements KSService {
                         logger.debug("Detected '{}' with: Score: {}, AvgScore: {}, Count: {}, Gain: {}, Scores: {}",
                                 detection.getName(), detection.getScore(), detection.getAvgScore(),
                                 detection.getCounter(), detection.getGain(), String.join(", ", scores));
+                        // the frame ends where the still buffered audio begins
+                        long frameEndNanos = ringBuffer.getLastWriteNanos()
+                                - (long) (bufferedBytes / bytesPerMs * 1_000_000);
+                        logger.debug("Detection latency {}ms, {}ms of audio buffered",
+                                (System.nanoTime() - frameEndNanos) / 1_000_000, (long) (bufferedBytes / bytesPerMs));
                     }
                     detection.delete();
                     ksListener.ksEventReceived(new KSpottedEvent());
                 }
-            } catch (IOException e) {
-                String errorMessage = e.getMessage();
-                ksListener.ksEventReceived(new KSErrorEvent(errorMessage != null ? errorMessage : "Unexpected error"));
-                if (hasFailed) {
-                    logger.warn("Multiple consecutive errors, stopping service");
-                    break;
-                }
-                hasFailed = true;
             }
+        } finally {
+            ringBuffer.close();
+            synchronized (this.runningInstances) {
+                this.runningInstances.remove(rustpotter);
+            }
+            rustpotter.delete();
+            logger.debug("Rustpotter stopped after {} frames, max buffered audio {}ms", processedFrames,
+                    (long) (maxBufferedBytes / bytesPerMs));
         }
-        synchronized (this.runningInstances) {
-            this.runningInstances.remove(rustpotter);
-        }
-        rustpotter.delete();
-        logger.debug("Rustpotter stopped");
     }
 
     private void asyncUpdateActiveInstances() {
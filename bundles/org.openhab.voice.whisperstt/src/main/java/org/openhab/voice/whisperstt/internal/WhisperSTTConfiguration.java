@@ -58,6 +58,18 @@ public class WhisperSTTConfiguration {
      * Voice activity detection step in ms (vad dependency only allows 10, 20 or 30 ms steps).
      */
     public int vadStep = 20;
+    /**
+     * Transcribe the audio in windows while the utterance is still running.
+     */
+    public boolean streamingMode;
+    /**
+     * Seconds of audio transcribed per window in streaming mode.
+     */
+    public float streamingWindowSeconds = 5f;
+    /**
+     * Seconds of audio shared by consecutive windows in streaming mode.
+     */
+    public float streamingOverlapSeconds = 1f;
     /**
      * Initial silence seconds for discard transcription.
      */
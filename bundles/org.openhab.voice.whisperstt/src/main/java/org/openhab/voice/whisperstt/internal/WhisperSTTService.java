@@ -28,6 +28,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
@@ -96,6 +97,8 @@ public class WhisperSTTService implements STTService {
     private @Nullable WhisperContext context;
     private @Nullable WhisperGrammar grammar;
     private @Nullable WhisperJNI whisper;
+    private @Nullable WhisperState idleState;
+    private @Nullable TranscriptionBuffers idleBuffers;
 
     @Activate
     public WhisperSTTService(@Reference LocaleService localeService) {
@@ -251,9 +254,7 @@ public class WhisperSTTService implements STTService {
         try {
             var whisper = getWhisper();
             ctx = getContext();
-            logger.debug("Creating whisper state...");
-            state = whisper.initState(ctx);
-            logger.debug("Whisper state created");
+            state = acquireState(whisper, ctx);
             logger.debug("Creating VAD instance...");
             final int nSamplesStep = (int) (config.stepSeconds * (float) WHISPER_SAMPLE_RATE);
             VAD vad = new VAD(VoiceActivityDetector.Mode.valueOf(config.vadMode), WHISPER_SAMPLE_RATE, nSamplesStep,
@@ -331,6 +332,7 @@ public class WhisperSTTService implements STTService {
     }
 
     private void unloadContext() throws IOException {
+        closeIdleState();
         var context = this.context;
         if (context != null) {
             logger.debug("Unloading model");
@@ -339,6 +341,58 @@ public class WhisperSTTService implements STTService {
         }
     }
 
+    /**
+     * Returns the idle whisper state of the preloaded context or creates a new one.
+     */
+    private synchronized WhisperState acquireState(WhisperJNI whisper, WhisperContext ctx) throws IOException {
+        var state = this.idleState;
+        if (state != null && ctx == this.context) {
+            logger.debug("Reusing whisper state");
+            this.idleState = null;
+            return state;
+        }
+        logger.debug("Creating whisper state...");
+        state = whisper.initState(ctx);
+        logger.debug("Whisper state created");
+        return state;
+    }
+
+    /**
+     * Keeps the whisper state for the next recognition if it belongs to the preloaded context, otherwise closes it.
+     */
+    private synchronized void releaseState(WhisperContext ctx, WhisperState state) {
+        if (this.idleState == null && ctx == this.context) {
+            this.idleState = state;
+        } else {
+            state.close();
+        }
+    }
+
+    private synchronized void closeIdleState() {
+        var state = this.idleState;
+        if (state != null) {
+            state.close();
+            this.idleState = null;
+        }
+    }
+
+    /**
+     * Returns the idle sample buffers if they match the required sizes or allocates new ones.
+     */
+    private synchronized TranscriptionBuffers acquireBuffers(int nSamplesStep, int nSamplesMax) {
+        var buffers = this.idleBuffers;
+        this.idleBuffers = null;
+        if (buffers != null && buffers.stepAudioSamples.length == nSamplesStep
+                && buffers.audioSamples.length == nSamplesMax) {
+            return buffers;
+        }
+        return new TranscriptionBuffers(nSamplesStep, nSamplesMax);
+    }
+
+    private synchronized void releaseBuffers(TranscriptionBuffers buffers) {
+        this.idleBuffers = buffers;
+    }
+
     private void backgroundRecognize(WhisperJNI whisper, WhisperContext ctx, WhisperState state, final int nSamplesStep,
             Locale locale, STTListener sttListener, AudioStream audioStream, VAD vad, AtomicBoolean aborted) {
         var releaseContext = !config.preloadModel;
@@ -351,10 +405,23 @@ public class WhisperSTTService implements STTService {
         logger.debug("Max transcription samples {}", nSamplesMax);
         logger.debug("Max init silence samples {}", nInitSilenceSamples);
         logger.debug("Max silence samples {}", nMaxSilenceSamples);
+        final boolean streaming = config.streamingMode;
+        // the window must leave room for the next step in the audio buffer
+        final int nStreamingWindowSamples = Math.min(
+                Math.max((int) (config.streamingWindowSeconds * (float) WHISPER_SAMPLE_RATE), nSamplesMin),
+                nSamplesMax - nSamplesStep);
+        final int nStreamingOverlapSamples = Math.min(
+                Math.max((int) (config.streamingOverlapSeconds * (float) WHISPER_SAMPLE_RATE), 0),
+                nStreamingWindowSamples / 2);
+        if (streaming) {
+            logger.debug("Streaming window samples {}", nStreamingWindowSamples);
+            logger.debug("Streaming overlap samples {}", nStreamingOverlapSamples);
+        }
+        final TranscriptionBuffers buffers = acquireBuffers(nSamplesStep, nSamplesMax);
         // used to store the step samples in libfvad wanted format 16-bit int
-        final short[] stepAudioSamples = new short[nSamplesStep];
+        final short[] stepAudioSamples = buffers.stepAudioSamples;
         // used to store the full samples in whisper wanted format 32-bit float
-        final float[] audioSamples = new float[nSamplesMax];
+        final float[] audioSamples = buffers.audioSamples;
         executor.submit(() -> {
             int audioSamplesOffset = 0;
             int silenceSamplesCounter = 0;
@@ -363,17 +430,20 @@ public class WhisperSTTService implements STTService {
             boolean voiceDetected = false;
             String transcription = "";
             String tempTranscription = "";
+            // transcription of the windows already transcribed while the utterance is still running
+            String streamedTranscription = "";
+            // utterance samples that have already left the audio buffer
+            int streamedSamples = 0;
+            long utteranceWhisperNanos = 0;
             VAD.@Nullable VADResult lastVADResult;
             VAD.@Nullable VADResult firstConsecutiveSilenceVADResult = null;
             try {
-                try (state; //
-                        audioStream; //
+                try (audioStream; //
                         vad) {
                     if (AudioFormat.CONTAINER_WAVE.equals(audioStream.getFormat().getContainer())) {
                         AudioWaveUtils.removeFMT(audioStream);
                     }
-                    final ByteBuffer captureBuffer = ByteBuffer.allocate(nSamplesStep * 2)
-                            .order(ByteOrder.LITTLE_ENDIAN);
+                    final ByteBuffer captureBuffer = buffers.captureBuffer;
                     // init remaining to full capacity
                     int remaining = captureBuffer.capacity();
                     WhisperFullParams params = getWhisperFullParams(ctx, locale);
@@ -411,6 +481,26 @@ public class WhisperSTTService implements STTService {
                                 logger.debug("VAD: voice detected");
                                 silenceSamplesCounter = 0;
                                 firstConsecutiveSilenceVADResult = null;
+                                if (streaming && audioSamplesOffset >= nStreamingWindowSamples) {
+                                    // transcribe the window while the audio is still arriving
+                                    long execStartTime = System.nanoTime();
+                                    String windowTranscription = transcribe(whisper, ctx, state, params,
+                                            audioSamples, audioSamplesOffset);
+                                    utteranceWhisperNanos += System.nanoTime() - execStartTime;
+                                    if (windowTranscription == null) {
+                                        emitSpeechRecognitionError(sttListener);
+                                        break;
+                                    }
+                                    streamedTranscription = mergeTranscriptions(streamedTranscription,
+                                            windowTranscription);
+                                    logger.debug("Interim transcription: {}", streamedTranscription);
+                                    // keep the window tail, so words cut by the window end are completed by the
+                                    // next window
+                                    System.arraycopy(audioSamples, audioSamplesOffset - nStreamingOverlapSamples,
+                                            audioSamples, 0, nStreamingOverlapSamples);
+                                    streamedSamples += audioSamplesOffset - nStreamingOverlapSamples;
+                                    audioSamplesOffset = nStreamingOverlapSamples;
+                                }
                                 continue;
                             } else {
                                 if (firstConsecutiveSilenceVADResult == null) {
@@ -442,7 +532,7 @@ public class WhisperSTTService implements STTService {
                                     continue;
                                 } else {
                                     logger.debug("VAD: silence detected");
-                                    if (audioSamplesOffset < nSamplesMin) {
+                                    if (audioSamplesOffset < nSamplesMin && streamedTranscription.isEmpty()) {
                                         logger.debug("Not enough samples, continue");
                                         continue;
                                     }
@@ -485,21 +575,20 @@ public class WhisperSTTService implements STTService {
                             }
                         }
                         // run whisper
-                        logger.debug("running whisper with {} seconds of audio...",
-                                Math.round((((float) audioSamplesOffset) / (float) WHISPER_SAMPLE_RATE) * 100f) / 100f);
-                        long execStartTime = System.currentTimeMillis();
-                        var result = whisper.fullWithState(ctx, state, params, audioSamples, audioSamplesOffset);
-                        logger.debug("whisper ended in {}ms with result code {}",
-                                System.currentTimeMillis() - execStartTime, result);
-                        // process result
-                        if (result != 0) {
+                        long execStartTime = System.nanoTime();
+                        String segmentTranscription = transcribe(whisper, ctx, state, params, audioSamples,
+                                audioSamplesOffset);
+                        utteranceWhisperNanos += System.nanoTime() - execStartTime;
+                        if (segmentTranscription == null) {
                             emitSpeechRecognitionError(sttListener);
                             break;
                         }
-                        int nSegments = whisper.fullNSegmentsFromState(state);
-                        logger.debug("Available transcription segments {}", nSegments);
-                        if (nSegments == 1) {
-                            tempTranscription = whisper.fullGetSegmentTextFromState(state, 0);
+                        logRealTimeFactor(streamedSamples + audioSamplesOffset, utteranceWhisperNanos);
+                        tempTranscription = mergeTranscriptions(streamedTranscription, segmentTranscription);
+                        streamedTranscription = "";
+                        streamedSamples = 0;
+                        utteranceWhisperNanos = 0;
+                        if (!tempTranscription.isEmpty()) {
                             if (config.createWAVRecord) {
                                 createAudioFile(audioSamples, audioSamplesOffset, tempTranscription,
                                         locale.getLanguage());
@@ -513,13 +602,9 @@ public class WhisperSTTService implements STTService {
                                 transcription += tempTranscription;
                                 tempTranscription = "";
                             }
-                        } else if (nSegments == 0 && config.singleUtteranceMode) {
+                        } else if (config.singleUtteranceMode) {
                             logger.debug("Single utterance mode and no results, ending transcription");
                             break;
-                        } else if (nSegments > 1) {
-                            // non reachable
-                            logger.warn("Whisper should be configured in single segment mode {}", nSegments);
-                            break;
                         }
                         // reset state to start with next segment
                         voiceDetected = false;
@@ -529,6 +614,8 @@ public class WhisperSTTService implements STTService {
                         logger.debug("Transcription: {}", transcription);
                     }
                 } finally {
+                    releaseBuffers(buffers);
+                    releaseState(ctx, state);
                     if (releaseContext) {
                         ctx.close();
                     }
@@ -553,6 +640,76 @@ public class WhisperSTTService implements STTService {
         });
     }
 
+    /**
+     * Runs whisper over the given samples.
+     *
+     * @return the transcribed text, empty if there were no results, or null on error
+     */
+    private @Nullable String transcribe(WhisperJNI whisper, WhisperContext ctx, WhisperState state,
+            WhisperFullParams params, float[] samples, int nSamples) throws IOException {
+        logger.debug("running whisper with {} seconds of audio...",
+                Math.round((((float) nSamples) / (float) WHISPER_SAMPLE_RATE) * 100f) / 100f);
+        long execStartTime = System.currentTimeMillis();
+        var result = whisper.fullWithState(ctx, state, params, samples, nSamples);
+        logger.debug("whisper ended in {}ms with result code {}", System.currentTimeMillis() - execStartTime,
+                result);
+        if (result != 0) {
+            return null;
+        }
+        int nSegments = whisper.fullNSegmentsFromState(state);
+        logger.debug("Available transcription segments {}", nSegments);
+        if (nSegments > 1) {
+            // non reachable
+            logger.warn("Whisper should be configured in single segment mode {}", nSegments);
+        }
+        var text = new StringBuilder();
+        for (int i = 0; i < nSegments; i++) {
+            text.append(whisper.fullGetSegmentTextFromState(state, i));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Appends the transcription of the next window, removing the words repeated because of the window overlap.
+     */
+    private static String mergeTranscriptions(String previous, String next) {
+        if (previous.isBlank() || next.isBlank()) {
+            return previous.isBlank() ? next : previous;
+        }
+        String[] previousWords = previous.trim().split("\\s+");
+        String[] nextWords = next.trim().split("\\s+");
+        int maxOverlap = Math.min(previousWords.length, nextWords.length);
+        for (int overlap = maxOverlap; overlap > 0; overlap--) {
+            boolean matches = true;
+            for (int i = 0; i < overlap && matches; i++) {
+                matches = normalizeWord(previousWords[previousWords.length - overlap + i])
+                        .equals(normalizeWord(nextWords[i]));
+            }
+            if (matches) {
+                if (overlap == nextWords.length) {
+                    return previous;
+                }
+                return previous + " "
+                        + String.join(" ", Arrays.copyOfRange(nextWords, overlap, nextWords.length));
+            }
+        }
+        return previous + " " + String.join(" ", nextWords);
+    }
+
+    private static String normalizeWord(String word) {
+        return word.replaceAll("[^\\p{L}\\p{N}]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private void logRealTimeFactor(int nUtteranceSamples, long whisperNanos) {
+        if (logger.isDebugEnabled() && nUtteranceSamples > 0) {
+            float audioSeconds = (float) nUtteranceSamples / (float) WHISPER_SAMPLE_RATE;
+            float whisperSeconds = (float) whisperNanos / 1_000_000_000f;
+            logger.debug("Utterance of {}s transcribed in {}ms, real time factor {}",
+                    Math.round(audioSeconds * 100f) / 100f, whisperNanos / 1_000_000,
+                    Math.round(whisperSeconds / audioSeconds * 100f) / 100f);
+        }
+    }
+
     private WhisperFullParams getWhisperFullParams(WhisperContext context, Locale locale) throws IOException {
         WhisperSamplingStrategy strategy = WhisperSamplingStrategy.valueOf(config.samplingStrategy);
         var params = new WhisperFullParams(strategy);
@@ -654,4 +811,22 @@ public class WhisperSTTService implements STTService {
     private void onWhisperLog(String text) {
         logger.debug("[whisper.cpp] {}", text);
     }
+
+    /**
+     * Sample buffers of a recognition, kept to be reused by the next one.
+     */
+    private static class TranscriptionBuffers {
+        // step samples in libfvad wanted format 16-bit int
+        final short[] stepAudioSamples;
+        // full samples in whisper wanted format 32-bit float
+        final float[] audioSamples;
+        // raw step audio
+        final ByteBuffer captureBuffer;
+
+        TranscriptionBuffers(int nSamplesStep, int nSamplesMax) {
+            this.stepAudioSamples = new short[nSamplesStep];
+            this.audioSamples = new float[nSamplesMax];
+            this.captureBuffer = ByteBuffer.allocate(nSamplesStep * 2).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
 }
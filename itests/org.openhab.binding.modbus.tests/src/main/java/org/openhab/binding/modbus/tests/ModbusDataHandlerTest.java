@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -659,6 +660,106 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         assertSingleStateUpdate(dataHandler, CHANNEL_STRING, is(equalTo(new StringType("ON"))));
     }
 
+    private ModbusDataThingHandler createInt16Reader(ModbusReadRequestBlueprint request,
+            long updateUnchangedValuesEveryMillis) {
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
+
+        doReturn(3).when(request).getDataLength();
+        doReturn(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS).when(request).getFunctionCode();
+
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(endpoint).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+
+        Bridge poller = createPollerMock("poller1", task);
+
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", "0");
+        dataConfig.put("readTransform", "COUNT(1)");
+        dataConfig.put("readValueType", ModbusConstants.ValueType.INT16.getConfigValue());
+        dataConfig.put("updateUnchangedValuesEveryMillis", updateUnchangedValuesEveryMillis);
+
+        ModbusDataThingHandler dataHandler = createDataHandler("read1", poller,
+                builder -> builder.withConfiguration(dataConfig), bundleContext);
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        // Wait for all channels to be linked, linking forgets the last read registers
+        waitForAssert(
+                () -> verify((ModbusPollerThingHandler) poller.getHandler(), times(CHANNEL_TO_ACCEPTED_TYPE.size()))
+                        .refresh());
+        return dataHandler;
+    }
+
+    /**
+     * Registers a transformation passing the value as is, returning the number of transformed values
+     */
+    private AtomicInteger mockCountingTransformation() {
+        AtomicInteger transformations = new AtomicInteger();
+        mockTransformation("COUNT", new TransformationService() {
+
+            @Override
+            public String transform(String function, String source) throws TransformationException {
+                transformations.incrementAndGet();
+                return source;
+            }
+        });
+        return transformations;
+    }
+
+    private void assertStateUpdates(ModbusDataThingHandler handler, String channel, List<State> states) {
+        waitForAssert(() -> {
+            String itemName = getItemName(new ChannelUID(handler.getThing().getUID(), channel));
+            assertThat(getStateUpdates(itemName), is(equalTo(states)));
+        });
+    }
+
+    @Test
+    public void testOnRegistersUnchangedDoesNotUpdateChannels() {
+        AtomicInteger transformations = mockCountingTransformation();
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createInt16Reader(request, 60_000L);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+        // only the registers of other data things changed
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 1, 2)));
+
+        assertEquals(1, transformations.get());
+        assertStateUpdates(dataHandler, CHANNEL_NUMBER, List.of(new DecimalType(5)));
+        assertStateUpdates(dataHandler, CHANNEL_STRING, List.of(new StringType("5")));
+    }
+
+    @Test
+    public void testOnRegistersChangedUpdatesChannels() {
+        AtomicInteger transformations = mockCountingTransformation();
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createInt16Reader(request, 60_000L);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(6, 0, 0)));
+
+        assertEquals(2, transformations.get());
+        assertStateUpdates(dataHandler, CHANNEL_NUMBER, List.of(new DecimalType(5), new DecimalType(6)));
+        assertStateUpdates(dataHandler, CHANNEL_STRING, List.of(new StringType("5"), new StringType("6")));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedUpdatesChannelsAfterUpdateUnchangedValuesEveryMillis()
+            throws InterruptedException {
+        AtomicInteger transformations = mockCountingTransformation();
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createInt16Reader(request, 100L);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+        assertEquals(1, transformations.get());
+
+        Thread.sleep(200);
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+
+        assertEquals(2, transformations.get());
+        assertStateUpdates(dataHandler, CHANNEL_NUMBER, List.of(new DecimalType(5), new DecimalType(5)));
+    }
+
     @Test
     public void testWriteWithDataAsChildOfEndpoint() throws InvalidSyntaxException {
         captureModbusWrites();
@@ -211,6 +211,42 @@ public class HomieImplementationTest extends MqttOSGiTest {
         assertThat(homieConnection.hasSubscribers(), is(false));
     }
 
+    @SuppressWarnings("null")
+    private long measureDeviceTreeSubscription(boolean wildcardSubscription) throws Exception {
+        Device device = new Device(ThingChannelConstants.TEST_HOME_THING, callback, new DeviceAttributes());
+        device.initialize(BASE_TOPIC, DEVICE_ID, Collections.emptyList());
+        device.setWildcardSubscription(wildcardSubscription);
+
+        long start = System.nanoTime();
+        device.subscribe(homieConnection, scheduler, 1500).get(10, TimeUnit.SECONDS);
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(device.isInitialized(), is(true));
+        assertThat(device.attributes.state, is(ReadyState.ready));
+        Node node = device.nodes.get("testnode");
+        assertNotNull(node);
+        assertThat(node.properties.size(), is(3));
+        Property property = node.properties.get("temperature");
+        assertNotNull(property);
+        assertThat(property.attributes.name, is("Testprop"));
+        assertThat(property.attributes.datatype, is(DataTypeEnum.float_));
+
+        device.stop().get(5, TimeUnit.SECONDS);
+        return duration;
+    }
+
+    @Test
+    public void subscribeDeviceTreeWithWildcardSubscription() throws Exception {
+        long individualDuration = measureDeviceTreeSubscription(false);
+        long wildcardDuration = measureDeviceTreeSubscription(true);
+
+        // The individual subscriptions wait for the attribute timeout of optional attributes that are never
+        // published, the wildcard subscription completes shortly after "$state" is "ready"
+        assertTrue(wildcardDuration < individualDuration, "Device tree subscription took " + wildcardDuration
+                + " ms with a wildcard subscription and " + individualDuration + " ms with individual subscriptions");
+        assertThat(homieConnection.hasSubscribers(), is(false));
+    }
+
     // Inject a spy'ed property
     public Property createSpyProperty(InvocationOnMock invocation) {
         final Node node = (Node) invocation.getMock();